@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Sharding route cache count advice.
+ */
+public final class ShardingRouteCacheCountAdvice extends AbstractInstanceMethodAdvice {
+    
+    private static final String EVICTION_METHOD_NAME = "onRemoval";
+    
+    private final MetricConfiguration config = new MetricConfiguration("sharding_route_cache_total",
+            MetricCollectorType.COUNTER, "Total count of sharding route cache hit, miss and eviction", Collections.singletonList("type"), Collections.emptyMap());
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        if (EVICTION_METHOD_NAME.equals(method.getName())) {
+            MetricsCollectorRegistry.<CounterMetricsCollector>get(config, pluginType).inc("eviction");
+            return;
+        }
+        if (result instanceof Optional) {
+            MetricsCollectorRegistry.<CounterMetricsCollector>get(config, pluginType).inc(((Optional<?>) result).isPresent() ? "hit" : "miss");
+        }
+    }
+}
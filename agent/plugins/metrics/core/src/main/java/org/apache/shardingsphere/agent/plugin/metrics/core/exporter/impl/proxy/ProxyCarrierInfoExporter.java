@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.util.HistogramBucketUtils;
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Proxy carrier information exporter.
+ */
+public final class ProxyCarrierInfoExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_carrier_info",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Carrier thread information of ShardingSphere-Proxy. carrier_count is number of carriers; "
+                    + "idle_carrier_count is number of idle carriers; waiting_connection_count is number of connections waiting for carriers",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    private final MetricConfiguration waitConfig = new MetricConfiguration("proxy_carrier_wait_millis",
+            MetricCollectorType.HISTOGRAM, "Carrier thread wait millis histogram of ShardingSphere-Proxy", Collections.emptyList(),
+            Collections.singletonMap("buckets", HistogramBucketUtils.getBucketsMap()));
+    
+    private final AtomicBoolean carrierWaitRecorderRegistered = new AtomicBoolean();
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        ConnectionThreadExecutorGroup connectionThreadExecutorGroup = ConnectionThreadExecutorGroup.getInstance();
+        if (carrierWaitRecorderRegistered.compareAndSet(false, true)) {
+            connectionThreadExecutorGroup.setCarrierWaitRecorder(waitMillis -> MetricsCollectorRegistry.<HistogramMetricsCollector>get(waitConfig, pluginType).observe(waitMillis));
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("carrier_count"), connectionThreadExecutorGroup.getCarrierCount());
+        result.addMetric(Collections.singletonList("idle_carrier_count"), connectionThreadExecutorGroup.getIdleCarrierCount());
+        result.addMetric(Collections.singletonList("waiting_connection_count"), connectionThreadExecutorGroup.getWaitingConnectionCount());
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ConnectionThreadExecutorGroup.class)
+class ProxyCarrierInfoExporterTest {
+    
+    @AfterEach
+    void reset() {
+        MetricConfiguration config = new MetricConfiguration("proxy_carrier_info", MetricCollectorType.GAUGE_METRIC_FAMILY, null, Collections.singletonList("name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+        MetricConfiguration waitConfig = new MetricConfiguration("proxy_carrier_wait_millis", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(waitConfig, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertExport() {
+        when(ConnectionThreadExecutorGroup.getInstance().getCarrierCount()).thenReturn(3);
+        when(ConnectionThreadExecutorGroup.getInstance().getIdleCarrierCount()).thenReturn(1);
+        when(ConnectionThreadExecutorGroup.getInstance().getWaitingConnectionCount()).thenReturn(2);
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new ProxyCarrierInfoExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), is("carrier_count=3, idle_carrier_count=1, waiting_connection_count=2"));
+    }
+    
+    @Test
+    void assertExportWithCarrierWaitRecorder() {
+        new ProxyCarrierInfoExporter().export("FIXTURE");
+        ArgumentCaptor<LongConsumer> recorderCaptor = ArgumentCaptor.forClass(LongConsumer.class);
+        verify(ConnectionThreadExecutorGroup.getInstance()).setCarrierWaitRecorder(recorderCaptor.capture());
+        recorderCaptor.getValue().accept(15L);
+        MetricConfiguration waitConfig = new MetricConfiguration("proxy_carrier_wait_millis", MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+        assertThat(MetricsCollectorRegistry.get(waitConfig, "FIXTURE").toString(), is("15"));
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.database.connector.core.metadata.data.loader;
 
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.cedarsoftware.util.CaseInsensitiveSet;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -24,9 +26,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.database.connector.core.metadata.data.loader.type.TableMetaDataLoader;
 import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
 import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.MetaDataSnapshot;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.MetaDataSnapshotStaleNotifier;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.MetaDataSnapshotStore;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.TableFingerprintLoader;
 import org.apache.shardingsphere.database.connector.core.metadata.database.datatype.DataTypeRegistry;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
@@ -36,10 +43,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Meta data loader.
@@ -51,6 +60,9 @@ public final class MetaDataLoader {
     private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
     
+    private static final ExecutorService SNAPSHOT_CHECK_EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-MetaDataSnapshotChecker-%d").build());
+    
     /**
      * Load meta data.
      *
@@ -59,11 +71,27 @@ public final class MetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        return load(materials, null);
+    }
+    
+    /**
+     * Load meta data with snapshot.
+     *
+     * <p>If snapshot of storage unit contains all tables, tables are loaded from the snapshot optimistically and fingerprints are checked in background,
+     * stale tables are reloaded into the snapshot and the database is notified by {@link MetaDataSnapshotStaleNotifier}.
+     * Otherwise, tables whose fingerprint is same as the snapshot are loaded from the snapshot, other tables are loaded from storage units and saved into the snapshot.</p>
+     *
+     * @param materials meta data loader materials
+     * @param snapshotStore meta data snapshot store, null means load without snapshot
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials, final MetaDataSnapshotStore snapshotStore) throws SQLException {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (MetaDataLoaderMaterial each : materials) {
             DataTypeRegistry.load(each.getDataSource(), each.getStorageType().getType());
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+            futures.add(EXECUTOR_SERVICE.submit(() -> null == snapshotStore || each.getActualTableNames().isEmpty() ? loadSchemas(each) : loadWithSnapshot(each, snapshotStore)));
         }
         try {
             for (Future<Collection<SchemaMetaData>> each : futures) {
@@ -80,7 +108,100 @@ public final class MetaDataLoader {
         return result;
     }
     
-    private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
+    private static Collection<SchemaMetaData> loadWithSnapshot(final MetaDataLoaderMaterial material, final MetaDataSnapshotStore snapshotStore) throws SQLException {
+        String storageLocation = getStorageLocation(material);
+        Optional<MetaDataSnapshot> snapshot = snapshotStore.load(material.getStorageUnitName(), storageLocation);
+        if (snapshot.isPresent() && snapshot.get().getTableFingerprints().keySet().containsAll(material.getActualTableNames())) {
+            SNAPSHOT_CHECK_EXECUTOR_SERVICE.execute(() -> checkSnapshot(material, snapshotStore, storageLocation, snapshot.get()));
+            return filterTables(snapshot.get().getSchemaMetaDataList(), new CaseInsensitiveSet<>(material.getActualTableNames()));
+        }
+        Collection<String> freshTableNames = new CaseInsensitiveSet<>();
+        Collection<SchemaMetaData> reloadedSchemas = reloadStaleTables(material, snapshotStore, storageLocation, snapshot.orElse(null), freshTableNames);
+        Collection<SchemaMetaData> result = filterTables(snapshot.map(MetaDataSnapshot::getSchemaMetaDataList).orElse(Collections.emptyList()), freshTableNames);
+        mergeSchemas(result, reloadedSchemas);
+        return result;
+    }
+    
+    private static String getStorageLocation(final MetaDataLoaderMaterial material) throws SQLException {
+        try (Connection connection = material.getDataSource().getConnection()) {
+            return connection.getMetaData().getURL() + "#" + connection.getCatalog();
+        }
+    }
+    
+    private static void checkSnapshot(final MetaDataLoaderMaterial material, final MetaDataSnapshotStore snapshotStore, final String storageLocation, final MetaDataSnapshot snapshot) {
+        try {
+            Collection<String> freshTableNames = new CaseInsensitiveSet<>();
+            reloadStaleTables(material, snapshotStore, storageLocation, snapshot, freshTableNames);
+            if (freshTableNames.size() < material.getActualTableNames().size()) {
+                log.info("Meta data snapshot of database `{}` storage unit `{}` is stale, reload database.", snapshotStore.getDatabaseName(), material.getStorageUnitName());
+                MetaDataSnapshotStaleNotifier.notifyStale(snapshotStore.getDatabaseName());
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Check meta data snapshot of database `{}` storage unit `{}` failed.", snapshotStore.getDatabaseName(), material.getStorageUnitName(), ex);
+        }
+    }
+    
+    private static Collection<SchemaMetaData> reloadStaleTables(final MetaDataLoaderMaterial material, final MetaDataSnapshotStore snapshotStore, final String storageLocation,
+                                                                final MetaDataSnapshot snapshot, final Collection<String> freshTableNames) throws SQLException {
+        Map<String, Long> fingerprints;
+        try (MetaDataLoaderConnection connection = new MetaDataLoaderConnection(material.getStorageType(), material.getDataSource().getConnection())) {
+            fingerprints = TableFingerprintLoader.load(connection, material.getStorageType(), material.getActualTableNames());
+        }
+        Map<String, Long> snapshotFingerprints = new CaseInsensitiveMap<>(null == snapshot ? Collections.emptyMap() : snapshot.getTableFingerprints());
+        Collection<String> staleTableNames = new LinkedList<>();
+        for (String each : material.getActualTableNames()) {
+            (fingerprints.containsKey(each) && fingerprints.get(each).equals(snapshotFingerprints.get(each)) ? freshTableNames : staleTableNames).add(each);
+        }
+        if (staleTableNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Collection<SchemaMetaData> result = loadSchemas(
+                new MetaDataLoaderMaterial(staleTableNames, material.getStorageUnitName(), material.getDataSource(), material.getStorageType(), material.getDefaultSchemaName()));
+        saveSnapshot(snapshotStore, material.getStorageUnitName(), storageLocation, snapshot, fingerprints, result);
+        return result;
+    }
+    
+    private static Collection<SchemaMetaData> filterTables(final Collection<SchemaMetaData> schemas, final Collection<String> tableNames) {
+        Collection<SchemaMetaData> result = new LinkedList<>();
+        for (SchemaMetaData each : schemas) {
+            Collection<TableMetaData> tables = each.getTables().stream().filter(table -> tableNames.contains(table.getName())).collect(Collectors.toCollection(LinkedList::new));
+            if (!tables.isEmpty()) {
+                result.add(new SchemaMetaData(each.getName(), tables));
+            }
+        }
+        return result;
+    }
+    
+    private static void mergeSchemas(final Collection<SchemaMetaData> schemas, final Collection<SchemaMetaData> addedSchemas) {
+        for (SchemaMetaData each : addedSchemas) {
+            Optional<SchemaMetaData> schema = schemas.stream().filter(optional -> optional.getName().equals(each.getName())).findFirst();
+            if (schema.isPresent()) {
+                schema.get().getTables().addAll(each.getTables());
+            } else {
+                schemas.add(new SchemaMetaData(each.getName(), new LinkedList<>(each.getTables())));
+            }
+        }
+    }
+    
+    private static void saveSnapshot(final MetaDataSnapshotStore snapshotStore, final String storageUnitName, final String storageLocation, final MetaDataSnapshot snapshot,
+                                     final Map<String, Long> fingerprints, final Collection<SchemaMetaData> reloadedSchemas) {
+        Collection<String> reloadedTableNames = new CaseInsensitiveSet<>();
+        reloadedSchemas.forEach(each -> each.getTables().forEach(table -> reloadedTableNames.add(table.getName())));
+        Map<String, Long> snapshotFingerprints = new LinkedHashMap<>();
+        Collection<SchemaMetaData> snapshotSchemas = new LinkedList<>();
+        if (null != snapshot) {
+            snapshot.getTableFingerprints().entrySet().stream()
+                    .filter(entry -> !reloadedTableNames.contains(entry.getKey())).forEach(entry -> snapshotFingerprints.put(entry.getKey(), entry.getValue()));
+            snapshotSchemas.addAll(filterTables(snapshot.getSchemaMetaDataList(), snapshotFingerprints.keySet()));
+        }
+        reloadedTableNames.stream().filter(fingerprints::containsKey).forEach(each -> snapshotFingerprints.put(each, fingerprints.get(each)));
+        mergeSchemas(snapshotSchemas, reloadedSchemas);
+        snapshotStore.save(storageUnitName, storageLocation, new MetaDataSnapshot(snapshotFingerprints, snapshotSchemas));
+    }
+    
+    private static Collection<SchemaMetaData> loadSchemas(final MetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
         if (dialectLoader.isPresent()) {
             try {
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.core.metadata.data.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Dialect table fingerprint loader, which loads fingerprints of tables by few catalog queries instead of JDBC meta data calls per table.
+ */
+@SingletonSPI
+public interface DialectTableFingerprintLoader extends DatabaseTypedSPI {
+    
+    /**
+     * Load table fingerprints.
+     *
+     * @param connection connection
+     * @param tableNames table names
+     * @return table fingerprints, key is table name and tables not found are absent
+     * @throws SQLException SQL exception
+     */
+    Map<String, Long> load(Connection connection, Collection<String> tableNames) throws SQLException;
+}
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.core.metadata.data.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.TableType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Meta data snapshot serializer.
+ *
+ * <p>Layout is magic, version, CRC32 checksum of payload and deflated payload, snapshot with other magic, version or checksum is treated as absent.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetaDataSnapshotSerializer {
+    
+    private static final int MAGIC = 0x53534D44;
+    
+    private static final int VERSION = 1;
+    
+    private static final int HEADER_LENGTH = 16;
+    
+    private static final int PRIMARY_KEY_FLAG = 1;
+    
+    private static final int GENERATED_FLAG = 1 << 1;
+    
+    private static final int CASE_SENSITIVE_FLAG = 1 << 2;
+    
+    private static final int VISIBLE_FLAG = 1 << 3;
+    
+    private static final int UNSIGNED_FLAG = 1 << 4;
+    
+    private static final int NULLABLE_FLAG = 1 << 5;
+    
+    /**
+     * Serialize meta data snapshot.
+     *
+     * @param snapshot meta data snapshot
+     * @return serialized bytes
+     * @throws IOException IO exception
+     */
+    public static byte[] serialize(final MetaDataSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(payload))) {
+            writeFingerprints(output, snapshot.getTableFingerprints());
+            output.writeInt(snapshot.getSchemaMetaDataList().size());
+            for (SchemaMetaData each : snapshot.getSchemaMetaDataList()) {
+                writeSchema(output, each);
+            }
+        }
+        byte[] payloadBytes = payload.toByteArray();
+        CRC32 crc32 = new CRC32();
+        crc32.update(payloadBytes);
+        return ByteBuffer.allocate(HEADER_LENGTH + payloadBytes.length).putInt(MAGIC).putInt(VERSION).putLong(crc32.getValue()).put(payloadBytes).array();
+    }
+    
+    private static void writeFingerprints(final DataOutputStream output, final Map<String, Long> fingerprints) throws IOException {
+        output.writeInt(fingerprints.size());
+        for (Entry<String, Long> entry : fingerprints.entrySet()) {
+            output.writeUTF(entry.getKey());
+            output.writeLong(entry.getValue());
+        }
+    }
+    
+    private static void writeSchema(final DataOutputStream output, final SchemaMetaData schema) throws IOException {
+        output.writeUTF(schema.getName());
+        output.writeInt(schema.getTables().size());
+        for (TableMetaData each : schema.getTables()) {
+            writeTable(output, each);
+        }
+    }
+    
+    private static void writeTable(final DataOutputStream output, final TableMetaData table) throws IOException {
+        output.writeUTF(table.getName());
+        output.writeUTF(table.getType().name());
+        output.writeInt(table.getColumns().size());
+        for (ColumnMetaData each : table.getColumns()) {
+            output.writeUTF(each.getName());
+            output.writeInt(each.getDataType());
+            output.writeByte(getColumnFlags(each));
+        }
+        output.writeInt(table.getIndexes().size());
+        for (IndexMetaData each : table.getIndexes()) {
+            output.writeUTF(each.getName());
+            output.writeBoolean(each.isUnique());
+            output.writeInt(each.getColumns().size());
+            for (String column : each.getColumns()) {
+                output.writeUTF(column);
+            }
+        }
+        output.writeInt(table.getConstraints().size());
+        for (ConstraintMetaData each : table.getConstraints()) {
+            output.writeUTF(each.getName());
+            writeNullableString(output, each.getReferencedTableName());
+        }
+    }
+    
+    private static int getColumnFlags(final ColumnMetaData column) {
+        int result = column.isPrimaryKey() ? PRIMARY_KEY_FLAG : 0;
+        result |= column.isGenerated() ? GENERATED_FLAG : 0;
+        result |= column.isCaseSensitive() ? CASE_SENSITIVE_FLAG : 0;
+        result |= column.isVisible() ? VISIBLE_FLAG : 0;
+        result |= column.isUnsigned() ? UNSIGNED_FLAG : 0;
+        result |= column.isNullable() ? NULLABLE_FLAG : 0;
+        return result;
+    }
+    
+    private static void writeNullableString(final DataOutputStream output, final String value) throws IOException {
+        output.writeBoolean(null != value);
+        if (null != value) {
+            output.writeUTF(value);
+        }
+    }
+    
+    /**
+     * Deserialize meta data snapshot.
+     *
+     * @param bytes serialized bytes
+     * @return meta data snapshot, empty if bytes are not a valid snapshot of current version
+     */
+    public static Optional<MetaDataSnapshot> deserialize(final byte[] bytes) {
+        if (bytes.length < HEADER_LENGTH) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (MAGIC != buffer.getInt() || VERSION != buffer.getInt()) {
+            return Optional.empty();
+        }
+        long checksum = buffer.getLong();
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        if (checksum != crc32.getValue()) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH)))) {
+            Map<String, Long> fingerprints = readFingerprints(input);
+            int schemaCount = input.readInt();
+            Collection<SchemaMetaData> schemas = new LinkedList<>();
+            for (int i = 0; i < schemaCount; i++) {
+                schemas.add(readSchema(input));
+            }
+            return Optional.of(new MetaDataSnapshot(fingerprints, schemas));
+        } catch (final IOException | IllegalArgumentException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private static Map<String, Long> readFingerprints(final DataInputStream input) throws IOException {
+        int count = input.readInt();
+        Map<String, Long> result = new LinkedHashMap<>(count, 1F);
+        for (int i = 0; i < count; i++) {
+            result.put(input.readUTF(), input.readLong());
+        }
+        return result;
+    }
+    
+    private static SchemaMetaData readSchema(final DataInputStream input) throws IOException {
+        String name = input.readUTF();
+        int tableCount = input.readInt();
+        Collection<TableMetaData> tables = new LinkedList<>();
+        for (int i = 0; i < tableCount; i++) {
+            tables.add(readTable(input));
+        }
+        return new SchemaMetaData(name, tables);
+    }
+    
+    private static TableMetaData readTable(final DataInputStream input) throws IOException {
+        String name = input.readUTF();
+        TableType type = TableType.valueOf(input.readUTF());
+        Collection<ColumnMetaData> columns = readColumns(input);
+        Collection<IndexMetaData> indexes = readIndexes(input);
+        int constraintCount = input.readInt();
+        Collection<ConstraintMetaData> constraints = new LinkedList<>();
+        for (int i = 0; i < constraintCount; i++) {
+            constraints.add(new ConstraintMetaData(input.readUTF(), input.readBoolean() ? input.readUTF() : null));
+        }
+        return new TableMetaData(name, columns, indexes, constraints, type);
+    }
+    
+    private static Collection<ColumnMetaData> readColumns(final DataInputStream input) throws IOException {
+        int columnCount = input.readInt();
+        Collection<ColumnMetaData> result = new LinkedList<>();
+        for (int i = 0; i < columnCount; i++) {
+            result.add(readColumn(input));
+        }
+        return result;
+    }
+    
+    private static ColumnMetaData readColumn(final DataInputStream input) throws IOException {
+        String name = input.readUTF();
+        int dataType = input.readInt();
+        int flags = input.readByte();
+        return new ColumnMetaData(name, dataType, 0 != (flags & PRIMARY_KEY_FLAG), 0 != (flags & GENERATED_FLAG),
+                0 != (flags & CASE_SENSITIVE_FLAG), 0 != (flags & VISIBLE_FLAG), 0 != (flags & UNSIGNED_FLAG), 0 != (flags & NULLABLE_FLAG));
+    }
+    
+    private static Collection<IndexMetaData> readIndexes(final DataInputStream input) throws IOException {
+        int indexCount = input.readInt();
+        Collection<IndexMetaData> result = new LinkedList<>();
+        for (int i = 0; i < indexCount; i++) {
+            result.add(readIndex(input));
+        }
+        return result;
+    }
+    
+    private static IndexMetaData readIndex(final DataInputStream input) throws IOException {
+        String name = input.readUTF();
+        boolean unique = input.readBoolean();
+        int columnCount = input.readInt();
+        List<String> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(input.readUTF());
+        }
+        IndexMetaData result = new IndexMetaData(name, columns);
+        result.setUnique(unique);
+        return result;
+    }
+}
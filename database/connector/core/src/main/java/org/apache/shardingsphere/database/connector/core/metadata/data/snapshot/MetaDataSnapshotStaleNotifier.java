@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.core.metadata.data.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+
+/**
+ * Meta data snapshot stale notifier.
+ *
+ * <p>Meta data is loaded from snapshot before its staleness is checked, so database found stale is notified to listeners to reload.
+ * Databases found stale before any listener registered are kept and notified to the first registered listener.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetaDataSnapshotStaleNotifier {
+    
+    private static final Collection<MetaDataSnapshotStaleListener> LISTENERS = new LinkedList<>();
+    
+    private static final Collection<String> PENDING_DATABASE_NAMES = new LinkedHashSet<>();
+    
+    /**
+     * Register listener.
+     *
+     * @param listener meta data snapshot stale listener
+     */
+    public static void register(final MetaDataSnapshotStaleListener listener) {
+        Collection<String> pendingDatabaseNames;
+        synchronized (MetaDataSnapshotStaleNotifier.class) {
+            LISTENERS.add(listener);
+            pendingDatabaseNames = new ArrayList<>(PENDING_DATABASE_NAMES);
+            PENDING_DATABASE_NAMES.clear();
+        }
+        pendingDatabaseNames.forEach(listener::onStale);
+    }
+    
+    /**
+     * Unregister listener.
+     *
+     * @param listener meta data snapshot stale listener
+     */
+    public static synchronized void unregister(final MetaDataSnapshotStaleListener listener) {
+        LISTENERS.remove(listener);
+    }
+    
+    /**
+     * Notify database is stale.
+     *
+     * @param databaseName database name
+     */
+    public static void notifyStale(final String databaseName) {
+        Collection<MetaDataSnapshotStaleListener> listeners;
+        synchronized (MetaDataSnapshotStaleNotifier.class) {
+            if (LISTENERS.isEmpty()) {
+                PENDING_DATABASE_NAMES.add(databaseName);
+                return;
+            }
+            listeners = new ArrayList<>(LISTENERS);
+        }
+        listeners.forEach(each -> each.onStale(databaseName));
+    }
+}
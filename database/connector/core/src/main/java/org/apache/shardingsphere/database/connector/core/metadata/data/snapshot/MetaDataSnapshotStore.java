@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.core.metadata.data.snapshot;
+
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Meta data snapshot store, which keeps one snapshot file for each storage unit of database in local directory.
+ *
+ * <p>Snapshot file is keyed by database name, storage unit name and storage location, so databases sharing storage unit names or storage units switched to other storages never share snapshots.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class MetaDataSnapshotStore {
+    
+    private static final String FILE_SUFFIX = ".snapshot";
+    
+    private final Path directory;
+    
+    @Getter
+    private final String databaseName;
+    
+    /**
+     * Load meta data snapshot.
+     *
+     * @param storageUnitName storage unit name
+     * @param storageLocation storage location, which identifies URL and catalog of storage unit
+     * @return meta data snapshot, empty if absent or invalid
+     */
+    public Optional<MetaDataSnapshot> load(final String storageUnitName, final String storageLocation) {
+        Path file = getFile(storageUnitName, storageLocation);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return MetaDataSnapshotSerializer.deserialize(Files.readAllBytes(file));
+        } catch (final IOException ex) {
+            log.warn("Read meta data snapshot `{}` failed.", file, ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Save meta data snapshot.
+     *
+     * @param storageUnitName storage unit name
+     * @param storageLocation storage location, which identifies URL and catalog of storage unit
+     * @param snapshot meta data snapshot
+     */
+    public void save(final String storageUnitName, final String storageLocation, final MetaDataSnapshot snapshot) {
+        Path file = getFile(storageUnitName, storageLocation);
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.write(tempFile, MetaDataSnapshotSerializer.serialize(snapshot));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Write meta data snapshot `{}` failed.", file, ex);
+        }
+    }
+    
+    private Path getFile(final String storageUnitName, final String storageLocation) {
+        return directory.resolve(Hashing.sha256().hashString(String.join("\0", databaseName, storageUnitName, storageLocation), StandardCharsets.UTF_8) + FILE_SUFFIX);
+    }
+}
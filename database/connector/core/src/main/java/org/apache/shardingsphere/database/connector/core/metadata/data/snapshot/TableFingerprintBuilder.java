@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.core.metadata.data.snapshot;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.CRC32;
+
+/**
+ * Table fingerprint builder, which accumulates checksum of definition rows for each table.
+ */
+public final class TableFingerprintBuilder {
+    
+    private final Map<String, CRC32> checksums = new CaseInsensitiveMap<>();
+    
+    /**
+     * Append definition rows.
+     *
+     * <p>First column of result set is table name, other columns are definition values of table.</p>
+     *
+     * @param resultSet result set
+     * @return this builder
+     * @throws SQLException SQL exception
+     */
+    public TableFingerprintBuilder append(final ResultSet resultSet) throws SQLException {
+        int columnCount = resultSet.getMetaData().getColumnCount();
+        while (resultSet.next()) {
+            CRC32 checksum = checksums.computeIfAbsent(resultSet.getString(1), key -> new CRC32());
+            for (int i = 2; i <= columnCount; i++) {
+                checksum.update(String.valueOf(resultSet.getString(i)).getBytes(StandardCharsets.UTF_8));
+                checksum.update(0);
+            }
+        }
+        return this;
+    }
+    
+    /**
+     * Build table fingerprints.
+     *
+     * @return table fingerprints, key is table name
+     */
+    public Map<String, Long> build() {
+        Map<String, Long> result = new CaseInsensitiveMap<>(checksums.size(), 1F);
+        for (Entry<String, CRC32> entry : checksums.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getValue());
+        }
+        return result;
+    }
+}
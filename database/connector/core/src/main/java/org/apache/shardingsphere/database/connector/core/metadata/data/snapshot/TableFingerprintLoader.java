@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.core.metadata.data.snapshot;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.type.SchemaMetaDataLoader;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Table fingerprint loader.
+ *
+ * <p>Fingerprint of table is checksum of its column, primary key and index definitions, which are loaded for the given tables only instead of scanning whole catalog.
+ * Dialect loader is used if present, which queries catalog of all given tables at once, otherwise JDBC meta data is queried for each table.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class TableFingerprintLoader {
+    
+    private static final String[] COLUMN_FINGERPRINT_COLUMNS = {"TABLE_SCHEM", "COLUMN_NAME", "DATA_TYPE", "TYPE_NAME", "COLUMN_SIZE", "DECIMAL_DIGITS", "NULLABLE", "ORDINAL_POSITION"};
+    
+    private static final String[] PRIMARY_KEY_FINGERPRINT_COLUMNS = {"TABLE_SCHEM", "PK_NAME", "COLUMN_NAME", "KEY_SEQ"};
+    
+    private static final String[] INDEX_FINGERPRINT_COLUMNS = {"TABLE_SCHEM", "INDEX_NAME", "NON_UNIQUE", "TYPE", "ORDINAL_POSITION", "COLUMN_NAME", "ASC_OR_DESC"};
+    
+    /**
+     * Load table fingerprints.
+     *
+     * @param connection connection
+     * @param databaseType database type
+     * @param tableNames table names
+     * @return table fingerprints, key is table name and tables not found are absent
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Long> load(final Connection connection, final DatabaseType databaseType, final Collection<String> tableNames) throws SQLException {
+        Optional<DialectTableFingerprintLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectTableFingerprintLoader.class, databaseType);
+        if (dialectLoader.isPresent()) {
+            try {
+                return dialectLoader.get().load(connection, tableNames);
+            } catch (final SQLException ex) {
+                log.debug("{} Dialect load table fingerprints error, load by default.", databaseType.getType(), ex);
+            }
+        }
+        return loadByDefault(connection, databaseType, tableNames);
+    }
+    
+    private static Map<String, Long> loadByDefault(final Connection connection, final DatabaseType databaseType, final Collection<String> tableNames) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String catalog = connection.getCatalog();
+        String searchStringEscape = metaData.getSearchStringEscape();
+        Map<String, CRC32> checksums = new CaseInsensitiveMap<>(tableNames.size(), 1F);
+        for (String each : new SchemaMetaDataLoader(databaseType).loadSchemaNames(connection)) {
+            for (String tableName : tableNames) {
+                CRC32 checksum = checksums.getOrDefault(tableName, new CRC32());
+                boolean found;
+                try (ResultSet resultSet = metaData.getColumns(catalog, each, escapeSearchString(tableName, searchStringEscape), "%")) {
+                    found = update(checksum, resultSet, tableName, COLUMN_FINGERPRINT_COLUMNS);
+                }
+                if (!found) {
+                    continue;
+                }
+                try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, each, tableName)) {
+                    update(checksum, resultSet, tableName, PRIMARY_KEY_FINGERPRINT_COLUMNS);
+                }
+                try (ResultSet resultSet = metaData.getIndexInfo(catalog, each, tableName, false, true)) {
+                    update(checksum, resultSet, tableName, INDEX_FINGERPRINT_COLUMNS);
+                }
+                checksums.put(tableName, checksum);
+            }
+        }
+        Map<String, Long> result = new CaseInsensitiveMap<>(checksums.size(), 1F);
+        for (Entry<String, CRC32> entry : checksums.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getValue());
+        }
+        return result;
+    }
+    
+    private static String escapeSearchString(final String tableName, final String searchStringEscape) {
+        if (null == searchStringEscape || searchStringEscape.isEmpty()) {
+            return tableName;
+        }
+        return tableName.replace(searchStringEscape, searchStringEscape + searchStringEscape).replace("_", searchStringEscape + "_").replace("%", searchStringEscape + "%");
+    }
+    
+    private static boolean update(final CRC32 checksum, final ResultSet resultSet, final String tableName, final String[] fingerprintColumns) throws SQLException {
+        boolean result = false;
+        while (resultSet.next()) {
+            if (!tableName.equalsIgnoreCase(resultSet.getString("TABLE_NAME"))) {
+                continue;
+            }
+            result = true;
+            for (String each : fingerprintColumns) {
+                checksum.update(String.valueOf(resultSet.getString(each)).getBytes(StandardCharsets.UTF_8));
+                checksum.update(0);
+            }
+        }
+        return result;
+    }
+}
@@ -27,5 +27,27 @@ import lombok.RequiredArgsConstructor;
 @Getter
 public final class DialectSQLBatchOption {
     
+    /**
+     * Whether to support executing statements by JDBC batch.
+     */
     private final boolean supportSQLBatch;
+    
+    /**
+     * Max row count of one multi-row insert values, 1 means multi-row insert values is not supported.
+     */
+    private final int maxInsertValuesRowCount;
+    
+    /**
+     * Max bind parameter count of one statement, multi-row insert values is chunked so as not to exceed it.
+     */
+    private final int maxParameterCount;
+    
+    /**
+     * Create dialect SQL batch option without multi-row insert values support.
+     *
+     * @param supportSQLBatch whether to support executing statements by JDBC batch
+     */
+    public DialectSQLBatchOption(final boolean supportSQLBatch) {
+        this(supportSQLBatch, 1, Integer.MAX_VALUE);
+    }
 }
@@ -20,20 +20,27 @@ package org.apache.shardingsphere.database.connector.core.metadata.data.loader;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
 import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.MetaDataSnapshotStaleListener;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.MetaDataSnapshotStaleNotifier;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.MetaDataSnapshotStore;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.internal.configuration.plugins.Plugins;
 
 import javax.sql.DataSource;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -45,8 +52,12 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class MetaDataLoaderTest {
@@ -96,6 +107,64 @@ class MetaDataLoaderTest {
         assertTrue(actual.get("foo_db").getTables().isEmpty());
     }
     
+    @Test
+    void assertLoadWithSnapshot(@TempDir final Path snapshotDirectory) throws Exception {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getMetaData().getColumns(any(), any(), eq("foo_tbl"), eq("%"))).thenAnswer(invocation -> mockMetaDataResultSet("foo_value"));
+        DialectMetaDataLoader dialectMetaDataLoader = mockDialectMetaDataLoader();
+        try (AutoCloseable ignored = registerDialectMetaDataLoader(dialectMetaDataLoader)) {
+            MetaDataLoaderMaterial material = new MetaDataLoaderMaterial(Collections.singleton("foo_tbl"), "foo_ds", dataSource, databaseType, "foo_db");
+            MetaDataSnapshotStore snapshotStore = new MetaDataSnapshotStore(snapshotDirectory, "foo_db");
+            assertThat(MetaDataLoader.load(Collections.singleton(material), snapshotStore).get("foo_db").getTables().iterator().next().getName(), is("foo_tbl"));
+            assertThat(MetaDataLoader.load(Collections.singleton(material), snapshotStore).get("foo_db").getTables().iterator().next().getName(), is("foo_tbl"));
+            verify(dialectMetaDataLoader).load(any(MetaDataLoaderMaterial.class));
+        }
+    }
+    
+    @Test
+    void assertLoadWithSnapshotWhenIndexChanged(@TempDir final Path snapshotDirectory) throws Exception {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getMetaData().getColumns(any(), any(), eq("foo_tbl"), eq("%"))).thenAnswer(invocation -> mockMetaDataResultSet("foo_value"));
+        when(dataSource.getConnection().getMetaData().getIndexInfo(any(), any(), eq("foo_tbl"), eq(false), eq(true)))
+                .thenAnswer(invocation -> mockMetaDataResultSet("foo_idx")).thenAnswer(invocation -> mockMetaDataResultSet("bar_idx"));
+        DialectMetaDataLoader dialectMetaDataLoader = mockDialectMetaDataLoader();
+        try (AutoCloseable ignored = registerDialectMetaDataLoader(dialectMetaDataLoader)) {
+            MetaDataLoaderMaterial material = new MetaDataLoaderMaterial(Collections.singleton("foo_tbl"), "foo_ds", dataSource, databaseType, "foo_db");
+            MetaDataSnapshotStore snapshotStore = new MetaDataSnapshotStore(snapshotDirectory, "index_changed_db");
+            CountDownLatch staleLatch = new CountDownLatch(1);
+            MetaDataSnapshotStaleListener staleListener = databaseName -> {
+                if ("index_changed_db".equals(databaseName)) {
+                    staleLatch.countDown();
+                }
+            };
+            MetaDataSnapshotStaleNotifier.register(staleListener);
+            try {
+                MetaDataLoader.load(Collections.singleton(material), snapshotStore);
+                assertThat(MetaDataLoader.load(Collections.singleton(material), snapshotStore).get("foo_db").getTables().iterator().next().getName(), is("foo_tbl"));
+                assertTrue(staleLatch.await(5L, TimeUnit.SECONDS));
+                verify(dialectMetaDataLoader, times(2)).load(any(MetaDataLoaderMaterial.class));
+            } finally {
+                MetaDataSnapshotStaleNotifier.unregister(staleListener);
+            }
+        }
+    }
+    
+    private DialectMetaDataLoader mockDialectMetaDataLoader() throws SQLException {
+        DialectMetaDataLoader result = mock(DialectMetaDataLoader.class);
+        when(result.getType()).thenReturn(databaseType);
+        when(result.load(any(MetaDataLoaderMaterial.class))).thenAnswer(invocation -> Collections.singleton(
+                new SchemaMetaData("foo_db", new LinkedList<>(Collections.singleton(new TableMetaData("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()))))));
+        return result;
+    }
+    
+    private ResultSet mockMetaDataResultSet(final String value) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getString(anyString())).thenReturn(value);
+        when(result.getString("TABLE_NAME")).thenReturn("foo_tbl");
+        return result;
+    }
+    
     @Test
     void assertLoadWhenInterrupted() throws Exception {
         MetaDataLoaderMaterial material = new MetaDataLoaderMaterial(Collections.emptyList(), "foo_ds", mock(DataSource.class, RETURNS_DEEP_STUBS), databaseType, "foo_db");
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.core.metadata.data.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.TableType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetaDataSnapshotSerializerTest {
+    
+    @Test
+    void assertSerializeAndDeserialize() throws IOException {
+        Optional<MetaDataSnapshot> actual = MetaDataSnapshotSerializer.deserialize(MetaDataSnapshotSerializer.serialize(createSnapshot()));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTableFingerprints(), is(Collections.singletonMap("foo_tbl", 1L)));
+        assertThat(actual.get().getSchemaMetaDataList().size(), is(1));
+        SchemaMetaData actualSchema = actual.get().getSchemaMetaDataList().iterator().next();
+        assertThat(actualSchema.getName(), is("foo_schema"));
+        TableMetaData actualTable = actualSchema.getTables().iterator().next();
+        assertThat(actualTable.getName(), is("foo_tbl"));
+        assertThat(actualTable.getType(), is(TableType.VIEW));
+        ColumnMetaData actualColumn = actualTable.getColumns().iterator().next();
+        assertThat(actualColumn.getName(), is("id"));
+        assertThat(actualColumn.getDataType(), is(Types.INTEGER));
+        assertTrue(actualColumn.isPrimaryKey());
+        assertFalse(actualColumn.isGenerated());
+        assertTrue(actualColumn.isVisible());
+        assertTrue(actualColumn.isUnsigned());
+        IndexMetaData actualIndex = actualTable.getIndexes().iterator().next();
+        assertThat(actualIndex.getName(), is("foo_idx"));
+        assertThat(actualIndex.getColumns(), is(Arrays.asList("id", "name")));
+        assertTrue(actualIndex.isUnique());
+        assertThat(actualTable.getConstraints().size(), is(2));
+        assertThat(actualTable.getConstraints().iterator().next().getReferencedTableName(), is("bar_tbl"));
+        assertNull(actualTable.getConstraints().stream().skip(1L).findFirst().get().getReferencedTableName());
+    }
+    
+    @Test
+    void assertDeserializeWithCorruptedPayload() throws IOException {
+        byte[] bytes = MetaDataSnapshotSerializer.serialize(createSnapshot());
+        bytes[bytes.length - 1] ^= 1;
+        assertFalse(MetaDataSnapshotSerializer.deserialize(bytes).isPresent());
+    }
+    
+    @Test
+    void assertDeserializeWithInvalidMagic() throws IOException {
+        byte[] bytes = MetaDataSnapshotSerializer.serialize(createSnapshot());
+        bytes[0] = 0;
+        assertFalse(MetaDataSnapshotSerializer.deserialize(bytes).isPresent());
+    }
+    
+    @Test
+    void assertDeserializeWithTruncatedHeader() {
+        assertFalse(MetaDataSnapshotSerializer.deserialize(new byte[]{1, 2, 3}).isPresent());
+    }
+    
+    private MetaDataSnapshot createSnapshot() {
+        ColumnMetaData column = new ColumnMetaData("id", Types.INTEGER, true, false, false, true, true, false);
+        IndexMetaData index = new IndexMetaData("foo_idx", Arrays.asList("id", "name"));
+        index.setUnique(true);
+        TableMetaData table = new TableMetaData("foo_tbl", Collections.singleton(column), Collections.singleton(index),
+                Arrays.asList(new ConstraintMetaData("foo_fk", "bar_tbl"), new ConstraintMetaData("foo_check", null)), TableType.VIEW);
+        return new MetaDataSnapshot(Collections.singletonMap("foo_tbl", 1L), Collections.singleton(new SchemaMetaData("foo_schema", Collections.singleton(table))));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.core.metadata.data.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetaDataSnapshotStoreTest {
+    
+    @TempDir
+    private Path directory;
+    
+    @Test
+    void assertLoadWithoutSnapshotFile() {
+        assertFalse(new MetaDataSnapshotStore(directory, "foo_db").load("foo_ds", "jdbc:foo#foo_catalog").isPresent());
+    }
+    
+    @Test
+    void assertSaveAndLoad() {
+        MetaDataSnapshotStore store = new MetaDataSnapshotStore(directory.resolve("snapshot"), "foo_db");
+        store.save("foo_ds", "jdbc:foo#foo_catalog", new MetaDataSnapshot(Collections.singletonMap("foo_tbl", 1L), Collections.singleton(new SchemaMetaData("foo_schema", Collections.emptyList()))));
+        Optional<MetaDataSnapshot> actual = store.load("foo_ds", "jdbc:foo#foo_catalog");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTableFingerprints(), is(Collections.singletonMap("foo_tbl", 1L)));
+        assertThat(actual.get().getSchemaMetaDataList().iterator().next().getName(), is("foo_schema"));
+        assertFalse(store.load("bar_ds", "jdbc:foo#foo_catalog").isPresent());
+        assertFalse(store.load("foo_ds", "jdbc:foo#bar_catalog").isPresent());
+    }
+    
+    @Test
+    void assertLoadWithAnotherDatabase() {
+        new MetaDataSnapshotStore(directory, "foo_db").save("foo_ds", "jdbc:foo#foo_catalog", new MetaDataSnapshot(Collections.singletonMap("foo_tbl", 1L), Collections.emptyList()));
+        assertFalse(new MetaDataSnapshotStore(directory, "bar_db").load("foo_ds", "jdbc:foo#foo_catalog").isPresent());
+    }
+    
+    @Test
+    void assertLoadWithCorruptedSnapshotFile() throws IOException {
+        MetaDataSnapshotStore store = new MetaDataSnapshotStore(directory, "foo_db");
+        store.save("foo_ds", "jdbc:foo#foo_catalog", new MetaDataSnapshot(Collections.singletonMap("foo_tbl", 1L), Collections.emptyList()));
+        try (Stream<Path> files = Files.list(directory)) {
+            Files.write(files.findFirst().get(), new byte[]{1, 2, 3});
+        }
+        assertFalse(store.load("foo_ds", "jdbc:foo#foo_catalog").isPresent());
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.metad
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.join.DialectJoinOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.pagination.DialectPaginationOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DialectSchemaOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.sqlbatch.DialectSQLBatchOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.transaction.DialectTransactionOption;
 import org.junit.jupiter.api.Test;
 
@@ -120,7 +121,10 @@ class DialectDatabaseMetaDataTest {
     
     @Test
     void assertGetSQLBatchOption() {
-        assertTrue(dialectDatabaseMetaData.getSQLBatchOption().isSupportSQLBatch());
+        DialectSQLBatchOption actual = dialectDatabaseMetaData.getSQLBatchOption();
+        assertTrue(actual.isSupportSQLBatch());
+        assertThat(actual.getMaxInsertValuesRowCount(), is(1));
+        assertThat(actual.getMaxParameterCount(), is(Integer.MAX_VALUE));
     }
     
     @Test
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.enums
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.DialectDatabaseMetaData;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.IdentifierPatternType;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.function.DialectFunctionOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.sqlbatch.DialectSQLBatchOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.transaction.DialectTransactionOption;
 import org.apache.shardingsphere.database.connector.h2.metadata.database.option.H2FunctionOption;
 
@@ -53,6 +54,11 @@ public final class H2DatabaseMetaData implements DialectDatabaseMetaData {
         return new DialectTransactionOption(false, false, false, false, true, Connection.TRANSACTION_READ_COMMITTED, false, false, Collections.singleton("org.h2.jdbcx.JdbcDataSource"));
     }
     
+    @Override
+    public DialectSQLBatchOption getSQLBatchOption() {
+        return new DialectSQLBatchOption(true, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+    
     @Override
     public DialectFunctionOption getFunctionOption() {
         return new H2FunctionOption();
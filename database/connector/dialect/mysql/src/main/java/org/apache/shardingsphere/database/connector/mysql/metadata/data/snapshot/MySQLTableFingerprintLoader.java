@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.mysql.metadata.data.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.DialectTableFingerprintLoader;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.TableFingerprintBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Table fingerprint loader for MySQL.
+ */
+public final class MySQLTableFingerprintLoader implements DialectTableFingerprintLoader {
+    
+    private static final String COLUMN_SQL = "SELECT TABLE_NAME, COLUMN_NAME, COLUMN_TYPE, IS_NULLABLE, COLUMN_KEY, EXTRA, COLLATION_NAME, ORDINAL_POSITION FROM information_schema.COLUMNS "
+            + "WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (%s) ORDER BY TABLE_NAME, ORDINAL_POSITION";
+    
+    private static final String INDEX_SQL = "SELECT TABLE_NAME, INDEX_NAME, NON_UNIQUE, SEQ_IN_INDEX, COLUMN_NAME, COLLATION, SUB_PART FROM information_schema.STATISTICS "
+            + "WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (%s) ORDER BY TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX";
+    
+    @Override
+    public Map<String, Long> load(final Connection connection, final Collection<String> tableNames) throws SQLException {
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String tableNameParameters = tableNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(","));
+        TableFingerprintBuilder builder = new TableFingerprintBuilder();
+        append(connection, builder, String.format(COLUMN_SQL, tableNameParameters));
+        append(connection, builder, String.format(INDEX_SQL, tableNameParameters));
+        return builder.build();
+    }
+    
+    private void append(final Connection connection, final TableFingerprintBuilder builder, final String sql) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                builder.append(resultSet);
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
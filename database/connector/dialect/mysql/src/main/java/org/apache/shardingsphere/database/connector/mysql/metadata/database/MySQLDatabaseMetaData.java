@@ -27,6 +27,7 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.metad
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.function.DialectFunctionOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.join.DialectJoinOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.keygen.DialectGeneratedKeyOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.sqlbatch.DialectSQLBatchOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.transaction.DialectTransactionOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.version.DialectProtocolVersionOption;
 import org.apache.shardingsphere.database.connector.mysql.metadata.database.option.MySQLDataTypeOption;
@@ -82,6 +83,11 @@ public final class MySQLDatabaseMetaData implements DialectDatabaseMetaData {
         return new DialectJoinOption(true, true);
     }
     
+    @Override
+    public DialectSQLBatchOption getSQLBatchOption() {
+        return new DialectSQLBatchOption(true, Integer.MAX_VALUE, 65535);
+    }
+    
     @Override
     public Optional<DialectGeneratedKeyOption> getGeneratedKeyOption() {
         return Optional.of(new DialectGeneratedKeyOption("GENERATED_KEY"));
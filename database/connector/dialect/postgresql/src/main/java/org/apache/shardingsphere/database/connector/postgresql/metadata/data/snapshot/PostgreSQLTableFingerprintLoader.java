@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.connector.postgresql.metadata.data.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.DialectTableFingerprintLoader;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.TableFingerprintBuilder;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Table fingerprint loader for PostgreSQL.
+ */
+public final class PostgreSQLTableFingerprintLoader implements DialectTableFingerprintLoader {
+    
+    private static final String COLUMN_SQL = "SELECT tbl.relname, nsp.nspname, att.attname, format_type(att.atttypid, att.atttypmod), att.attnotnull, att.attnum"
+            + " FROM pg_attribute att JOIN pg_class tbl ON tbl.oid = att.attrelid JOIN pg_namespace nsp ON nsp.oid = tbl.relnamespace"
+            + " WHERE att.attnum > 0 AND NOT att.attisdropped AND nsp.nspname NOT IN ('pg_catalog', 'information_schema') AND tbl.relname IN (%s)"
+            + " ORDER BY tbl.relname, nsp.nspname, att.attnum";
+    
+    private static final String INDEX_SQL = "SELECT tbl.relname, nsp.nspname, pg_get_indexdef(pgi.indexrelid)"
+            + " FROM pg_index pgi JOIN pg_class tbl ON tbl.oid = pgi.indrelid JOIN pg_namespace nsp ON nsp.oid = tbl.relnamespace"
+            + " WHERE nsp.nspname NOT IN ('pg_catalog', 'information_schema') AND tbl.relname IN (%s)"
+            + " ORDER BY tbl.relname, nsp.nspname, pgi.indexrelid";
+    
+    @Override
+    public Map<String, Long> load(final Connection connection, final Collection<String> tableNames) throws SQLException {
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String tableNameParameters = tableNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(","));
+        TableFingerprintBuilder builder = new TableFingerprintBuilder();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(String.format(COLUMN_SQL, tableNameParameters))) {
+                builder.append(resultSet);
+            }
+            try (ResultSet resultSet = statement.executeQuery(String.format(INDEX_SQL, tableNameParameters))) {
+                builder.append(resultSet);
+            }
+        }
+        return builder.build();
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.enums
 import org.apache.shardingsphere.database.connector.core.metadata.database.enums.QuoteCharacter;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.DialectDatabaseMetaData;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.IdentifierPatternType;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.sqlbatch.DialectSQLBatchOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.transaction.DialectTransactionOption;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
@@ -94,6 +95,14 @@ class PostgreSQLDatabaseMetaDataTest {
         assertTrue(actual.getXaDriverClassNames().contains("org.postgresql.xa.PGXADataSource"));
     }
     
+    @Test
+    void assertGetSQLBatchOption() {
+        DialectSQLBatchOption actual = dialectDatabaseMetaData.getSQLBatchOption();
+        assertTrue(actual.isSupportSQLBatch());
+        assertThat(actual.getMaxInsertValuesRowCount(), is(Integer.MAX_VALUE));
+        assertThat(actual.getMaxParameterCount(), is(32767));
+    }
+    
     @Test
     void assertGetProtocolVersionOption() {
         assertThat(dialectDatabaseMetaData.getProtocolVersionOption().getDefaultVersion(), is("12.3"));
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.metad
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.altertable.DialectAlterTableOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.pagination.DialectPaginationOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DialectSchemaOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.sqlbatch.DialectSQLBatchOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.transaction.DialectTransactionOption;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
@@ -84,6 +85,14 @@ class SQLServerDatabaseMetaDataTest {
         assertTrue(actual.getXaDriverClassNames().contains("com.microsoft.sqlserver.jdbc.SQLServerXADataSource"));
     }
     
+    @Test
+    void assertGetSQLBatchOption() {
+        DialectSQLBatchOption actual = dialectDatabaseMetaData.getSQLBatchOption();
+        assertTrue(actual.isSupportSQLBatch());
+        assertThat(actual.getMaxInsertValuesRowCount(), is(1000));
+        assertThat(actual.getMaxParameterCount(), is(2100));
+    }
+    
     @Test
     void assertGetPaginationOption() {
         DialectPaginationOption actual = dialectDatabaseMetaData.getPaginationOption();
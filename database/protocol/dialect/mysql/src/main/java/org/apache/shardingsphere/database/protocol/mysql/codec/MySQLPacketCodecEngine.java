@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.database.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.database.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLEncodedResultSetRowPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
@@ -86,6 +87,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        if (message instanceof MySQLEncodedResultSetRowPacket) {
+            writeEncodedFrame(context, ((MySQLEncodedResultSetRowPacket) message).getFrame());
+            return;
+        }
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -103,6 +108,15 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
         }
     }
     
+    private void writeEncodedFrame(final ChannelHandlerContext context, final ByteBuf frame) {
+        if (frame.readableBytes() - PAYLOAD_LENGTH - SEQUENCE_LENGTH < MAX_PACKET_LENGTH) {
+            updateMessageHeader(frame, context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().getAndIncrement());
+            context.write(frame.retain());
+        } else {
+            writeMultiPackets(context, frame.duplicate());
+        }
+    }
+    
     private ByteBuf prepareMessageHeader(final ByteBuf out) {
         return out.writeInt(0);
     }
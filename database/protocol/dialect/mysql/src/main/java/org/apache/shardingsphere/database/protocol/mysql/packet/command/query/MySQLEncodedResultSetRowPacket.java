@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * Encoded result set row packet for MySQL.
+ * 
+ * <p>Frame starts with {@link #HEADER_LENGTH} reserved bytes of packet header, which are filled by codec before the frame is written to channel without copying.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLEncodedResultSetRowPacket extends MySQLPacket implements ReferenceCounted {
+    
+    public static final int HEADER_LENGTH = 4;
+    
+    private final ByteBuf frame;
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(frame, frame.readerIndex() + HEADER_LENGTH, frame.readableBytes() - HEADER_LENGTH);
+    }
+    
+    @Override
+    public int refCnt() {
+        return frame.refCnt();
+    }
+    
+    @Override
+    public MySQLEncodedResultSetRowPacket retain() {
+        frame.retain();
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedResultSetRowPacket retain(final int increment) {
+        frame.retain(increment);
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedResultSetRowPacket touch() {
+        frame.touch();
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedResultSetRowPacket touch(final Object hint) {
+        frame.touch(hint);
+        return this;
+    }
+    
+    @Override
+    public boolean release() {
+        return frame.release();
+    }
+    
+    @Override
+    public boolean release(final int decrement) {
+        return frame.release(decrement);
+    }
+}
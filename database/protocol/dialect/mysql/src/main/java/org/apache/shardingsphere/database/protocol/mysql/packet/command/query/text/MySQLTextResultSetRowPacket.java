@@ -58,16 +58,21 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     @Override
     protected void write(final MySQLPacketPayload payload) {
         for (Object each : data) {
-            if (null == each) {
-                payload.writeInt1(NULL);
-                continue;
-            }
-            writeDataIntoPayload(payload, each);
+            writeValue(payload, each);
         }
     }
     
-    private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
-        if (data instanceof byte[]) {
+    /**
+     * Write value of text result set row.
+     *
+     * @param payload payload
+     * @param data data to be written
+     * @throws UnknownSQLException unknown SQL exception
+     */
+    public static void writeValue(final MySQLPacketPayload payload, final Object data) {
+        if (null == data) {
+            payload.writeInt1(NULL);
+        } else if (data instanceof byte[]) {
             payload.writeBytesLenenc((byte[]) data);
         } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
             payload.writeStringLenenc(data.toString().split("\\.")[0]);
@@ -91,7 +96,7 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
         }
     }
     
-    private String formatLocalDateTime(final LocalDateTime value) {
+    private static String formatLocalDateTime(final LocalDateTime value) {
         int nanos = value.getNano();
         if (0 == nanos) {
             return DateTimeFormatterFactory.getDatetimeFormatter().format(value);
@@ -109,7 +114,7 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
         return result.toString();
     }
     
-    private String formatLocalTime(final LocalTime value) {
+    private static String formatLocalTime(final LocalTime value) {
         int nanos = value.getNano();
         if (0 == nanos) {
             return DateTimeFormatterFactory.getTimeFormatter().format(value);
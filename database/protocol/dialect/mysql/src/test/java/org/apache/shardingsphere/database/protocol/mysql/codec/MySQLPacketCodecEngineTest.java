@@ -25,6 +25,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLEncodedResultSetRowPacket;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -146,6 +147,18 @@ class MySQLPacketCodecEngineTest {
         verify(byteBuf).setByte(3, 1);
     }
     
+    @Test
+    void assertEncodeEncodedResultSetRowPacket() {
+        ByteBuf frame = Unpooled.buffer().writeInt(0).writeBytes(new byte[]{1, 2, 3});
+        context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(3);
+        new MySQLPacketCodecEngine().encode(context, new MySQLEncodedResultSetRowPacket(frame), byteBuf);
+        verify(context).write(frame);
+        assertThat(frame.refCnt(), is(2));
+        assertThat(frame.getMediumLE(0), is(3));
+        assertThat(frame.getByte(3), is((byte) 3));
+        assertThat(context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().get(), is(4));
+    }
+    
     @Test
     void assertEncodePacketMoreThan16MB() {
         CompositeByteBuf expected = new CompositeByteBuf(UnpooledByteBufAllocator.DEFAULT, false, 6);
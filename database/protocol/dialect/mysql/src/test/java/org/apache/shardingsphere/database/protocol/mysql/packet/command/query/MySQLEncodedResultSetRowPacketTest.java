@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLEncodedResultSetRowPacketTest {
+    
+    @Test
+    void assertWrite() {
+        ByteBuf frame = Unpooled.buffer().writeInt(0).writeBytes(new byte[]{1, 2, 3});
+        ByteBuf out = Unpooled.buffer();
+        new MySQLEncodedResultSetRowPacket(frame).write(new MySQLPacketPayload(out, StandardCharsets.UTF_8));
+        assertThat(out.readableBytes(), is(3));
+        assertThat(out.getByte(2), is((byte) 3));
+        assertThat(frame.readableBytes(), is(7));
+    }
+    
+    @Test
+    void assertRelease() {
+        ByteBuf frame = Unpooled.buffer();
+        MySQLEncodedResultSetRowPacket packet = new MySQLEncodedResultSetRowPacket(frame);
+        assertThat(packet.retain().refCnt(), is(2));
+        packet.release();
+        assertTrue(packet.release());
+        assertThat(frame.refCnt(), is(0));
+    }
+}
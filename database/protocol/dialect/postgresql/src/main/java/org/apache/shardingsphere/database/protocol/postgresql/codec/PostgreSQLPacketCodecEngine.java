@@ -51,6 +51,8 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
     
     private final List<ByteBuf> pendingMessages = new LinkedList<>();
     
+    private final List<ByteBuf> pipelinedMessages = new LinkedList<>();
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes >= (startupPhase ? 0 : MESSAGE_TYPE_LENGTH) + PAYLOAD_LENGTH;
@@ -65,18 +67,24 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
             }
             int payloadLength = in.getInt(in.readerIndex() + 1);
             if (in.readableBytes() < MESSAGE_TYPE_LENGTH + payloadLength) {
-                return;
+                break;
             }
             byte type = in.getByte(in.readerIndex());
             PostgreSQLCommandPacketType commandPacketType = PostgreSQLCommandPacketType.valueOf(type);
             if (requireAggregation(commandPacketType)) {
                 pendingMessages.add(in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
+            } else if (isPipelineBoundary(commandPacketType)) {
+                pipelinedMessages.addAll(pendingMessages);
+                pipelinedMessages.add(in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
+                pendingMessages.clear();
             } else if (pendingMessages.isEmpty()) {
+                handlePipelinedMessages(context, out);
                 out.add(in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
             } else {
                 handlePendingMessages(context, in, out, payloadLength);
             }
         }
+        handlePipelinedMessages(context, out);
     }
     
     private void handleStartupPhase(final ByteBuf in, final List<Object> out) {
@@ -96,13 +104,30 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
                 && PostgreSQLCommandPacketType.SYNC_COMMAND != commandPacketType && PostgreSQLCommandPacketType.FLUSH_COMMAND != commandPacketType;
     }
     
+    private boolean isPipelineBoundary(final PostgreSQLCommandPacketType commandPacketType) {
+        return PostgreSQLCommandPacketType.SYNC_COMMAND == commandPacketType || PostgreSQLCommandPacketType.FLUSH_COMMAND == commandPacketType;
+    }
+    
     private void handlePendingMessages(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int payloadLength) {
-        CompositeByteBuf result = context.alloc().compositeBuffer(pendingMessages.size() + 1);
-        result.addComponents(true, pendingMessages).addComponent(true, in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
+        CompositeByteBuf result = context.alloc().compositeBuffer(pipelinedMessages.size() + pendingMessages.size() + 1);
+        result.addComponents(true, pipelinedMessages).addComponents(true, pendingMessages).addComponent(true, in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
         out.add(result);
+        pipelinedMessages.clear();
         pendingMessages.clear();
     }
     
+    private void handlePipelinedMessages(final ChannelHandlerContext context, final List<Object> out) {
+        if (pipelinedMessages.isEmpty()) {
+            return;
+        }
+        if (1 == pipelinedMessages.size()) {
+            out.add(pipelinedMessages.get(0));
+        } else {
+            out.add(context.alloc().compositeBuffer(pipelinedMessages.size()).addComponents(true, pipelinedMessages));
+        }
+        pipelinedMessages.clear();
+    }
+    
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
         boolean isIdentifierPacket = message instanceof PostgreSQLIdentifierPacket;
@@ -48,6 +48,7 @@ import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.isA;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
@@ -127,6 +128,22 @@ class PostgreSQLPacketCodecEngineTest {
         }
     }
     
+    @Test
+    void assertDecodeWithPipelinedSyncGroups() {
+        PostgreSQLPacketCodecEngine codecEngine = new PostgreSQLPacketCodecEngine();
+        setStartupPhase(codecEngine, false);
+        ByteBuf packet = Unpooled.wrappedBuffer(
+                createCommandPacket(PostgreSQLCommandPacketType.PARSE_COMMAND.getValue(), 4), createCommandPacket(PostgreSQLCommandPacketType.SYNC_COMMAND.getValue(), 4),
+                createCommandPacket(PostgreSQLCommandPacketType.BIND_COMMAND.getValue(), 4), createCommandPacket(PostgreSQLCommandPacketType.SYNC_COMMAND.getValue(), 4),
+                createCommandPacket(PostgreSQLCommandPacketType.PARSE_COMMAND.getValue(), 4));
+        List<Object> out = new LinkedList<>();
+        codecEngine.decode(context, packet, out);
+        assertThat(out.size(), is(1));
+        assertThat(out.get(0), isA(CompositeByteBuf.class));
+        assertThat(((ByteBuf) out.get(0)).readableBytes(), is(20));
+        assertThat(getPendingMessages(codecEngine).size(), is(1));
+    }
+    
     @ParameterizedTest(name = "{0}")
     @MethodSource("encodeCases")
     void assertEncode(final String name, final boolean identifierPacket, final boolean writeException, final boolean expectedHeader, final char expectedIdentifier) {
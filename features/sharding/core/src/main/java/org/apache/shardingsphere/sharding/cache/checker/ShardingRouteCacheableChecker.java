@@ -196,7 +196,7 @@ public final class ShardingRouteCacheableChecker {
         }
         if (conditionValue instanceof RangeShardingConditionValue<?>) {
             Range<?> range = ((RangeShardingConditionValue<?>) conditionValue).getValueRange();
-            return range.lowerEndpoint() instanceof Number && range.upperEndpoint() instanceof Number;
+            return (!range.hasLowerBound() || range.lowerEndpoint() instanceof Number) && (!range.hasUpperBound() || range.upperEndpoint() instanceof Number);
         }
         return true;
     }
@@ -25,9 +25,14 @@ import java.util.Optional;
 
 /**
  * Cache for sharding route.
+ * 
+ * <p>Entries are weighed by count of routed data nodes if maximum weight of cache options is set, which limits total data nodes of cached route contexts.
+ * Otherwise maximum size of cache options limits count of cached route contexts.</p>
  */
 public final class ShardingRouteCache {
     
+    private final ShardingRouteCacheEvictionListener evictionListener = new ShardingRouteCacheEvictionListener();
+    
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
@@ -35,11 +40,16 @@ public final class ShardingRouteCache {
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity());
+        if (cacheOptions.getMaximumWeight() > 0) {
+            result.maximumWeight(cacheOptions.getMaximumWeight()).weigher((ShardingRouteCacheKey key, ShardingRouteCacheValue value) -> value.getWeight());
+        } else {
+            result.maximumSize(cacheOptions.getMaximumSize());
+        }
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
-        return result.build();
+        return result.evictionListener(evictionListener).build();
     }
     
     /**
@@ -56,9 +66,18 @@ public final class ShardingRouteCache {
      * Get cached route result.
      *
      * @param key cache key
-     * @return optional cached route result
+     * @return optional cached route result, empty if absent or not cacheable
      */
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
-        return Optional.ofNullable(cache.getIfPresent(key));
+        return Optional.ofNullable(cache.getIfPresent(key)).filter(ShardingRouteCacheValue::isCacheable);
+    }
+    
+    /**
+     * Get count of evicted route results.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionListener.getEvictionCount();
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Eviction listener of sharding route cache.
+ */
+public final class ShardingRouteCacheEvictionListener implements RemovalListener<ShardingRouteCacheKey, ShardingRouteCacheValue> {
+    
+    private final LongAdder evictionCount = new LongAdder();
+    
+    @Override
+    public void onRemoval(final ShardingRouteCacheKey key, final ShardingRouteCacheValue value, final RemovalCause cause) {
+        evictionCount.increment();
+    }
+    
+    /**
+     * Get count of evicted route results.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -37,6 +38,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ShardingRouteCacheValue {
     
+    @Getter
     private final boolean cacheable;
     
     private final RouteContext cachedRouteContext;
@@ -45,6 +47,22 @@ public final class ShardingRouteCacheValue {
         this(null != routeContext, routeContext);
     }
     
+    /**
+     * Get weight of cached route context, which is count of routed data nodes.
+     *
+     * @return weight
+     */
+    public int getWeight() {
+        if (!cacheable) {
+            return 1;
+        }
+        int result = 0;
+        for (RouteUnit each : cachedRouteContext.getRouteUnits()) {
+            result += Math.max(1, each.getTableMappers().size());
+        }
+        return Math.max(1, result);
+    }
+    
     /**
      * Get cached route context.
      *
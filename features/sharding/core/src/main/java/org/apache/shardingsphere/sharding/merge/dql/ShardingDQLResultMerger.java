@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.sharding.merge.dql;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.DialectDatabaseMetaData;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
@@ -27,6 +26,8 @@ import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.Ord
 import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -35,9 +36,12 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.pagination.TopNDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.builder.PaginationDecoratorMergedResultBuilder;
+import org.apache.shardingsphere.sharding.merge.dql.pagination.topn.TopNShardCursorHandler;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
@@ -50,11 +54,32 @@ import java.util.Optional;
 /**
  * DQL result merger for Sharding.
  */
-@RequiredArgsConstructor
 public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final long groupBySpillMemoryBytes;
+    
+    private final String spillDirectory;
+    
+    private final boolean topNMergeEnabled;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, 0L, "", false);
+    }
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType, final ConfigurationProperties props) {
+        this(protocolType, (long) props.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_MEMORY_BYTES), props.getValue(ConfigurationPropertyKey.SPILL_DIRECTORY),
+                (boolean) props.getValue(ConfigurationPropertyKey.TOP_N_MERGE_ENABLED));
+    }
+    
+    private ShardingDQLResultMerger(final DatabaseType protocolType, final long groupBySpillMemoryBytes, final String spillDirectory, final boolean topNMergeEnabled) {
+        this.protocolType = protocolType;
+        this.groupBySpillMemoryBytes = groupBySpillMemoryBytes;
+        this.spillDirectory = spillDirectory;
+        this.topNMergeEnabled = topNMergeEnabled;
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -117,8 +142,11 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        return groupBySpillMemoryBytes > 0L
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, groupBySpillMemoryBytes, spillDirectory)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
@@ -132,6 +160,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
             return mergedResult;
         }
         Optional<PaginationDecoratorMergedResultBuilder> paginationDecoratorMergedResultBuilder = DatabaseTypedSPILoader.findService(PaginationDecoratorMergedResultBuilder.class, protocolType);
-        return paginationDecoratorMergedResultBuilder.isPresent() ? paginationDecoratorMergedResultBuilder.get().build(mergedResult, paginationContext) : mergedResult;
+        if (!paginationDecoratorMergedResultBuilder.isPresent()) {
+            return mergedResult;
+        }
+        MergedResult result = paginationDecoratorMergedResultBuilder.get().build(mergedResult, paginationContext);
+        if (!topNMergeEnabled || !paginationContext.getActualRowCount().isPresent()) {
+            return result;
+        }
+        Optional<TopNShardCursorHandler> shardCursorHandler = DatabaseTypedSPILoader.findService(TopNShardCursorHandler.class, protocolType);
+        return shardCursorHandler.isPresent() ? new TopNDecoratorMergedResult(result, queryResults, paginationContext.getRevisedRowCount(selectStatementContext), shardCursorHandler.get()) : result;
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.database.exception.core.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Group by merged result utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupByMergedResultUtils {
+    
+    /**
+     * Create aggregation units of one group.
+     *
+     * @param selectStatementContext select statement context
+     * @param aggregationColumnTypes column types of aggregation values
+     * @return aggregation units
+     */
+    public static Map<AggregationProjection, AggregationUnit> createAggregationUnits(final SelectStatementContext selectStatementContext,
+                                                                                     final Map<AggregationProjection, List<Integer>> aggregationColumnTypes) {
+        return selectStatementContext.getProjectionsContext().getAggregationProjections().stream()
+                .collect(Collectors.toMap(Function.identity(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection,
+                        input.getSeparator().orElse(null), aggregationColumnTypes.getOrDefault(input, Collections.emptyList()))));
+    }
+    
+    /**
+     * Get value case sensitive of columns.
+     *
+     * @param queryResult query result
+     * @param selectStatementContext select statement context
+     * @param schema schema
+     * @return value case sensitive of columns, index 0 is placeholder and column index starts from 1
+     * @throws SQLException SQL exception
+     */
+    public static List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        List<Boolean> result = new ArrayList<>(columnCount + 1);
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, selectStatementContext, schema, columnIndex));
+        }
+        return result;
+    }
+    
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+                                                           final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+            ShardingSphereTable table = schema.getTable(tableName);
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (table.containsColumn(columnName)) {
+                return table.getColumn(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get memory result set rows when no group is aggregated.
+     *
+     * @param selectStatementContext select statement context
+     * @return one row of default aggregation values if aggregating without group by, otherwise empty
+     */
+    public static List<MemoryQueryResultRow> getEmptyGroupMemoryResultSetRows(final SelectStatementContext selectStatementContext) {
+        boolean hasGroupBy = !selectStatementContext.getGroupByContext().getItems().isEmpty();
+        boolean hasAggregations = !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty();
+        if (hasGroupBy || !hasAggregations) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new MemoryQueryResultRow(generateReturnData(selectStatementContext)));
+    }
+    
+    private static Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,484 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.spill.SpillFileUtils;
+import org.apache.shardingsphere.infra.util.spill.SpillRowCodec;
+import org.apache.shardingsphere.sharding.exception.data.GroupBySpillException;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.PrimitiveAggregationUtils;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SortedSpillRunsIterator;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Spillable merged result for group by.
+ *
+ * <p>Groups are aggregated in memory until their estimated size reaches spill memory bytes. The estimated size includes values retained by distinct and group concat aggregations,
+ * which is counted for every merged value because repeated distinct values can not be told apart without lookup. After that, rows of new groups are hash partitioned to temporary files,
+ * each partition is aggregated independently and partitioned again with next hash bits if it still exceeds the budget, then written back as sorted runs.
+ * Sorted runs are merged by {@link GroupByRowComparator}, at most {@value #MAX_MERGE_RUNS} runs are opened at the same time.</p>
+ *
+ * <p>Temporary files are deleted when the result is exhausted, closed or failed.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final int PARTITION_BITS = 6;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_PARTITION_LEVELS = Integer.SIZE / PARTITION_BITS;
+    
+    private static final int MAX_MERGE_RUNS = PARTITION_COUNT;
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final long GROUP_OVERHEAD_BYTES = 256L;
+    
+    private static final long AGGREGATION_UNIT_BYTES = 64L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    private static final long RETAINED_VALUE_OVERHEAD_BYTES = 32L;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long spillMemoryBytes;
+    
+    private final String spillParentDirectory;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    private Map<AggregationProjection, List<Integer>> aggregationColumnTypes = Collections.emptyMap();
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    private Path spillDirectory;
+    
+    private MemoryQueryResultRow currentResultSetRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final long spillMemoryBytes, final String spillParentDirectory) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.spillMemoryBytes = spillMemoryBytes;
+        this.spillParentDirectory = spillParentDirectory;
+        boolean initialized = false;
+        try {
+            memoryResultSetRows = init(queryResults, schema);
+            initialized = true;
+        } catch (final IOException ex) {
+            throw new GroupBySpillException(ex);
+        } finally {
+            if (!initialized) {
+                deleteSpillDirectory();
+            }
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults, final ShardingSphereSchema schema) throws SQLException, IOException {
+        if (!queryResults.isEmpty()) {
+            aggregationColumnTypes = PrimitiveAggregationUtils.getColumnTypes(selectStatementContext.getProjectionsContext().getAggregationProjections(), queryResults.get(0).getMetaData());
+        }
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty()
+                ? Collections.emptyList()
+                : GroupByMergedResultUtils.getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        Comparator<MemoryQueryResultRow> comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        PartitionAggregator aggregator = new PartitionAggregator(0, "partition");
+        try {
+            for (QueryResult each : queryResults) {
+                int columnCount = each.getMetaData().getColumnCount();
+                while (each.next()) {
+                    aggregator.accept(load(each, columnCount));
+                }
+            }
+        } finally {
+            aggregator.closePartitionOutputs();
+        }
+        if (!aggregator.isSpilled()) {
+            return getMemoryResultSetRows(aggregator.dataMap, aggregator.aggregationMap, comparator).iterator();
+        }
+        return new SortedSpillRunsIterator(reduceRuns(aggregator.writeSortedRuns(comparator), comparator), comparator);
+    }
+    
+    private Object[] load(final QueryResult queryResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private long aggregate(final GroupByValue groupByValue, final Object[] row,
+                           final Map<GroupByValue, Object[]> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
+        dataMap.putIfAbsent(groupByValue, row);
+        Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.computeIfAbsent(groupByValue,
+                unused -> GroupByMergedResultUtils.createAggregationUnits(selectStatementContext, aggregationColumnTypes));
+        long result = 0L;
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            aggregationValues.clear();
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(row, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(row, derived));
+                }
+            }
+            aggregationUnits.get(each).merge(aggregationValues);
+            if (isRetainingValues(each)) {
+                result += estimateRetainedValuesBytes(aggregationValues);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isRetainingValues(final AggregationProjection aggregationProjection) {
+        return aggregationProjection instanceof AggregationDistinctProjection || AggregationType.GROUP_CONCAT == aggregationProjection.getType();
+    }
+    
+    private long estimateRetainedValuesBytes(final List<Comparable<?>> values) {
+        long result = 0L;
+        for (Comparable<?> each : values) {
+            result += RETAINED_VALUE_OVERHEAD_BYTES + estimateValueBytes(each);
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final Object[] row, final AggregationProjection aggregationProjection) {
+        Object result = row[aggregationProjection.getIndex() - 1];
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    private long estimateGroupBytes(final Object[] row) {
+        long result = GROUP_OVERHEAD_BYTES + REFERENCE_BYTES * row.length + AGGREGATION_UNIT_BYTES * selectStatementContext.getProjectionsContext().getAggregationProjections().size();
+        for (Object each : row) {
+            result += estimateValueBytes(each);
+        }
+        return result;
+    }
+    
+    private long estimateValueBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 64L;
+        }
+        return 24L;
+    }
+    
+    private DataOutputStream[] createPartitionOutputs(final String name) throws IOException {
+        if (null == spillDirectory) {
+            spillDirectory = SpillFileUtils.createTempDirectory(spillParentDirectory, "shardingsphere-group-by-");
+        }
+        DataOutputStream[] result = new DataOutputStream[PARTITION_COUNT];
+        try {
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                result[i] = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(getPartitionFile(name, i)), BUFFER_SIZE));
+            }
+        } catch (final IOException ex) {
+            closePartitionOutputs(result);
+            throw ex;
+        }
+        return result;
+    }
+    
+    private Path getPartitionFile(final String name, final int partition) {
+        return spillDirectory.resolve(name + "-" + partition);
+    }
+    
+    private int getPartition(final GroupByValue groupByValue, final int level) {
+        return (groupByValue.hashCode() * 0x9E3779B9 >>> Integer.SIZE - PARTITION_BITS * (level + 1)) & PARTITION_COUNT - 1;
+    }
+    
+    private void closePartitionOutputs(final DataOutputStream[] partitionOutputs) throws IOException {
+        if (null == partitionOutputs) {
+            return;
+        }
+        IOException ex = null;
+        for (DataOutputStream each : partitionOutputs) {
+            if (null == each) {
+                continue;
+            }
+            try {
+                each.close();
+            } catch (final IOException closeException) {
+                ex = closeException;
+            }
+        }
+        if (null != ex) {
+            throw ex;
+        }
+    }
+    
+    private Collection<Path> aggregatePartition(final Path partitionFile, final PartitionAggregator aggregator, final Comparator<MemoryQueryResultRow> comparator) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(partitionFile), BUFFER_SIZE))) {
+            Optional<Object[]> row = SpillRowCodec.read(input);
+            while (row.isPresent()) {
+                aggregator.accept(row.get());
+                row = SpillRowCodec.read(input);
+            }
+        } finally {
+            aggregator.closePartitionOutputs();
+        }
+        Files.delete(partitionFile);
+        return aggregator.writeSortedRuns(comparator);
+    }
+    
+    private List<Object[]> getAggregatedRows(final Map<GroupByValue, Object[]> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
+        List<Object[]> result = new ArrayList<>(dataMap.size());
+        for (Entry<GroupByValue, Object[]> entry : dataMap.entrySet()) {
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                entry.getValue()[each.getIndex() - 1] = aggregationMap.get(entry.getKey()).get(each).getResult();
+            }
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+    
+    private Optional<Path> writeSortedRun(final List<Object[]> rows, final Comparator<MemoryQueryResultRow> comparator, final String fileName) throws IOException {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        rows.sort((o1, o2) -> comparator.compare(new MemoryQueryResultRow(o1), new MemoryQueryResultRow(o2)));
+        Path result = spillDirectory.resolve(fileName);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(result), BUFFER_SIZE))) {
+            for (Object[] each : rows) {
+                SpillRowCodec.write(output, each);
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private Collection<Path> reduceRuns(final Collection<Path> runs, final Comparator<MemoryQueryResultRow> comparator) throws IOException {
+        LinkedList<Path> result = new LinkedList<>(runs);
+        int mergedRunsCount = 0;
+        while (result.size() > MAX_MERGE_RUNS) {
+            List<Path> mergingRuns = new ArrayList<>(MAX_MERGE_RUNS);
+            for (int i = 0; i < MAX_MERGE_RUNS; i++) {
+                mergingRuns.add(result.removeFirst());
+            }
+            Path mergedRun = spillDirectory.resolve("merged-run-" + mergedRunsCount++);
+            try (
+                    SortedSpillRunsIterator iterator = new SortedSpillRunsIterator(mergingRuns, comparator);
+                    DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(mergedRun), BUFFER_SIZE))) {
+                while (iterator.hasNext()) {
+                    SpillRowCodec.write(output, iterator.nextData());
+                }
+            }
+            for (Path each : mergingRuns) {
+                Files.delete(each);
+            }
+            result.addLast(mergedRun);
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, Object[]> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap,
+                                                              final Comparator<MemoryQueryResultRow> comparator) {
+        if (dataMap.isEmpty()) {
+            return GroupByMergedResultUtils.getEmptyGroupMemoryResultSetRows(selectStatementContext);
+        }
+        List<MemoryQueryResultRow> result = getAggregatedRows(dataMap, aggregationMap).stream().map(MemoryQueryResultRow::new).collect(Collectors.toCollection(ArrayList::new));
+        result.sort(comparator);
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        boolean hasNext = false;
+        try {
+            if (memoryResultSetRows.hasNext()) {
+                currentResultSetRow = memoryResultSetRows.next();
+                hasNext = true;
+            }
+        } finally {
+            if (!hasNext) {
+                close();
+            }
+        }
+        return hasNext;
+    }
+    
+    @Override
+    public void close() {
+        try {
+            if (memoryResultSetRows instanceof SortedSpillRunsIterator) {
+                ((SortedSpillRunsIterator) memoryResultSetRows).close();
+            }
+        } catch (final IOException ex) {
+            throw new GroupBySpillException(ex);
+        } finally {
+            deleteSpillDirectory();
+        }
+    }
+    
+    private void deleteSpillDirectory() {
+        if (null == spillDirectory) {
+            return;
+        }
+        try {
+            try (Stream<Path> files = Files.list(spillDirectory)) {
+                for (Path each : files.collect(Collectors.toList())) {
+                    Files.deleteIfExists(each);
+                }
+            }
+            Files.deleteIfExists(spillDirectory);
+        } catch (final IOException ex) {
+            throw new GroupBySpillException(ex);
+        }
+        spillDirectory = null;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) {
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    private final class PartitionAggregator {
+        
+        private final int level;
+        
+        private final String name;
+        
+        private final Map<GroupByValue, Object[]> dataMap = new HashMap<>(1024, 1F);
+        
+        private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        
+        private long estimatedBytes;
+        
+        private DataOutputStream[] partitionOutputs;
+        
+        PartitionAggregator(final int level, final String name) {
+            this.level = level;
+            this.name = name;
+        }
+        
+        void accept(final Object[] row) throws IOException {
+            GroupByValue groupByValue = new GroupByValue(row, selectStatementContext.getGroupByContext().getItems());
+            if (!dataMap.containsKey(groupByValue)) {
+                if (estimatedBytes >= spillMemoryBytes && level < MAX_PARTITION_LEVELS) {
+                    if (null == partitionOutputs) {
+                        partitionOutputs = createPartitionOutputs(name);
+                    }
+                    SpillRowCodec.write(partitionOutputs[getPartition(groupByValue, level)], row);
+                    return;
+                }
+                estimatedBytes += estimateGroupBytes(row);
+            }
+            estimatedBytes += aggregate(groupByValue, row, dataMap, aggregationMap);
+        }
+        
+        boolean isSpilled() {
+            return null != partitionOutputs;
+        }
+        
+        void closePartitionOutputs() throws IOException {
+            GroupBySpillMergedResult.this.closePartitionOutputs(partitionOutputs);
+        }
+        
+        Collection<Path> writeSortedRuns(final Comparator<MemoryQueryResultRow> comparator) throws IOException {
+            Collection<Path> result = new LinkedList<>();
+            writeSortedRun(getAggregatedRows(dataMap, aggregationMap), comparator, name + "-run").ifPresent(result::add);
+            dataMap.clear();
+            aggregationMap.clear();
+            if (isSpilled()) {
+                for (int i = 0; i < PARTITION_COUNT; i++) {
+                    result.addAll(aggregatePartition(getPartitionFile(name, i), new PartitionAggregator(level + 1, name + "-" + i), comparator));
+                }
+            }
+            return result;
+        }
+    }
+}
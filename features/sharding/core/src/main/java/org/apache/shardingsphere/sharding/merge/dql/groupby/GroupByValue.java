@@ -40,6 +40,10 @@ public final class GroupByValue {
         groupValues = getGroupByValues(queryResult, groupByItems);
     }
     
+    public GroupByValue(final Object[] row, final Collection<OrderByItem> groupByItems) {
+        groupValues = getGroupByValues(row, groupByItems);
+    }
+    
     private List<?> getGroupByValues(final QueryResult queryResult, final Collection<OrderByItem> groupByItems) throws SQLException {
         List<Object> result = new ArrayList<>(groupByItems.size());
         for (OrderByItem each : groupByItems) {
@@ -47,4 +51,12 @@ public final class GroupByValue {
         }
         return result;
     }
+    
+    private List<?> getGroupByValues(final Object[] row, final Collection<OrderByItem> groupByItems) {
+        List<Object> result = new ArrayList<>(groupByItems.size());
+        for (OrderByItem each : groupByItems) {
+            result.add(row[each.getIndex() - 1]);
+        }
+        return result;
+    }
 }
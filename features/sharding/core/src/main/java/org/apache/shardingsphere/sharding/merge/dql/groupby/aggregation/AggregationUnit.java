@@ -27,7 +27,7 @@ public interface AggregationUnit {
     /**
      * Merge aggregation values.
      *
-     * @param values aggregation values
+     * @param values aggregation values, the list may be reused by caller after merged
      */
     void merge(List<Comparable<?>> values);
     
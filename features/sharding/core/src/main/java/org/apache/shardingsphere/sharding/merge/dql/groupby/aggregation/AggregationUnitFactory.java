@@ -22,6 +22,9 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Aggregation unit factory.
  */
@@ -38,17 +41,34 @@ public final class AggregationUnitFactory {
      * @throws UnsupportedSQLOperationException unsupported SQL operation exception
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator) {
+        return create(type, isDistinct, separator, Collections.emptyList());
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param separator is separator for group_concat
+     * @param columnTypes column types of aggregation values, used to choose primitive specialized aggregation unit
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator, final Collection<Integer> columnTypes) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
             case MIN:
                 return new ComparableAggregationUnit(true);
             case SUM:
-                return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? new DistinctSumAggregationUnit() : createAccumulationAggregationUnit(columnTypes);
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? new DistinctCountAggregationUnit() : createAccumulationAggregationUnit(columnTypes);
             case AVG:
-                return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
+                if (isDistinct) {
+                    return new DistinctAverageAggregationUnit();
+                }
+                return 2 == columnTypes.size() && PrimitiveAggregationUtils.isIntegralTypes(columnTypes) ? new LongAverageAggregationUnit() : new AverageAggregationUnit();
             case BIT_XOR:
                 return new BitXorAggregationUnit();
             case GROUP_CONCAT:
@@ -57,4 +77,8 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    private static AggregationUnit createAccumulationAggregationUnit(final Collection<Integer> columnTypes) {
+        return PrimitiveAggregationUtils.isIntegralTypes(columnTypes) ? new LongAccumulationAggregationUnit() : new AccumulationAggregationUnit();
+    }
 }
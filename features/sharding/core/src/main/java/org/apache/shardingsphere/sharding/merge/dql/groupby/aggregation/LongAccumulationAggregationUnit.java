@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Long accumulation aggregation unit.
+ *
+ * <p>Integral values are accumulated into primitive long, overflowed and non integral values are accumulated into {@link BigDecimal}.</p>
+ */
+public final class LongAccumulationAggregationUnit implements AggregationUnit {
+    
+    private boolean merged;
+    
+    private long longResult;
+    
+    private BigDecimal decimalResult;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        merged = true;
+        Comparable<?> value = values.get(0);
+        if (!PrimitiveAggregationUtils.isIntegral(value)) {
+            decimalResult = PrimitiveAggregationUtils.add(decimalResult, new BigDecimal(value.toString()));
+            return;
+        }
+        long longValue = ((Number) value).longValue();
+        long sum = longResult + longValue;
+        if (PrimitiveAggregationUtils.isOverflow(longResult, longValue, sum)) {
+            decimalResult = PrimitiveAggregationUtils.add(decimalResult, BigDecimal.valueOf(longValue));
+        } else {
+            longResult = sum;
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!merged) {
+            return null;
+        }
+        return PrimitiveAggregationUtils.add(decimalResult, BigDecimal.valueOf(longResult));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Long average aggregation unit.
+ *
+ * <p>Integral count and sum values are accumulated into primitive long, overflowed and non integral values are accumulated into {@link BigDecimal}.</p>
+ */
+public final class LongAverageAggregationUnit implements AggregationUnit {
+    
+    private boolean merged;
+    
+    private long longCount;
+    
+    private long longSum;
+    
+    private BigDecimal decimalCount;
+    
+    private BigDecimal decimalSum;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0) || null == values.get(1)) {
+            return;
+        }
+        merged = true;
+        Comparable<?> count = values.get(0);
+        if (PrimitiveAggregationUtils.isIntegral(count) && !PrimitiveAggregationUtils.isOverflow(longCount, ((Number) count).longValue(), longCount + ((Number) count).longValue())) {
+            longCount += ((Number) count).longValue();
+        } else {
+            decimalCount = PrimitiveAggregationUtils.add(decimalCount, new BigDecimal(count.toString()));
+        }
+        Comparable<?> sum = values.get(1);
+        if (PrimitiveAggregationUtils.isIntegral(sum) && !PrimitiveAggregationUtils.isOverflow(longSum, ((Number) sum).longValue(), longSum + ((Number) sum).longValue())) {
+            longSum += ((Number) sum).longValue();
+        } else {
+            decimalSum = PrimitiveAggregationUtils.add(decimalSum, new BigDecimal(sum.toString()));
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!merged) {
+            return null;
+        }
+        BigDecimal count = PrimitiveAggregationUtils.add(decimalCount, BigDecimal.valueOf(longCount));
+        if (BigDecimal.ZERO.compareTo(count) == 0) {
+            return count;
+        }
+        return PrimitiveAggregationUtils.add(decimalSum, BigDecimal.valueOf(longSum)).divide(count, 4, RoundingMode.HALF_UP);
+    }
+}
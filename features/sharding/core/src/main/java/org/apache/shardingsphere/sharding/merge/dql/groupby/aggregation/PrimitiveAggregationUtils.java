@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Primitive aggregation utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrimitiveAggregationUtils {
+    
+    /**
+     * Get column types of aggregation values.
+     *
+     * @param aggregationProjections aggregation projections
+     * @param queryResultMetaData query result meta data
+     * @return column types of aggregation values, derived aggregation projections are used if present
+     * @throws SQLException SQL exception
+     */
+    public static Map<AggregationProjection, List<Integer>> getColumnTypes(final Collection<AggregationProjection> aggregationProjections,
+                                                                          final QueryResultMetaData queryResultMetaData) throws SQLException {
+        Map<AggregationProjection, List<Integer>> result = new HashMap<>(aggregationProjections.size(), 1F);
+        for (AggregationProjection each : aggregationProjections) {
+            List<Integer> columnTypes = new ArrayList<>(2);
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                columnTypes.add(queryResultMetaData.getColumnType(each.getIndex()));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    columnTypes.add(queryResultMetaData.getColumnType(derived.getIndex()));
+                }
+            }
+            result.put(each, columnTypes);
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether all column types are integral.
+     *
+     * @param columnTypes column types
+     * @return is integral types or not
+     */
+    public static boolean isIntegralTypes(final Collection<Integer> columnTypes) {
+        return !columnTypes.isEmpty() && columnTypes.stream().allMatch(each -> Types.TINYINT == each || Types.SMALLINT == each || Types.INTEGER == each || Types.BIGINT == each);
+    }
+    
+    static boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    static boolean isOverflow(final long augend, final long addend, final long sum) {
+        return ((augend ^ sum) & (addend ^ sum)) < 0L;
+    }
+    
+    static BigDecimal add(final BigDecimal augend, final BigDecimal addend) {
+        return null == augend ? addend : augend.add(addend);
+    }
+}
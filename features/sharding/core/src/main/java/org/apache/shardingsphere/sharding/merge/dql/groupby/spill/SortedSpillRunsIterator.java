@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.util.spill.SpillRowCodec;
+import org.apache.shardingsphere.sharding.exception.data.GroupBySpillException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Iterator which merges sorted spill runs.
+ */
+public final class SortedSpillRunsIterator implements Iterator<MemoryQueryResultRow>, AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Collection<DataInputStream> inputs = new LinkedList<>();
+    
+    private final Queue<SpillRunCursor> cursors;
+    
+    public SortedSpillRunsIterator(final Collection<Path> runs, final Comparator<MemoryQueryResultRow> comparator) throws IOException {
+        cursors = new PriorityQueue<>(Math.max(1, runs.size()), (o1, o2) -> comparator.compare(o1.current, o2.current));
+        try {
+            for (Path each : runs) {
+                DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(each), BUFFER_SIZE));
+                inputs.add(input);
+                SpillRunCursor cursor = new SpillRunCursor(input);
+                if (cursor.moveNext()) {
+                    cursors.offer(cursor);
+                }
+            }
+        } catch (final IOException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !cursors.isEmpty();
+    }
+    
+    @Override
+    public MemoryQueryResultRow next() {
+        return new MemoryQueryResultRow(nextData());
+    }
+    
+    /**
+     * Get data of next row.
+     *
+     * @return data of next row
+     */
+    public Object[] nextData() {
+        SpillRunCursor cursor = cursors.poll();
+        if (null == cursor) {
+            throw new NoSuchElementException();
+        }
+        Object[] result = cursor.currentData;
+        try {
+            if (cursor.moveNext()) {
+                cursors.offer(cursor);
+            }
+        } catch (final IOException ex) {
+            throw new GroupBySpillException(ex);
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        cursors.clear();
+        IOException ex = null;
+        for (DataInputStream each : inputs) {
+            try {
+                each.close();
+            } catch (final IOException closeException) {
+                ex = closeException;
+            }
+        }
+        inputs.clear();
+        if (null != ex) {
+            throw ex;
+        }
+    }
+    
+    private static final class SpillRunCursor {
+        
+        private final DataInputStream input;
+        
+        private Object[] currentData;
+        
+        private MemoryQueryResultRow current;
+        
+        SpillRunCursor(final DataInputStream input) {
+            this.input = input;
+        }
+        
+        boolean moveNext() throws IOException {
+            Optional<Object[]> row = SpillRowCodec.read(input);
+            currentData = row.orElse(null);
+            current = row.map(MemoryQueryResultRow::new).orElse(null);
+            return row.isPresent();
+        }
+    }
+}
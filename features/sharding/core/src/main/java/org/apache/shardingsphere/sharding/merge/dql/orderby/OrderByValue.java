@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.merge.dql.orderby;
 
 import lombok.Getter;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
@@ -25,16 +26,14 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Order by value.
@@ -46,24 +45,49 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final Collection<OrderByItem> orderByItems;
     
-    private final List<Boolean> orderValuesCaseSensitive;
-    
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final int[] orderByColumnIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final boolean[] orderValuesCaseSensitive;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final long[] longOrderValues;
+    
+    private final boolean[] longOrderValuePresents;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
+        int orderByItemCount = orderByItems.size();
+        orderByColumnIndexes = new int[orderByItemCount];
+        orderDirections = new OrderDirection[orderByItemCount];
+        nullsOrderTypes = new NullsOrderType[orderByItemCount];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderByColumnIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[i] = each.getSegment().getNullsOrderType(selectStatementContext.getSqlStatement().getDatabaseType());
+            i++;
+        }
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderValues = new Comparable<?>[orderByItemCount];
+        longOrderValues = new long[orderByItemCount];
+        longOrderValuePresents = new boolean[orderByItemCount];
     }
     
-    private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
+    private boolean[] getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
+        boolean[] result = new boolean[orderByItems.size()];
+        int i = 0;
         for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem));
+            result[i++] = getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem);
         }
         return result;
     }
@@ -94,36 +118,47 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     /**
      * Iterate next data.
      *
+     * <p>Order values are decoded once for each row, integral values are kept in typed slots and case-insensitive strings are kept in upper case.</p>
+     *
      * @return has next data
      * @throws SQLException SQL exception
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderValues.length; i++) {
+            Object value = queryResult.getValue(orderByColumnIndexes[i], Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            longOrderValuePresents[i] = value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+            if (longOrderValuePresents[i]) {
+                longOrderValues[i] = ((Number) value).longValue();
+            }
+            orderValues[i] = !orderValuesCaseSensitive[i] && value instanceof String ? ((String) value).toUpperCase() : (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getSqlStatement().getDatabaseType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = compareTo(orderByValue, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareTo(final OrderByValue orderByValue, final int index) {
+        if (longOrderValuePresents[index] && orderByValue.longOrderValuePresents[index]) {
+            int result = Long.compare(longOrderValues[index], orderByValue.longOrderValues[index]);
+            return OrderDirection.ASC == orderDirections[index] ? result : -result;
+        }
+        return CompareUtils.compareTo(orderValues[index], orderByValue.orderValues[index], orderDirections[index], nullsOrderTypes[index], true);
+    }
 }
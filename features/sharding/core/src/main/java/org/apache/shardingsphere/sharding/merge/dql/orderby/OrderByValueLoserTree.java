@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>Internal nodes keep the loser of each match and node 0 keeps the overall winner,
+ * so advancing the winner only replays the path from its leaf to root with log2(k) comparisons.
+ * Ties are won by the order by value of the former query result to keep merge stable.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int MIN_KEY = -1;
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[this.orderByValues.length];
+        Arrays.fill(losers, MIN_KEY);
+        for (int i = this.orderByValues.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[losers[0]];
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value
+     */
+    public OrderByValue peek() {
+        return orderByValues[losers[0]];
+    }
+    
+    /**
+     * Move winner order by value to next row and replay matches of it.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int winner = losers[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        adjust(winner);
+    }
+    
+    private void adjust(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + orderByValues.length) >> 1; parent > 0; parent >>= 1) {
+            if (isWinner(losers[parent], winner)) {
+                int loser = winner;
+                winner = losers[parent];
+                losers[parent] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isWinner(final int challenger, final int defender) {
+        if (MIN_KEY == challenger) {
+            return true;
+        }
+        if (MIN_KEY == defender || exhausted[challenger]) {
+            return false;
+        }
+        if (exhausted[defender]) {
+            return true;
+        }
+        int compareResult = orderByValues[challenger].compareTo(orderByValues[defender]);
+        return compareResult < 0 || 0 == compareResult && challenger < defender;
+    }
+}
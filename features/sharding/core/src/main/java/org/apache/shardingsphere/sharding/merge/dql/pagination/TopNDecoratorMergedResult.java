@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.pagination.topn.TopNShardCursorHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Decorator merged result for top-N pagination.
+ * 
+ * <p>Fetch size of shard cursors is set to the row count each shard needs to provide by dialect {@link TopNShardCursorHandler},
+ * and releasable shard cursors are closed as soon as the decorated pagination result is finished.
+ * Statements are not cancelled here, because cancel request may hit the next statement executed on the same connection.</p>
+ */
+public final class TopNDecoratorMergedResult extends DecoratorMergedResult {
+    
+    private final Collection<ResultSet> resultSets = new LinkedList<>();
+    
+    private boolean released;
+    
+    public TopNDecoratorMergedResult(final MergedResult mergedResult, final Collection<QueryResult> queryResults, final long shardRowCount,
+                                     final TopNShardCursorHandler shardCursorHandler) throws SQLException {
+        super(mergedResult);
+        int fetchSize = (int) Math.min(shardRowCount, Integer.MAX_VALUE);
+        for (QueryResult each : queryResults) {
+            if (each instanceof JDBCStreamQueryResult) {
+                ResultSet resultSet = ((JDBCStreamQueryResult) each).getResultSet();
+                if (shardCursorHandler.isReleasable(resultSet)) {
+                    resultSets.add(resultSet);
+                }
+                setFetchSize(shardCursorHandler, resultSet, fetchSize);
+            }
+        }
+    }
+    
+    private void setFetchSize(final TopNShardCursorHandler shardCursorHandler, final ResultSet resultSet, final int fetchSize) {
+        try {
+            shardCursorHandler.setFetchSize(resultSet, fetchSize);
+        } catch (final SQLException ignored) {
+            // Fetch size is only a hint, ignore drivers which do not support to change it on opened cursor.
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (released) {
+            return false;
+        }
+        if (getMergedResult().next()) {
+            return true;
+        }
+        release();
+        return false;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (!released) {
+                release();
+            }
+        } finally {
+            super.close();
+        }
+    }
+    
+    private void release() throws SQLException {
+        released = true;
+        SQLException ex = null;
+        for (ResultSet each : resultSets) {
+            try {
+                each.close();
+            } catch (final SQLException closeException) {
+                if (null == ex) {
+                    ex = closeException;
+                } else {
+                    ex.setNextException(closeException);
+                }
+            }
+        }
+        if (null != ex) {
+            throw ex;
+        }
+    }
+}
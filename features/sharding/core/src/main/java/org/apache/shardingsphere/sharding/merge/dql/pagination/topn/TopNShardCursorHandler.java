@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination.topn;
+
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Top-N shard cursor handler.
+ */
+@SingletonSPI
+public interface TopNShardCursorHandler extends DatabaseTypedSPI {
+    
+    /**
+     * Set fetch size of shard cursor.
+     *
+     * @param resultSet shard result set
+     * @param shardRowCount row count which each shard needs to provide
+     * @throws SQLException SQL exception
+     */
+    void setFetchSize(ResultSet resultSet, int shardRowCount) throws SQLException;
+    
+    /**
+     * Judge whether shard cursor can be released as soon as pagination is finished.
+     *
+     * @param resultSet shard result set
+     * @return can be released or not
+     * @throws SQLException SQL exception
+     */
+    boolean isReleasable(ResultSet resultSet) throws SQLException;
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination.topn.dialect;
+
+import org.apache.shardingsphere.sharding.merge.dql.pagination.topn.TopNShardCursorHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Top-N shard cursor handler for MySQL.
+ *
+ * <p>Streaming result set, whose fetch size is {@code Integer.MIN_VALUE}, reads all remaining rows when it is closed and its fetch size can not be changed,
+ * so only cursor fetch result set is handled.</p>
+ */
+public final class MySQLTopNShardCursorHandler implements TopNShardCursorHandler {
+    
+    @Override
+    public void setFetchSize(final ResultSet resultSet, final int shardRowCount) throws SQLException {
+        if (!isStreaming(resultSet)) {
+            resultSet.setFetchSize(shardRowCount);
+        }
+    }
+    
+    @Override
+    public boolean isReleasable(final ResultSet resultSet) throws SQLException {
+        return !isStreaming(resultSet);
+    }
+    
+    private boolean isStreaming(final ResultSet resultSet) throws SQLException {
+        return Integer.MIN_VALUE == resultSet.getFetchSize();
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
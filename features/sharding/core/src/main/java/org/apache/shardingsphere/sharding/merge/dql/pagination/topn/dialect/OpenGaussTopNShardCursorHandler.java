@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination.topn.dialect;
+
+import org.apache.shardingsphere.sharding.merge.dql.pagination.topn.TopNShardCursorHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Top-N shard cursor handler for openGauss.
+ *
+ * <p>Fetch size of result set is used by the following fetches of cursor, and closing result set does not read remaining rows.</p>
+ */
+public final class OpenGaussTopNShardCursorHandler implements TopNShardCursorHandler {
+    
+    @Override
+    public void setFetchSize(final ResultSet resultSet, final int shardRowCount) throws SQLException {
+        resultSet.setFetchSize(shardRowCount);
+    }
+    
+    @Override
+    public boolean isReleasable(final ResultSet resultSet) {
+        return true;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "openGauss";
+    }
+}
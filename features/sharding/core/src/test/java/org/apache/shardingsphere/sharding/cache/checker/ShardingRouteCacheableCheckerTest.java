@@ -178,6 +178,7 @@ class ShardingRouteCacheableCheckerTest {
                     Arguments.of("SELECT * FROM t_warehouse WHERE id in (?, ?, ?)", Arrays.asList(1, 2, 3), true, Arrays.asList(0, 1, 2)),
                     Arguments.of("SELECT * FROM t_warehouse WHERE id BETWEEN ? AND ?", Arrays.asList(1, 10), true, Arrays.asList(0, 1)),
                     Arguments.of("SELECT * FROM t_warehouse WHERE id BETWEEN ? AND ? LIMIT ? OFFSET ?", Arrays.asList(1, 10, 100, 50), true, Arrays.asList(0, 1)),
+                    Arguments.of("SELECT * FROM t_warehouse WHERE id > ?", Collections.singletonList(1), true, Collections.singletonList(0)),
                     Arguments.of("UPDATE t_warehouse SET warehouse_name = ? WHERE id = ?", Arrays.asList("foo", 1), true, Collections.singletonList(1)),
                     Arguments.of("DELETE FROM t_warehouse WHERE id = ?", Collections.singletonList(1), true, Collections.singletonList(0)));
             Collection<? extends Arguments> nonCacheableCases = Arrays.asList(
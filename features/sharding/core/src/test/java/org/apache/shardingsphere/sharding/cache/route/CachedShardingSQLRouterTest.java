@@ -164,6 +164,22 @@ class CachedShardingSQLRouterTest {
         Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(router, queryContext, globalRuleMetaData, null, shardingCache, tableNames, null);
         assertTrue(actual.isPresent());
         assertThat(actual.get(), is(expected));
+        verify(shardingCache.getRouteCache()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
+    }
+    
+    @Test
+    void assertCreateRouteContextWithQueryRoutedToNoneDataNode() {
+        QueryContext queryContext =
+                new QueryContext(sqlStatementContext, "SELECT * FROM t", Collections.emptyList(), new HintValueContext(), mockConnectionContext(), mock(ShardingSphereMetaData.class));
+        when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null));
+        when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.emptyList()));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        RouteContext expected = new RouteContext();
+        OriginSQLRouter router = (unused, globalRuleMetaData, database, rule, tableNames, props) -> expected;
+        Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(router, queryContext, mock(RuleMetaData.class), null, shardingCache, Collections.singletonList("t"), null);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(expected));
         verify(shardingCache.getRouteCache(), never()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ShardingRouteCacheEvictionListenerTest {
+    
+    @Test
+    void assertOnRemoval() {
+        ShardingRouteCacheEvictionListener listener = new ShardingRouteCacheEvictionListener();
+        listener.onRemoval(new ShardingRouteCacheKey("SELECT name FROM t WHERE id = ?", Collections.singletonList(1)), new ShardingRouteCacheValue(new RouteContext()), RemovalCause.SIZE);
+        listener.onRemoval(new ShardingRouteCacheKey("SELECT name FROM t WHERE id = ?", Collections.singletonList(2)), new ShardingRouteCacheValue(new RouteContext()), RemovalCause.SIZE);
+        assertThat(listener.getEvictionCount(), is(2L));
+    }
+}
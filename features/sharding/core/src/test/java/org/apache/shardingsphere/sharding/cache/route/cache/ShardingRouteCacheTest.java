@@ -21,8 +21,11 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +39,21 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertGetWithNotCacheableValue() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("SELECT name FROM t WHERE id = ?", Collections.singletonList(1));
+        cache.put(key, new ShardingRouteCacheValue(null));
+        assertFalse(cache.get(key).isPresent());
+    }
+    
+    @Test
+    void assertPutAndGetWithMaximumWeight() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 1, 16));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("SELECT name FROM t WHERE id IN (?, ?)", Arrays.asList(1, 2));
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        assertTrue(cache.get(key).isPresent());
+        assertThat(cache.getEvictionCount(), is(0L));
+    }
 }
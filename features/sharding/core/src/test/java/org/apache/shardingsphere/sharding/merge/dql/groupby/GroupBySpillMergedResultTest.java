@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GroupBySpillMergedResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "SQL92");
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereDatabase database;
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        MergedResult actual = createResultMerger(1L).merge(Arrays.asList(createQueryResult(), createQueryResult()), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertThat(actual, isA(GroupBySpillMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithoutSpill() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        MergedResult actual = createResultMerger(1024L * 1024L).merge(createQueryResults(), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertMergedResult(actual);
+    }
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        MergedResult actual = createResultMerger(1L).merge(createQueryResults(), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertNotNull(getSpillDirectory(actual));
+        assertMergedResult(actual);
+        assertNull(getSpillDirectory(actual));
+    }
+    
+    @Test
+    void assertCloseBeforeExhausted() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        MergedResult actual = createResultMerger(1L).merge(createQueryResults(), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        Path spillDirectory = getSpillDirectory(actual);
+        assertTrue(Files.isDirectory(spillDirectory));
+        actual.close();
+        assertFalse(Files.exists(spillDirectory));
+        assertNull(getSpillDirectory(actual));
+    }
+    
+    @Test
+    void assertNextWithSpillByRetainedGroupConcatValues() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(2);
+        when(queryResult.getMetaData().getColumnLabel(1)).thenReturn("GROUP_CONCAT(name)");
+        when(queryResult.getMetaData().getColumnLabel(2)).thenReturn("id");
+        when(queryResult.next()).thenReturn(true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn("foo_name_1", "bar_name_2");
+        when(queryResult.getValue(2, Object.class)).thenReturn(1, 2);
+        MergedResult actual = createResultMerger(500L).merge(Collections.singletonList(queryResult), createGroupConcatSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertNotNull(getSpillDirectory(actual));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("bar_name_2"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("foo_name_1"));
+        assertFalse(actual.next());
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Path getSpillDirectory(final MergedResult mergedResult) {
+        return (Path) Plugins.getMemberAccessor().get(GroupBySpillMergedResult.class.getDeclaredField("spillDirectory"), mergedResult);
+    }
+    
+    private void assertMergedResult(final MergedResult actual) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(10)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(1));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(1)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(10)));
+        assertFalse(actual.next());
+    }
+    
+    private ShardingDQLResultMerger createResultMerger(final long spillMemoryBytes) {
+        return new ShardingDQLResultMerger(databaseType,
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_MEMORY_BYTES.getKey(), String.valueOf(spillMemoryBytes)))));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        SelectStatement selectStatement = SelectStatement.builder()
+                .databaseType(databaseType)
+                .projections(projectionsSegment)
+                .groupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))))
+                .orderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))))
+                .build();
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new SelectStatementContext(
+                selectStatement, new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), "foo_db", Collections.emptyList());
+    }
+    
+    private SelectStatementContext createGroupConcatSelectStatementContext() {
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.GROUP_CONCAT, "GROUP_CONCAT(name)"));
+        SelectStatement selectStatement = SelectStatement.builder()
+                .databaseType(databaseType)
+                .projections(projectionsSegment)
+                .groupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, NullsOrderType.FIRST))))
+                .orderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, NullsOrderType.FIRST))))
+                .build();
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new SelectStatementContext(
+                selectStatement, new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), "foo_db", Collections.emptyList());
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenReturn(true, true, false);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(20, 10);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2, 1);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(2, 1);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(20, 10);
+        QueryResult queryResult3 = createQueryResult();
+        when(queryResult3.next()).thenReturn(true, true, false);
+        when(queryResult3.getValue(1, Object.class)).thenReturn(20, 30);
+        when(queryResult3.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult3.getValue(3, Object.class)).thenReturn(2, 3);
+        when(queryResult3.getValue(4, Object.class)).thenReturn(2, 3);
+        when(queryResult3.getValue(5, Object.class)).thenReturn(20, 30);
+        return Arrays.asList(queryResult1, createQueryResult(), queryResult3);
+    }
+    
+    private QueryResult createQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        return result;
+    }
+}
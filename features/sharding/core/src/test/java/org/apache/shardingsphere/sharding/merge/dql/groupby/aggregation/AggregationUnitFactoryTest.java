@@ -20,6 +20,10 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
 
@@ -37,6 +41,20 @@ class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, null), isA(AccumulationAggregationUnit.class));
     }
     
+    @Test
+    void assertCreatePrimitiveAccumulationAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, null, Collections.singletonList(Types.BIGINT)), isA(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, null, Collections.singletonList(Types.INTEGER)), isA(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, null, Collections.singletonList(Types.DOUBLE)), isA(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, null, Collections.singletonList(Types.DECIMAL)), isA(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreatePrimitiveAverageAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, null, Arrays.asList(Types.BIGINT, Types.BIGINT)), isA(LongAverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, null, Arrays.asList(Types.BIGINT, Types.DECIMAL)), isA(AverageAggregationUnit.class));
+    }
+    
     @Test
     void assertCreateAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, null), isA(AverageAggregationUnit.class));
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LongAccumulationAggregationUnitTest {
+    
+    @Test
+    void assertAccumulationAggregation() {
+        LongAccumulationAggregationUnit aggregationUnit = new LongAccumulationAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(1L));
+        aggregationUnit.merge(Collections.singletonList((short) 10));
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal(12)));
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithoutValue() {
+        LongAccumulationAggregationUnit aggregationUnit = new LongAccumulationAggregationUnit();
+        aggregationUnit.merge(Collections.singletonList(null));
+        assertNull(aggregationUnit.getResult());
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithOverflow() {
+        LongAccumulationAggregationUnit aggregationUnit = new LongAccumulationAggregationUnit();
+        aggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        aggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        aggregationUnit.merge(Collections.singletonList(1));
+        assertThat(aggregationUnit.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2L)).add(BigDecimal.ONE)));
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithDecimalValue() {
+        LongAccumulationAggregationUnit aggregationUnit = new LongAccumulationAggregationUnit();
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(new BigDecimal("1.5")));
+        aggregationUnit.merge(Collections.singletonList(BigInteger.TEN));
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal("12.5")));
+    }
+}
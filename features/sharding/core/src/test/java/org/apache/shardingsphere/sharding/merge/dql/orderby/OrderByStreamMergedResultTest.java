@@ -147,6 +147,32 @@ class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextForManyResultSetsWithIntegralValues() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
+        for (QueryResult each : queryResults) {
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(each.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnName(1)).thenReturn("col1");
+            when(metaData.getColumnName(2)).thenReturn("col2");
+        }
+        when(queryResults.get(0).next()).thenReturn(true, true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn(1, 1, 6, 6);
+        when(queryResults.get(1).next()).thenReturn(false);
+        when(queryResults.get(2).next()).thenReturn(true, true, true, false);
+        when(queryResults.get(2).getValue(1, Object.class)).thenReturn(2L, 2L, 4L, 4L, 8L, 8L);
+        when(queryResults.get(3).next()).thenReturn(true, false);
+        when(queryResults.get(3).getValue(1, Object.class)).thenReturn(5, 5);
+        when(queryResults.get(4).next()).thenReturn(true, true, false);
+        when(queryResults.get(4).getValue(1, Object.class)).thenReturn(3, 3, 7, 7);
+        MergedResult actual = new ShardingDQLResultMerger(databaseType).merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        for (int i = 1; i <= 8; i++) {
+            assertTrue(actual.next());
+            assertThat(((Number) actual.getValue(1, Object.class)).intValue(), is(i));
+        }
+        assertFalse(actual.next());
+    }
+    
     @Test
     void assertNextForCaseSensitive() throws SQLException {
         List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
@@ -197,9 +223,9 @@ class OrderByStreamMergedResultTest {
         assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("A"));
         assertTrue(actual.next());
-        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
-        assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("b"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
         assertFalse(actual.next());
     }
     
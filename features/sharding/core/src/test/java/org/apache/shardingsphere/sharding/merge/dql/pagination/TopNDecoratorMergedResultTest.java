@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination;
+
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sharding.merge.dql.pagination.topn.TopNShardCursorHandler;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TopNDecoratorMergedResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
+    
+    @Test
+    void assertMergeWithTopNMergeEnabled() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        SelectStatement selectStatement = SelectStatement.builder()
+                .databaseType(databaseType)
+                .projections(new ProjectionsSegment(0, 0))
+                .limit(new LimitSegment(0, 0, new NumberLiteralLimitValueSegment(0, 0, 1L), new NumberLiteralLimitValueSegment(0, 0, 2L)))
+                .build();
+        SelectStatementContext selectStatementContext = new SelectStatementContext(
+                selectStatement, new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), "foo_db", Collections.emptyList());
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(databaseType,
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.TOP_N_MERGE_ENABLED.getKey(), Boolean.TRUE.toString()))));
+        ResultSet resultSet1 = mockResultSet();
+        ResultSet resultSet2 = mockResultSet();
+        MergedResult actual = resultMerger.merge(
+                Arrays.asList(new JDBCStreamQueryResult(resultSet1), new JDBCStreamQueryResult(resultSet2)), selectStatementContext, database, mock(ConnectionContext.class));
+        assertThat(actual, isA(TopNDecoratorMergedResult.class));
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        verify(resultSet1).setFetchSize(3);
+        verify(resultSet2).setFetchSize(3);
+        verify(resultSet1).close();
+        verify(resultSet2).close();
+    }
+    
+    @Test
+    void assertSetFetchSizeForPostgreSQL() throws SQLException {
+        ResultSet defaultFetchSizeResultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(defaultFetchSizeResultSet.getFetchSize()).thenReturn(0);
+        ResultSet smallFetchSizeResultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(smallFetchSizeResultSet.getFetchSize()).thenReturn(1);
+        new TopNDecoratorMergedResult(mock(MergedResult.class), Arrays.asList(new JDBCStreamQueryResult(defaultFetchSizeResultSet), new JDBCStreamQueryResult(smallFetchSizeResultSet)), 10L,
+                getShardCursorHandler("PostgreSQL"));
+        verify(defaultFetchSizeResultSet).setFetchSize(10);
+        verify(smallFetchSizeResultSet).setFetchSize(10);
+    }
+    
+    @Test
+    void assertSkipStreamingResultSetForMySQL() throws SQLException {
+        ResultSet cursorResultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(cursorResultSet.getFetchSize()).thenReturn(1000);
+        ResultSet streamingResultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(streamingResultSet.getFetchSize()).thenReturn(Integer.MIN_VALUE);
+        MergedResult actual = new TopNDecoratorMergedResult(mock(MergedResult.class),
+                Arrays.asList(new JDBCStreamQueryResult(cursorResultSet), new JDBCStreamQueryResult(streamingResultSet)), 10L, getShardCursorHandler("MySQL"));
+        assertFalse(actual.next());
+        verify(cursorResultSet).setFetchSize(10);
+        verify(cursorResultSet).close();
+        verify(streamingResultSet, never()).setFetchSize(anyInt());
+        verify(streamingResultSet, never()).close();
+    }
+    
+    @Test
+    void assertSetFetchSizeNotSupported() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        doThrow(SQLException.class).when(resultSet).setFetchSize(10);
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        MergedResult actual = new TopNDecoratorMergedResult(mergedResult, Collections.singleton(new JDBCStreamQueryResult(resultSet)), 10L, getShardCursorHandler("PostgreSQL"));
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        verify(resultSet).close();
+    }
+    
+    @Test
+    void assertNextAfterReleased() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        MergedResult actual = new TopNDecoratorMergedResult(mergedResult, Arrays.asList(new JDBCStreamQueryResult(resultSet), mock(QueryResult.class)), 10L, getShardCursorHandler("PostgreSQL"));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        verify(mergedResult, times(1)).next();
+        verify(resultSet, times(1)).close();
+    }
+    
+    @Test
+    void assertNextWithCloseFailed() throws SQLException {
+        ResultSet resultSet1 = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        doThrow(SQLException.class).when(resultSet1).close();
+        ResultSet resultSet2 = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        MergedResult actual = new TopNDecoratorMergedResult(mock(MergedResult.class),
+                Arrays.asList(new JDBCStreamQueryResult(resultSet1), new JDBCStreamQueryResult(resultSet2)), 10L, getShardCursorHandler("PostgreSQL"));
+        assertThrows(SQLException.class, actual::next);
+        verify(resultSet2).close();
+    }
+    
+    private TopNShardCursorHandler getShardCursorHandler(final String databaseType) {
+        return DatabaseTypedSPILoader.getService(TopNShardCursorHandler.class, TypedSPILoader.getService(DatabaseType.class, databaseType));
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(result.next()).thenReturn(true, true, false);
+        return result;
+    }
+}
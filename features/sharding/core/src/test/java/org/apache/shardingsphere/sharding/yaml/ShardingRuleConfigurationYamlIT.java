@@ -86,7 +86,7 @@ class ShardingRuleConfigurationYamlIT extends YamlRuleConfigurationIT {
         result.getShardingAlgorithms().put("table_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
         result.getKeyGenerators().put("snowflake", new AlgorithmConfiguration("SNOWFLAKE", new Properties()));
         result.getAuditors().put("sharding_key_required_auditor", new AlgorithmConfiguration("DML_SHARDING_CONDITIONS", new Properties()));
-        result.setShardingCache(new ShardingCacheConfiguration(512, new ShardingCacheOptionsConfiguration(true, 65536, 262144)));
+        result.setShardingCache(new ShardingCacheConfiguration(512, new ShardingCacheOptionsConfiguration(true, 65536, 262144, 1048576)));
         return result;
     }
     
@@ -159,6 +159,7 @@ class ShardingRuleConfigurationYamlIT extends YamlRuleConfigurationIT {
         YamlShardingCacheOptionsConfiguration actualRouteCacheConfig = actualShardingCache.getRouteCache();
         assertThat(actualRouteCacheConfig.getInitialCapacity(), is(65536));
         assertThat(actualRouteCacheConfig.getMaximumSize(), is(262144));
+        assertThat(actualRouteCacheConfig.getMaximumWeight(), is(1048576));
         assertTrue(actualRouteCacheConfig.isSoftValues());
     }
     
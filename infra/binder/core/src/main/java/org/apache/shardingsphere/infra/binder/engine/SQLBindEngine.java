@@ -54,8 +54,17 @@ public final class SQLBindEngine {
      * @return SQL statement context
      */
     public SQLStatementContext bind(final SQLStatement sqlStatement) {
-        SQLStatement boundSQLStatement = isNeedBind() ? bindSQLStatement(sqlStatement) : sqlStatement;
-        return SQLStatementContextFactory.newInstance(metaData, boundSQLStatement, currentDatabaseName);
+        return SQLStatementContextFactory.newInstance(metaData, bindStatement(sqlStatement), currentDatabaseName);
+    }
+    
+    /**
+     * Bind SQL statement without creating SQL statement context.
+     *
+     * @param sqlStatement SQL statement
+     * @return bound SQL statement
+     */
+    public SQLStatement bindStatement(final SQLStatement sqlStatement) {
+        return isNeedBind() ? bindSQLStatement(sqlStatement) : sqlStatement;
     }
     
     private SQLStatement bindSQLStatement(final SQLStatement sqlStatement) {
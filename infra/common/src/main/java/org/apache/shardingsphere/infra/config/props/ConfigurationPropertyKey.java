@@ -48,17 +48,57 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL with virtual thread per task instead of worker group. It takes effect only when running on JDK 21 or higher.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Max concurrent execution groups for each storage unit. Less than or equal to 0 means no limitation.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT("kernel-executor-max-concurrency-per-storage-unit", String.valueOf(0), int.class, true),
+    
+    /**
+     * Whether check query results in completion order and cancel unfinished statements once any execution failed.
+     */
+    KERNEL_EXECUTOR_COMPLETION_ORDER_ENABLED("kernel-executor-completion-order-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Whether adjust connections size and connection mode of each query by data source pool usage and recent execution statistics.
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive-connection-mode-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Estimated memory bytes of groups kept in memory when merging group by result, rows of new groups exceeding this budget will be spilled to temporary files, 0 means never spill.
+     */
+    GROUP_BY_MERGE_SPILL_MEMORY_BYTES("group-by-merge-spill-memory-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether enable top-N merge, fetch size of shard cursors will be set to pagination row count per dialect and releasable shard query results will be closed once pagination result finished.
+     */
+    TOP_N_MERGE_ENABLED("top-n-merge-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Max union size per datasource for aggregate rewrite.
      * When route units count for a datasource exceeds this value, they will be split into batches.
      */
     MAX_UNION_SIZE_PER_DATASOURCE("max-union-size-per-datasource", String.valueOf(Integer.MAX_VALUE), int.class, false),
     
+    /**
+     * Max rows of each multi-row insert coalesced from batched single row inserts routed to the same data node, 0 or 1 means disable coalescing.
+     */
+    BATCH_INSERT_COALESCE_MAX_ROWS("batch-insert-coalesce-max-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max bytes of SQL and parameters of each coalesced multi-row insert.
+     */
+    BATCH_INSERT_COALESCE_MAX_BYTES("batch-insert-coalesce-max-bytes", String.valueOf(1024 * 1024), int.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
@@ -69,6 +109,46 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Local directory of persisted schema metadata snapshots, empty means disable snapshot.
+     */
+    METADATA_SNAPSHOT_PATH("metadata-snapshot-path", "", String.class, false),
+    
+    /**
+     * Whether to cache SQL federation execution plans by SQL with literals extracted as parameters.
+     */
+    SQL_FEDERATION_EXECUTION_PLAN_CACHE_ENABLED("sql-federation-execution-plan-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Interval seconds of collecting table statistics for SQL federation cost based optimization, 0 means disable collecting.
+     */
+    SQL_FEDERATION_STATISTICS_COLLECT_INTERVAL_SECONDS("sql-federation-statistics-collect-interval-seconds", String.valueOf(0), long.class, false),
+    
+    /**
+     * Buffered row count of each SQL federation scan when all scans are executed in parallel, 0 means disable parallel scan.
+     */
+    SQL_FEDERATION_PARALLEL_SCAN_BUFFER_SIZE("sql-federation-parallel-scan-buffer-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max thread size of SQL federation parallel scans shared by all queries, scans exceeding it are executed without parallel.
+     */
+    SQL_FEDERATION_PARALLEL_SCAN_EXECUTOR_SIZE("sql-federation-parallel-scan-executor-size", String.valueOf(32), int.class, false),
+    
+    /**
+     * Memory budget bytes of join, aggregate and sort operators of each SQL federation query, exceeding rows are spilled to local disk, 0 means disable spilling.
+     */
+    SQL_FEDERATION_SPILL_QUERY_MEMORY_BYTES("sql-federation-spill-query-memory-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Memory budget bytes shared by spillable operators of all SQL federation queries, 0 means unlimited.
+     */
+    SQL_FEDERATION_SPILL_GLOBAL_MEMORY_BYTES("sql-federation-spill-global-memory-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Local directory of temporary files spilled by group by merge and SQL federation operators, empty means temporary directory of system.
+     */
+    SPILL_DIRECTORY("spill-directory", "", String.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -95,6 +175,22 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Max carrier thread size for connections requiring thread affinity, such as XA and BASE transaction.
+     * Less than or equal to 0 means no limitation.
+     */
+    PROXY_FRONTEND_CARRIER_THREAD_SIZE("proxy-frontend-carrier-thread-size", String.valueOf(1024), int.class, true),
+    
+    /**
+     * Timeout in seconds of connections which retain carrier thread while idle in transaction, 0 means disable timeout.
+     */
+    PROXY_FRONTEND_IDLE_IN_TRANSACTION_TIMEOUT("proxy-frontend-idle-in-transaction-timeout", String.valueOf(0), long.class, false),
+    
+    /**
+     * Timeout in milliseconds of connections waiting for carrier thread, commands are rejected after timeout, 0 means wait without timeout.
+     */
+    PROXY_FRONTEND_CARRIER_ACQUIRE_TIMEOUT("proxy-frontend-carrier-acquire-timeout", String.valueOf(30000), long.class, false),
+    
     /**
      * Proxy frontend connection idle timeout in seconds.
      */
@@ -22,9 +22,11 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoader;
 import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoaderMaterial;
 import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.MetaDataSnapshotStore;
 import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.reviser.MetaDataReviseEngine;
@@ -32,6 +34,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.util.SchemaMetaD
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
 
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
@@ -86,7 +89,13 @@ public final class GenericSchemaBuilder {
     
     private static Map<String, SchemaMetaData> loadSchemas(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
         Collection<MetaDataLoaderMaterial> materials = SchemaMetaDataUtils.getMetaDataLoaderMaterials(tableNames, material);
-        return materials.isEmpty() ? Collections.emptyMap() : MetaDataLoader.load(materials);
+        if (materials.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String snapshotPath = material.getProps().getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH);
+        return snapshotPath.isEmpty() || null == material.getDatabaseName()
+                ? MetaDataLoader.load(materials)
+                : MetaDataLoader.load(materials, new MetaDataSnapshotStore(Paths.get(snapshotPath), material.getDatabaseName()));
     }
     
     private static boolean isSameProtocolAndStorageTypes(final DatabaseType protocolType, final Map<String, StorageUnit> storageUnits) {
@@ -40,4 +40,10 @@ public final class GenericSchemaBuilderMaterial {
     private final ConfigurationProperties props;
     
     private final String defaultSchemaName;
+    
+    private final String databaseName;
+    
+    public GenericSchemaBuilderMaterial(final Map<String, StorageUnit> storageUnits, final Collection<ShardingSphereRule> rules, final ConfigurationProperties props, final String defaultSchemaName) {
+        this(storageUnits, rules, props, defaultSchemaName, null);
+    }
 }
@@ -39,15 +39,34 @@ class ConfigurationPropertiesTest {
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT), is(10));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_COMPLETION_ORDER_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_MEMORY_BYTES), is(67108864L));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.TOP_N_MERGE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_UNION_SIZE_PER_DATASOURCE), is(100));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS), is(500));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_BYTES), is(65536));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.LOAD_TABLE_METADATA_BATCH_SIZE), is(500));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH), is("/tmp/snapshot"));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_EXECUTION_PLAN_CACHE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_COLLECT_INTERVAL_SECONDS), is(600L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_BUFFER_SIZE), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_EXECUTOR_SIZE), is(8));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_QUERY_MEMORY_BYTES), is(67108864L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_GLOBAL_MEMORY_BYTES), is(1073741824L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SPILL_DIRECTORY), is("/tmp/spill"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL")));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CARRIER_THREAD_SIZE), is(64));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_IDLE_IN_TRANSACTION_TIMEOUT), is(60L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CARRIER_ACQUIRE_TIMEOUT), is(5000L));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3308));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
@@ -64,15 +83,34 @@ class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT.getKey(), "10"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_COMPLETION_ORDER_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_MEMORY_BYTES.getKey(), "67108864"),
+                new Property(ConfigurationPropertyKey.TOP_N_MERGE_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.MAX_UNION_SIZE_PER_DATASOURCE.getKey(), "100"),
+                new Property(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS.getKey(), "500"),
+                new Property(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_BYTES.getKey(), "65536"),
                 new Property(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.LOAD_TABLE_METADATA_BATCH_SIZE.getKey(), "500"),
+                new Property(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH.getKey(), "/tmp/snapshot"),
+                new Property(ConfigurationPropertyKey.SQL_FEDERATION_EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_COLLECT_INTERVAL_SECONDS.getKey(), "600"),
+                new Property(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_BUFFER_SIZE.getKey(), "1024"),
+                new Property(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_EXECUTOR_SIZE.getKey(), "8"),
+                new Property(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_QUERY_MEMORY_BYTES.getKey(), "67108864"),
+                new Property(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_GLOBAL_MEMORY_BYTES.getKey(), "1073741824"),
+                new Property(ConfigurationPropertyKey.SPILL_DIRECTORY.getKey(), "/tmp/spill"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_CARRIER_THREAD_SIZE.getKey(), "64"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_IDLE_IN_TRANSACTION_TIMEOUT.getKey(), "60"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_CARRIER_ACQUIRE_TIMEOUT.getKey(), "5000"),
                 new Property(ConfigurationPropertyKey.PROXY_DEFAULT_PORT.getKey(), "3308"),
                 new Property(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG.getKey(), "1024"),
                 new Property(ConfigurationPropertyKey.CDC_SERVER_PORT.getKey(), "33071"),
@@ -90,15 +128,34 @@ class ConfigurationPropertiesTest {
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_COMPLETION_ORDER_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_MEMORY_BYTES), is(0L));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.TOP_N_MERGE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_UNION_SIZE_PER_DATASOURCE), is(Integer.MAX_VALUE));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_BYTES), is(1048576));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.LOAD_TABLE_METADATA_BATCH_SIZE), is(1000));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH), is(""));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_EXECUTION_PLAN_CACHE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_COLLECT_INTERVAL_SECONDS), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_BUFFER_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_EXECUTOR_SIZE), is(32));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_QUERY_MEMORY_BYTES), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_GLOBAL_MEMORY_BYTES), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SPILL_DIRECTORY), is(""));
         assertNull(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CARRIER_THREAD_SIZE), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_IDLE_IN_TRANSACTION_TIMEOUT), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CARRIER_ACQUIRE_TIMEOUT), is(30000L));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
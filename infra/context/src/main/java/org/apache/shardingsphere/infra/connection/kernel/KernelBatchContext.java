@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.rewrite.engine.batch.InsertValuesSQL;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kernel batch context.
+ *
+ * <p>Keeps the state shared by all parameter sets of one batch, so that SQL checking and SQL token rewriting are done once per batch and route unit,
+ * and values rows of rewritten insert SQLs are kept for coalescing batched inserts.</p>
+ */
+@Getter
+public final class KernelBatchContext {
+    
+    @Setter
+    private boolean checked;
+    
+    private final Map<RouteUnit, String> rewrittenSQLs = new HashMap<>();
+    
+    private final Map<String, InsertValuesSQL> insertValuesSQLs = new HashMap<>();
+    
+    /**
+     * Clear batch context.
+     */
+    public void clear() {
+        checked = false;
+        rewrittenSQLs.clear();
+        insertValuesSQLs.clear();
+    }
+}
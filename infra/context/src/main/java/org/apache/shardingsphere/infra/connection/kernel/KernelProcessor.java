@@ -55,6 +55,28 @@ public final class KernelProcessor {
         return result;
     }
     
+    /**
+     * Generate execution context for one parameter set of batch.
+     *
+     * @param queryContext query context
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param batchContext kernel batch context
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props, final KernelBatchContext batchContext) {
+        if (!batchContext.isChecked()) {
+            check(queryContext);
+            batchContext.setChecked(true);
+        }
+        RouteContext routeContext = route(queryContext, globalRuleMetaData, props);
+        SQLRewriteResult rewriteResult = new SQLRewriteEntry(queryContext.getUsedDatabase(), globalRuleMetaData, props)
+                .rewrite(queryContext, routeContext, batchContext.getRewrittenSQLs(), batchContext.getInsertValuesSQLs());
+        ExecutionContext result = createExecutionContext(queryContext, routeContext, rewriteResult);
+        logSQL(queryContext, props, result);
+        return result;
+    }
+    
     private void check(final QueryContext queryContext) {
         if (queryContext.getHintValueContext().isSkipMetadataValidate()) {
             return;
@@ -51,6 +51,8 @@ import java.util.Properties;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -79,6 +81,30 @@ class KernelProcessorTest {
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
     
+    @Test
+    void assertGenerateExecutionContextWithBatchContext() {
+        SelectStatement selectStatement = SelectStatement.builder().databaseType(databaseType).build();
+        SQLStatementContext sqlStatementContext = new CommonSQLStatementContext(selectStatement);
+        ConnectionContext connectionContext = mock(ConnectionContext.class);
+        when(connectionContext.getCurrentDatabaseName()).thenReturn(Optional.of("foo_db"));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
+        when(resourceMetaData.getStorageUnits()).thenReturn(Collections.singletonMap("ds_0", mock(StorageUnit.class, RETURNS_DEEP_STUBS)));
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", databaseType, resourceMetaData, new RuleMetaData(mockRules()), Collections.emptyList());
+        when(metaData.containsDatabase("foo_db")).thenReturn(true);
+        when(metaData.getDatabase("foo_db")).thenReturn(database);
+        when(metaData.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "SELECT * FROM tbl", Collections.emptyList(), new HintValueContext(), connectionContext, metaData);
+        KernelBatchContext batchContext = new KernelBatchContext();
+        ExecutionContext actual = new KernelProcessor().generateExecutionContext(queryContext, new RuleMetaData(mockRules()), new ConfigurationProperties(new Properties()), batchContext);
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        assertTrue(batchContext.isChecked());
+        batchContext.clear();
+        assertFalse(batchContext.isChecked());
+        assertTrue(batchContext.getRewrittenSQLs().isEmpty());
+        assertTrue(batchContext.getInsertValuesSQLs().isEmpty());
+    }
+    
     private Collection<ShardingSphereRule> mockRules() {
         return Arrays.asList(mockSQLTranslatorRule(), mockAggregatedDataSourceRule());
     }
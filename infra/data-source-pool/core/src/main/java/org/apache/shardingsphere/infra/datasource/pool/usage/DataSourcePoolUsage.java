@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.usage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Data source pool usage.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DataSourcePoolUsage {
+    
+    private final int activeConnections;
+    
+    private final int maximumPoolSize;
+    
+    private final int threadsAwaitingConnection;
+    
+    /**
+     * Get available connections which can be borrowed without waiting for others to be returned.
+     *
+     * @return available connections
+     */
+    public int getAvailableConnections() {
+        return Math.max(maximumPoolSize - activeConnections, 0);
+    }
+    
+    /**
+     * Judge whether data source pool is saturated.
+     *
+     * @return is saturated or not
+     */
+    public boolean isSaturated() {
+        return threadsAwaitingConnection > 0 || 0 == getAvailableConnections();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.hikari.usage;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.datasource.pool.usage.DataSourcePoolUsage;
+import org.apache.shardingsphere.infra.datasource.pool.usage.DataSourcePoolUsageDetector;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Hikari data source pool usage detector.
+ */
+public final class HikariDataSourcePoolUsageDetector implements DataSourcePoolUsageDetector {
+    
+    private volatile HikariPoolMethods poolMethods;
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public Optional<DataSourcePoolUsage> detect(final DataSource dataSource) {
+        HikariPoolMethods methods = getPoolMethods(dataSource.getClass());
+        Object hikariPoolMXBean = methods.getHikariPoolMXBean.invoke(dataSource);
+        if (null == hikariPoolMXBean) {
+            return Optional.empty();
+        }
+        int activeConnections = (int) methods.getActiveConnections.invoke(hikariPoolMXBean);
+        int threadsAwaitingConnection = (int) methods.getThreadsAwaitingConnection.invoke(hikariPoolMXBean);
+        int maximumPoolSize = (int) methods.getMaximumPoolSize.invoke(dataSource);
+        return Optional.of(new DataSourcePoolUsage(activeConnections, maximumPoolSize, threadsAwaitingConnection));
+    }
+    
+    private HikariPoolMethods getPoolMethods(final Class<?> dataSourceClass) throws NoSuchMethodException {
+        HikariPoolMethods result = poolMethods;
+        if (null == result) {
+            result = new HikariPoolMethods(dataSourceClass);
+            poolMethods = result;
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "com.zaxxer.hikari.HikariDataSource";
+    }
+    
+    private static final class HikariPoolMethods {
+        
+        private final Method getHikariPoolMXBean;
+        
+        private final Method getMaximumPoolSize;
+        
+        private final Method getActiveConnections;
+        
+        private final Method getThreadsAwaitingConnection;
+        
+        HikariPoolMethods(final Class<?> dataSourceClass) throws NoSuchMethodException {
+            getHikariPoolMXBean = dataSourceClass.getMethod("getHikariPoolMXBean");
+            getMaximumPoolSize = dataSourceClass.getMethod("getMaximumPoolSize");
+            Class<?> hikariPoolMXBeanClass = getHikariPoolMXBean.getReturnType();
+            getActiveConnections = hikariPoolMXBeanClass.getMethod("getActiveConnections");
+            getThreadsAwaitingConnection = hikariPoolMXBeanClass.getMethod("getThreadsAwaitingConnection");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.hikari.usage;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.datasource.pool.usage.DataSourcePoolUsage;
+import org.apache.shardingsphere.test.infra.fixture.jdbc.MockedDriver;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HikariDataSourcePoolUsageDetectorTest {
+    
+    @Test
+    void assertDetectWhenEmptyPool() {
+        assertFalse(new HikariDataSourcePoolUsageDetector().detect(new HikariDataSource()).isPresent());
+    }
+    
+    @Test
+    void assertDetect() throws SQLException {
+        try (HikariDataSource dataSource = createHikariDataSource()) {
+            try (Connection ignored = dataSource.getConnection()) {
+                Optional<DataSourcePoolUsage> actual = new HikariDataSourcePoolUsageDetector().detect(dataSource);
+                assertTrue(actual.isPresent());
+                assertThat(actual.get().getActiveConnections(), is(1));
+                assertThat(actual.get().getMaximumPoolSize(), is(2));
+                assertThat(actual.get().getAvailableConnections(), is(1));
+                assertFalse(actual.get().isSaturated());
+            }
+        }
+    }
+    
+    private HikariDataSource createHikariDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(MockedDriver.class.getName());
+        config.setJdbcUrl("jdbc:mock");
+        config.setMaximumPoolSize(2);
+        return new HikariDataSource(config);
+    }
+}
@@ -19,20 +19,32 @@ package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.StorageUnitConcurrencyLimiter;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Executor engine.
@@ -41,10 +53,15 @@ import java.util.concurrent.Future;
 @Getter
 public final class ExecutorEngine implements AutoCloseable {
     
+    private static final String DEFAULT_NAME_FORMAT = "%d";
+    
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private final StorageUnitConcurrencyLimiter concurrencyLimiter;
+    
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled, final int maxConcurrencyPerStorageUnit) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+        concurrencyLimiter = new StorageUnitConcurrencyLimiter(maxConcurrencyPerStorageUnit);
     }
     
     /**
@@ -54,7 +71,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false, 0);
+    }
+    
+    /**
+     * Create executor engine with configuration properties.
+     *
+     * @param props configuration properties
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        return new ExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED),
+                props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT));
     }
     
     /**
@@ -78,6 +106,32 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
+    /**
+     * Execute and check results in completion order.
+     *
+     * <p>Results of rest execution groups are checked as soon as they finish instead of in submission order, so the first failure is found without waiting for slower groups.
+     * Once any execution group failed, statements of unfinished execution groups are canceled and groups not started yet are skipped.
+     * The failure is thrown after all started groups have returned, so no canceled statement is still running on a connection which may be reused.
+     * Results are returned in submission order.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> List<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext,
+                                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback)
+                : completionOrderExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
@@ -95,8 +149,73 @@ public final class ExecutorEngine implements AutoCloseable {
         return getGroupResults(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
+    private <I, O> List<O> completionOrderExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
+                                                  final ExecutorCallback<I, O> callback) throws SQLException {
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        AtomicBoolean canceled = new AtomicBoolean();
+        Collection<Future<Collection<O>>> restResultFutures = new LinkedList<>();
+        Map<Future<Collection<O>>, ExecutionGroup<I>> pendingGroups = new HashMap<>();
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            Future<Collection<O>> future = completionService.submit(() -> canceled.get() ? Collections.emptyList() : limitedExecute(each, processId, callback, false));
+            restResultFutures.add(future);
+            pendingGroups.put(future, each);
+        }
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            cancel(canceled, pendingGroups);
+            throw ex;
+        }
+        while (!pendingGroups.isEmpty()) {
+            try {
+                Future<Collection<O>> completedFuture = completionService.take();
+                pendingGroups.remove(completedFuture);
+                completedFuture.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancel(canceled, pendingGroups);
+                throw new UnknownSQLException(ex);
+            } catch (final ExecutionException ex) {
+                cancel(canceled, pendingGroups);
+                return throwException(ex);
+            }
+        }
+        return getGroupResults(firstResults, restResultFutures);
+    }
+    
+    private <I, O> void cancel(final AtomicBoolean canceled, final Map<Future<Collection<O>>, ExecutionGroup<I>> pendingGroups) {
+        canceled.set(true);
+        for (ExecutionGroup<I> each : pendingGroups.values()) {
+            each.getInputs().forEach(this::cancelStatement);
+        }
+        for (Future<Collection<O>> each : pendingGroups.keySet()) {
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final ExecutionException ignored) {
+            }
+        }
+    }
+    
+    private <I> void cancelStatement(final I input) {
+        if (!(input instanceof DriverExecutionUnit) || !(((DriverExecutionUnit<?>) input).getStorageResource() instanceof Statement)) {
+            return;
+        }
+        try {
+            ((Statement) ((DriverExecutionUnit<?>) input).getStorageResource()).cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true, processId);
+        return limitedExecute(executionGroup, processId, callback, true);
     }
     
     private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback) {
@@ -108,7 +227,33 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, processId));
+        return executorServiceManager.getExecutorService().submit(() -> limitedExecute(executionGroup, processId, callback, false));
+    }
+    
+    private <I, O> Collection<O> limitedExecute(final ExecutionGroup<I> executionGroup, final String processId,
+                                                final ExecutorCallback<I, O> callback, final boolean isTrunkThread) throws SQLException {
+        Optional<String> storageUnitName = concurrencyLimiter.isLimited() ? findStorageUnitName(executionGroup) : Optional.empty();
+        if (!storageUnitName.isPresent()) {
+            return callback.execute(executionGroup.getInputs(), isTrunkThread, processId);
+        }
+        try {
+            concurrencyLimiter.acquire(storageUnitName.get());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        }
+        try {
+            return callback.execute(executionGroup.getInputs(), isTrunkThread, processId);
+        } finally {
+            concurrencyLimiter.release(storageUnitName.get());
+        }
+    }
+    
+    private <I> Optional<String> findStorageUnitName(final ExecutionGroup<I> executionGroup) {
+        if (executionGroup.getInputs().isEmpty() || !(executionGroup.getInputs().get(0) instanceof SQLExecutionUnit)) {
+            return Optional.empty();
+        }
+        return Optional.of(((SQLExecutionUnit) executionGroup.getInputs().get(0)).getExecutionUnit().getDataSourceName());
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -33,16 +35,26 @@ public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
     
+    private static final String VIRTUAL_THREAD_EXECUTOR_METHOD_NAME = "newVirtualThreadPerTaskExecutor";
+    
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
     private final ExecutorService executorService;
     
+    private final boolean virtualThreadEnabled;
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        Optional<ExecutorService> virtualThreadExecutorService = virtualThreadEnabled ? createVirtualThreadExecutorService() : Optional.empty();
+        this.virtualThreadEnabled = virtualThreadExecutorService.isPresent();
+        executorService = TtlExecutors.getTtlExecutorService(virtualThreadExecutorService.orElseGet(() -> getExecutorService(executorSize, nameFormat)));
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -50,6 +62,15 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    // Virtual thread API is only available since JDK 21, so it is looked up reflectively to keep compatible with lower runtime versions
+    private Optional<ExecutorService> createVirtualThreadExecutorService() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_METHOD_NAME).invoke(null));
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            return Optional.empty();
+        }
+    }
+    
     /**
      * Close executor service.
      */
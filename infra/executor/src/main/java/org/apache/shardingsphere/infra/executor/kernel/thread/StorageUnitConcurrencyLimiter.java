@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Storage unit concurrency limiter.
+ */
+@RequiredArgsConstructor
+public final class StorageUnitConcurrencyLimiter {
+    
+    @Getter
+    private final int maxConcurrencyPerStorageUnit;
+    
+    private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+    
+    /**
+     * Judge whether concurrency is limited.
+     *
+     * @return concurrency is limited or not
+     */
+    public boolean isLimited() {
+        return maxConcurrencyPerStorageUnit > 0;
+    }
+    
+    /**
+     * Acquire permit of storage unit.
+     *
+     * @param storageUnitName storage unit name
+     * @throws InterruptedException interrupted exception
+     */
+    public void acquire(final String storageUnitName) throws InterruptedException {
+        if (isLimited()) {
+            getSemaphore(storageUnitName).acquire();
+        }
+    }
+    
+    /**
+     * Release permit of storage unit.
+     *
+     * @param storageUnitName storage unit name
+     */
+    public void release(final String storageUnitName) {
+        if (isLimited()) {
+            getSemaphore(storageUnitName).release();
+        }
+    }
+    
+    /**
+     * Get available permits of storage unit.
+     *
+     * @param storageUnitName storage unit name
+     * @return available permits
+     */
+    public int getAvailablePermits(final String storageUnitName) {
+        return isLimited() ? getSemaphore(storageUnitName).availablePermits() : Integer.MAX_VALUE;
+    }
+    
+    private Semaphore getSemaphore(final String storageUnitName) {
+        return semaphores.computeIfAbsent(storageUnitName, key -> new Semaphore(maxConcurrencyPerStorageUnit, true));
+    }
+}
@@ -69,4 +69,24 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and check results in completion order.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        try {
+            return executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isDistributedTransactionStarted());
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
 }
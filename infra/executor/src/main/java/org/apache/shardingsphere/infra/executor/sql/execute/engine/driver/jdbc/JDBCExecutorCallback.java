@@ -25,6 +25,10 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.statistics.DataSourceExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
@@ -37,6 +41,7 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JDBC executor callback.
@@ -88,7 +93,12 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(dataSourceName, sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
+            Optional<DataSourceExecutionStatistics> statistics = DataSourceExecutionStatisticsRegistry.getInstance().find(storageUnit.getDataSource());
+            long startNanos = statistics.isPresent() ? System.nanoTime() : 0L;
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+            if (statistics.isPresent()) {
+                recordStatistics(statistics.get(), startNanos, result);
+            }
             sqlExecutionHook.finishSuccess();
             processEngine.completeSQLUnitExecution(jdbcExecutionUnit, processId);
             return result;
@@ -105,6 +115,19 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    /*
+     * Statistics only exist for data sources grouped by adaptive connection mode, so nothing is recorded when adaptive connection mode is disabled.
+     * Row count of stream query result is recorded when it is closed, which is count of rows actually read.
+     */
+    private void recordStatistics(final DataSourceExecutionStatistics statistics, final long startNanos, final T result) {
+        statistics.recordExecutionTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        if (result instanceof AbstractMemoryQueryResult) {
+            statistics.recordRowCount(((AbstractMemoryQueryResult) result).getRowCount());
+        } else if (result instanceof JDBCStreamQueryResult) {
+            ((JDBCStreamQueryResult) result).setRowCountRecorder(statistics::recordRowCount);
+        }
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode, DatabaseType storageType) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement, SQLException ex);
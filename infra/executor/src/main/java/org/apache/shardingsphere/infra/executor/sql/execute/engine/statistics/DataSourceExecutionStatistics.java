@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.statistics;
+
+import lombok.Getter;
+
+/**
+ * Data source execution statistics.
+ * 
+ * <p>Execution time and row count are tracked as exponentially weighted moving averages, so that recent executions weigh more than old ones.
+ * Row count is sampled separately from execution time, because it is only known after stream query result is closed.</p>
+ */
+@Getter
+public final class DataSourceExecutionStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private volatile double averageExecutionMillis;
+    
+    private volatile double averageRowCount;
+    
+    private volatile long sampleCount;
+    
+    private volatile long rowCountSampleCount;
+    
+    /**
+     * Record execution time.
+     *
+     * @param executionMillis execution time in milliseconds
+     */
+    public synchronized void recordExecutionTime(final long executionMillis) {
+        averageExecutionMillis = 0L == sampleCount ? executionMillis : smooth(averageExecutionMillis, executionMillis);
+        sampleCount++;
+    }
+    
+    /**
+     * Record row count of query result.
+     *
+     * @param rowCount row count
+     */
+    public synchronized void recordRowCount(final long rowCount) {
+        averageRowCount = 0L == rowCountSampleCount ? rowCount : smooth(averageRowCount, rowCount);
+        rowCountSampleCount++;
+    }
+    
+    private double smooth(final double average, final long sample) {
+        return average + SMOOTHING_FACTOR * (sample - average);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.statistics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * Data source execution statistics registry.
+ * 
+ * <p>Statistics are keyed by data source instance of storage unit, so storage units of different databases never share them,
+ * and they are discarded once the data source is not referenced by any storage unit.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceExecutionStatisticsRegistry {
+    
+    private static final DataSourceExecutionStatisticsRegistry INSTANCE = new DataSourceExecutionStatisticsRegistry();
+    
+    private final Cache<DataSource, DataSourceExecutionStatistics> statistics = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Get data source execution statistics registry.
+     *
+     * @return got instance
+     */
+    public static DataSourceExecutionStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get data source execution statistics, create it if absent.
+     *
+     * @param dataSource data source
+     * @return data source execution statistics
+     */
+    public DataSourceExecutionStatistics get(final DataSource dataSource) {
+        return statistics.get(dataSource, key -> new DataSourceExecutionStatistics());
+    }
+    
+    /**
+     * Find data source execution statistics.
+     *
+     * @param dataSource data source
+     * @return found data source execution statistics
+     */
+    public Optional<DataSourceExecutionStatistics> find(final DataSource dataSource) {
+        return null == dataSource ? Optional.empty() : Optional.ofNullable(statistics.getIfPresent(dataSource));
+    }
+    
+    /**
+     * Remove data source execution statistics.
+     *
+     * @param dataSource data source
+     */
+    public void remove(final DataSource dataSource) {
+        statistics.invalidate(dataSource);
+    }
+}
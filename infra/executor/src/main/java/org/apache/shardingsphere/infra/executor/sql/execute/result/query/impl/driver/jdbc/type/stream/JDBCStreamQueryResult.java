@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.exception.kernel.data.UnsupportedDataTypeConversionException;
 import org.apache.shardingsphere.infra.exception.kernel.data.UnsupportedStreamCharsetConversionException;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
@@ -38,6 +39,7 @@ import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
 /**
  * JDBC query result for stream loading.
@@ -49,6 +51,11 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     private final boolean containsJDBCResultSet;
     
+    private long rowCount;
+    
+    @Setter
+    private LongConsumer rowCountRecorder;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         this(resultSet, false);
     }
@@ -61,7 +68,11 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        boolean result = resultSet.next();
+        if (result) {
+            rowCount++;
+        }
+        return result;
     }
     
     @Override
@@ -169,6 +180,10 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public void close() throws SQLException {
+        if (null != rowCountRecorder) {
+            rowCountRecorder.accept(rowCount);
+            rowCountRecorder = null;
+        }
         resultSet.close();
     }
 }
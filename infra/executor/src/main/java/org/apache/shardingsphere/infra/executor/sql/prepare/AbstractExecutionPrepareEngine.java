@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.infra.executor.sql.prepare;
 
-import com.google.common.collect.Lists;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -25,6 +24,9 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupRepor
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.grouping.ExecutionUnitGroupingStrategy;
+import org.apache.shardingsphere.infra.executor.sql.prepare.grouping.GroupedExecutionUnits;
+import org.apache.shardingsphere.infra.executor.sql.prepare.grouping.StaticExecutionUnitGroupingStrategy;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
@@ -47,13 +49,17 @@ import java.util.TreeMap;
 @HighFrequencyInvocation
 public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrepareEngine<T> {
     
-    private final int maxConnectionsSizePerQuery;
+    private final ExecutionUnitGroupingStrategy groupingStrategy;
     
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, ExecutionPrepareDecorator> decorators;
     
     protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
-        this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
+        this(new StaticExecutionUnitGroupingStrategy(maxConnectionsSizePerQuery), rules);
+    }
+    
+    protected AbstractExecutionPrepareEngine(final ExecutionUnitGroupingStrategy groupingStrategy, final Collection<ShardingSphereRule> rules) {
+        this.groupingStrategy = groupingStrategy;
         decorators = OrderedSPILoader.getServices(ExecutionPrepareDecorator.class, rules);
     }
     
@@ -69,19 +75,13 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         Collection<ExecutionGroup<T>> result = new LinkedList<>();
         for (Entry<String, List<ExecutionUnit>> entry : aggregateExecutionUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
-            List<ExecutionUnit> groupedExecutionUnits = entry.getValue();
-            List<List<ExecutionUnit>> executionUnitGroups = group(groupedExecutionUnits);
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < groupedExecutionUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
-            result.addAll(group(databaseName, dataSourceName, connectionOffsets.getOrDefault(dataSourceName, 0), executionUnitGroups, connectionMode));
+            GroupedExecutionUnits groupedExecutionUnits = groupingStrategy.group(databaseName, dataSourceName, entry.getValue());
+            result.addAll(group(databaseName, dataSourceName, connectionOffsets.getOrDefault(dataSourceName, 0),
+                    groupedExecutionUnits.getExecutionUnitGroups(), groupedExecutionUnits.getConnectionMode()));
         }
         return decorate(executionContext.getRouteContext(), result, reportContext);
     }
     
-    private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
-        return Lists.partition(sqlUnits, desiredPartitionSize);
-    }
-    
     protected abstract List<ExecutionGroup<T>> group(String databaseName, String dataSourceName,
                                                      int connectionOffset, List<List<ExecutionUnit>> executionUnitGroups, ConnectionMode connectionMode) throws SQLException;
     
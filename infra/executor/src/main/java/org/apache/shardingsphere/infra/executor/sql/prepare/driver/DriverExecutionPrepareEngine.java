@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.exception.core.exception.syntax.database.UnknownDatabaseException;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
@@ -28,6 +29,9 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.grouping.AdaptiveExecutionUnitGroupingStrategy;
+import org.apache.shardingsphere.infra.executor.sql.prepare.grouping.ExecutionUnitGroupingStrategy;
+import org.apache.shardingsphere.infra.executor.sql.prepare.grouping.StaticExecutionUnitGroupingStrategy;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
@@ -70,7 +74,7 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     public DriverExecutionPrepareEngine(final JDBCDriverType type, final int maxConnectionsSizePerQuery, final DatabaseConnectionManager<C> databaseConnectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
                                         final ShardingSphereMetaData metaData) {
-        super(maxConnectionsSizePerQuery, rules);
+        super(createGroupingStrategy(maxConnectionsSizePerQuery, metaData), rules);
         this.type = type;
         this.databaseConnectionManager = databaseConnectionManager;
         this.statementManager = statementManager;
@@ -79,6 +83,12 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         this.metaData = metaData;
     }
     
+    private static ExecutionUnitGroupingStrategy createGroupingStrategy(final int maxConnectionsSizePerQuery, final ShardingSphereMetaData metaData) {
+        return metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED)
+                ? new AdaptiveExecutionUnitGroupingStrategy(maxConnectionsSizePerQuery, metaData)
+                : new StaticExecutionUnitGroupingStrategy(maxConnectionsSizePerQuery);
+    }
+    
     /*
      * Refer to <a href="https://bugs.openjdk.java.net/browse/JDK-8161372">JDK-8161372</a>.
      */
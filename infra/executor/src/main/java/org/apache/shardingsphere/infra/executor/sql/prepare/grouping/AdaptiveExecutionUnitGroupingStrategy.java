@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.grouping;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datasource.pool.CatalogSwitchableDataSource;
+import org.apache.shardingsphere.infra.datasource.pool.usage.DataSourcePoolUsage;
+import org.apache.shardingsphere.infra.datasource.pool.usage.DataSourcePoolUsageDetector;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.statistics.DataSourceExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptive execution unit grouping strategy.
+ * 
+ * <p>Max connections size per query is the upper limit of connections, fewer connections are used according to data source pool usage and recent execution statistics:</p>
+ * <ul>
+ *     <li>Use only one connection when data source pool is saturated, to avoid starving other queries.</li>
+ *     <li>Use only one connection when recent executions are fast and small enough to execute all units within slow execution threshold, to leave connections to other queries.
+ *     Executions are treated as unknown until both execution time and row count are sampled.</li>
+ *     <li>Otherwise use up to max connections size per query, limited by available connections of data source pool.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public final class AdaptiveExecutionUnitGroupingStrategy implements ExecutionUnitGroupingStrategy {
+    
+    private static final long LARGE_RESULT_ROW_COUNT = 10000L;
+    
+    private static final long SLOW_EXECUTION_MILLIS = 50L;
+    
+    private static final Map<Class<?>, Optional<DataSourcePoolUsageDetector>> POOL_USAGE_DETECTORS = new ConcurrentHashMap<>();
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    @Override
+    public GroupedExecutionUnits group(final String databaseName, final String dataSourceName, final List<ExecutionUnit> executionUnits) {
+        int connectionSize = getConnectionSize(databaseName, dataSourceName, executionUnits.size());
+        ConnectionMode connectionMode = connectionSize < executionUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+        return new GroupedExecutionUnits(partition(executionUnits, connectionSize), connectionMode);
+    }
+    
+    private int getConnectionSize(final String databaseName, final String dataSourceName, final int executionUnitSize) {
+        int result = Math.max(Math.min(maxConnectionsSizePerQuery, executionUnitSize), 1);
+        if (1 == result) {
+            return result;
+        }
+        Optional<DataSource> dataSource = findDataSource(databaseName, dataSourceName);
+        if (!dataSource.isPresent()) {
+            return result;
+        }
+        Optional<DataSourcePoolUsage> poolUsage = findPoolUsage(dataSource.get());
+        if (!poolUsage.isPresent()) {
+            return result;
+        }
+        if (poolUsage.get().isSaturated()) {
+            return 1;
+        }
+        DataSourceExecutionStatistics statistics = DataSourceExecutionStatisticsRegistry.getInstance().get(dataSource.get());
+        if (isFastAndSmall(statistics, executionUnitSize)) {
+            return 1;
+        }
+        return Math.max(Math.min(result, poolUsage.get().getAvailableConnections()), 1);
+    }
+    
+    private Optional<DataSource> findDataSource(final String databaseName, final String dataSourceName) {
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        if (null == database) {
+            return Optional.empty();
+        }
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(dataSourceName);
+        return null == storageUnit ? Optional.empty() : Optional.of(storageUnit.getDataSource());
+    }
+    
+    private Optional<DataSourcePoolUsage> findPoolUsage(final DataSource dataSource) {
+        DataSource pool = dataSource instanceof CatalogSwitchableDataSource ? ((CatalogSwitchableDataSource) dataSource).getDataSource() : dataSource;
+        Optional<DataSourcePoolUsageDetector> detector = POOL_USAGE_DETECTORS.get(pool.getClass());
+        if (null == detector) {
+            detector = POOL_USAGE_DETECTORS.computeIfAbsent(pool.getClass(), key -> TypedSPILoader.findService(DataSourcePoolUsageDetector.class, key.getName()));
+        }
+        return detector.flatMap(each -> each.detect(pool));
+    }
+    
+    private boolean isFastAndSmall(final DataSourceExecutionStatistics statistics, final int executionUnitSize) {
+        return statistics.getSampleCount() > 0L && statistics.getRowCountSampleCount() > 0L
+                && statistics.getAverageRowCount() < LARGE_RESULT_ROW_COUNT && statistics.getAverageExecutionMillis() * executionUnitSize < SLOW_EXECUTION_MILLIS;
+    }
+    
+    private List<List<ExecutionUnit>> partition(final List<ExecutionUnit> executionUnits, final int connectionSize) {
+        List<List<ExecutionUnit>> result = new ArrayList<>(connectionSize);
+        int baseSize = executionUnits.size() / connectionSize;
+        int remainder = executionUnits.size() % connectionSize;
+        int fromIndex = 0;
+        for (int i = 0; i < connectionSize; i++) {
+            int toIndex = fromIndex + baseSize + (i < remainder ? 1 : 0);
+            result.add(executionUnits.subList(fromIndex, toIndex));
+            fromIndex = toIndex;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.grouping;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+
+import java.util.List;
+
+/**
+ * Execution unit grouping strategy.
+ */
+public interface ExecutionUnitGroupingStrategy {
+    
+    /**
+     * Group execution units of one data source into connections.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param executionUnits execution units of data source
+     * @return grouped execution units
+     */
+    GroupedExecutionUnits group(String databaseName, String dataSourceName, List<ExecutionUnit> executionUnits);
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.grouping;
+
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+
+import java.util.List;
+
+/**
+ * Static execution unit grouping strategy, which groups execution units by max connections size per query only.
+ */
+@RequiredArgsConstructor
+public final class StaticExecutionUnitGroupingStrategy implements ExecutionUnitGroupingStrategy {
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    @Override
+    public GroupedExecutionUnits group(final String databaseName, final String dataSourceName, final List<ExecutionUnit> executionUnits) {
+        int desiredPartitionSize = Math.max(0 == executionUnits.size() % maxConnectionsSizePerQuery
+                ? executionUnits.size() / maxConnectionsSizePerQuery
+                : executionUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+        ConnectionMode connectionMode = maxConnectionsSizePerQuery < executionUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+        return new GroupedExecutionUnits(Lists.partition(executionUnits, desiredPartitionSize), connectionMode);
+    }
+}
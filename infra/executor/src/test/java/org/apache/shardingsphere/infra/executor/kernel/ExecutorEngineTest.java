@@ -17,23 +17,40 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ExecutorEngineTest {
     
@@ -88,4 +105,104 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        List<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, false);
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithSerial() throws SQLException, InterruptedException {
+        List<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, true);
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderKeepSubmissionOrder() throws SQLException {
+        CountDownLatch lastGroupFinished = new CountDownLatch(1);
+        Collection<ExecutionGroup<String>> inputGroups = Arrays.asList(
+                new ExecutionGroup<>(Collections.singletonList("foo")), new ExecutionGroup<>(Collections.singletonList("bar")), new ExecutionGroup<>(Collections.singletonList("baz")));
+        ExecutorCallback<String, String> restCallback = (inputs, isTrunkThread, processId) -> {
+            if ("bar".equals(inputs.iterator().next())) {
+                awaitQuietly(lastGroupFinished);
+            } else {
+                lastGroupFinished.countDown();
+            }
+            return inputs;
+        };
+        List<String> actual = executorEngine.executeInCompletionOrder(
+                new ExecutionGroupContext<>(inputGroups, mock(ExecutionGroupReportContext.class)), (inputs, isTrunkThread, processId) -> inputs, restCallback, false);
+        assertThat(actual, contains("foo", "bar", "baz"));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderFailedAndCancelStatements() throws SQLException {
+        CountDownLatch canceled = new CountDownLatch(1);
+        Statement statement = mock(Statement.class);
+        doAnswer(invocation -> {
+            canceled.countDown();
+            return null;
+        }).when(statement).cancel();
+        JDBCExecutionUnit blockedUnit = mock(JDBCExecutionUnit.class);
+        when(blockedUnit.getStorageResource()).thenReturn(statement);
+        Collection<ExecutionGroup<Object>> inputGroups = Arrays.asList(new ExecutionGroup<>(Collections.singletonList(new Object())),
+                new ExecutionGroup<>(Collections.singletonList(new Object())), new ExecutionGroup<>(Collections.singletonList(blockedUnit)));
+        AtomicInteger runningGroups = new AtomicInteger();
+        ExecutorCallback<Object, String> restCallback = (inputs, isTrunkThread, processId) -> {
+            runningGroups.incrementAndGet();
+            try {
+                if (inputs.contains(blockedUnit)) {
+                    awaitQuietly(canceled);
+                    return Collections.singletonList("canceled");
+                }
+                throw new SQLException("test");
+            } finally {
+                runningGroups.decrementAndGet();
+            }
+        };
+        SQLException actual = assertThrows(SQLException.class, () -> executorEngine.executeInCompletionOrder(
+                new ExecutionGroupContext<>(inputGroups, mock(ExecutionGroupReportContext.class)), (inputs, isTrunkThread, processId) -> Collections.singletonList("succeed"), restCallback, false));
+        assertThat(actual.getMessage(), is("test"));
+        verify(statement).cancel();
+        assertThat(runningGroups.get(), is(0));
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Test
+    void assertParallelExecuteWithConcurrencyLimitation() throws SQLException, InterruptedException {
+        ExecutorEngine limitedExecutorEngine = ExecutorEngine.createExecutorEngine(new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "10"), new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT.getKey(), "1"))));
+        try {
+            List<String> actual = limitedExecutorEngine.execute(createStorageUnitExecutionGroups(), firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(4));
+            assertThat(limitedExecutorEngine.getConcurrencyLimiter().getAvailablePermits("foo_ds"), is(1));
+        } finally {
+            limitedExecutorEngine.close();
+        }
+    }
+    
+    private ExecutionGroupContext<Object> createStorageUnitExecutionGroups() {
+        Collection<ExecutionGroup<Object>> result = new LinkedList<>();
+        for (int i = 0; i < 2; i++) {
+            List<Object> inputs = new LinkedList<>();
+            for (int j = 0; j < 2; j++) {
+                JDBCExecutionUnit executionUnit = mock(JDBCExecutionUnit.class, RETURNS_DEEP_STUBS);
+                when(executionUnit.getExecutionUnit().getDataSourceName()).thenReturn("foo_ds");
+                inputs.add(executionUnit);
+            }
+            result.add(new ExecutionGroup<>(inputs));
+        }
+        return new ExecutionGroupContext<>(result, mock(ExecutionGroupReportContext.class));
+    }
 }
@@ -22,12 +22,15 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTimeout;
 
 class ExecutorServiceManagerTest {
@@ -62,4 +65,19 @@ class ExecutorServiceManagerTest {
             throw ex;
         }
     }
+    
+    @Test
+    void assertCreateWithVirtualThreadEnabled() {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, "%d", true);
+        boolean virtualThreadSupported = Arrays.stream(Executors.class.getMethods()).anyMatch(each -> "newVirtualThreadPerTaskExecutor".equals(each.getName()));
+        assertThat(executorServiceManager.isVirtualThreadEnabled(), is(virtualThreadSupported));
+        executorServiceManager.close();
+    }
+    
+    @Test
+    void assertCreateWithVirtualThreadDisabled() {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, "%d", false);
+        assertFalse(executorServiceManager.isVirtualThreadEnabled());
+        executorServiceManager.close();
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageUnitConcurrencyLimiterTest {
+    
+    @Test
+    void assertAcquireAndReleaseWithLimitation() throws InterruptedException {
+        StorageUnitConcurrencyLimiter limiter = new StorageUnitConcurrencyLimiter(2);
+        assertTrue(limiter.isLimited());
+        limiter.acquire("foo_ds");
+        assertThat(limiter.getAvailablePermits("foo_ds"), is(1));
+        assertThat(limiter.getAvailablePermits("bar_ds"), is(2));
+        limiter.release("foo_ds");
+        assertThat(limiter.getAvailablePermits("foo_ds"), is(2));
+    }
+    
+    @Test
+    void assertAcquireAndReleaseWithoutLimitation() throws InterruptedException {
+        StorageUnitConcurrencyLimiter limiter = new StorageUnitConcurrencyLimiter(0);
+        assertFalse(limiter.isLimited());
+        limiter.acquire("foo_ds");
+        assertThat(limiter.getAvailablePermits("foo_ds"), is(Integer.MAX_VALUE));
+        limiter.release("foo_ds");
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+class DataSourceExecutionStatisticsTest {
+    
+    @Test
+    void assertRecordExecutionTime() {
+        DataSourceExecutionStatistics actual = new DataSourceExecutionStatistics();
+        actual.recordExecutionTime(100L);
+        assertThat(actual.getAverageExecutionMillis(), closeTo(100D, 0.001D));
+        actual.recordExecutionTime(200L);
+        assertThat(actual.getAverageExecutionMillis(), closeTo(120D, 0.001D));
+        assertThat(actual.getSampleCount(), is(2L));
+    }
+    
+    @Test
+    void assertRecordRowCount() {
+        DataSourceExecutionStatistics actual = new DataSourceExecutionStatistics();
+        actual.recordRowCount(1000L);
+        assertThat(actual.getAverageRowCount(), closeTo(1000D, 0.001D));
+        actual.recordRowCount(0L);
+        assertThat(actual.getAverageRowCount(), closeTo(800D, 0.001D));
+        assertThat(actual.getRowCountSampleCount(), is(2L));
+    }
+    
+    @Test
+    void assertRecordRowCountAfterEmptyResult() {
+        DataSourceExecutionStatistics actual = new DataSourceExecutionStatistics();
+        actual.recordRowCount(0L);
+        actual.recordRowCount(1000L);
+        assertThat(actual.getAverageRowCount(), closeTo(200D, 0.001D));
+    }
+}
@@ -32,6 +32,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
+import java.util.function.LongConsumer;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -284,6 +285,19 @@ class JDBCStreamQueryResultTest {
         verify(resultSet).close();
     }
     
+    @Test
+    void assertCloseWithRowCountRecorder() throws SQLException {
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(getResultSet());
+        LongConsumer rowCountRecorder = mock(LongConsumer.class);
+        queryResult.setRowCountRecorder(rowCountRecorder);
+        while (queryResult.next()) {
+            assertThat(queryResult.getRowCount(), is(1L));
+        }
+        queryResult.close();
+        queryResult.close();
+        verify(rowCountRecorder).accept(1L);
+    }
+    
     private ResultSet getResultSet() throws SQLException {
         ResultSet result = mock(ResultSet.class);
         when(result.next()).thenReturn(true).thenReturn(false);
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.grouping;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.statistics.DataSourceExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.test.infra.fixture.jdbc.MockedDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdaptiveExecutionUnitGroupingStrategyTest {
+    
+    @Test
+    void assertGroupWithoutPoolUsage() {
+        GroupedExecutionUnits actual = new AdaptiveExecutionUnitGroupingStrategy(4, mockMetaData(mock(DataSource.class))).group("foo_db", "foo_ds", createExecutionUnits(10));
+        assertThat(actual.getExecutionUnitGroups().size(), is(4));
+        assertThat(actual.getExecutionUnitGroups().get(0).size(), is(3));
+        assertThat(actual.getExecutionUnitGroups().get(3).size(), is(2));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertGroupWithUnknownStorageUnit() {
+        GroupedExecutionUnits actual = new AdaptiveExecutionUnitGroupingStrategy(4, mockMetaData(mock(DataSource.class))).group("foo_db", "bar_ds", createExecutionUnits(2));
+        assertThat(actual.getExecutionUnitGroups().size(), is(2));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+    }
+    
+    @Test
+    void assertGroupWithSaturatedPool() {
+        GroupedExecutionUnits actual = new AdaptiveExecutionUnitGroupingStrategy(4, mockMetaData(createDataSource(2))).group("foo_db", "foo_ds", createExecutionUnits(10));
+        assertThat(actual.getExecutionUnitGroups().size(), is(1));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertGroupWithLimitedAvailableConnections() {
+        GroupedExecutionUnits actual = new AdaptiveExecutionUnitGroupingStrategy(4, mockMetaData(createDataSource(4))).group("foo_db", "foo_ds", createExecutionUnits(10));
+        assertThat(actual.getExecutionUnitGroups().size(), is(2));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertGroupWithFastAndSmallExecutions() {
+        DataSource dataSource = createDataSource(10);
+        DataSourceExecutionStatisticsRegistry.getInstance().get(dataSource).recordExecutionTime(1L);
+        DataSourceExecutionStatisticsRegistry.getInstance().get(dataSource).recordRowCount(10L);
+        GroupedExecutionUnits actual = new AdaptiveExecutionUnitGroupingStrategy(4, mockMetaData(dataSource)).group("foo_db", "foo_ds", createExecutionUnits(8));
+        assertThat(actual.getExecutionUnitGroups().size(), is(1));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertGroupWithFastExecutionsWithoutRowCountSample() {
+        DataSource dataSource = createDataSource(10);
+        DataSourceExecutionStatisticsRegistry.getInstance().get(dataSource).recordExecutionTime(1L);
+        GroupedExecutionUnits actual = new AdaptiveExecutionUnitGroupingStrategy(4, mockMetaData(dataSource)).group("foo_db", "foo_ds", createExecutionUnits(8));
+        assertThat(actual.getExecutionUnitGroups().size(), is(4));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertGroupWithLargeResults() {
+        DataSource dataSource = createDataSource(10);
+        DataSourceExecutionStatisticsRegistry.getInstance().get(dataSource).recordExecutionTime(1L);
+        DataSourceExecutionStatisticsRegistry.getInstance().get(dataSource).recordRowCount(20000L);
+        GroupedExecutionUnits actual = new AdaptiveExecutionUnitGroupingStrategy(4, mockMetaData(dataSource)).group("foo_db", "foo_ds", createExecutionUnits(8));
+        assertThat(actual.getExecutionUnitGroups().size(), is(4));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertGroupWithSlowExecutions() {
+        DataSource dataSource = createDataSource(10);
+        DataSourceExecutionStatisticsRegistry.getInstance().get(dataSource).recordExecutionTime(100L);
+        GroupedExecutionUnits actual = new AdaptiveExecutionUnitGroupingStrategy(4, mockMetaData(dataSource)).group("foo_db", "foo_ds", createExecutionUnits(8));
+        assertThat(actual.getExecutionUnitGroups().size(), is(4));
+        assertThat(actual.getExecutionUnitGroups().get(0).size(), is(2));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertGroupNotExceedMaxConnectionsSizePerQuery() {
+        DataSource dataSource = createDataSource(10);
+        DataSourceExecutionStatisticsRegistry.getInstance().get(dataSource).recordExecutionTime(100L);
+        DataSourceExecutionStatisticsRegistry.getInstance().get(dataSource).recordRowCount(20000L);
+        GroupedExecutionUnits actual = new AdaptiveExecutionUnitGroupingStrategy(1, mockMetaData(dataSource)).group("foo_db", "foo_ds", createExecutionUnits(5));
+        assertThat(actual.getExecutionUnitGroups().size(), is(1));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertGroupRecordsStatisticsOfGroupedDataSource() {
+        DataSource dataSource = createDataSource(10);
+        new AdaptiveExecutionUnitGroupingStrategy(4, mockMetaData(dataSource)).group("foo_db", "foo_ds", createExecutionUnits(8));
+        assertTrue(DataSourceExecutionStatisticsRegistry.getInstance().find(dataSource).isPresent());
+        assertFalse(DataSourceExecutionStatisticsRegistry.getInstance().find(createDataSource(10)).isPresent());
+    }
+    
+    private ShardingSphereMetaData mockMetaData(final DataSource dataSource) {
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getDataSource()).thenReturn(dataSource);
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("foo_ds", storageUnit));
+        when(result.getDatabase("foo_db")).thenReturn(database);
+        return result;
+    }
+    
+    private DataSource createDataSource(final int maxPoolSize) {
+        MockedDataSource result = new MockedDataSource();
+        result.setMaxPoolSize(maxPoolSize);
+        return result;
+    }
+    
+    private List<ExecutionUnit> createExecutionUnits(final int size) {
+        List<ExecutionUnit> result = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(mock(ExecutionUnit.class));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.grouping;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+class StaticExecutionUnitGroupingStrategyTest {
+    
+    @Test
+    void assertGroupWithConnectionStrictly() {
+        GroupedExecutionUnits actual = new StaticExecutionUnitGroupingStrategy(4).group("foo_db", "foo_ds", createExecutionUnits(10));
+        assertThat(actual.getExecutionUnitGroups().size(), is(4));
+        assertThat(actual.getExecutionUnitGroups().get(0).size(), is(3));
+        assertThat(actual.getExecutionUnitGroups().get(3).size(), is(1));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    void assertGroupWithMemoryStrictly() {
+        GroupedExecutionUnits actual = new StaticExecutionUnitGroupingStrategy(4).group("foo_db", "foo_ds", createExecutionUnits(2));
+        assertThat(actual.getExecutionUnitGroups().size(), is(2));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+    }
+    
+    private List<ExecutionUnit> createExecutionUnits(final int size) {
+        List<ExecutionUnit> result = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(mock(ExecutionUnit.class));
+        }
+        return result;
+    }
+}
@@ -41,7 +41,21 @@ public final class SQLStatementCacheBuilder {
      */
     public static CacheManager<String, SQLStatement> build(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
                                                            final CacheOption parseTreeCacheOption) {
-        SQLStatementCacheLoader sqlStatementCacheLoader = new SQLStatementCacheLoader(databaseType, parseTreeCacheOption);
+        return build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, false);
+    }
+    
+    /**
+     * Build SQL statement cache.
+     *
+     * @param databaseType database type
+     * @param sqlStatementCacheOption SQL statement cache option
+     * @param parseTreeCacheOption parse tree cache option
+     * @param literalNormalizationEnabled whether to share parse tree among SQLs only differing in literals
+     * @return built SQL statement cache
+     */
+    public static CacheManager<String, SQLStatement> build(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
+                                                           final CacheOption parseTreeCacheOption, final boolean literalNormalizationEnabled) {
+        SQLStatementCacheLoader sqlStatementCacheLoader = new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, literalNormalizationEnabled);
         LoadingCache<String, SQLStatement> loadingCache =
                 Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize()).build(sqlStatementCacheLoader);
         return new CacheManager<>(loadingCache, sqlStatementCacheLoader);
@@ -31,7 +31,11 @@ public final class SQLStatementCacheLoader implements CacheLoader<String, SQLSta
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     public SQLStatementCacheLoader(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
+        this(databaseType, parseTreeCacheOption, false);
+    }
+    
+    public SQLStatementCacheLoader(final DatabaseType databaseType, final CacheOption parseTreeCacheOption, final boolean literalNormalizationEnabled) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, literalNormalizationEnabled);
     }
     
     /**
@@ -42,9 +42,27 @@ public final class SQLStatementParserEngineFactory {
      * @return SQL statement parser engine
      */
     public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+        return getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, false);
+    }
+    
+    /**
+     * Get SQL statement parser engine.
+     *
+     * @param databaseType database type
+     * @param sqlStatementCacheOption SQL statement cache option
+     * @param parseTreeCacheOption parse tree cache option
+     * @param literalNormalizationEnabled whether to share parse tree among SQLs only differing in literals
+     * @return SQL statement parser engine
+     */
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                                                       final boolean literalNormalizationEnabled) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption));
+            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, literalNormalizationEnabled));
+        } else if (result.isLiteralNormalizationEnabled() != literalNormalizationEnabled) {
+            result = ENGINES.compute(databaseType, (key, value) -> null != value && value.isLiteralNormalizationEnabled() == literalNormalizationEnabled
+                    ? value
+                    : new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, literalNormalizationEnabled));
         } else if (!result.getSqlStatementCacheOption().equals(sqlStatementCacheOption) || !result.getParseTreeCacheOption().equals(parseTreeCacheOption)) {
             result.updateCacheOption(sqlStatementCacheOption, parseTreeCacheOption);
         }
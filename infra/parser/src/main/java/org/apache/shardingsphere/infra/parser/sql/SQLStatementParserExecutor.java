@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.parser.sql;
 
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.engine.api.NormalizedSQLParserEngine;
 import org.apache.shardingsphere.sql.parser.engine.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.engine.api.SQLStatementVisitorEngine;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
@@ -30,10 +31,17 @@ public final class SQLStatementParserExecutor {
     
     private final SQLParserEngine parserEngine;
     
+    private final NormalizedSQLParserEngine normalizedParserEngine;
+    
     private final SQLStatementVisitorEngine visitorEngine;
     
     public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
+        this(databaseType, parseTreeCacheOption, false);
+    }
+    
+    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption, final boolean literalNormalizationEnabled) {
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
+        normalizedParserEngine = literalNormalizationEnabled ? new NormalizedSQLParserEngine(databaseType, parseTreeCacheOption) : null;
         visitorEngine = new SQLStatementVisitorEngine(databaseType);
     }
     
@@ -44,6 +52,9 @@ public final class SQLStatementParserExecutor {
      */
     public void updateCacheOption(final CacheOption parseTreeCacheOption) {
         parserEngine.updateCacheOption(parseTreeCacheOption);
+        if (null != normalizedParserEngine) {
+            normalizedParserEngine.updateCacheOption(parseTreeCacheOption);
+        }
     }
     
     /**
@@ -53,6 +64,6 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        return null == normalizedParserEngine ? visitorEngine.visit(parserEngine.parse(sql, false)) : normalizedParserEngine.parse(sql, visitorEngine::visit);
     }
 }
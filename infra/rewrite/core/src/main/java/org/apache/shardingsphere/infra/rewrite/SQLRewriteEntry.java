@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -26,9 +27,11 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.batch.InsertValuesSQL;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.generator.builder.DefaultTokenGeneratorBuilder;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
@@ -74,15 +77,50 @@ public final class SQLRewriteEntry {
                 : new RouteSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, routeContext, queryContext);
     }
     
+    /**
+     * Rewrite one parameter set of batch.
+     *
+     * <p>Rewritten SQLs are reused by route unit across parameter sets of the same batch, so SQL tokens are only generated for route units not rewritten yet.
+     * Parameters are always rewritten by decorators, so parameter rewriters (such as encrypt and generated key) still apply to each parameter set.</p>
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @param rewrittenSQLs rewritten SQLs of batch, key is route unit
+     * @param insertValuesSQLs insert values SQLs of batch, key is rewritten SQL
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext,
+                                    final Map<RouteUnit, String> rewrittenSQLs, final Map<String, InsertValuesSQL> insertValuesSQLs) {
+        if (!isRewrittenSQLReusable(queryContext, routeContext)) {
+            return rewrite(queryContext, routeContext);
+        }
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext, !rewrittenSQLs.keySet().containsAll(routeContext.getRouteUnits()));
+        return new RouteSQLRewriteEngine(globalRuleMetaData.getSingleRule(SQLTranslatorRule.class), database, globalRuleMetaData)
+                .rewrite(sqlRewriteContext, routeContext, queryContext, rewrittenSQLs, insertValuesSQLs);
+    }
+    
+    private boolean isRewrittenSQLReusable(final QueryContext queryContext, final RouteContext routeContext) {
+        return !routeContext.getRouteUnits().isEmpty() && !queryContext.getParameters().isEmpty()
+                && !(queryContext.getSqlStatementContext() instanceof SelectStatementContext) && routeContext.getOriginalDataNodes().size() <= 1;
+    }
+    
     private SQLRewriteContext createSQLRewriteContext(final QueryContext queryContext, final RouteContext routeContext) {
+        return createSQLRewriteContext(queryContext, routeContext, true);
+    }
+    
+    private SQLRewriteContext createSQLRewriteContext(final QueryContext queryContext, final RouteContext routeContext, final boolean generateSQLTokens) {
         HintValueContext hintValueContext = queryContext.getHintValueContext();
         SQLRewriteContext result = new SQLRewriteContext(database, queryContext);
         if (hintValueContext.isSkipSQLRewrite()) {
             return result;
         }
-        result.addSQLTokenGenerators(new DefaultTokenGeneratorBuilder(queryContext.getSqlStatementContext()).getSQLTokenGenerators());
+        if (generateSQLTokens) {
+            result.addSQLTokenGenerators(new DefaultTokenGeneratorBuilder(queryContext.getSqlStatementContext()).getSQLTokenGenerators());
+        }
         decorate(result, routeContext);
-        result.generateSQLTokens();
+        if (generateSQLTokens) {
+            result.generateSQLTokens();
+        }
         return result;
     }
     
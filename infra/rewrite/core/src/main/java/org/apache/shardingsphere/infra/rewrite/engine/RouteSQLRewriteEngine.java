@@ -28,6 +28,8 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.engine.batch.InsertValuesSQL;
+import org.apache.shardingsphere.infra.rewrite.engine.batch.InsertValuesSQLExtractor;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
@@ -78,6 +80,26 @@ public final class RouteSQLRewriteEngine {
         return new RouteSQLRewriteResult(translate(queryContext, createSQLRewriteUnits(sqlRewriteContext, routeContext, maxUnionSizePerDataSource)));
     }
     
+    /**
+     * Rewrite SQL and parameters with rewritten SQLs reused by route unit.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @param queryContext query context
+     * @param rewrittenSQLs rewritten SQLs, key is route unit
+     * @param insertValuesSQLs insert values SQLs of rewritten SQLs, key is rewritten SQL
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final QueryContext queryContext,
+                                         final Map<RouteUnit, String> rewrittenSQLs, final Map<String, InsertValuesSQL> insertValuesSQLs) {
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            String sql = rewrittenSQLs.computeIfAbsent(each, key -> getActualSQL(sqlRewriteContext, key, insertValuesSQLs));
+            sqlRewriteUnits.put(each, new SQLRewriteUnit(sql, getParameters(sqlRewriteContext, routeContext, each)));
+        }
+        return new RouteSQLRewriteResult(translate(queryContext, sqlRewriteUnits));
+    }
+    
     private Map<RouteUnit, SQLRewriteUnit> createSQLRewriteUnits(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final int maxUnionSizePerDataSource) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
         for (Entry<String, List<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
@@ -160,6 +182,12 @@ public final class RouteSQLRewriteEngine {
         return new SQLBuilderEngine(sqlRewriteContext, routeUnit).buildSQL();
     }
     
+    private String getActualSQL(final SQLRewriteContext sqlRewriteContext, final RouteUnit routeUnit, final Map<String, InsertValuesSQL> insertValuesSQLs) {
+        String result = getActualSQL(sqlRewriteContext, routeUnit);
+        InsertValuesSQLExtractor.extract(sqlRewriteContext, routeUnit, result).ifPresent(optional -> insertValuesSQLs.put(result, optional));
+        return result;
+    }
+    
     private List<Object> getParameters(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final RouteUnit routeUnit) {
         if (sqlRewriteContext.getParameters().isEmpty()) {
             return Collections.emptyList();
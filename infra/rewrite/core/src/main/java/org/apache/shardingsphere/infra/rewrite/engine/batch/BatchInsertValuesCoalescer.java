@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine.batch;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Batch insert values coalescer.
+ *
+ * <p>Folds parameter sets of a rewritten single row insert SQL into chunked multi-row insert SQLs,
+ * each chunk is limited by max rows, max bytes of SQL and parameters and max parameter count of one statement.
+ * The values row is located by {@link InsertValuesSQLExtractor} while rewriting, and only SQL whose values row holds all parameter markers is coalesced.</p>
+ */
+@RequiredArgsConstructor
+public final class BatchInsertValuesCoalescer {
+    
+    private static final int DEFAULT_PARAMETER_BYTES = 8;
+    
+    private final int maxRows;
+    
+    private final int maxBytes;
+    
+    private final int maxParameterCount;
+    
+    /**
+     * Coalesce parameter sets of single row insert SQL.
+     *
+     * @param insertValuesSQL insert values SQL of rewritten single row insert SQL
+     * @param parameterSets parameter sets of each row
+     * @return coalesced insert units in order of parameter sets, empty if SQL can not be coalesced
+     */
+    public Optional<List<CoalescedInsertUnit>> coalesce(final InsertValuesSQL insertValuesSQL, final List<List<Object>> parameterSets) {
+        if (maxRows < 2 || parameterSets.size() < 2 || !isSameParameterCount(insertValuesSQL.getParameterCount(), parameterSets)) {
+            return Optional.empty();
+        }
+        int maxRowsPerStatement = Math.min(maxRows, 0 == insertValuesSQL.getParameterCount() ? maxRows : maxParameterCount / insertValuesSQL.getParameterCount());
+        return maxRowsPerStatement < 2 ? Optional.empty() : Optional.of(coalesce(insertValuesSQL, parameterSets, maxRowsPerStatement));
+    }
+    
+    private List<CoalescedInsertUnit> coalesce(final InsertValuesSQL insertValuesSQL, final List<List<Object>> parameterSets, final int maxRowsPerStatement) {
+        List<CoalescedInsertUnit> result = new LinkedList<>();
+        Map<Integer, String> coalescedSQLs = new HashMap<>();
+        List<Object> params = new ArrayList<>();
+        int rowCount = 0;
+        int bytes = insertValuesSQL.getPrefix().length();
+        for (List<Object> each : parameterSets) {
+            int rowBytes = insertValuesSQL.getValues().length() + 2 + getParameterBytes(each);
+            if (rowCount > 0 && (rowCount == maxRowsPerStatement || bytes + rowBytes > maxBytes)) {
+                result.add(new CoalescedInsertUnit(coalescedSQLs.computeIfAbsent(rowCount, insertValuesSQL::toSQL), params, rowCount));
+                params = new ArrayList<>();
+                rowCount = 0;
+                bytes = insertValuesSQL.getPrefix().length();
+            }
+            params.addAll(each);
+            rowCount++;
+            bytes += rowBytes;
+        }
+        result.add(new CoalescedInsertUnit(coalescedSQLs.computeIfAbsent(rowCount, insertValuesSQL::toSQL), params, rowCount));
+        return result;
+    }
+    
+    private boolean isSameParameterCount(final int parameterCount, final List<List<Object>> parameterSets) {
+        for (List<Object> each : parameterSets) {
+            if (each.size() != parameterCount) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private int getParameterBytes(final List<Object> params) {
+        int result = 0;
+        for (Object each : params) {
+            if (each instanceof CharSequence) {
+                result += ((CharSequence) each).length();
+            } else if (each instanceof byte[]) {
+                result += ((byte[]) each).length;
+            } else {
+                result += DEFAULT_PARAMETER_BYTES;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine.batch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+
+/**
+ * Insert values SQL.
+ *
+ * <p>Rewritten single row insert SQL split into the part before its values row and the values row itself.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class InsertValuesSQL {
+    
+    private final String prefix;
+    
+    private final String values;
+    
+    private final int parameterCount;
+    
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param rowCount row count
+     * @return multi-row insert SQL
+     */
+    public String toSQL(final int rowCount) {
+        return prefix + String.join(", ", Collections.nCopies(rowCount, values));
+    }
+}
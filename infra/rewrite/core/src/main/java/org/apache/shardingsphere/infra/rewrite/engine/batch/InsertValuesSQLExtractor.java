@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine.batch;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.generic.InsertValuesToken;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Insert values SQL extractor.
+ *
+ * <p>Locates the values row of rewritten single row insert SQL by the insert values segment of insert statement context and the insert values token of rewrite context.
+ * Only insert whose single values row is the last clause and is not rewritten by any token other than insert values token is extracted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InsertValuesSQLExtractor {
+    
+    /**
+     * Extract insert values SQL.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeUnit route unit
+     * @param rewrittenSQL rewritten SQL of route unit
+     * @return insert values SQL, empty if values row of rewritten SQL can not be located
+     */
+    public static Optional<InsertValuesSQL> extract(final SQLRewriteContext sqlRewriteContext, final RouteUnit routeUnit, final String rewrittenSQL) {
+        if (!(sqlRewriteContext.getSqlStatementContext() instanceof InsertStatementContext)) {
+            return Optional.empty();
+        }
+        InsertStatement insertStatement = ((InsertStatementContext) sqlRewriteContext.getSqlStatementContext()).getSqlStatement();
+        if (1 != insertStatement.getValues().size() || insertStatement.getOnDuplicateKeyColumns().isPresent() || insertStatement.getReturning().isPresent()) {
+            return Optional.empty();
+        }
+        InsertValuesSegment valuesSegment = insertStatement.getValues().iterator().next();
+        String suffix = sqlRewriteContext.getSql().substring(valuesSegment.getStopIndex() + 1);
+        if (!SQLUtils.trimSemicolon(suffix.trim()).isEmpty() || !rewrittenSQL.endsWith(suffix) || !isValuesOnlyRewrittenByInsertValuesToken(sqlRewriteContext.getSqlTokens(), valuesSegment)) {
+            return Optional.empty();
+        }
+        Optional<InsertValuesToken> insertValuesToken = findInsertValuesToken(sqlRewriteContext.getSqlTokens(), valuesSegment);
+        Optional<Integer> parameterCount = getParameterCount(insertValuesToken.map(optional -> optional.getInsertValues().get(0).getValues()).orElseGet(valuesSegment::getValues));
+        if (!parameterCount.isPresent()) {
+            return Optional.empty();
+        }
+        String values = insertValuesToken.map(optional -> getValues(optional, routeUnit))
+                .orElseGet(() -> sqlRewriteContext.getSql().substring(valuesSegment.getStartIndex(), valuesSegment.getStopIndex() + 1));
+        int valuesStartIndex = rewrittenSQL.length() - suffix.length() - values.length();
+        return valuesStartIndex > 0 && rewrittenSQL.startsWith(values, valuesStartIndex)
+                ? Optional.of(new InsertValuesSQL(rewrittenSQL.substring(0, valuesStartIndex), values, parameterCount.get()))
+                : Optional.empty();
+    }
+    
+    private static boolean isValuesOnlyRewrittenByInsertValuesToken(final Collection<SQLToken> sqlTokens, final InsertValuesSegment valuesSegment) {
+        for (SQLToken each : sqlTokens) {
+            if (!isInsertValuesToken(each, valuesSegment) && (each.getStartIndex() >= valuesSegment.getStartIndex() || each.getStopIndex() >= valuesSegment.getStartIndex())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static Optional<InsertValuesToken> findInsertValuesToken(final Collection<SQLToken> sqlTokens, final InsertValuesSegment valuesSegment) {
+        return sqlTokens.stream().filter(each -> isInsertValuesToken(each, valuesSegment)).map(InsertValuesToken.class::cast).findFirst();
+    }
+    
+    private static boolean isInsertValuesToken(final SQLToken sqlToken, final InsertValuesSegment valuesSegment) {
+        return sqlToken instanceof InsertValuesToken && 1 == ((InsertValuesToken) sqlToken).getInsertValues().size()
+                && sqlToken.getStartIndex() == valuesSegment.getStartIndex() && sqlToken.getStopIndex() == valuesSegment.getStopIndex();
+    }
+    
+    private static String getValues(final InsertValuesToken insertValuesToken, final RouteUnit routeUnit) {
+        return insertValuesToken instanceof RouteUnitAware ? ((RouteUnitAware) insertValuesToken).toString(routeUnit) : insertValuesToken.toString();
+    }
+    
+    private static Optional<Integer> getParameterCount(final Collection<ExpressionSegment> values) {
+        int result = 0;
+        for (ExpressionSegment each : values) {
+            if (each instanceof ParameterMarkerExpressionSegment) {
+                if (ParameterMarkerType.QUESTION != ((ParameterMarkerExpressionSegment) each).getParameterMarkerType()) {
+                    return Optional.empty();
+                }
+                result++;
+            }
+        }
+        return Optional.of(result);
+    }
+}
@@ -42,6 +42,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
@@ -73,6 +74,31 @@ class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
     }
     
+    @Test
+    void assertRewriteWithRewrittenSQLs() {
+        RouteUnit cachedRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(cachedRouteUnit);
+        routeContext.getRouteUnits().add(routeUnit);
+        Map<RouteUnit, String> rewrittenSQLs = new HashMap<>();
+        rewrittenSQLs.put(cachedRouteUnit, "UPDATE tbl_0 SET col = ?");
+        DatabaseType databaseType = mock(DatabaseType.class);
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getDatabaseNames()).thenReturn(Collections.emptyList());
+        when(sqlStatementContext.getSqlStatement().getDatabaseType()).thenReturn(databaseType);
+        QueryContext queryContext = mockQueryContext(sqlStatementContext, "UPDATE tbl SET col = ?");
+        ShardingSphereDatabase database = mockDatabase(databaseType);
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(database, queryContext);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class))
+                .rewrite(sqlRewriteContext, routeContext, queryContext, rewrittenSQLs, new HashMap<>());
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        assertThat(actual.getSqlRewriteUnits().get(cachedRouteUnit).getSql(), is("UPDATE tbl_0 SET col = ?"));
+        assertThat(actual.getSqlRewriteUnits().get(cachedRouteUnit).getParameters(), is(Collections.singletonList(1)));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("UPDATE tbl SET col = ?"));
+        assertThat(rewrittenSQLs.get(routeUnit), is("UPDATE tbl SET col = ?"));
+    }
+    
     private QueryContext mockQueryContext(final SQLStatementContext sqlStatementContext, final String sql) {
         return mockQueryContext(sqlStatementContext, sql, Integer.MAX_VALUE);
     }
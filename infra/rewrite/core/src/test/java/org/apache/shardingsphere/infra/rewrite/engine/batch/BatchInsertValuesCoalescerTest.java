@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchInsertValuesCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, 'it''s (?)')";
+    
+    private static final InsertValuesSQL INSERT_VALUES_SQL = new InsertValuesSQL("INSERT INTO t_order_0 (order_id, status) VALUES ", "(?, 'it''s (?)')", 1);
+    
+    @Test
+    void assertCoalesceWithMaxRows() {
+        Optional<List<CoalescedInsertUnit>> actual = new BatchInsertValuesCoalescer(2, Integer.MAX_VALUE, Integer.MAX_VALUE).coalesce(INSERT_VALUES_SQL, createParameterSets(5));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(3));
+        assertThat(actual.get().get(0).getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'it''s (?)'), (?, 'it''s (?)')"));
+        assertThat(actual.get().get(0).getParameters(), is(Arrays.asList(0, 1)));
+        assertThat(actual.get().get(0).getRowCount(), is(2));
+        assertThat(actual.get().get(1).getSql(), sameInstance(actual.get().get(0).getSql()));
+        assertThat(actual.get().get(1).getParameters(), is(Arrays.asList(2, 3)));
+        assertThat(actual.get().get(2).getSql(), is(SQL));
+        assertThat(actual.get().get(2).getParameters(), is(Collections.singletonList(4)));
+        assertThat(actual.get().get(2).getRowCount(), is(1));
+    }
+    
+    @Test
+    void assertCoalesceWithMaxBytes() {
+        Optional<List<CoalescedInsertUnit>> actual = new BatchInsertValuesCoalescer(100, 100, Integer.MAX_VALUE).coalesce(INSERT_VALUES_SQL, createParameterSets(3));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(2));
+        assertThat(actual.get().get(0).getRowCount(), is(2));
+        assertThat(actual.get().get(1).getRowCount(), is(1));
+    }
+    
+    @Test
+    void assertCoalesceWithMaxParameterCount() {
+        Optional<List<CoalescedInsertUnit>> actual = new BatchInsertValuesCoalescer(10, Integer.MAX_VALUE, 2).coalesce(INSERT_VALUES_SQL, createParameterSets(5));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(3));
+        assertThat(actual.get().get(0).getRowCount(), is(2));
+        assertThat(actual.get().get(2).getRowCount(), is(1));
+    }
+    
+    @Test
+    void assertCoalesceWithMaxParameterCountLessThanTwoRows() {
+        assertFalse(new BatchInsertValuesCoalescer(10, Integer.MAX_VALUE, 1).coalesce(INSERT_VALUES_SQL, createParameterSets(3)).isPresent());
+    }
+    
+    @Test
+    void assertCoalesceWithDisabled() {
+        assertFalse(new BatchInsertValuesCoalescer(1, Integer.MAX_VALUE, Integer.MAX_VALUE).coalesce(INSERT_VALUES_SQL, createParameterSets(3)).isPresent());
+    }
+    
+    @Test
+    void assertCoalesceWithSingleParameterSet() {
+        assertFalse(new BatchInsertValuesCoalescer(10, Integer.MAX_VALUE, Integer.MAX_VALUE).coalesce(INSERT_VALUES_SQL, createParameterSets(1)).isPresent());
+    }
+    
+    @Test
+    void assertCoalesceWithMismatchedParameterCount() {
+        assertFalse(new BatchInsertValuesCoalescer(10, Integer.MAX_VALUE, Integer.MAX_VALUE).coalesce(INSERT_VALUES_SQL, Arrays.asList(Collections.singletonList(1), Arrays.asList(1, 2))).isPresent());
+    }
+    
+    private List<List<Object>> createParameterSets(final int rowCount) {
+        List<List<Object>> result = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            result.add(Collections.singletonList(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine.batch;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.InsertValuesTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.generic.InsertValue;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.InsertStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InsertValuesSQLExtractorTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id, status) VALUES (?, ?);";
+    
+    private static final String REWRITTEN_SQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?);";
+    
+    private final RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    @Test
+    void assertExtractWithoutInsertValuesToken() {
+        SQLRewriteContext sqlRewriteContext = mockSQLRewriteContext(createInsertStatement(createValuesSegment(ParameterMarkerType.QUESTION)), new SQLTokenFixture(12, 18));
+        Optional<InsertValuesSQL> actual = InsertValuesSQLExtractor.extract(sqlRewriteContext, routeUnit, REWRITTEN_SQL);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getPrefix(), is("INSERT INTO t_order_0 (order_id, status) VALUES "));
+        assertThat(actual.get().getValues(), is("(?, ?)"));
+        assertThat(actual.get().getParameterCount(), is(2));
+        assertThat(actual.get().toSQL(2), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?)"));
+    }
+    
+    @Test
+    void assertExtractWithInsertValuesToken() {
+        InsertValuesTokenFixture insertValuesToken = new InsertValuesTokenFixture(46, 51);
+        insertValuesToken.getInsertValues().add(new InsertValue(createParameterMarkers(ParameterMarkerType.QUESTION, 3)));
+        SQLRewriteContext sqlRewriteContext = mockSQLRewriteContext(createInsertStatement(createValuesSegment(ParameterMarkerType.QUESTION)), new SQLTokenFixture(12, 18), insertValuesToken);
+        Optional<InsertValuesSQL> actual = InsertValuesSQLExtractor.extract(sqlRewriteContext, routeUnit, "INSERT INTO t_order_0 (order_id, status, id) VALUES (?, ?, ?);");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getPrefix(), is("INSERT INTO t_order_0 (order_id, status, id) VALUES "));
+        assertThat(actual.get().getValues(), is("(?, ?, ?)"));
+        assertThat(actual.get().getParameterCount(), is(3));
+    }
+    
+    @Test
+    void assertExtractWithNotInsertStatement() {
+        SQLRewriteContext sqlRewriteContext = mock(SQLRewriteContext.class);
+        when(sqlRewriteContext.getSqlStatementContext()).thenReturn(mock(SQLStatementContext.class));
+        assertFalse(InsertValuesSQLExtractor.extract(sqlRewriteContext, routeUnit, REWRITTEN_SQL).isPresent());
+    }
+    
+    @Test
+    void assertExtractWithMultipleValues() {
+        InsertValuesSegment valuesSegment = createValuesSegment(ParameterMarkerType.QUESTION);
+        SQLRewriteContext sqlRewriteContext = mockSQLRewriteContext(createInsertStatement(valuesSegment, valuesSegment));
+        assertFalse(InsertValuesSQLExtractor.extract(sqlRewriteContext, routeUnit, REWRITTEN_SQL).isPresent());
+    }
+    
+    @Test
+    void assertExtractWithOnDuplicateKeyColumns() {
+        InsertStatement insertStatement = InsertStatement.builder().values(Collections.singletonList(createValuesSegment(ParameterMarkerType.QUESTION)))
+                .onDuplicateKeyColumns(new OnDuplicateKeyColumnsSegment(53, 80, Collections.emptyList())).build();
+        assertFalse(InsertValuesSQLExtractor.extract(mockSQLRewriteContext(insertStatement), routeUnit, REWRITTEN_SQL).isPresent());
+    }
+    
+    @Test
+    void assertExtractWithTokenInValues() {
+        SQLRewriteContext sqlRewriteContext = mockSQLRewriteContext(createInsertStatement(createValuesSegment(ParameterMarkerType.QUESTION)), new SQLTokenFixture(47, 47));
+        assertFalse(InsertValuesSQLExtractor.extract(sqlRewriteContext, routeUnit, "INSERT INTO t_order (order_id, status) VALUES (XXX, ?);").isPresent());
+    }
+    
+    @Test
+    void assertExtractWithDollarParameterMarker() {
+        SQLRewriteContext sqlRewriteContext = mockSQLRewriteContext(createInsertStatement(createValuesSegment(ParameterMarkerType.DOLLAR)));
+        assertFalse(InsertValuesSQLExtractor.extract(sqlRewriteContext, routeUnit, REWRITTEN_SQL).isPresent());
+    }
+    
+    @Test
+    void assertExtractWithMismatchedRewrittenSQL() {
+        SQLRewriteContext sqlRewriteContext = mockSQLRewriteContext(createInsertStatement(createValuesSegment(ParameterMarkerType.QUESTION)));
+        assertFalse(InsertValuesSQLExtractor.extract(sqlRewriteContext, routeUnit, "INSERT INTO t_order_0 (order_id, status) VALUES (?, CAST(? AS VARCHAR));").isPresent());
+    }
+    
+    private SQLRewriteContext mockSQLRewriteContext(final InsertStatement insertStatement, final SQLToken... sqlTokens) {
+        InsertStatementContext insertStatementContext = mock(InsertStatementContext.class);
+        when(insertStatementContext.getSqlStatement()).thenReturn(insertStatement);
+        SQLRewriteContext result = mock(SQLRewriteContext.class);
+        when(result.getSqlStatementContext()).thenReturn(insertStatementContext);
+        when(result.getSql()).thenReturn(SQL);
+        when(result.getSqlTokens()).thenReturn(new LinkedList<>(Arrays.asList(sqlTokens)));
+        return result;
+    }
+    
+    private InsertStatement createInsertStatement(final InsertValuesSegment... valuesSegments) {
+        return InsertStatement.builder().values(Arrays.asList(valuesSegments)).build();
+    }
+    
+    private InsertValuesSegment createValuesSegment(final ParameterMarkerType parameterMarkerType) {
+        return new InsertValuesSegment(46, 51, createParameterMarkers(parameterMarkerType, 2));
+    }
+    
+    private List<ExpressionSegment> createParameterMarkers(final ParameterMarkerType parameterMarkerType, final int count) {
+        List<ExpressionSegment> result = new LinkedList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(new ParameterMarkerExpressionSegment(47 + i * 3, 47 + i * 3, i, parameterMarkerType));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Spill file utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillFileUtils {
+    
+    /**
+     * Create temporary directory for spill files.
+     *
+     * @param spillDirectory configured spill directory, temporary directory of system is used if empty
+     * @param prefix prefix of created directory name
+     * @return created directory
+     * @throws IOException IO exception
+     */
+    public static Path createTempDirectory(final String spillDirectory, final String prefix) throws IOException {
+        return null == spillDirectory || spillDirectory.isEmpty()
+                ? Files.createTempDirectory(prefix)
+                : Files.createTempDirectory(Files.createDirectories(Paths.get(spillDirectory)), prefix);
+    }
+    
+    /**
+     * Create temporary spill file.
+     *
+     * @param spillDirectory configured spill directory, temporary directory of system is used if empty
+     * @param prefix prefix of created file name
+     * @return created file
+     * @throws IOException IO exception
+     */
+    public static Path createTempFile(final String spillDirectory, final String prefix) throws IOException {
+        return null == spillDirectory || spillDirectory.isEmpty()
+                ? Files.createTempFile(prefix, ".tmp")
+                : Files.createTempFile(Files.createDirectories(Paths.get(spillDirectory)), prefix, ".tmp");
+    }
+}
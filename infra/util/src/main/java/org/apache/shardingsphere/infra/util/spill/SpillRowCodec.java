@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spill row codec.
+ *
+ * <p>Each row is written as column count followed by one type tag and a compact payload for each cell.
+ * Only value types returned by JDBC drivers for primitive, character, numeric, binary and temporal columns are supported, other values can not be spilled.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte BYTE = 5;
+    
+    private static final byte DOUBLE = 6;
+    
+    private static final byte FLOAT = 7;
+    
+    private static final byte BOOLEAN = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte LOCAL_DATE = 15;
+    
+    private static final byte LOCAL_TIME = 16;
+    
+    private static final byte LOCAL_DATE_TIME = 17;
+    
+    private static final byte OFFSET_TIME = 18;
+    
+    private static final byte OFFSET_DATE_TIME = 19;
+    
+    private static final byte INSTANT = 20;
+    
+    private static final byte UTIL_DATE = 21;
+    
+    private static final byte CHARACTER = 22;
+    
+    private static final byte UUID_VALUE = 23;
+    
+    /**
+     * Write row.
+     *
+     * @param output data output stream
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public static void write(final DataOutputStream output, final Object[] row) throws IOException {
+        output.writeInt(row.length);
+        for (Object each : row) {
+            writeValue(output, each);
+        }
+    }
+    
+    private static void writeValue(final DataOutputStream output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof java.util.Date) {
+            output.writeByte(UTIL_DATE);
+            output.writeLong(((java.util.Date) value).getTime());
+        } else {
+            writeTemporalOrOtherValue(output, value);
+        }
+    }
+    
+    private static void writeTemporalOrOtherValue(final DataOutputStream output, final Object value) throws IOException {
+        if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof OffsetTime) {
+            output.writeByte(OFFSET_TIME);
+            output.writeLong(((OffsetTime) value).toLocalTime().toNanoOfDay());
+            output.writeInt(((OffsetTime) value).getOffset().getTotalSeconds());
+        } else if (value instanceof OffsetDateTime) {
+            output.writeByte(OFFSET_DATE_TIME);
+            output.writeLong(((OffsetDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((OffsetDateTime) value).toLocalTime().toNanoOfDay());
+            output.writeInt(((OffsetDateTime) value).getOffset().getTotalSeconds());
+        } else if (value instanceof Instant) {
+            output.writeByte(INSTANT);
+            output.writeLong(((Instant) value).getEpochSecond());
+            output.writeInt(((Instant) value).getNano());
+        } else if (value instanceof Character) {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character) value);
+        } else if (value instanceof UUID) {
+            output.writeByte(UUID_VALUE);
+            output.writeLong(((UUID) value).getMostSignificantBits());
+            output.writeLong(((UUID) value).getLeastSignificantBits());
+        } else {
+            throw new IOException(String.format("Can not spill value of type `%s`", value.getClass().getName()));
+        }
+    }
+    
+    private static void writeBytes(final DataOutputStream output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    /**
+     * Read row.
+     *
+     * @param input data input stream
+     * @return read row, empty if reach end of stream
+     * @throws IOException IO exception
+     */
+    public static Optional<Object[]> read(final DataInputStream input) throws IOException {
+        int columnCount;
+        try {
+            columnCount = input.readInt();
+        } catch (final EOFException ignored) {
+            return Optional.empty();
+        }
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = readValue(input);
+        }
+        return Optional.of(result);
+    }
+    
+    private static Object readValue(final DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case BOOLEAN:
+                return input.readBoolean();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BYTES:
+                return readBytes(input);
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case TIME:
+                return new Time(input.readLong());
+            case DATE:
+                return new Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+            case OFFSET_TIME:
+                return OffsetTime.of(LocalTime.ofNanoOfDay(input.readLong()), ZoneOffset.ofTotalSeconds(input.readInt()));
+            case OFFSET_DATE_TIME:
+                return OffsetDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()), ZoneOffset.ofTotalSeconds(input.readInt()));
+            case INSTANT:
+                return Instant.ofEpochSecond(input.readLong(), input.readInt());
+            case UTIL_DATE:
+                return new java.util.Date(input.readLong());
+            case CHARACTER:
+                return input.readChar();
+            case UUID_VALUE:
+                return new UUID(input.readLong(), input.readLong());
+            default:
+                throw new IOException(String.format("Unknown spill value type `%s`", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInputStream input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+}
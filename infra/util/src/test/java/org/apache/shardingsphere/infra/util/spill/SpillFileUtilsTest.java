@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.spill;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillFileUtilsTest {
+    
+    @TempDir
+    private Path tempDir;
+    
+    @Test
+    void assertCreateTempDirectoryInConfiguredDirectory() throws IOException {
+        Path spillDirectory = tempDir.resolve("spill");
+        Path actual = SpillFileUtils.createTempDirectory(spillDirectory.toString(), "foo-");
+        assertTrue(Files.isDirectory(actual));
+        assertThat(actual.getParent(), is(spillDirectory));
+        assertTrue(actual.getFileName().toString().startsWith("foo-"));
+    }
+    
+    @Test
+    void assertCreateTempDirectoryInSystemDirectory() throws IOException {
+        Path actual = SpillFileUtils.createTempDirectory("", "foo-");
+        try {
+            assertTrue(Files.isDirectory(actual));
+        } finally {
+            Files.delete(actual);
+        }
+    }
+    
+    @Test
+    void assertCreateTempFileInConfiguredDirectory() throws IOException {
+        Path spillDirectory = tempDir.resolve("spill");
+        Path actual = SpillFileUtils.createTempFile(spillDirectory.toString(), "foo-");
+        assertTrue(Files.isRegularFile(actual));
+        assertThat(actual.getParent(), is(spillDirectory));
+    }
+}
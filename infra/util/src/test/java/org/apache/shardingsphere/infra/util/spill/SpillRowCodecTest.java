@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.spill;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillRowCodecTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {null, "foo", 1, 2L, (short) 3, (byte) 4, 5.5D, 6.5F, true, new BigDecimal("7.80"), BigInteger.TEN, new byte[]{1, 2},
+                new Date(1000L), new Time(2000L), timestamp, LocalDate.of(2024, 1, 1), LocalTime.of(1, 2, 3, 4), LocalDateTime.of(2024, 1, 1, 1, 2, 3, 4),
+                OffsetTime.of(1, 2, 3, 4, ZoneOffset.ofHours(8)), OffsetDateTime.of(2024, 1, 1, 1, 2, 3, 4, ZoneOffset.ofHours(-5)), Instant.ofEpochSecond(1L, 2L),
+                new java.util.Date(3000L), 'c', new UUID(1L, 2L)};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            SpillRowCodec.write(output, expected);
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Optional<Object[]> actual = SpillRowCodec.read(input);
+            assertTrue(actual.isPresent());
+            assertThat(actual.get().length, is(expected.length));
+            for (int i = 0; i < expected.length; i++) {
+                assertThat(actual.get()[i], is(expected[i]));
+            }
+            assertFalse(SpillRowCodec.read(input).isPresent());
+        }
+    }
+    
+    @Test
+    void assertWriteUnsupportedValue() throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new ByteArrayOutputStream())) {
+            assertThrows(IOException.class, () -> SpillRowCodec.write(output, new Object[]{new Object()}));
+        }
+    }
+}
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -56,6 +57,18 @@ public final class BatchExecutionUnit {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
     }
     
+    /**
+     * Map times of use JDBC API call addBatch of coalesced rows and times of actual call addBatch after coalesce.
+     *
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch of coalesced rows
+     */
+    public void mapAddBatchCount(final Collection<Integer> jdbcAddBatchTimes) {
+        for (int each : jdbcAddBatchTimes) {
+            jdbcAndActualAddBatchCallTimesMap.put(each, actualCallAddBatchTimes);
+        }
+        actualCallAddBatchTimes++;
+    }
+    
     /**
      * Get parameter sets.
      *
@@ -18,18 +18,25 @@
 package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
 
 import lombok.Getter;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.sqlbatch.DialectSQLBatchOption;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.rewrite.engine.batch.BatchInsertValuesCoalescer;
+import org.apache.shardingsphere.infra.rewrite.engine.batch.CoalescedInsertUnit;
+import org.apache.shardingsphere.infra.rewrite.engine.batch.InsertValuesSQL;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
@@ -38,6 +45,8 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +69,8 @@ public final class BatchPreparedStatementExecutor {
     
     private int batchCount;
     
+    private boolean coalesced;
+    
     public BatchPreparedStatementExecutor(final ShardingSphereDatabase database, final JDBCExecutor jdbcExecutor, final String processId) {
         this.database = database;
         this.jdbcExecutor = jdbcExecutor;
@@ -122,6 +133,66 @@ public final class BatchPreparedStatementExecutor {
         batchExecutionUnits.addAll(newExecutionUnits);
     }
     
+    /**
+     * Coalesce batched single row inserts routed to the same data node into multi-row inserts.
+     * 
+     * <p>Rows per multi-row insert are also limited by max insert values row count and max parameter count of storage dialect,
+     * and rows of storage dialects which do not support multi-row insert values are not coalesced.</p>
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param insertValuesSQLs insert values SQLs of rewritten SQLs, key is rewritten SQL
+     * @param maxRows max rows of each multi-row insert
+     * @param maxBytes max bytes of SQL and parameters of each multi-row insert
+     */
+    public void coalesce(final SQLStatementContext sqlStatementContext, final Map<String, InsertValuesSQL> insertValuesSQLs, final int maxRows, final int maxBytes) {
+        if (!isNeedAccumulate(sqlStatementContext) && !isSingleDataSource()) {
+            return;
+        }
+        Collection<BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            InsertValuesSQL insertValuesSQL = insertValuesSQLs.get(each.getExecutionUnit().getSqlUnit().getSql());
+            Optional<List<CoalescedInsertUnit>> insertUnits = null == insertValuesSQL
+                    ? Optional.empty()
+                    : createCoalescer(each.getExecutionUnit().getDataSourceName(), maxRows, maxBytes).coalesce(insertValuesSQL, each.getParameterSets());
+            if (insertUnits.isPresent()) {
+                coalescedBatchExecutionUnits.addAll(createCoalescedBatchExecutionUnits(each, insertUnits.get()));
+                coalesced = true;
+            } else {
+                coalescedBatchExecutionUnits.add(each);
+            }
+        }
+        batchExecutionUnits.clear();
+        batchExecutionUnits.addAll(coalescedBatchExecutionUnits);
+    }
+    
+    private BatchInsertValuesCoalescer createCoalescer(final String dataSourceName, final int maxRows, final int maxBytes) {
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(dataSourceName);
+        DatabaseType storageType = null == storageUnit ? database.getProtocolType() : storageUnit.getStorageType();
+        DialectSQLBatchOption sqlBatchOption = new DatabaseTypeRegistry(storageType).getDialectDatabaseMetaData().getSQLBatchOption();
+        return new BatchInsertValuesCoalescer(Math.min(maxRows, sqlBatchOption.getMaxInsertValuesRowCount()), maxBytes, sqlBatchOption.getMaxParameterCount());
+    }
+    
+    private boolean isSingleDataSource() {
+        return 1 == batchExecutionUnits.stream().map(each -> each.getExecutionUnit().getDataSourceName()).distinct().count();
+    }
+    
+    private Collection<BatchExecutionUnit> createCoalescedBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit, final List<CoalescedInsertUnit> insertUnits) {
+        Map<String, BatchExecutionUnit> result = new LinkedHashMap<>(2, 1F);
+        ExecutionUnit executionUnit = batchExecutionUnit.getExecutionUnit();
+        Iterator<Integer> jdbcAddBatchTimes = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().keySet().iterator();
+        for (CoalescedInsertUnit each : insertUnits) {
+            BatchExecutionUnit coalescedBatchExecutionUnit = result.computeIfAbsent(each.getSql(),
+                    sql -> new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sql, new LinkedList<>(), executionUnit.getSqlUnit().getTableRouteMappers()))));
+            coalescedBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getParameters());
+            List<Integer> coalescedJDBCAddBatchTimes = new ArrayList<>(each.getRowCount());
+            for (int i = 0; i < each.getRowCount(); i++) {
+                coalescedJDBCAddBatchTimes.add(jdbcAddBatchTimes.next());
+            }
+            coalescedBatchExecutionUnit.mapAddBatchCount(coalescedJDBCAddBatchTimes);
+        }
+        return result.values();
+    }
+    
     /**
      * Execute batch.
      *
@@ -148,7 +219,7 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        return coalesced || isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext sqlStatementContext) {
@@ -173,10 +244,28 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
+        Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = getJDBCAndActualAddBatchCallTimesMap(executionUnit);
+        int[] rowCounts = coalesced ? getRowCounts(jdbcAndActualAddBatchCallTimesMap) : new int[0];
+        for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
             int value = null == executeResult || 0 == executeResult.length ? 0 : executeResult[entry.getValue()];
-            addBatchCounts[entry.getKey()] += value;
+            addBatchCounts[entry.getKey()] += coalesced ? getRowUpdateCount(value, rowCounts[entry.getValue()]) : value;
+        }
+    }
+    
+    private int[] getRowCounts(final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap) {
+        int[] result = new int[jdbcAndActualAddBatchCallTimesMap.size()];
+        for (int each : jdbcAndActualAddBatchCallTimesMap.values()) {
+            result[each]++;
+        }
+        return result;
+    }
+    
+    private int getRowUpdateCount(final int coalescedUpdateCount, final int rowCount) {
+        if (1 == rowCount || coalescedUpdateCount < 0) {
+            return coalescedUpdateCount;
         }
+        // update count which does not equal row count can not be split to rows, so rows report SUCCESS_NO_INFO as JDBC allows
+        return coalescedUpdateCount == rowCount ? 1 : Statement.SUCCESS_NO_INFO;
     }
     
     private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
@@ -249,6 +338,7 @@ public final class BatchPreparedStatementExecutor {
     public void clear() {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
+        coalesced = false;
         batchExecutionUnits.clear();
     }
 }
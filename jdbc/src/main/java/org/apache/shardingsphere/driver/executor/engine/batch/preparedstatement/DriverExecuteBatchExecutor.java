@@ -23,7 +23,9 @@ import org.apache.shardingsphere.driver.executor.callback.replay.PreparedStateme
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.KernelBatchContext;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -60,6 +62,8 @@ public final class DriverExecuteBatchExecutor {
     
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
+    private final KernelBatchContext kernelBatchContext = new KernelBatchContext();
+    
     private ExecutionContext executionContext;
     
     public DriverExecuteBatchExecutor(final ShardingSphereConnection connection, final ShardingSphereMetaData metaData, final StatementOption statementOption, final StatementManager statementManager,
@@ -91,7 +95,7 @@ public final class DriverExecuteBatchExecutor {
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database) {
         SQLAuditEngine.audit(queryContext, database);
-        return new KernelProcessor().generateExecutionContext(queryContext, metaData.getGlobalRuleMetaData(), metaData.getProps());
+        return new KernelProcessor().generateExecutionContext(queryContext, metaData.getGlobalRuleMetaData(), metaData.getProps(), kernelBatchContext);
     }
     
     /**
@@ -123,6 +127,10 @@ public final class DriverExecuteBatchExecutor {
                                  final SQLStatementContext sqlStatementContext, final Collection<Comparable<?>> generatedValues, final StatementOption statementOption,
                                  final ExecutionContext executionContext, final StatementAddCallback addCallback, final PreparedStatementParametersReplayCallback replayCallback,
                                  final GeneratedKeyCallback generatedKeyCallback) throws SQLException {
+        if (isNeedCoalesce(sqlStatementContext, generatedValues, statementOption)) {
+            batchExecutor.coalesce(sqlStatementContext, kernelBatchContext.getInsertValuesSQLs(), metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS),
+                    metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_BYTES));
+        }
         initBatchPreparedStatementExecutor(database, batchExecutor, executionContext, replayCallback);
         int[] result = batchExecutor.executeBatch(sqlStatementContext);
         if (statementOption.isReturnGeneratedKeys() && generatedValues.isEmpty()) {
@@ -132,6 +140,18 @@ public final class DriverExecuteBatchExecutor {
         return result;
     }
     
+    private boolean isNeedCoalesce(final SQLStatementContext sqlStatementContext, final Collection<Comparable<?>> generatedValues, final StatementOption statementOption) {
+        if (metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS) < 2 || !(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        if (statementOption.isReturnGeneratedKeys() && generatedValues.isEmpty()) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return 1 == insertStatementContext.getInsertValueContexts().size() && null == insertStatementContext.getInsertSelectContext()
+                && !insertStatementContext.getSqlStatement().getOnDuplicateKeyColumns().isPresent() && !insertStatementContext.getSqlStatement().getReturning().isPresent();
+    }
+    
     private void initBatchPreparedStatementExecutor(final ShardingSphereDatabase database, final BatchPreparedStatementExecutor batchExecutor,
                                                     final ExecutionContext executionContext, final PreparedStatementParametersReplayCallback replayCallback) throws SQLException {
         List<ExecutionUnit> executionUnits = new ArrayList<>(batchExecutor.getBatchExecutionUnits().size());
@@ -158,5 +178,6 @@ public final class DriverExecuteBatchExecutor {
      */
     public void clear() {
         batchPreparedStatementExecutor.clear();
+        kernelBatchContext.clear();
     }
 }
@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.driver.executor.engine.pushdown.jdbc;
 
 import org.apache.shardingsphere.driver.executor.callback.add.StatementAddCallback;
+import org.apache.shardingsphere.driver.executor.callback.execute.ExecuteQueryCallback;
 import org.apache.shardingsphere.driver.executor.callback.execute.ExecuteQueryCallbackFactory;
 import org.apache.shardingsphere.driver.executor.callback.replay.StatementReplayCallback;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResultSetFactory;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -113,7 +115,10 @@ public final class DriverJDBCPushDownExecuteQueryExecutor {
         ProcessEngine processEngine = new ProcessEngine();
         try {
             processEngine.executeSQL(executionGroupContext, queryContext);
-            return jdbcExecutor.execute(executionGroupContext, new ExecuteQueryCallbackFactory(prepareEngine.getType()).newInstance(database, queryContext));
+            ExecuteQueryCallback callback = new ExecuteQueryCallbackFactory(prepareEngine.getType()).newInstance(database, queryContext);
+            return props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_COMPLETION_ORDER_ENABLED)
+                    ? jdbcExecutor.executeInCompletionOrder(executionGroupContext, null, callback)
+                    : jdbcExecutor.execute(executionGroupContext, callback);
         } finally {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
         }
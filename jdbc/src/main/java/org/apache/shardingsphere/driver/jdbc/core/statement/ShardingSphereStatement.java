@@ -371,6 +371,12 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     @Override
     protected void closeExecutor() throws SQLException {
-        driverExecutorFacade.close();
+        try {
+            if (null != currentResultSet) {
+                currentResultSet.close();
+            }
+        } finally {
+            driverExecutorFacade.close();
+        }
     }
 }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -47,6 +48,16 @@ class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    void assertMapAddBatchCountWithCoalescedRows() {
+        BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Arrays.asList(1, 2, 3))));
+        actual.mapAddBatchCount(Arrays.asList(0, 1));
+        actual.mapAddBatchCount(2);
+        assertThat(actual.getJdbcAndActualAddBatchCallTimesMap().get(0), is(0));
+        assertThat(actual.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        assertThat(actual.getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+    }
+    
     @Test
     void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
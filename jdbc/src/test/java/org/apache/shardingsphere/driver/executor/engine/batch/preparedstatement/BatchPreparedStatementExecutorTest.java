@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
@@ -31,10 +32,13 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.engine.batch.InsertValuesSQL;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,11 +52,15 @@ import org.mockito.quality.Strictness;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -91,6 +99,16 @@ class BatchPreparedStatementExecutorTest {
         when(result.getName()).thenReturn("foo_db");
         RuleMetaData ruleMetaData = new RuleMetaData(Collections.singleton(mockShardingRule()));
         when(result.getRuleMetaData()).thenReturn(ruleMetaData);
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("ds_0", mockStorageUnit("H2"));
+        storageUnits.put("ds_1", mockStorageUnit("FIXTURE"));
+        when(result.getResourceMetaData().getStorageUnits()).thenReturn(storageUnits);
+        return result;
+    }
+    
+    private StorageUnit mockStorageUnit(final String databaseType) {
+        StorageUnit result = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(result.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, databaseType));
         return result;
     }
     
@@ -156,6 +174,56 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertExecuteBatchWithCoalescedInsertValues() throws SQLException {
+        String sql = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+        for (int i = 0; i < 5; i++) {
+            executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(sql, new LinkedList<>(Arrays.asList(i, "init"))))));
+        }
+        executor.coalesce(sqlStatementContext, Collections.singletonMap(sql, new InsertValuesSQL("INSERT INTO t_order_0 (order_id, status) VALUES ", "(?, ?)", 2)), 2, 1024);
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        Iterator<BatchExecutionUnit> batchExecutionUnits = executor.getBatchExecutionUnits().iterator();
+        BatchExecutionUnit multiRowsBatchExecutionUnit = batchExecutionUnits.next();
+        assertThat(multiRowsBatchExecutionUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(multiRowsBatchExecutionUnit.getParameterSets(), is(Arrays.asList(Arrays.asList(0, "init", 1, "init"), Arrays.asList(2, "init", 3, "init"))));
+        BatchExecutionUnit singleRowBatchExecutionUnit = batchExecutionUnits.next();
+        assertThat(singleRowBatchExecutionUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)"));
+        assertThat(singleRowBatchExecutionUnit.getParameterSets(), is(Collections.singletonList(Arrays.asList(4, "init"))));
+        PreparedStatement multiRowsPreparedStatement = getPreparedStatement();
+        when(multiRowsPreparedStatement.executeBatch()).thenReturn(new int[]{2, Statement.SUCCESS_NO_INFO});
+        PreparedStatement singleRowPreparedStatement = getPreparedStatement();
+        when(singleRowPreparedStatement.executeBatch()).thenReturn(new int[]{1});
+        executor.init(new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(Arrays.asList(
+                new JDBCExecutionUnit(multiRowsBatchExecutionUnit.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, multiRowsPreparedStatement),
+                new JDBCExecutionUnit(singleRowBatchExecutionUnit.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, singleRowPreparedStatement)))),
+                new ExecutionGroupReportContext("foo_id", "foo_db")));
+        assertThat(executor.executeBatch(sqlStatementContext), is(new int[]{1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1}));
+    }
+    
+    @Test
+    void assertCoalesceWithoutMultiRowInsertValuesSupported() {
+        String sql = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_1", new SQLUnit(sql, new LinkedList<>(Arrays.asList(i, "init"))))));
+        }
+        executor.coalesce(sqlStatementContext, Collections.singletonMap(sql, new InsertValuesSQL("INSERT INTO t_order_0 (order_id, status) VALUES ", "(?, ?)", 2)), 2, 1024);
+        assertThat(executor.getBatchExecutionUnits().size(), is(1));
+        BatchExecutionUnit actual = executor.getBatchExecutionUnits().iterator().next();
+        assertThat(actual.getExecutionUnit().getSqlUnit().getSql(), is(sql));
+        assertThat(actual.getParameterSets().size(), is(3));
+    }
+    
+    @Test
+    void assertCoalesceWithoutInsertValuesSQL() {
+        String sql = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(sql, new LinkedList<>(Arrays.asList(i, "init"))))));
+        }
+        executor.coalesce(sqlStatementContext, Collections.emptyMap(), 2, 1024);
+        assertThat(executor.getBatchExecutionUnits().size(), is(1));
+        assertThat(executor.getBatchExecutionUnits().iterator().next().getParameterSets().size(), is(3));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
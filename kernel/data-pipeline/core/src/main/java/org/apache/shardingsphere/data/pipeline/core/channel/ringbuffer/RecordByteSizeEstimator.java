@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Record byte size estimator.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RecordByteSizeEstimator {
+    
+    private static final long RECORD_OVERHEAD_BYTES = 64L;
+    
+    private static final long COLUMN_OVERHEAD_BYTES = 48L;
+    
+    private static final long OBJECT_OVERHEAD_BYTES = 16L;
+    
+    /**
+     * Estimate byte size of records.
+     *
+     * @param records records
+     * @return estimated byte size
+     */
+    public static long estimate(final List<Record> records) {
+        long result = 0L;
+        for (Record each : records) {
+            result += estimate(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Estimate byte size of record.
+     *
+     * @param record record
+     * @return estimated byte size
+     */
+    public static long estimate(final Record record) {
+        if (!(record instanceof DataRecord)) {
+            return RECORD_OVERHEAD_BYTES;
+        }
+        long result = RECORD_OVERHEAD_BYTES;
+        for (Column each : ((DataRecord) record).getColumns()) {
+            result += COLUMN_OVERHEAD_BYTES + estimateValue(each.getValue()) + estimateValue(each.getOldValue());
+        }
+        return result;
+    }
+    
+    private static long estimateValue(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_OVERHEAD_BYTES * 2L + ((String) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return OBJECT_OVERHEAD_BYTES * 2L + ((BigDecimal) value).unscaledValue().bitLength() / 8L;
+        }
+        return OBJECT_OVERHEAD_BYTES + 8L;
+    }
+}
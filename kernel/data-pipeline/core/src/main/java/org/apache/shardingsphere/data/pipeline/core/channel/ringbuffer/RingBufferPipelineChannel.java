@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ * <p>It supports one push thread and one fetch thread, and applies back pressure by both slot count and estimated bytes of buffered records.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private final List<Record>[] slots;
+    
+    private final long[] slotBytes;
+    
+    private final int mask;
+    
+    private final long maxBufferedBytes;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private final AtomicLong head = new AtomicLong();
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile Thread waitingConsumer;
+    
+    @SuppressWarnings("unchecked")
+    public RingBufferPipelineChannel(final int bufferSize, final long maxBufferedBytes, final PipelineChannelAckCallback ackCallback) {
+        int capacity = bufferSize <= 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        slots = new List[capacity];
+        slotBytes = new long[capacity];
+        mask = capacity - 1;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        long bytes = RecordByteSizeEstimator.estimate(records);
+        long currentTail = tail.get();
+        while (!hasRoom(currentTail, bytes)) {
+            waitingProducer = Thread.currentThread();
+            if (!hasRoom(currentTail, bytes)) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            waitingProducer = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        int index = (int) (currentTail & mask);
+        slots[index] = records;
+        slotBytes[index] = bytes;
+        bufferedBytes.addAndGet(bytes);
+        tail.lazySet(currentTail + 1L);
+        unpark(waitingConsumer);
+    }
+    
+    private boolean hasRoom(final long currentTail, final long bytes) {
+        if (currentTail - head.get() >= slots.length) {
+            return false;
+        }
+        long currentBufferedBytes = bufferedBytes.get();
+        return 0L == currentBufferedBytes || currentBufferedBytes + bytes <= maxBufferedBytes;
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<Record> firstRecords = null;
+        List<Record> result = null;
+        int recordsCount = 0;
+        do {
+            List<Record> records = take();
+            if (null == records) {
+                awaitRecords(deadlineNanos);
+                continue;
+            }
+            if (records.isEmpty()) {
+                continue;
+            }
+            recordsCount += records.size();
+            if (null == firstRecords) {
+                firstRecords = records;
+                continue;
+            }
+            if (null == result) {
+                result = new ArrayList<>(Math.max(batchSize, recordsCount));
+                result.addAll(firstRecords);
+            }
+            result.addAll(records);
+        } while (recordsCount < batchSize && System.nanoTime() - deadlineNanos < 0L);
+        if (null != result) {
+            return result;
+        }
+        return null == firstRecords ? Collections.emptyList() : firstRecords;
+    }
+    
+    private void awaitRecords(final long deadlineNanos) {
+        waitingConsumer = Thread.currentThread();
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (head.get() >= tail.get() && remainingNanos > 0L) {
+            LockSupport.parkNanos(this, Math.min(remainingNanos, MAX_PARK_NANOS));
+        }
+        waitingConsumer = null;
+    }
+    
+    @Override
+    public List<Record> peek() {
+        long currentHead = head.get();
+        return currentHead < tail.get() ? slots[(int) (currentHead & mask)] : Collections.emptyList();
+    }
+    
+    @Override
+    public List<Record> poll() {
+        List<Record> result = take();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    private List<Record> take() {
+        long currentHead = head.get();
+        if (currentHead >= tail.get()) {
+            return null;
+        }
+        int index = (int) (currentHead & mask);
+        List<Record> result = slots[index];
+        slots[index] = null;
+        bufferedBytes.addAndGet(-slotBytes[index]);
+        head.lazySet(currentHead + 1L);
+        unpark(waitingProducer);
+        return result;
+    }
+    
+    private void unpark(final Thread thread) {
+        if (null != thread) {
+            LockSupport.unpark(thread);
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Chunk hash table inventory check calculated result.
+ */
+@Getter
+public final class ChunkHashTableInventoryCheckCalculatedResult implements TableInventoryCheckCalculatedResult {
+    
+    private final Object maxUniqueKeyValue;
+    
+    private final int recordsCount;
+    
+    private final long chunkHash;
+    
+    private final List<RecordHash> recordHashes;
+    
+    public ChunkHashTableInventoryCheckCalculatedResult(final Object maxUniqueKeyValue, final List<RecordHash> recordHashes) {
+        this.maxUniqueKeyValue = maxUniqueKeyValue;
+        recordsCount = recordHashes.size();
+        chunkHash = combine(recordHashes);
+        this.recordHashes = recordHashes;
+    }
+    
+    /**
+     * Combine record hashes into one range hash.
+     *
+     * <p>Records hashes are summed up, so the range hash does not depend on records order, which may differ between heterogeneous databases for duplicate first unique key values.</p>
+     *
+     * @param recordHashes record hashes
+     * @return range hash
+     */
+    public static long combine(final List<RecordHash> recordHashes) {
+        long result = 0L;
+        for (RecordHash each : recordHashes) {
+            result += each.getHash();
+        }
+        return result;
+    }
+    
+    @Override
+    public Optional<Object> getMaxUniqueKeyValue() {
+        return Optional.of(maxUniqueKeyValue);
+    }
+    
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ChunkHashTableInventoryCheckCalculatedResult)) {
+            return false;
+        }
+        ChunkHashTableInventoryCheckCalculatedResult that = (ChunkHashTableInventoryCheckCalculatedResult) o;
+        return recordsCount == that.recordsCount && chunkHash == that.chunkHash;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * recordsCount + Long.hashCode(chunkHash);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.StreamingRangeType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * Chunk hash match table data consistency checker.
+ */
+@SPIDescription("Match hashes of unique key ranges, and compare mismatched ranges record by record.")
+public final class ChunkHashMatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final String STREAMING_RANGE_TYPE_KEY = "streaming-range-type";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    private static final StreamingRangeType DEFAULT_STREAMING_RANGE_TYPE = StreamingRangeType.SMALL;
+    
+    private int chunkSize;
+    
+    private StreamingRangeType streamingRangeType;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getPositiveInteger(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+        streamingRangeType = getStreamingRangeType(props);
+    }
+    
+    private int getPositiveInteger(final Properties props, final String key, final int defaultValue) {
+        String valueText = props.getProperty(key);
+        if (Strings.isNullOrEmpty(valueText)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(valueText);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException("'" + key + "' is not a valid number: `" + valueText + "`");
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException("Invalid '" + key + "' value: `" + result + "`, it should be a positive integer.");
+        }
+        return result;
+    }
+    
+    private StreamingRangeType getStreamingRangeType(final Properties props) {
+        String streamingRangeTypeText = props.getProperty(STREAMING_RANGE_TYPE_KEY);
+        if (Strings.isNullOrEmpty(streamingRangeTypeText)) {
+            return DEFAULT_STREAMING_RANGE_TYPE;
+        }
+        try {
+            return StreamingRangeType.valueOf(streamingRangeTypeText.toUpperCase());
+        } catch (final IllegalArgumentException ex) {
+            throw new PipelineInvalidParameterException("Invalid 'streaming-range-type' value: `" + streamingRangeTypeText
+                    + "`, expected values are " + Arrays.toString(StreamingRangeType.values()));
+        }
+    }
+    
+    @Override
+    public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
+        return new ChunkHashMatchTableInventoryChecker(param, chunkSize, streamingRangeType);
+    }
+    
+    @Override
+    public Collection<DatabaseType> getSupportedDatabaseTypes() {
+        return ShardingSphereServiceLoader.getServiceInstances(DatabaseType.class);
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public String getType() {
+        return "CHUNK_HASH_MATCH";
+    }
+}
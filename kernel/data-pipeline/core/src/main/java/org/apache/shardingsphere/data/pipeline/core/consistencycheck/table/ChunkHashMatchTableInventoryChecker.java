@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangePosition;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.ChunkHashTableInventoryCheckCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RecordDifference;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RecordHash;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckIgnoredType;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableInventoryCheckCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RangeHashTableInventoryCheckCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RecordHashTableInventoryCheckCalculator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCancelingException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.StreamingRangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.task.PipelineTaskUtils;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Chunk hash match table inventory checker.
+ *
+ * <p>Source side is split into unique key ranges of chunk size records, and every range is checked on source and target side in parallel.
+ * Range hashes are calculated by database if source and target are the same database type and the dialect supports it, otherwise record hashes are calculated at client side.
+ * Mismatched ranges are compared record by record, and the check position is updated after every range.</p>
+ */
+@Slf4j
+public final class ChunkHashMatchTableInventoryChecker implements TableInventoryChecker {
+    
+    private static final int MAX_LOGGED_DIFFERENCES_COUNT = 100;
+    
+    private final TableInventoryCheckParameter param;
+    
+    private final int chunkSize;
+    
+    private final TableInventoryCalculator<TableInventoryCheckCalculatedResult> sourceRangeHashCalculator = new RangeHashTableInventoryCheckCalculator();
+    
+    private final TableInventoryCalculator<TableInventoryCheckCalculatedResult> targetRangeHashCalculator = new RangeHashTableInventoryCheckCalculator();
+    
+    private final TableInventoryCalculator<ChunkHashTableInventoryCheckCalculatedResult> sourceRecordHashCalculator;
+    
+    private final TableInventoryCalculator<ChunkHashTableInventoryCheckCalculatedResult> targetRecordHashCalculator;
+    
+    private final AtomicBoolean canceling = new AtomicBoolean(false);
+    
+    public ChunkHashMatchTableInventoryChecker(final TableInventoryCheckParameter param, final int chunkSize, final StreamingRangeType streamingRangeType) {
+        this.param = param;
+        this.chunkSize = chunkSize;
+        List<String> uniqueKeysNames = param.getUniqueKeys().stream().map(PipelineColumnMetaData::getName).collect(Collectors.toList());
+        sourceRecordHashCalculator = new RecordHashTableInventoryCheckCalculator(chunkSize, streamingRangeType, uniqueKeysNames);
+        targetRecordHashCalculator = new RecordHashTableInventoryCheckCalculator(chunkSize, streamingRangeType, uniqueKeysNames);
+    }
+    
+    @Override
+    public Optional<TableDataConsistencyCheckResult> preCheck() {
+        if (param.getUniqueKeys().isEmpty()) {
+            return Optional.of(new TableDataConsistencyCheckResult(TableDataConsistencyCheckIgnoredType.NO_UNIQUE_KEY));
+        }
+        return Optional.empty();
+    }
+    
+    @Override
+    public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(param.getJobId() + "-chunk-hash-check-%d");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1), threadFactory);
+        try {
+            return checkSingleTableInventoryData(executor);
+        } finally {
+            executor.shutdown();
+            executor.shutdownNow();
+        }
+    }
+    
+    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final ThreadPoolExecutor executor) {
+        TableCheckRangePosition checkRangePosition = param.getProgressContext().getTableCheckRangePositions().get(param.getSplittingItem());
+        boolean rangeHashSupported = isRangeHashSupported();
+        boolean matched = !Boolean.FALSE.equals(checkRangePosition.getMatched());
+        Range<Object> sourceRange = Range.closed(null != checkRangePosition.getSourcePosition() ? checkRangePosition.getSourcePosition() : checkRangePosition.getSourceRange().getLowerBound(), null);
+        Range<Object> targetRange = Range.closed(null != checkRangePosition.getTargetPosition() ? checkRangePosition.getTargetPosition() : checkRangePosition.getTargetRange().getLowerBound(), null);
+        while (true) {
+            ShardingSpherePreconditions.checkState(!canceling.get(), () -> new PipelineJobCancelingException("Chunk hash check canceled, qualified table: %s", param.getSourceTable()));
+            if (null != param.getReadRateLimitAlgorithm()) {
+                param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+            }
+            Optional<ChunkUpperBound> chunkUpperBound = calculateChunkUpperBound(createRange(sourceRange, checkRangePosition.getSourceRange().getUpperBound()));
+            if (!chunkUpperBound.isPresent()) {
+                break;
+            }
+            Object maxUniqueKeyValue = chunkUpperBound.get().getMaxUniqueKeyValue();
+            sourceRange = createRange(sourceRange, maxUniqueKeyValue);
+            targetRange = createRange(targetRange, maxUniqueKeyValue);
+            matched &= checkRange(executor, rangeHashSupported, sourceRange, targetRange, checkRangePosition);
+            checkRangePosition.setSourcePosition(maxUniqueKeyValue);
+            checkRangePosition.setTargetPosition(maxUniqueKeyValue);
+            param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(chunkUpperBound.get().getRecordsCount()));
+        }
+        sourceRange = createRange(sourceRange, checkRangePosition.getSourceRange().getUpperBound());
+        targetRange = createRange(targetRange, checkRangePosition.getTargetRange().getUpperBound());
+        matched &= checkRange(executor, rangeHashSupported, sourceRange, targetRange, checkRangePosition);
+        checkRangePosition.setFinished(true);
+        checkRangePosition.setMatched(matched);
+        return new TableDataConsistencyCheckResult(matched);
+    }
+    
+    private boolean isRangeHashSupported() {
+        DatabaseType sourceDatabaseType = param.getSourceDataSource().getDatabaseType();
+        if (!sourceDatabaseType.getType().equals(param.getTargetDataSource().getDatabaseType().getType())) {
+            return false;
+        }
+        return new PipelineDataConsistencyCalculateSQLBuilder(sourceDatabaseType).buildRangeHashSQL(
+                param.getSourceTable(), param.getColumnNames(), param.getUniqueKeys().get(0).getName(), Range.closed(null, null)).isPresent();
+    }
+    
+    private Range<Object> createRange(final Range<Object> previousRange, final Object upperBound) {
+        return null == previousRange.getUpperBound() ? Range.closed(previousRange.getLowerBound(), upperBound) : Range.openClosed(previousRange.getUpperBound(), upperBound);
+    }
+    
+    private Optional<ChunkUpperBound> calculateChunkUpperBound(final Range<Object> range) {
+        String sql = new PipelineDataConsistencyCalculateSQLBuilder(param.getSourceDataSource().getDatabaseType())
+                .buildChunkUpperBoundSQL(param.getSourceTable(), param.getUniqueKeys().get(0).getName(), range);
+        try (
+                Connection connection = param.getSourceDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int parameterIndex = 1;
+            if (null != range.getLowerBound()) {
+                preparedStatement.setObject(parameterIndex++, range.getLowerBound());
+            }
+            if (null != range.getUpperBound()) {
+                preparedStatement.setObject(parameterIndex++, range.getUpperBound());
+            }
+            preparedStatement.setInt(parameterIndex, chunkSize);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next() || 0 == resultSet.getInt(2)) {
+                    return Optional.empty();
+                }
+                return Optional.of(new ChunkUpperBound(resultSet.getObject(1), resultSet.getInt(2)));
+            }
+        } catch (final SQLException ex) {
+            log.error("Calculate chunk upper bound failed, sql={}", sql, ex);
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSourceTable(), ex);
+        }
+    }
+    
+    private boolean checkRange(final ThreadPoolExecutor executor, final boolean rangeHashSupported,
+                               final Range<Object> sourceRange, final Range<Object> targetRange, final TableCheckRangePosition checkRangePosition) {
+        if (rangeHashSupported && isRangeHashMatched(executor, sourceRange, targetRange)) {
+            return true;
+        }
+        Future<List<RecordHash>> targetFuture = executor.submit(
+                () -> calculateRecordHashes(targetRecordHashCalculator, createCalculateParameter(param.getTargetDataSource(), param.getTargetTable(), targetRange)));
+        List<RecordHash> sourceRecordHashes = calculateRecordHashes(sourceRecordHashCalculator, createCalculateParameter(param.getSourceDataSource(), param.getSourceTable(), sourceRange));
+        List<RecordDifference> differences = compareRecords(sourceRecordHashes, PipelineTaskUtils.waitFuture(targetFuture));
+        if (differences.isEmpty()) {
+            return true;
+        }
+        checkRangePosition.setMatched(false);
+        log.warn("Chunk hash not matched, jobId={}, sourceTable={}, targetTable={}, range={}, differencesCount={}, differences={}", param.getJobId(), param.getSourceTable(), param.getTargetTable(),
+                targetRange, differences.size(), differences.size() > MAX_LOGGED_DIFFERENCES_COUNT ? differences.subList(0, MAX_LOGGED_DIFFERENCES_COUNT) : differences);
+        return false;
+    }
+    
+    private boolean isRangeHashMatched(final ThreadPoolExecutor executor, final Range<Object> sourceRange, final Range<Object> targetRange) {
+        Future<TableInventoryCheckCalculatedResult> targetFuture = executor.submit(
+                () -> targetRangeHashCalculator.calculate(createCalculateParameter(param.getTargetDataSource(), param.getTargetTable(), targetRange)).iterator().next());
+        TableInventoryCheckCalculatedResult sourceCalculatedResult = sourceRangeHashCalculator.calculate(
+                createCalculateParameter(param.getSourceDataSource(), param.getSourceTable(), sourceRange)).iterator().next();
+        return sourceCalculatedResult.equals(PipelineTaskUtils.waitFuture(targetFuture));
+    }
+    
+    private TableInventoryCalculateParameter createCalculateParameter(final PipelineDataSource dataSource, final QualifiedTable table, final Range<Object> range) {
+        TableInventoryCalculateParameter result = new TableInventoryCalculateParameter(dataSource, table,
+                param.getColumnNames(), param.getUniqueKeys(), QueryType.RANGE_QUERY, param.getQueryCondition());
+        result.setRange(range);
+        return result;
+    }
+    
+    private List<RecordHash> calculateRecordHashes(final TableInventoryCalculator<ChunkHashTableInventoryCheckCalculatedResult> calculator, final TableInventoryCalculateParameter calculateParam) {
+        List<RecordHash> result = new ArrayList<>(chunkSize);
+        try {
+            for (ChunkHashTableInventoryCheckCalculatedResult each : calculator.calculate(calculateParam)) {
+                result.addAll(each.getRecordHashes());
+            }
+        } finally {
+            QuietlyCloser.close(calculateParam.getCalculationContext());
+        }
+        return result;
+    }
+    
+    private List<RecordDifference> compareRecords(final List<RecordHash> sourceRecordHashes, final List<RecordHash> targetRecordHashes) {
+        List<RecordDifference> result = new LinkedList<>();
+        Map<String, Long> targetHashes = new LinkedHashMap<>(targetRecordHashes.size() * 2, 1F);
+        for (RecordHash each : targetRecordHashes) {
+            targetHashes.put(each.getUniqueKey(), each.getHash());
+        }
+        for (RecordHash each : sourceRecordHashes) {
+            Long targetHash = targetHashes.remove(each.getUniqueKey());
+            if (null == targetHash) {
+                result.add(new RecordDifference(each.getUniqueKey(), RecordDifference.Type.SOURCE_ONLY));
+            } else if (targetHash != each.getHash()) {
+                result.add(new RecordDifference(each.getUniqueKey(), RecordDifference.Type.CONTENT_MISMATCHED));
+            }
+        }
+        for (Entry<String, Long> entry : targetHashes.entrySet()) {
+            result.add(new RecordDifference(entry.getKey(), RecordDifference.Type.TARGET_ONLY));
+        }
+        return result;
+    }
+    
+    @Override
+    public void cancel() {
+        canceling.set(true);
+        sourceRangeHashCalculator.cancel();
+        targetRangeHashCalculator.cancel();
+        sourceRecordHashCalculator.cancel();
+        targetRecordHashCalculator.cancel();
+    }
+    
+    @Override
+    public boolean isCanceling() {
+        return canceling.get();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ChunkUpperBound {
+        
+        private final Object maxUniqueKeyValue;
+        
+        private final int recordsCount;
+    }
+}
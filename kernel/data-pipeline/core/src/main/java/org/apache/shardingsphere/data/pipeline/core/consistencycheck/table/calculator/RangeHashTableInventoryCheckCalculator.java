@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableInventoryCheckCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.AbstractTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.infra.algorithm.core.exception.UnsupportedAlgorithmOnDatabaseTypeException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Range hash table inventory check calculator.
+ *
+ * <p>Records of unique key range are hashed and aggregated by database, only range hash and records count are transferred.</p>
+ */
+@Slf4j
+public final class RangeHashTableInventoryCheckCalculator extends AbstractTableInventoryCalculator<TableInventoryCheckCalculatedResult> {
+    
+    @Override
+    public Iterable<TableInventoryCheckCalculatedResult> calculate(final TableInventoryCalculateParameter param) {
+        Range<?> range = param.getRange();
+        String sql = new PipelineDataConsistencyCalculateSQLBuilder(param.getDatabaseType()).buildRangeHashSQL(param.getTable(), param.getColumnNames(), param.getFirstUniqueKey().getName(), range)
+                .orElseThrow(() -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "RANGE_HASH", param.getDatabaseType()));
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            setCurrentStatement(preparedStatement);
+            int parameterIndex = 1;
+            if (null != range.getLowerBound()) {
+                preparedStatement.setObject(parameterIndex++, range.getLowerBound());
+            }
+            if (null != range.getUpperBound()) {
+                preparedStatement.setObject(parameterIndex, range.getUpperBound());
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return Collections.singletonList(new CalculatedResult(resultSet.getString(1), resultSet.getInt(2)));
+            }
+        } catch (final SQLException ex) {
+            log.error("Calculate range hash failed, sql={}", sql, ex);
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getTable(), ex);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CalculatedResult implements TableInventoryCheckCalculatedResult {
+        
+        private final String rangeHash;
+        
+        private final int recordsCount;
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CalculatedResult)) {
+                return false;
+            }
+            CalculatedResult that = (CalculatedResult) o;
+            return recordsCount == that.recordsCount && Objects.equals(rangeHash, that.rangeHash);
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * recordsCount + Objects.hashCode(rangeHash);
+        }
+        
+        @Override
+        public Optional<Object> getMaxUniqueKeyValue() {
+            return Optional.empty();
+        }
+    }
+}
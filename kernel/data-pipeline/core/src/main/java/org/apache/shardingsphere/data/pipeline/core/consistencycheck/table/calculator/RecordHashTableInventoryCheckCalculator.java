@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.DataConsistencyCheckUtils;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.ChunkHashTableInventoryCheckCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RecordHash;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.column.InventoryColumnValueReaderEngine;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.StreamingRangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.AbstractRecordTableInventoryCalculator;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Record hash table inventory check calculator.
+ *
+ * <p>Only the digest of every record is kept, values are normalized in the same way as {@link DataConsistencyCheckUtils#isMatched}, so records considered equal by data match have the same hash.</p>
+ */
+public final class RecordHashTableInventoryCheckCalculator extends AbstractRecordTableInventoryCalculator<ChunkHashTableInventoryCheckCalculatedResult, RecordHash> {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private final List<String> uniqueKeysNames;
+    
+    public RecordHashTableInventoryCheckCalculator(final int chunkSize, final StreamingRangeType streamingRangeType, final List<String> uniqueKeysNames) {
+        super(chunkSize, streamingRangeType);
+        this.uniqueKeysNames = uniqueKeysNames;
+    }
+    
+    @Override
+    protected RecordHash readRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final InventoryColumnValueReaderEngine columnValueReaderEngine) throws SQLException {
+        int columnCount = resultSetMetaData.getColumnCount();
+        String[] uniqueKeysValues = new String[uniqueKeysNames.size()];
+        Object firstUniqueKeyValue = null;
+        Hasher hasher = HASH_FUNCTION.newHasher();
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            Object value = columnValueReaderEngine.read(resultSet, resultSetMetaData, columnIndex);
+            String normalizedValue = normalize(value);
+            if (null == normalizedValue) {
+                hasher.putByte((byte) 0);
+            } else {
+                hasher.putByte((byte) 1).putInt(normalizedValue.length()).putString(normalizedValue, StandardCharsets.UTF_8);
+            }
+            int uniqueKeyIndex = findUniqueKeyIndex(resultSetMetaData.getColumnLabel(columnIndex));
+            if (uniqueKeyIndex >= 0) {
+                uniqueKeysValues[uniqueKeyIndex] = normalizedValue;
+                if (0 == uniqueKeyIndex) {
+                    firstUniqueKeyValue = value;
+                }
+            }
+        }
+        return new RecordHash(Arrays.toString(uniqueKeysValues), firstUniqueKeyValue, hasher.hash().asLong());
+    }
+    
+    private int findUniqueKeyIndex(final String columnLabel) {
+        for (int i = 0; i < uniqueKeysNames.size(); i++) {
+            if (uniqueKeysNames.get(i).equalsIgnoreCase(columnLabel)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private String normalize(final Object value) throws SQLException {
+        if (null == value) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return "N" + DataConsistencyCheckUtils.convertToBigDecimal((Number) value).stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof Timestamp) {
+            return "T" + ((Timestamp) value).getTime() / 1000L;
+        }
+        if (value instanceof SQLXML) {
+            return "X" + ((SQLXML) value).getString();
+        }
+        if (value instanceof Array) {
+            return "A" + Arrays.deepToString(new Object[]{((Array) value).getArray()});
+        }
+        if (value instanceof byte[]) {
+            return "B" + Arrays.toString((byte[]) value);
+        }
+        return "S" + value;
+    }
+    
+    @Override
+    protected Object getFirstUniqueKeyValue(final RecordHash record, final String firstUniqueKey) {
+        return record.getFirstUniqueKeyValue();
+    }
+    
+    @Override
+    protected ChunkHashTableInventoryCheckCalculatedResult convertRecordsToResult(final List<RecordHash> records, final Object maxUniqueKeyValue) {
+        return new ChunkHashTableInventoryCheckCalculatedResult(maxUniqueKeyValue, records);
+    }
+}
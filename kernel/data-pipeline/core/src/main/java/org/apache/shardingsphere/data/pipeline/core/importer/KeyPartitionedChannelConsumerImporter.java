@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
+import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Key partitioned channel consumer importer.
+ * <p>Data records fetched from one channel are partitioned by table name and unique key values, and written by one sink worker per partition,
+ * so records with the same unique key keep their order. Batches are acknowledged in fetched order after all partitions of them are written,
+ * so the acknowledged position is always the lowest position written by all workers.</p>
+ * <p>Source transactions are split across workers and not applied atomically, and records of different unique keys are not ordered,
+ * so tables with other unique constraints may get unique key conflicts.</p>
+ * <p>Stopping does not interrupt workers, so batches being written are finished and acknowledged, and batches not started yet are not acknowledged.</p>
+ */
+@Slf4j
+public final class KeyPartitionedChannelConsumerImporter extends AbstractPipelineLifecycleRunnable implements Importer {
+    
+    private final PipelineChannel channel;
+    
+    private final int batchSize;
+    
+    private final long timeoutMillis;
+    
+    private final List<PipelineSink> sinks;
+    
+    private final PipelineJobProgressListener jobProgressListener;
+    
+    private final ExecutorService[] workers;
+    
+    private final LinkedList<PendingBatch> pendingBatches = new LinkedList<>();
+    
+    private final Semaphore pendingBatchPermits;
+    
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    
+    private volatile boolean stopping;
+    
+    public KeyPartitionedChannelConsumerImporter(final PipelineChannel channel, final int batchSize, final long timeoutMillis,
+                                                 final List<PipelineSink> sinks, final PipelineJobProgressListener jobProgressListener) {
+        this.channel = channel;
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sinks = sinks;
+        this.jobProgressListener = jobProgressListener;
+        workers = new ExecutorService[sinks.size()];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("pipeline-partitioned-importer-" + i + "-%d"));
+        }
+        pendingBatchPermits = new Semaphore(workers.length * 2);
+    }
+    
+    @Override
+    protected void runBlocking() {
+        try {
+            while (isRunning() && !stopping) {
+                checkFailure();
+                List<Record> records = channel.fetch(batchSize, timeoutMillis);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                List<List<Record>> partitions = partition(records);
+                if (partitions.isEmpty()) {
+                    writeSequentially(records);
+                } else {
+                    dispatch(records, partitions);
+                }
+                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                    awaitPendingBatches();
+                    checkFailure();
+                    break;
+                }
+            }
+        } finally {
+            for (ExecutorService each : workers) {
+                each.shutdown();
+            }
+        }
+    }
+    
+    private List<List<Record>> partition(final List<Record> records) {
+        List<List<Record>> result = new ArrayList<>(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            result.add(new LinkedList<>());
+        }
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                continue;
+            }
+            DataRecord dataRecord = (DataRecord) each;
+            if (isPartitionBarrier(dataRecord)) {
+                return new LinkedList<>();
+            }
+            int hashCode = Objects.hash(dataRecord.getTableName(), dataRecord.getUniqueKeyValue());
+            result.get(Math.floorMod(hashCode ^ hashCode >>> 16, workers.length)).add(each);
+        }
+        return result;
+    }
+    
+    private boolean isPartitionBarrier(final DataRecord dataRecord) {
+        if (dataRecord.getUniqueKeyValue().isEmpty()) {
+            return true;
+        }
+        return dataRecord.getOldUniqueKeyValues().stream().anyMatch(Objects::nonNull) && !dataRecord.getOldUniqueKeyValues().equals(dataRecord.getUniqueKeyValue());
+    }
+    
+    private void writeSequentially(final List<Record> records) {
+        awaitPendingBatches();
+        checkFailure();
+        if (stopping) {
+            return;
+        }
+        jobProgressListener.onProgressUpdated(sinks.get(0).write("", records));
+        channel.ack(records);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void dispatch(final List<Record> records, final List<List<Record>> partitions) {
+        while (isRunning() && !stopping && !pendingBatchPermits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            checkFailure();
+        }
+        if (!isRunning() || stopping) {
+            return;
+        }
+        PendingBatch batch = new PendingBatch(records, new AtomicInteger((int) partitions.stream().filter(each -> !each.isEmpty()).count()));
+        synchronized (pendingBatches) {
+            pendingBatches.addLast(batch);
+        }
+        if (0 == batch.remainingPartitions.get()) {
+            ackCompletedBatches();
+            return;
+        }
+        for (int i = 0; i < partitions.size(); i++) {
+            if (!partitions.get(i).isEmpty()) {
+                int partitionIndex = i;
+                try {
+                    workers[i].execute(() -> write(partitionIndex, partitions.get(partitionIndex), batch));
+                } catch (final RejectedExecutionException ignored) {
+                    return;
+                }
+            }
+        }
+    }
+    
+    private void write(final int partitionIndex, final List<Record> records, final PendingBatch batch) {
+        if (null != failure.get() || stopping) {
+            return;
+        }
+        try {
+            jobProgressListener.onProgressUpdated(sinks.get(partitionIndex).write("", records));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failure.compareAndSet(null, ex);
+            synchronized (pendingBatches) {
+                pendingBatches.notifyAll();
+            }
+            return;
+        }
+        if (0 == batch.remainingPartitions.decrementAndGet()) {
+            ackCompletedBatches();
+        }
+    }
+    
+    private void ackCompletedBatches() {
+        synchronized (pendingBatches) {
+            while (!pendingBatches.isEmpty() && 0 == pendingBatches.getFirst().remainingPartitions.get()) {
+                channel.ack(pendingBatches.removeFirst().records);
+                pendingBatchPermits.release();
+            }
+            pendingBatches.notifyAll();
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void awaitPendingBatches() {
+        synchronized (pendingBatches) {
+            while (!pendingBatches.isEmpty() && null == failure.get() && isRunning() && !stopping) {
+                pendingBatches.wait(timeoutMillis);
+            }
+        }
+    }
+    
+    private void checkFailure() {
+        Exception ex = failure.get();
+        if (ex instanceof RuntimeException) {
+            throw (RuntimeException) ex;
+        }
+        if (null != ex) {
+            throw new PipelineImporterJobWriteException(ex);
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    protected void doStop() {
+        stopping = true;
+        for (ExecutorService each : workers) {
+            each.shutdown();
+        }
+        for (ExecutorService each : workers) {
+            while (!each.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.info("Waiting for in-flight batch of partitioned importer to be written.");
+            }
+        }
+        sinks.forEach(QuietlyCloser::close);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PendingBatch {
+        
+        private final List<Record> records;
+        
+        private final AtomicInteger remainingPartitions;
+    }
+}
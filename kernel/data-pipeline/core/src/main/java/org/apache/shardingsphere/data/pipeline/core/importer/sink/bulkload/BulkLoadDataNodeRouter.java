@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk load data node router, which routes insert data records of logic table to actual data nodes by kernel of ShardingSphere-JDBC.
+ * <p>Rows are only routed, they are loaded through storage unit connections. If any rule rewrites values of rows (e.g. encrypt or key generate),
+ * routed rows can not be matched to original data records and bulk load is not supported.</p>
+ */
+public final class BulkLoadDataNodeRouter {
+    
+    /**
+     * Route insert data records to actual data nodes.
+     *
+     * @param connection ShardingSphere connection
+     * @param qualifiedTableName escaped qualified logic table name
+     * @param columnNames escaped column names
+     * @param dataRecords insert data records of the same table and columns
+     * @return routed data records, key is actual data node
+     * @throws SQLFeatureNotSupportedException SQL feature not supported exception
+     */
+    public Map<DataNode, Collection<DataRecord>> route(final ShardingSphereConnection connection, final String qualifiedTableName, final List<String> columnNames,
+                                                      final Collection<DataRecord> dataRecords) throws SQLFeatureNotSupportedException {
+        List<Object> params = new ArrayList<>(dataRecords.size() * columnNames.size());
+        Map<List<Object>, DataRecord> rows = new HashMap<>(dataRecords.size(), 1F);
+        for (DataRecord each : dataRecords) {
+            List<Object> row = getRow(each);
+            params.addAll(row);
+            rows.putIfAbsent(row, each);
+        }
+        ExecutionContext executionContext = createExecutionContext(connection, buildInsertSQL(qualifiedTableName, columnNames, dataRecords.size()), params);
+        Map<DataNode, Collection<DataRecord>> result = new LinkedHashMap<>();
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            result.computeIfAbsent(new DataNode(each.getDataSourceName(), (String) null, getActualTableName(each)), key -> new LinkedList<>())
+                    .addAll(matchDataRecords(each.getSqlUnit().getParameters(), columnNames.size(), rows));
+        }
+        return result;
+    }
+    
+    private List<Object> getRow(final DataRecord dataRecord) {
+        Object[] result = new Object[dataRecord.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dataRecord.getColumn(i).getValue();
+        }
+        return Arrays.asList(result);
+    }
+    
+    private String buildInsertSQL(final String qualifiedTableName, final List<String> columnNames, final int rowCount) {
+        String placeholders = "(" + String.join(",", Collections.nCopies(columnNames.size(), "?")) + ")";
+        return String.format("INSERT INTO %s(%s) VALUES %s", qualifiedTableName, String.join(",", columnNames), String.join(",", Collections.nCopies(rowCount, placeholders)));
+    }
+    
+    private ExecutionContext createExecutionContext(final ShardingSphereConnection connection, final String sql, final List<Object> params) {
+        ShardingSphereMetaData metaData = connection.getContextManager().getMetaDataContexts().getMetaData();
+        SQLStatement sqlStatement = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class)
+                .getSQLParserEngine(metaData.getDatabase(connection.getCurrentDatabaseName()).getProtocolType()).parse(sql, false);
+        HintValueContext hintValueContext = new HintValueContext();
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, connection.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement);
+        if (sqlStatementContext instanceof ParameterAware) {
+            ((ParameterAware) sqlStatementContext).bindParameters(params);
+        }
+        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, params, hintValueContext, connection.getDatabaseConnectionManager().getConnectionContext(), metaData);
+        return new KernelProcessor().generateExecutionContext(queryContext, metaData.getGlobalRuleMetaData(), metaData.getProps());
+    }
+    
+    private String getActualTableName(final ExecutionUnit executionUnit) throws SQLFeatureNotSupportedException {
+        List<RouteMapper> tableRouteMappers = executionUnit.getSqlUnit().getTableRouteMappers();
+        if (tableRouteMappers.size() > 1) {
+            throw new SQLFeatureNotSupportedException(String.format("Bulk load can not route to multiple tables `%s` of one data source", tableRouteMappers));
+        }
+        return tableRouteMappers.isEmpty() ? null : tableRouteMappers.get(0).getActualName();
+    }
+    
+    private Collection<DataRecord> matchDataRecords(final List<Object> params, final int columnCount, final Map<List<Object>, DataRecord> rows) throws SQLFeatureNotSupportedException {
+        if (0 != params.size() % columnCount) {
+            throw new SQLFeatureNotSupportedException("Bulk load does not support rules which rewrite inserted columns");
+        }
+        Collection<DataRecord> result = new LinkedList<>();
+        for (int i = 0; i < params.size(); i += columnCount) {
+            DataRecord dataRecord = rows.get(params.subList(i, i + columnCount));
+            if (null == dataRecord) {
+                throw new SQLFeatureNotSupportedException("Bulk load does not support rules which rewrite inserted values");
+            }
+            result.add(dataRecord);
+        }
+        return result;
+    }
+}
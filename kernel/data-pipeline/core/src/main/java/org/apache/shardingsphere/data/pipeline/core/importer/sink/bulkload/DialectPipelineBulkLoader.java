@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Dialect pipeline bulk loader, which loads insert data records through native bulk load path of database.
+ */
+@SingletonSPI
+public interface DialectPipelineBulkLoader extends DatabaseTypedSPI {
+    
+    /**
+     * Bulk load insert data records.
+     *
+     * @param connection connection
+     * @param qualifiedTableName escaped qualified table name
+     * @param columnNames escaped column names
+     * @param dataRecords insert data records of the same table and columns
+     * @throws SQLException SQL exception
+     */
+    void load(Connection connection, String qualifiedTableName, List<String> columnNames, Collection<DataRecord> dataRecords) throws SQLException;
+}
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourc
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.BulkLoadDataNodeRouter;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
@@ -31,9 +33,14 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.RecordUtils;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.group.DataRecordGroupEngine;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.group.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineSQLSegmentBuilder;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.util.json.JsonUtils;
 
 import javax.sql.DataSource;
@@ -43,6 +50,8 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -60,6 +69,14 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final PipelineImportSQLBuilder importSQLBuilder;
     
+    private final PipelineSQLSegmentBuilder sqlSegmentBuilder;
+    
+    private final DialectPipelineBulkLoader bulkLoader;
+    
+    private final BulkLoadDataNodeRouter bulkLoadRouter;
+    
+    private volatile boolean bulkLoadDisabled;
+    
     private final DataRecordGroupEngine groupEngine;
     
     private final AtomicReference<PreparedStatement> runningStatement;
@@ -68,6 +85,9 @@ public final class PipelineDataSourceSink implements PipelineSink {
         this.importerConfig = importerConfig;
         dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
+        sqlSegmentBuilder = new PipelineSQLSegmentBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
+        bulkLoader = DatabaseTypedSPILoader.findService(DialectPipelineBulkLoader.class, importerConfig.getDataSourceConfig().getDatabaseType()).orElse(null);
+        bulkLoadRouter = new BulkLoadDataNodeRouter();
         groupEngine = new DataRecordGroupEngine();
         runningStatement = new AtomicReference<>();
     }
@@ -141,6 +161,9 @@ public final class PipelineDataSourceSink implements PipelineSink {
     }
     
     private void executeBatchInsert(final Collection<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
+        if (firstTimeRun && isBulkLoadable(dataRecords) && bulkLoad(dataRecords)) {
+            return;
+        }
         DataRecord dataRecord = dataRecords.iterator().next();
         String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord);
         try (
@@ -157,6 +180,59 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private boolean isBulkLoadable(final Collection<DataRecord> dataRecords) {
+        if (null == bulkLoader || bulkLoadDisabled || dataRecords.size() < 2) {
+            return false;
+        }
+        int columnCount = dataRecords.iterator().next().getColumnCount();
+        return dataRecords.stream().allMatch(each -> columnCount == each.getColumnCount());
+    }
+    
+    private boolean bulkLoad(final Collection<DataRecord> dataRecords) {
+        DataRecord dataRecord = dataRecords.iterator().next();
+        String schemaName = importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null);
+        String qualifiedTableName = sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName());
+        List<String> columnNames = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.toList());
+        try (Connection connection = dataSource.getConnection()) {
+            if (connection.isWrapperFor(ShardingSphereConnection.class)) {
+                bulkLoad(connection.unwrap(ShardingSphereConnection.class), schemaName, qualifiedTableName, columnNames, dataRecords);
+            } else {
+                bulkLoad(connection, qualifiedTableName, columnNames, dataRecords);
+            }
+            return true;
+        } catch (final SQLException ex) {
+            disableBulkLoad(qualifiedTableName, ex);
+            return false;
+        }
+    }
+    
+    private void bulkLoad(final ShardingSphereConnection connection, final String schemaName, final String qualifiedTableName, final List<String> columnNames,
+                          final Collection<DataRecord> dataRecords) throws SQLException {
+        Map<String, StorageUnit> storageUnits = connection.getContextManager().getStorageUnits(connection.getCurrentDatabaseName());
+        for (Entry<DataNode, Collection<DataRecord>> entry : bulkLoadRouter.route(connection, qualifiedTableName, columnNames, dataRecords).entrySet()) {
+            String actualQualifiedTableName = null == entry.getKey().getTableName() ? qualifiedTableName : sqlSegmentBuilder.getQualifiedTableName(schemaName, entry.getKey().getTableName());
+            try (Connection actualConnection = storageUnits.get(entry.getKey().getDataSourceName()).getDataSource().getConnection()) {
+                bulkLoad(actualConnection, actualQualifiedTableName, columnNames, entry.getValue());
+            }
+        }
+    }
+    
+    private void bulkLoad(final Connection connection, final String qualifiedTableName, final List<String> columnNames, final Collection<DataRecord> dataRecords) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            bulkLoader.load(connection, qualifiedTableName, columnNames, dataRecords);
+            connection.commit();
+        } catch (final SQLException ex) {
+            connection.rollback();
+            throw ex;
+        }
+    }
+    
+    private void disableBulkLoad(final String qualifiedTableName, final SQLException cause) {
+        bulkLoadDisabled = true;
+        log.warn("Bulk load failed, disable it and fall back to batch insert for this sink, table={}, error message={}", qualifiedTableName, cause.getMessage());
+    }
+    
     private void executeBatchInsertFirstTime(final Connection connection, final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
         boolean transactionEnabled = dataRecords.size() > 1;
         if (transactionEnabled) {
@@ -38,6 +38,7 @@ public final class YamlPipelineWriteConfigurationSwapper implements YamlConfigur
         result.setWorkerThread(data.getWorkerThread());
         result.setBatchSize(data.getBatchSize());
         result.setRateLimiter(algorithmSwapper.swapToYamlConfiguration(data.getRateLimiter()));
+        result.setParallelIncrementalImport(Boolean.TRUE.equals(data.getParallelIncrementalImport()));
         return result;
     }
     
@@ -45,6 +46,7 @@ public final class YamlPipelineWriteConfigurationSwapper implements YamlConfigur
     public PipelineWriteConfiguration swapToObject(final YamlPipelineWriteConfiguration yamlConfig) {
         return null == yamlConfig
                 ? null
-                : new PipelineWriteConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()));
+                : new PipelineWriteConfiguration(
+                        yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()), yamlConfig.isParallelIncrementalImport());
     }
 }
@@ -82,6 +82,20 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build range hash SQL.
+     *
+     * <p>The first column of result is range hash, and the second column is records count.</p>
+     *
+     * @param qualifiedTableName qualified table name
+     * @param columnNames joined column names
+     * @param whereClause where clause of range, it is empty if range is unbounded
+     * @return built SQL
+     */
+    default Optional<String> buildRangeHashSQL(final String qualifiedTableName, final String columnNames, final String whereClause) {
+        return Optional.empty();
+    }
+    
     /**
      * Build split by unique key subquery clause.
      *
@@ -17,13 +17,16 @@
 
 package org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql;
 
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.dialect.DialectPipelineSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineSQLSegmentBuilder;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Pipeline data consistency calculate SQL builder.
@@ -50,4 +53,54 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
         return dialectSQLBuilder.buildCRC32SQL(
                 sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build range hash SQL.
+     *
+     * <p>Parameters are lower bound and upper bound of range if they are not null.</p>
+     *
+     * @param qualifiedTable qualified table
+     * @param columnNames column names
+     * @param firstUniqueKey first unique key
+     * @param range range
+     * @return built SQL
+     */
+    public Optional<String> buildRangeHashSQL(final QualifiedTable qualifiedTable, final Collection<String> columnNames, final String firstUniqueKey, final Range<?> range) {
+        String joinedColumnNames = columnNames.stream().map(sqlSegmentBuilder::getEscapedIdentifier).collect(Collectors.joining(","));
+        return dialectSQLBuilder.buildRangeHashSQL(sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), joinedColumnNames, buildRangeWhereClause(firstUniqueKey, range));
+    }
+    
+    /**
+     * Build chunk upper bound SQL.
+     *
+     * <p>The first column of result is max unique key value of chunk, and the second column is records count of chunk.
+     * Parameters are lower bound and upper bound of range if they are not null, and then chunk size.</p>
+     *
+     * @param qualifiedTable qualified table
+     * @param firstUniqueKey first unique key
+     * @param range range
+     * @return built SQL
+     */
+    public String buildChunkUpperBoundSQL(final QualifiedTable qualifiedTable, final String firstUniqueKey, final Range<?> range) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(firstUniqueKey);
+        String subqueryClause = dialectSQLBuilder.wrapWithPageQuery(String.format("SELECT %s FROM %s%s ORDER BY %s",
+                escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), buildRangeWhereClause(firstUniqueKey, range), escapedUniqueKey));
+        return String.format("SELECT MAX(%s), COUNT(1) FROM (%s) t", escapedUniqueKey, subqueryClause);
+    }
+    
+    private String buildRangeWhereClause(final String firstUniqueKey, final Range<?> range) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(firstUniqueKey);
+        String lowerCondition = escapedUniqueKey + (range.isLowerInclusive() ? ">=?" : ">?");
+        String upperCondition = escapedUniqueKey + "<=?";
+        if (null != range.getLowerBound() && null != range.getUpperBound()) {
+            return " WHERE " + lowerCondition + " AND " + upperCondition;
+        }
+        if (null != range.getLowerBound()) {
+            return " WHERE " + lowerCondition;
+        }
+        if (null != range.getUpperBound()) {
+            return " WHERE " + upperCondition;
+        }
+        return "";
+    }
 }
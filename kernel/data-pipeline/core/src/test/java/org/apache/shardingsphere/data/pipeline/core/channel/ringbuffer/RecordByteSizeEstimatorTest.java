@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+class RecordByteSizeEstimatorTest {
+    
+    @Test
+    void assertEstimateNonDataRecord() {
+        assertThat(RecordByteSizeEstimator.estimate(new PlaceholderRecord(new IngestFinishedPosition())), is(64L));
+    }
+    
+    @Test
+    void assertEstimateWideDataRecordGreaterThanNarrowDataRecord() {
+        DataRecord narrowRecord = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
+        narrowRecord.addColumn(new NormalColumn("order_id", 1, false, true));
+        DataRecord wideRecord = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 2);
+        wideRecord.addColumn(new NormalColumn("order_id", 1, false, true));
+        wideRecord.addColumn(new NormalColumn("content", new byte[1024], false, false));
+        assertThat(RecordByteSizeEstimator.estimate(wideRecord), greaterThan(RecordByteSizeEstimator.estimate(narrowRecord) + 1024L));
+        assertThat(RecordByteSizeEstimator.estimate(Arrays.asList(narrowRecord, wideRecord)), is(RecordByteSizeEstimator.estimate(narrowRecord) + RecordByteSizeEstimator.estimate(wideRecord)));
+    }
+}
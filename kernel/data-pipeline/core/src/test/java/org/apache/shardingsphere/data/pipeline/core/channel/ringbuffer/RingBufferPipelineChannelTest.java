@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchSingleBatchWithoutCopy() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, Long.MAX_VALUE, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.fetch(1, 0L), sameInstance(records));
+    }
+    
+    @Test
+    void assertFetchMultipleBatches() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, Long.MAX_VALUE, new InventoryTaskAckCallback(new AtomicReference<>()));
+        Record record1 = new PlaceholderRecord(new IngestFinishedPosition());
+        Record record2 = new PlaceholderRecord(new IngestFinishedPosition());
+        channel.push(Collections.singletonList(record1));
+        channel.push(Collections.singletonList(record2));
+        assertThat(channel.fetch(2, 100L), is(Arrays.asList(record1, record2)));
+    }
+    
+    @Test
+    void assertFetchWithTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, Long.MAX_VALUE, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(channel.fetch(10, 10L), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPushBlockedBySlotsAndBytes() throws Exception {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, RecordByteSizeEstimator.estimate(createDataRecords()), new InventoryTaskAckCallback(new AtomicReference<>()));
+        channel.push(createDataRecords());
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.push(createDataRecords()));
+        TimeUnit.MILLISECONDS.sleep(50L);
+        assertFalse(future.isDone());
+        assertThat(channel.poll().size(), is(1));
+        future.get(1L, TimeUnit.SECONDS);
+        assertThat(channel.poll().size(), is(1));
+    }
+    
+    @Test
+    void assertPushAndFetchConcurrently() throws Exception {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, 1L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 1000; i++) {
+                channel.push(createDataRecords());
+            }
+        });
+        List<Record> actual = new ArrayList<>(1000);
+        while (actual.size() < 1000) {
+            actual.addAll(channel.fetch(100, 100L));
+        }
+        future.get(1L, TimeUnit.SECONDS);
+        assertThat(actual.size(), is(1000));
+    }
+    
+    @Test
+    void assertPeekAndPoll() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, Long.MAX_VALUE, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        new RingBufferPipelineChannel(4, Long.MAX_VALUE, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+    
+    private List<Record> createDataRecords() {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", 1, false, true));
+        result.addColumn(new NormalColumn("status", "OK", false, false));
+        return Collections.singletonList(result);
+    }
+}
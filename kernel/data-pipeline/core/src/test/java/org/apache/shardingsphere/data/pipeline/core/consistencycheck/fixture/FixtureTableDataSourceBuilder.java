@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fixture table data source builder.
+ *
+ * <p>The built data source serves table {@code foo_tbl (id INTEGER, foo_col VARCHAR)} of FIXTURE database type from memory,
+ * it answers SQLs built by pipeline SQL builders of FIXTURE database type with unique key range conditions and page query.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FixtureTableDataSourceBuilder {
+    
+    /**
+     * Build pipeline data source.
+     *
+     * @param rows rows of table, key is value of id and value is value of foo_col
+     * @return built pipeline data source
+     * @throws SQLException SQL exception
+     */
+    public static PipelineDataSource build(final NavigableMap<Integer, String> rows) throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mockPreparedStatement(invocation.getArgument(0), rows));
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenAnswer(invocation -> mockPreparedStatement(invocation.getArgument(0), rows));
+        PipelineDataSource result = mock(PipelineDataSource.class);
+        when(result.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+    
+    private static PreparedStatement mockPreparedStatement(final String sql, final NavigableMap<Integer, String> rows) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        Map<Integer, Object> parameters = new HashMap<>();
+        doAnswer(invocation -> parameters.put(invocation.getArgument(0), invocation.getArgument(1))).when(result).setObject(anyInt(), any());
+        doAnswer(invocation -> parameters.put(invocation.getArgument(0), invocation.getArgument(1))).when(result).setInt(anyInt(), anyInt());
+        when(result.executeQuery()).thenAnswer(invocation -> mockResultSet(sql, filterRows(sql, parameters, rows)));
+        return result;
+    }
+    
+    private static List<Entry<Integer, String>> filterRows(final String sql, final Map<Integer, Object> parameters, final NavigableMap<Integer, String> rows) {
+        NavigableMap<Integer, String> filteredRows = rows;
+        int parameterIndex = 1;
+        if (sql.contains("id>=?")) {
+            filteredRows = filteredRows.tailMap(toInt(parameters.get(parameterIndex++)), true);
+        } else if (sql.contains("id>?")) {
+            filteredRows = filteredRows.tailMap(toInt(parameters.get(parameterIndex++)), false);
+        }
+        if (sql.contains("id<=?")) {
+            filteredRows = filteredRows.headMap(toInt(parameters.get(parameterIndex++)), true);
+        }
+        List<Entry<Integer, String>> result = new ArrayList<>(filteredRows.entrySet());
+        if (sql.contains("LIMIT ?")) {
+            int limit = toInt(parameters.get(parameterIndex));
+            return result.size() > limit ? result.subList(0, limit) : result;
+        }
+        return result;
+    }
+    
+    private static int toInt(final Object value) {
+        return ((Number) value).intValue();
+    }
+    
+    private static ResultSet mockResultSet(final String sql, final List<Entry<Integer, String>> rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        if (sql.startsWith("SELECT MAX(")) {
+            when(result.next()).thenReturn(true);
+            when(result.getObject(1)).thenReturn(rows.isEmpty() ? null : rows.get(rows.size() - 1).getKey());
+            when(result.getInt(2)).thenReturn(rows.size());
+            return result;
+        }
+        if (sql.startsWith("SELECT MD5(")) {
+            when(result.next()).thenReturn(true);
+            when(result.getString(1)).thenReturn(rows.toString());
+            when(result.getInt(2)).thenReturn(rows.size());
+            return result;
+        }
+        Iterator<Entry<Integer, String>> iterator = rows.iterator();
+        AtomicReference<Entry<Integer, String>> current = new AtomicReference<>();
+        when(result.next()).thenAnswer(invocation -> {
+            current.set(iterator.hasNext() ? iterator.next() : null);
+            return null != current.get();
+        });
+        when(result.getInt(1)).thenAnswer(invocation -> current.get().getKey());
+        when(result.getString(2)).thenAnswer(invocation -> current.get().getValue());
+        ResultSetMetaData metaData = mockResultSetMetaData();
+        when(result.getMetaData()).thenReturn(metaData);
+        return result;
+    }
+    
+    private static ResultSetMetaData mockResultSetMetaData() throws SQLException {
+        ResultSetMetaData result = mock(ResultSetMetaData.class);
+        when(result.getColumnCount()).thenReturn(2);
+        when(result.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(result.isSigned(1)).thenReturn(true);
+        when(result.getColumnLabel(1)).thenReturn("id");
+        when(result.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(result.getColumnLabel(2)).thenReturn("foo_col");
+        return result;
+    }
+}
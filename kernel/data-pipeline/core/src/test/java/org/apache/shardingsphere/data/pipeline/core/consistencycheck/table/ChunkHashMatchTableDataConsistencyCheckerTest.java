@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChunkHashMatchTableDataConsistencyCheckerTest {
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Test
+    void assertInitWithDefaultProperties() {
+        try (ChunkHashMatchTableDataConsistencyChecker checker = new ChunkHashMatchTableDataConsistencyChecker()) {
+            checker.init(new Properties());
+            assertThat(Plugins.getMemberAccessor().get(ChunkHashMatchTableDataConsistencyChecker.class.getDeclaredField("chunkSize"), checker), is(10000));
+        }
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Test
+    void assertInitSuccess() {
+        try (ChunkHashMatchTableDataConsistencyChecker checker = new ChunkHashMatchTableDataConsistencyChecker()) {
+            checker.init(PropertiesBuilder.build(new Property("chunk-size", "500"), new Property("streaming-range-type", "large")));
+            assertThat(Plugins.getMemberAccessor().get(ChunkHashMatchTableDataConsistencyChecker.class.getDeclaredField("chunkSize"), checker), is(500));
+            assertThat(Plugins.getMemberAccessor().get(ChunkHashMatchTableDataConsistencyChecker.class.getDeclaredField("streamingRangeType"), checker).toString(), is("LARGE"));
+        }
+    }
+    
+    @Test
+    void assertInitFailure() {
+        for (String each : Arrays.asList("0", "-1", "xyz")) {
+            try (ChunkHashMatchTableDataConsistencyChecker checker = new ChunkHashMatchTableDataConsistencyChecker()) {
+                assertThrows(PipelineInvalidParameterException.class, () -> checker.init(PropertiesBuilder.build(new Property("chunk-size", each))));
+            }
+        }
+    }
+}
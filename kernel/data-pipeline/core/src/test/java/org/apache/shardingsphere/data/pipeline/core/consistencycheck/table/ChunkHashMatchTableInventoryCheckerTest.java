@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.fixture.FixtureTableDataSourceBuilder;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangePosition;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RecordDifference;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RecordHash;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.StreamingRangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.UniqueKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkHashMatchTableInventoryCheckerTest {
+    
+    private static final int CHUNK_SIZE = 3;
+    
+    @Test
+    void assertCheckMatchedWithChunkBoundaries() throws SQLException {
+        TableCheckRangePosition checkRangePosition = createCheckRangePosition(10, 10, null, null);
+        ConsistencyCheckJobItemProgressContext progressContext = createProgressContext(checkRangePosition);
+        TableDataConsistencyCheckResult actual = createChecker(createRows(1, 10), createRows(1, 10), progressContext).checkSingleTableInventoryData();
+        assertTrue(actual.isMatched());
+        assertThat(checkRangePosition.getSourcePosition(), is(10));
+        assertThat(checkRangePosition.getTargetPosition(), is(10));
+        assertTrue(checkRangePosition.isFinished());
+        assertTrue(checkRangePosition.getMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(10L));
+    }
+    
+    @Test
+    void assertCheckMismatchedWithContentMismatchedRecordInMiddleChunk() throws SQLException {
+        TableCheckRangePosition checkRangePosition = createCheckRangePosition(10, 10, null, null);
+        NavigableMap<Integer, String> targetRows = createRows(1, 10);
+        targetRows.put(5, "bar");
+        TableDataConsistencyCheckResult actual = createChecker(createRows(1, 10), targetRows, createProgressContext(checkRangePosition)).checkSingleTableInventoryData();
+        assertFalse(actual.isMatched());
+        assertThat(checkRangePosition.getSourcePosition(), is(10));
+        assertTrue(checkRangePosition.isFinished());
+        assertFalse(checkRangePosition.getMatched());
+    }
+    
+    @Test
+    void assertCheckMismatchedWithTargetOnlyRecordsPastLastChunk() throws SQLException {
+        TableCheckRangePosition checkRangePosition = createCheckRangePosition(10, 12, null, null);
+        TableDataConsistencyCheckResult actual = createChecker(createRows(1, 10), createRows(1, 12), createProgressContext(checkRangePosition)).checkSingleTableInventoryData();
+        assertFalse(actual.isMatched());
+        assertThat(checkRangePosition.getSourcePosition(), is(10));
+        assertTrue(checkRangePosition.isFinished());
+        assertFalse(checkRangePosition.getMatched());
+    }
+    
+    @Test
+    void assertCheckMismatchedWithEmptySource() throws SQLException {
+        TableCheckRangePosition checkRangePosition = createCheckRangePosition(10, 10, null, null);
+        TableDataConsistencyCheckResult actual = createChecker(new TreeMap<>(), createRows(1, 2), createProgressContext(checkRangePosition)).checkSingleTableInventoryData();
+        assertFalse(actual.isMatched());
+        assertTrue(checkRangePosition.isFinished());
+    }
+    
+    @Test
+    void assertCheckResumedFromCheckRangePosition() throws SQLException {
+        TableCheckRangePosition checkRangePosition = createCheckRangePosition(10, 10, 6, true);
+        ConsistencyCheckJobItemProgressContext progressContext = createProgressContext(checkRangePosition);
+        NavigableMap<Integer, String> targetRows = createRows(1, 10);
+        targetRows.put(3, "bar");
+        TableDataConsistencyCheckResult actual = createChecker(createRows(1, 10), targetRows, progressContext).checkSingleTableInventoryData();
+        assertTrue(actual.isMatched());
+        assertThat(checkRangePosition.getSourcePosition(), is(10));
+        assertTrue(checkRangePosition.getMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(5L));
+    }
+    
+    @Test
+    void assertCheckResumedFromMismatchedCheckRangePosition() throws SQLException {
+        TableCheckRangePosition checkRangePosition = createCheckRangePosition(10, 10, 6, false);
+        TableDataConsistencyCheckResult actual = createChecker(createRows(1, 10), createRows(1, 10), createProgressContext(checkRangePosition)).checkSingleTableInventoryData();
+        assertFalse(actual.isMatched());
+        assertFalse(checkRangePosition.getMatched());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCompareRecords() throws SQLException, ReflectiveOperationException {
+        ChunkHashMatchTableInventoryChecker checker = createChecker(new TreeMap<>(), new TreeMap<>(), createProgressContext(createCheckRangePosition(10, 10, null, null)));
+        List<RecordHash> sourceRecordHashes = Arrays.asList(new RecordHash("[N1]", 1, 1L), new RecordHash("[N2]", 2, 2L), new RecordHash("[N3]", 3, 3L));
+        List<RecordHash> targetRecordHashes = Arrays.asList(new RecordHash("[N1]", 1, 1L), new RecordHash("[N2]", 2, 20L), new RecordHash("[N4]", 4, 4L));
+        List<RecordDifference> actual = (List<RecordDifference>) Plugins.getMemberAccessor().invoke(
+                ChunkHashMatchTableInventoryChecker.class.getDeclaredMethod("compareRecords", List.class, List.class), checker, sourceRecordHashes, targetRecordHashes);
+        assertThat(actual.size(), is(3));
+        assertRecordDifference(actual.get(0), "[N2]", RecordDifference.Type.CONTENT_MISMATCHED);
+        assertRecordDifference(actual.get(1), "[N3]", RecordDifference.Type.SOURCE_ONLY);
+        assertRecordDifference(actual.get(2), "[N4]", RecordDifference.Type.TARGET_ONLY);
+    }
+    
+    private void assertRecordDifference(final RecordDifference actual, final String expectedUniqueKey, final RecordDifference.Type expectedType) {
+        assertThat(actual.getUniqueKey(), is(expectedUniqueKey));
+        assertThat(actual.getType(), is(expectedType));
+    }
+    
+    private ChunkHashMatchTableInventoryChecker createChecker(final NavigableMap<Integer, String> sourceRows, final NavigableMap<Integer, String> targetRows,
+                                                              final ConsistencyCheckJobItemProgressContext progressContext) throws SQLException {
+        QualifiedTable table = new QualifiedTable(null, "foo_tbl");
+        List<PipelineColumnMetaData> uniqueKeys = Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true));
+        TableInventoryCheckParameter param = new TableInventoryCheckParameter("foo_job", 0, FixtureTableDataSourceBuilder.build(sourceRows), FixtureTableDataSourceBuilder.build(targetRows),
+                table, table, Arrays.asList("id", "foo_col"), uniqueKeys, null, progressContext, null);
+        return new ChunkHashMatchTableInventoryChecker(param, CHUNK_SIZE, StreamingRangeType.SMALL);
+    }
+    
+    private ConsistencyCheckJobItemProgressContext createProgressContext(final TableCheckRangePosition checkRangePosition) {
+        ConsistencyCheckJobItemProgressContext result = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+        result.getTableCheckRangePositions().add(checkRangePosition);
+        return result;
+    }
+    
+    private TableCheckRangePosition createCheckRangePosition(final int sourceUpperBound, final int targetUpperBound, final Integer position, final Boolean matched) {
+        return new TableCheckRangePosition(0, "ds_0.foo_tbl", "foo_tbl", createIntegerPosition(sourceUpperBound), createIntegerPosition(targetUpperBound), null, position, position, false, matched);
+    }
+    
+    private UniqueKeyIngestPosition<BigInteger> createIntegerPosition(final int upperBound) {
+        return UniqueKeyIngestPosition.ofInteger(Range.closed(BigInteger.ONE, BigInteger.valueOf(upperBound)));
+    }
+    
+    private NavigableMap<Integer, String> createRows(final int lowerBound, final int upperBound) {
+        NavigableMap<Integer, String> result = new TreeMap<>();
+        for (int i = lowerBound; i <= upperBound; i++) {
+            result.put(i, "foo_" + i);
+        }
+        return result;
+    }
+}
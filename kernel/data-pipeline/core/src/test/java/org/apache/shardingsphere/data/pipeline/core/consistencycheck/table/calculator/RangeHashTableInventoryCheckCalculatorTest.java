@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableInventoryCheckCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RangeHashTableInventoryCheckCalculatorTest {
+    
+    private TableInventoryCalculateParameter parameter;
+    
+    @Mock
+    private PipelineDataSource pipelineDataSource;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        List<PipelineColumnMetaData> uniqueKeys = Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true));
+        parameter = new TableInventoryCalculateParameter(pipelineDataSource, new QualifiedTable(null, "foo_tbl"),
+                Arrays.asList("id", "foo_col"), uniqueKeys, QueryType.RANGE_QUERY, null);
+        parameter.setRange(Range.openClosed(1, 5));
+        when(pipelineDataSource.getDatabaseType()).thenReturn(databaseType);
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+    }
+    
+    @Test
+    void assertCalculateSuccess() throws SQLException {
+        PreparedStatement preparedStatement = mockPreparedStatement("foo_hash", 4);
+        when(connection.prepareStatement("SELECT MD5(id,foo_col) FROM foo_tbl WHERE id>? AND id<=?")).thenReturn(preparedStatement);
+        Iterator<TableInventoryCheckCalculatedResult> actual = new RangeHashTableInventoryCheckCalculator().calculate(parameter).iterator();
+        assertThat(actual.next().getRecordsCount(), is(4));
+        assertFalse(actual.hasNext());
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(2, 5);
+    }
+    
+    @Test
+    void assertCalculatedResultsEquality() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(mockPreparedStatement("foo_hash", 4), mockPreparedStatement("foo_hash", 4), mockPreparedStatement("bar_hash", 4));
+        RangeHashTableInventoryCheckCalculator calculator = new RangeHashTableInventoryCheckCalculator();
+        TableInventoryCheckCalculatedResult expected = calculator.calculate(parameter).iterator().next();
+        assertThat(calculator.calculate(parameter).iterator().next(), is(expected));
+        assertThat(calculator.calculate(parameter).iterator().next(), not(expected));
+    }
+    
+    private PreparedStatement mockPreparedStatement(final String rangeHash, final int recordsCount) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getString(1)).thenReturn(rangeHash);
+        when(resultSet.getInt(2)).thenReturn(recordsCount);
+        return result;
+    }
+    
+    @Test
+    void assertCalculateFailed() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException(""));
+        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, () -> new RangeHashTableInventoryCheckCalculator().calculate(parameter));
+    }
+}
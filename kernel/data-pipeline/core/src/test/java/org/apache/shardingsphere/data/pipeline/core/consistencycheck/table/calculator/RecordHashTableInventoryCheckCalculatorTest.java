@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.fixture.FixtureTableDataSourceBuilder;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.ChunkHashTableInventoryCheckCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RecordHash;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.column.InventoryColumnValueReaderEngine;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.StreamingRangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecordHashTableInventoryCheckCalculatorTest {
+    
+    private final InventoryColumnValueReaderEngine columnValueReaderEngine = new InventoryColumnValueReaderEngine(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+    
+    @Test
+    void assertCalculateWithChunkBoundaries() throws SQLException {
+        List<ChunkHashTableInventoryCheckCalculatedResult> actual = calculate(Range.closed(1, 5));
+        assertThat(actual.size(), is(3));
+        assertChunk(actual.get(0), 2, 1, 2);
+        assertChunk(actual.get(1), 4, 3, 4);
+        assertChunk(actual.get(2), 5, 5);
+    }
+    
+    @Test
+    void assertCalculateFromRangePosition() throws SQLException {
+        List<ChunkHashTableInventoryCheckCalculatedResult> actual = calculate(Range.openClosed(3, 5));
+        assertThat(actual.size(), is(1));
+        assertChunk(actual.get(0), 5, 4, 5);
+    }
+    
+    @Test
+    void assertCalculateWithEmptyRange() throws SQLException {
+        assertThat(calculate(Range.openClosed(5, 10)).size(), is(0));
+    }
+    
+    @Test
+    void assertReadRecordWithNormalizedValues() throws SQLException {
+        RecordHash expected = readRecord(1, 1);
+        assertThat(readRecord(1L, 1L).getHash(), is(expected.getHash()));
+        assertThat(readRecord(new BigDecimal("1.00"), new BigDecimal("1.0")).getHash(), is(expected.getHash()));
+        assertThat(readRecord(1, "1").getHash(), not(expected.getHash()));
+        assertThat(readRecord(1, null).getHash(), not(expected.getHash()));
+        assertThat(readRecord(1, 2).getHash(), not(expected.getHash()));
+        assertThat(readRecord(1L, 1).getUniqueKey(), is(expected.getUniqueKey()));
+        assertThat(readRecord(1L, 1).getFirstUniqueKeyValue(), is(1L));
+        assertThat(readRecord(1, new Timestamp(1000L)).getHash(), is(readRecord(1, new Timestamp(1999L)).getHash()));
+    }
+    
+    @Test
+    void assertReadRecordWithCompositeUniqueKeys() throws SQLException {
+        RecordHash actual = new RecordHashTableInventoryCheckCalculator(2, StreamingRangeType.SMALL, Arrays.asList("id", "foo_col")).readRecord(
+                mockResultSet(1, "foo"), mockResultSetMetaData(), columnValueReaderEngine);
+        assertThat(actual.getUniqueKey(), is("[N1, Sfoo]"));
+        assertThat(actual.getFirstUniqueKeyValue(), is(1));
+    }
+    
+    private List<ChunkHashTableInventoryCheckCalculatedResult> calculate(final Range<?> range) throws SQLException {
+        NavigableMap<Integer, String> rows = new TreeMap<>();
+        for (int i = 1; i <= 5; i++) {
+            rows.put(i, "foo_" + i);
+        }
+        List<PipelineColumnMetaData> uniqueKeys = Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true));
+        TableInventoryCalculateParameter param = new TableInventoryCalculateParameter(FixtureTableDataSourceBuilder.build(rows), new QualifiedTable(null, "foo_tbl"),
+                Arrays.asList("id", "foo_col"), uniqueKeys, QueryType.RANGE_QUERY, null);
+        param.setRange(range);
+        List<ChunkHashTableInventoryCheckCalculatedResult> result = new ArrayList<>();
+        try {
+            new RecordHashTableInventoryCheckCalculator(2, StreamingRangeType.SMALL, Collections.singletonList("id")).calculate(param).forEach(result::add);
+        } finally {
+            QuietlyCloser.close(param.getCalculationContext());
+        }
+        return result;
+    }
+    
+    private void assertChunk(final ChunkHashTableInventoryCheckCalculatedResult actual, final int expectedMaxUniqueKeyValue, final int... expectedUniqueKeyValues) {
+        assertThat(actual.getMaxUniqueKeyValue().orElse(null), is(expectedMaxUniqueKeyValue));
+        assertThat(actual.getRecordsCount(), is(expectedUniqueKeyValues.length));
+        for (int i = 0; i < expectedUniqueKeyValues.length; i++) {
+            assertThat(actual.getRecordHashes().get(i).getUniqueKey(), is("[N" + expectedUniqueKeyValues[i] + "]"));
+            assertThat(actual.getRecordHashes().get(i).getFirstUniqueKeyValue(), is(expectedUniqueKeyValues[i]));
+        }
+        assertThat(actual.getChunkHash(), is(ChunkHashTableInventoryCheckCalculatedResult.combine(actual.getRecordHashes())));
+    }
+    
+    private RecordHash readRecord(final Object id, final Object value) throws SQLException {
+        return new RecordHashTableInventoryCheckCalculator(2, StreamingRangeType.SMALL, Collections.singletonList("id")).readRecord(
+                mockResultSet(id, value), mockResultSetMetaData(), columnValueReaderEngine);
+    }
+    
+    private ResultSet mockResultSet(final Object id, final Object value) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.getObject(1)).thenReturn(id);
+        when(result.getObject(2)).thenReturn(value);
+        return result;
+    }
+    
+    private ResultSetMetaData mockResultSetMetaData() throws SQLException {
+        ResultSetMetaData result = mock(ResultSetMetaData.class);
+        when(result.getColumnCount()).thenReturn(2);
+        when(result.getColumnType(1)).thenReturn(Types.OTHER);
+        when(result.getColumnLabel(1)).thenReturn("id");
+        when(result.getColumnType(2)).thenReturn(Types.OTHER);
+        when(result.getColumnLabel(2)).thenReturn("foo_col");
+        return result;
+    }
+}
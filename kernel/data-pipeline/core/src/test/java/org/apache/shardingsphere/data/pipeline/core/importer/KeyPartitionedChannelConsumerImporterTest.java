@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeyPartitionedChannelConsumerImporterTest {
+    
+    @Test
+    void assertWriteRecordsOfSameKeyBySameSinkAndAckInOrder() {
+        PipelineChannel channel = mock(PipelineChannel.class);
+        List<Record> firstBatch = Arrays.asList(
+                createDataRecord(PipelineSQLOperationType.INSERT, 1), createDataRecord(PipelineSQLOperationType.INSERT, 2), createDataRecord(PipelineSQLOperationType.INSERT, 3));
+        List<Record> secondBatch = Arrays.asList(
+                createDataRecord(PipelineSQLOperationType.UPDATE, 1), createDataRecord(PipelineSQLOperationType.DELETE, 2), new FinishedRecord(new IngestFinishedPosition()));
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(firstBatch, secondBatch);
+        Map<Object, Collection<PipelineSink>> keyAndSinks = new ConcurrentHashMap<>();
+        List<PipelineSink> sinks = Arrays.asList(createSink(keyAndSinks), createSink(keyAndSinks), createSink(keyAndSinks));
+        new KeyPartitionedChannelConsumerImporter(channel, 100, 10L, sinks, mock(PipelineJobProgressListener.class)).start();
+        assertThat(keyAndSinks.size(), is(3));
+        keyAndSinks.values().forEach(each -> assertThat(each.stream().distinct().count(), is(1L)));
+        InOrder inOrder = inOrder(channel);
+        inOrder.verify(channel).ack(firstBatch);
+        inOrder.verify(channel).ack(secondBatch);
+    }
+    
+    @Test
+    void assertWriteSequentiallyWithRecordWithoutUniqueKey() {
+        PipelineChannel channel = mock(PipelineChannel.class);
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
+        dataRecord.addColumn(new NormalColumn("status", "OK", false, false));
+        List<Record> records = Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT, 1), dataRecord, new FinishedRecord(new IngestFinishedPosition()));
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        PipelineSink firstSink = mock(PipelineSink.class);
+        PipelineSink secondSink = mock(PipelineSink.class);
+        when(firstSink.write(anyString(), any())).thenReturn(new PipelineJobUpdateProgress(2));
+        new KeyPartitionedChannelConsumerImporter(channel, 100, 10L, Arrays.asList(firstSink, secondSink), mock(PipelineJobProgressListener.class)).start();
+        verify(firstSink).write("", records);
+        verify(secondSink, never()).write(anyString(), any());
+        verify(channel).ack(records);
+    }
+    
+    @Test
+    void assertRethrowWriteFailureWithoutAck() {
+        PipelineChannel channel = mock(PipelineChannel.class);
+        List<Record> records = Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT, 1), new FinishedRecord(new IngestFinishedPosition()));
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        PipelineSink sink = mock(PipelineSink.class);
+        when(sink.write(anyString(), any())).thenThrow(IllegalStateException.class);
+        KeyPartitionedChannelConsumerImporter importer = new KeyPartitionedChannelConsumerImporter(channel, 100, 10L, Collections.singletonList(sink), mock(PipelineJobProgressListener.class));
+        assertThrows(IllegalStateException.class, importer::start);
+        verify(channel, never()).ack(records);
+    }
+    
+    @Test
+    void assertStopAfterInFlightWriteFinishedWithoutInterrupt() throws InterruptedException {
+        PipelineChannel channel = mock(PipelineChannel.class);
+        List<Record> records = Collections.singletonList(createDataRecord(PipelineSQLOperationType.INSERT, 1));
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch writeReleased = new CountDownLatch(1);
+        PipelineSink sink = mock(PipelineSink.class);
+        when(sink.write(anyString(), any())).thenAnswer(invocation -> {
+            writeStarted.countDown();
+            writeReleased.await();
+            return new PipelineJobUpdateProgress(1);
+        });
+        KeyPartitionedChannelConsumerImporter importer = new KeyPartitionedChannelConsumerImporter(channel, 100, 10L, Collections.singletonList(sink), mock(PipelineJobProgressListener.class));
+        Thread importerThread = new Thread(importer::start);
+        importerThread.start();
+        assertTrue(writeStarted.await(10L, TimeUnit.SECONDS));
+        Thread stopThread = new Thread(importer::stop);
+        stopThread.start();
+        stopThread.join(200L);
+        assertTrue(stopThread.isAlive());
+        writeReleased.countDown();
+        stopThread.join(10000L);
+        importerThread.join(10000L);
+        assertFalse(stopThread.isAlive());
+        assertFalse(importerThread.isAlive());
+        verify(sink, times(1)).write(anyString(), any());
+        verify(channel, times(1)).ack(records);
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final int orderId) {
+        DataRecord result = new DataRecord(type, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", orderId, false, true));
+        result.addColumn(new NormalColumn("status", "OK", false, false));
+        return result;
+    }
+    
+    private PipelineSink createSink(final Map<Object, Collection<PipelineSink>> keyAndSinks) {
+        PipelineSink result = mock(PipelineSink.class);
+        when(result.write(anyString(), any())).thenAnswer(invocation -> {
+            Collection<Record> records = invocation.getArgument(1);
+            for (Record each : records) {
+                keyAndSinks.computeIfAbsent(((DataRecord) each).getUniqueKeyValue().iterator().next(), key -> Collections.synchronizedList(new ArrayList<>())).add(result);
+            }
+            return new PipelineJobUpdateProgress(records.size());
+        });
+        return result;
+    }
+}
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class YamlPipelineProcessConfigurationSwapperTest {
     
@@ -79,7 +80,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000,
                 new AlgorithmConfiguration("INPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("qps", "50"))));
         PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000,
-                new AlgorithmConfiguration("OUTPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000"))));
+                new AlgorithmConfiguration("OUTPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000"))), true);
         PipelineProcessConfiguration config = new PipelineProcessConfiguration(readConfig, writeConfig,
                 new AlgorithmConfiguration("MEMORY", PropertiesBuilder.build(new Property("block-queue-size", "2000"))));
         YamlPipelineProcessConfiguration actual = new YamlPipelineProcessConfigurationSwapper().swapToYamlConfiguration(config);
@@ -94,6 +95,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
+        assertTrue(actual.getWrite().isParallelIncrementalImport());
         assertThat(actual.getStreamChannel().getType(), is("MEMORY"));
         assertThat(actual.getStreamChannel().getProps().getProperty("block-queue-size"), is("2000"));
     }
@@ -36,6 +36,11 @@ public final class FixturePipelineSQLBuilder implements DialectPipelineSQLBuilde
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeHashSQL(final String qualifiedTableName, final String columnNames, final String whereClause) {
+        return Optional.of(String.format("SELECT MD5(%s) FROM %s%s", columnNames, qualifiedTableName, whereClause));
+    }
+    
     @Override
     public String buildSplitByUniqueKeyRangedSubqueryClause(final String qualifiedTableName, final String uniqueKey, final boolean hasLowerBound) {
         return "";
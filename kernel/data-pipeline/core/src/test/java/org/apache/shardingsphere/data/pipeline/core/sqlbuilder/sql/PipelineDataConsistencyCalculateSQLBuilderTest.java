@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql;
 
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.Range;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.is;
@@ -36,4 +38,23 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col");
         assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
     }
+    
+    @Test
+    void assertBuildRangeHashSQL() {
+        QualifiedTable qualifiedTable = new QualifiedTable("foo_schema", "foo_tbl");
+        assertThat(sqlBuilder.buildRangeHashSQL(qualifiedTable, Arrays.asList("id", "foo_col"), "id", Range.closed(1, 5)),
+                is(Optional.of("SELECT MD5(id,foo_col) FROM foo_tbl WHERE id>=? AND id<=?")));
+        assertThat(sqlBuilder.buildRangeHashSQL(qualifiedTable, Arrays.asList("id", "foo_col"), "id", Range.openClosed(1, null)),
+                is(Optional.of("SELECT MD5(id,foo_col) FROM foo_tbl WHERE id>?")));
+        assertThat(sqlBuilder.buildRangeHashSQL(qualifiedTable, Arrays.asList("id", "foo_col"), "id", Range.closed(null, 5)),
+                is(Optional.of("SELECT MD5(id,foo_col) FROM foo_tbl WHERE id<=?")));
+        assertThat(sqlBuilder.buildRangeHashSQL(qualifiedTable, Arrays.asList("id", "foo_col"), "id", Range.closed(null, null)),
+                is(Optional.of("SELECT MD5(id,foo_col) FROM foo_tbl")));
+    }
+    
+    @Test
+    void assertBuildChunkUpperBoundSQL() {
+        assertThat(sqlBuilder.buildChunkUpperBoundSQL(new QualifiedTable("foo_schema", "foo_tbl"), "id", Range.openClosed(1, 5)),
+                is("SELECT MAX(id), COUNT(1) FROM (SELECT id FROM foo_tbl WHERE id>? AND id<=? ORDER BY id LIMIT ?) t"));
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.importer;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MySQL pipeline bulk loader, which loads data records by {@code LOAD DATA LOCAL INFILE} from in-memory stream.
+ * <p>Records are loaded into a session temporary staging table first, then merged into target table by {@code INSERT ... SELECT ... ON DUPLICATE KEY UPDATE},
+ * which keeps the upsert semantics of batch insert and fires no delete trigger or cascade. Since {@code LOCAL} downgrades data errors and duplicate keys to warnings,
+ * any warning of loading is treated as failure.</p>
+ * <p>It requires {@code allowLoadLocalInfile=true} on target JDBC URL and {@code local_infile=ON} on target server, otherwise it fails and falls back to batch insert.</p>
+ */
+public final class MySQLPipelineBulkLoader implements DialectPipelineBulkLoader {
+    
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    
+    private static final String STAGING_TABLE_NAME = "`_shardingsphere_bulk_load_staging`";
+    
+    @Override
+    public void load(final Connection connection, final String qualifiedTableName, final List<String> columnNames, final Collection<DataRecord> dataRecords) throws SQLException {
+        Set<Integer> binaryColumnIndexes = findBinaryColumnIndexes(dataRecords);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format("DROP TEMPORARY TABLE IF EXISTS %s", STAGING_TABLE_NAME));
+            statement.execute(String.format("CREATE TEMPORARY TABLE %s LIKE %s", STAGING_TABLE_NAME, qualifiedTableName));
+            try {
+                statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(new ByteArrayInputStream(encode(dataRecords, binaryColumnIndexes)));
+                statement.execute(buildLoadDataSQL(columnNames, binaryColumnIndexes));
+                checkNoWarning(statement);
+                statement.executeUpdate(buildMergeSQL(qualifiedTableName, columnNames));
+            } finally {
+                statement.execute(String.format("DROP TEMPORARY TABLE IF EXISTS %s", STAGING_TABLE_NAME));
+            }
+        } catch (final NoClassDefFoundError ex) {
+            throw new SQLFeatureNotSupportedException("MySQL Connector/J is required to load data from local stream", ex);
+        }
+    }
+    
+    private Set<Integer> findBinaryColumnIndexes(final Collection<DataRecord> dataRecords) {
+        Set<Integer> result = new HashSet<>();
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                if (each.getColumn(i).getValue() instanceof byte[]) {
+                    result.add(i);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private String buildLoadDataSQL(final List<String> columnNames, final Set<Integer> binaryColumnIndexes) {
+        List<String> columns = new ArrayList<>(columnNames.size());
+        List<String> binaryColumnAssignments = new ArrayList<>(binaryColumnIndexes.size());
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (binaryColumnIndexes.contains(i)) {
+                columns.add("@c" + i);
+                binaryColumnAssignments.add(String.format("%s=UNHEX(@c%d)", columnNames.get(i), i));
+            } else {
+                columns.add(columnNames.get(i));
+            }
+        }
+        String result = String.format("LOAD DATA LOCAL INFILE 'stream' INTO TABLE %s CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (%s)",
+                STAGING_TABLE_NAME, String.join(",", columns));
+        return binaryColumnAssignments.isEmpty() ? result : result + " SET " + String.join(",", binaryColumnAssignments);
+    }
+    
+    private void checkNoWarning(final Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("SHOW WARNINGS LIMIT 1")) {
+            if (resultSet.next()) {
+                throw new SQLException(String.format("Load data reported warning: %s %s", resultSet.getString("Code"), resultSet.getString("Message")));
+            }
+        }
+    }
+    
+    private String buildMergeSQL(final String qualifiedTableName, final List<String> columnNames) {
+        String columns = String.join(",", columnNames);
+        List<String> assignments = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            assignments.add(String.format("%s=VALUES(%s)", each, each));
+        }
+        return String.format("INSERT INTO %s(%s) SELECT %s FROM %s ON DUPLICATE KEY UPDATE %s", qualifiedTableName, columns, columns, STAGING_TABLE_NAME, String.join(",", assignments));
+    }
+    
+    private byte[] encode(final Collection<DataRecord> dataRecords, final Set<Integer> binaryColumnIndexes) {
+        StringBuilder result = new StringBuilder();
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                if (i > 0) {
+                    result.append('\t');
+                }
+                appendValue(result, each.getColumn(i).getValue(), binaryColumnIndexes.contains(i));
+            }
+            result.append('\n');
+        }
+        return result.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private void appendValue(final StringBuilder builder, final Object value, final boolean binaryColumn) {
+        if (null == value) {
+            builder.append("\\N");
+            return;
+        }
+        if (value instanceof byte[]) {
+            for (byte each : (byte[]) value) {
+                builder.append(HEX_DIGITS[(each >> 4) & 0xF]).append(HEX_DIGITS[each & 0xF]);
+            }
+            return;
+        }
+        if (value instanceof Boolean) {
+            builder.append((Boolean) value ? '1' : '0');
+            return;
+        }
+        String text = value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+        if (binaryColumn) {
+            for (byte each : text.getBytes(StandardCharsets.UTF_8)) {
+                builder.append(HEX_DIGITS[(each >> 4) & 0xF]).append(HEX_DIGITS[each & 0xF]);
+            }
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char each = text.charAt(i);
+            switch (each) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\0':
+                    builder.append("\\0");
+                    break;
+                default:
+                    builder.append(each);
+                    break;
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
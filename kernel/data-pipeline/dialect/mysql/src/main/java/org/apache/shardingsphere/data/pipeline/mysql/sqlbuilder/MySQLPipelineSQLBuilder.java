@@ -64,6 +64,12 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeHashSQL(final String qualifiedTableName, final String columnNames, final String whereClause) {
+        return Optional.of(String.format("SELECT BIT_XOR(CAST(CONV(LEFT(MD5(JSON_ARRAY(%s)), 16), 16, 10) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s%s",
+                columnNames, qualifiedTableName, whereClause));
+    }
+    
     @Override
     public String buildSplitByUniqueKeyRangedSubqueryClause(final String qualifiedTableName, final String uniqueKey, final boolean hasLowerBound) {
         return hasLowerBound
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.importer;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySQLPipelineBulkLoaderTest {
+    
+    private final DialectPipelineBulkLoader bulkLoader = DatabaseTypedSPILoader.getService(DialectPipelineBulkLoader.class, TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+    
+    @Test
+    void assertLoad() throws Exception {
+        Connection connection = mock(Connection.class);
+        Statement statement = mockStatement(connection, false);
+        JdbcStatement jdbcStatement = mock(JdbcStatement.class);
+        when(statement.unwrap(JdbcStatement.class)).thenReturn(jdbcStatement);
+        bulkLoader.load(connection, "`t_order`", Arrays.asList("`order_id`", "`status`", "`content`"),
+                Arrays.asList(createDataRecord(1, "a\tb", new byte[]{1, (byte) 0xAB}), createDataRecord(2, null, null)));
+        ArgumentCaptor<InputStream> inputStreamCaptor = ArgumentCaptor.forClass(InputStream.class);
+        verify(jdbcStatement).setLocalInfileInputStream(inputStreamCaptor.capture());
+        assertThat(readAll(inputStreamCaptor.getValue()), is("1\ta\\tb\t01AB\n2\t\\N\t\\N\n"));
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).execute("CREATE TEMPORARY TABLE `_shardingsphere_bulk_load_staging` LIKE `t_order`");
+        inOrder.verify(statement).execute("LOAD DATA LOCAL INFILE 'stream' INTO TABLE `_shardingsphere_bulk_load_staging` CHARACTER SET utf8mb4"
+                + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (`order_id`,`status`,@c2) SET `content`=UNHEX(@c2)");
+        inOrder.verify(statement).executeQuery("SHOW WARNINGS LIMIT 1");
+        inOrder.verify(statement).executeUpdate("INSERT INTO `t_order`(`order_id`,`status`,`content`) SELECT `order_id`,`status`,`content` FROM `_shardingsphere_bulk_load_staging`"
+                + " ON DUPLICATE KEY UPDATE `order_id`=VALUES(`order_id`),`status`=VALUES(`status`),`content`=VALUES(`content`)");
+        inOrder.verify(statement).execute("DROP TEMPORARY TABLE IF EXISTS `_shardingsphere_bulk_load_staging`");
+    }
+    
+    @Test
+    void assertLoadWithoutBinaryColumn() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mockStatement(connection, false);
+        when(statement.unwrap(JdbcStatement.class)).thenReturn(mock(JdbcStatement.class));
+        bulkLoader.load(connection, "`t_order`", Collections.singletonList("`order_id`"), Collections.singletonList(createDataRecord(1)));
+        verify(statement).execute("LOAD DATA LOCAL INFILE 'stream' INTO TABLE `_shardingsphere_bulk_load_staging` CHARACTER SET utf8mb4"
+                + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (`order_id`)");
+    }
+    
+    @Test
+    void assertLoadFailedWithWarning() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mockStatement(connection, true);
+        when(statement.unwrap(JdbcStatement.class)).thenReturn(mock(JdbcStatement.class));
+        assertThrows(SQLException.class, () -> bulkLoader.load(connection, "`t_order`", Collections.singletonList("`order_id`"), Collections.singletonList(createDataRecord(1))));
+        verify(statement, never()).executeUpdate(anyString());
+        verify(statement, times(2)).execute("DROP TEMPORARY TABLE IF EXISTS `_shardingsphere_bulk_load_staging`");
+    }
+    
+    private Statement mockStatement(final Connection connection, final boolean hasWarning) throws SQLException {
+        Statement result = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(result);
+        ResultSet warningResultSet = mock(ResultSet.class);
+        when(warningResultSet.next()).thenReturn(hasWarning);
+        when(result.executeQuery("SHOW WARNINGS LIMIT 1")).thenReturn(warningResultSet);
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final Object... values) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), values.length);
+        for (int i = 0; i < values.length; i++) {
+            result.addColumn(new NormalColumn("c" + i, values[i], false, 0 == i));
+        }
+        return result;
+    }
+    
+    private String readAll(final InputStream inputStream) throws Exception {
+        byte[] result = new byte[inputStream.available()];
+        assertThat(inputStream.read(result), is(result.length));
+        return new String(result, StandardCharsets.UTF_8);
+    }
+}
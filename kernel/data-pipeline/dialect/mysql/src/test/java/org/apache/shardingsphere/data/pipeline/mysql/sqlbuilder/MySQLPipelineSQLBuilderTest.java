@@ -83,6 +83,13 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildRangeHashSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeHashSQL("foo_tbl", "id,foo_col", " WHERE id>=? AND id<=?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CONV(LEFT(MD5(JSON_ARRAY(id,foo_col)), 16), 16, 10) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM foo_tbl WHERE id>=? AND id<=?"));
+    }
+    
     @Test
     void assertBuildSplitByUniqueKeyRangedSubqueryClause() {
         assertThat(sqlBuilder.buildSplitByUniqueKeyRangedSubqueryClause("foo_tbl", "id", true),
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.postgresql.PGConnection;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PostgreSQL pipeline bulk loader, which loads data records by {@code COPY ... FROM STDIN}.
+ */
+public final class PostgreSQLPipelineBulkLoader implements DialectPipelineBulkLoader {
+    
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    @Override
+    public void load(final Connection connection, final String qualifiedTableName, final List<String> columnNames, final Collection<DataRecord> dataRecords) throws SQLException {
+        String sql = String.format("COPY %s(%s) FROM STDIN", qualifiedTableName, String.join(",", columnNames));
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new ByteArrayInputStream(encode(dataRecords)));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private byte[] encode(final Collection<DataRecord> dataRecords) {
+        StringBuilder result = new StringBuilder();
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                if (i > 0) {
+                    result.append('\t');
+                }
+                appendValue(result, each.getColumn(i).getValue());
+            }
+            result.append('\n');
+        }
+        return result.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private void appendValue(final StringBuilder builder, final Object value) {
+        if (null == value) {
+            builder.append("\\N");
+            return;
+        }
+        if (value instanceof byte[]) {
+            builder.append("\\\\x");
+            for (byte each : (byte[]) value) {
+                builder.append(HEX_DIGITS[(each >> 4) & 0xF]).append(HEX_DIGITS[each & 0xF]);
+            }
+            return;
+        }
+        String text = value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char each = text.charAt(i);
+            switch (each) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(each);
+                    break;
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
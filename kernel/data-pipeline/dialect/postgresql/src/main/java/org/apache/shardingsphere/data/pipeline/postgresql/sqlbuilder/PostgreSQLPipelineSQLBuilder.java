@@ -78,6 +78,12 @@ public final class PostgreSQLPipelineSQLBuilder implements DialectPipelineSQLBui
         return Optional.of(String.format("SELECT pg_catalog.pg_checksum_table('%s', true)", qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeHashSQL(final String qualifiedTableName, final String columnNames, final String whereClause) {
+        return Optional.of(String.format("SELECT md5(string_agg(h, '' ORDER BY h)) AS checksum, COUNT(1) AS cnt FROM (SELECT md5(CAST(ROW(%s) AS TEXT)) AS h FROM %s%s) t",
+                columnNames, qualifiedTableName, whereClause));
+    }
+    
     @Override
     public String buildSplitByUniqueKeyRangedSubqueryClause(final String qualifiedTableName, final String uniqueKey, final boolean hasLowerBound) {
         return hasLowerBound
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLPipelineBulkLoaderTest {
+    
+    private final DialectPipelineBulkLoader bulkLoader = DatabaseTypedSPILoader.getService(DialectPipelineBulkLoader.class, TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+    
+    @Test
+    void assertLoad() throws Exception {
+        Connection connection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        bulkLoader.load(connection, "\"public\".\"t_order\"", Arrays.asList("\"order_id\"", "\"status\"", "\"content\""),
+                Arrays.asList(createDataRecord(1, "a\\b\nc", new byte[]{1, (byte) 0xAB}), createDataRecord(2, null, new BigDecimal("1E+2"))));
+        ArgumentCaptor<InputStream> inputStreamCaptor = ArgumentCaptor.forClass(InputStream.class);
+        verify(copyManager).copyIn(eq("COPY \"public\".\"t_order\"(\"order_id\",\"status\",\"content\") FROM STDIN"), inputStreamCaptor.capture());
+        assertThat(readAll(inputStreamCaptor.getValue()), is("1\ta\\\\b\\nc\t\\\\x01ab\n2\t\\N\t100\n"));
+    }
+    
+    @Test
+    void assertLoadWithIOException() throws Exception {
+        Connection connection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString(), any(InputStream.class))).thenThrow(IOException.class);
+        assertThrows(SQLException.class, () -> bulkLoader.load(connection, "\"t_order\"", Collections.singletonList("\"order_id\""), Collections.singletonList(createDataRecord(1))));
+    }
+    
+    private DataRecord createDataRecord(final Object... values) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), values.length);
+        for (int i = 0; i < values.length; i++) {
+            result.addColumn(new NormalColumn("c" + i, values[i], false, 0 == i));
+        }
+        return result;
+    }
+    
+    private String readAll(final InputStream inputStream) throws IOException {
+        byte[] result = new byte[inputStream.available()];
+        assertThat(inputStream.read(result), is(result.length));
+        return new String(result, StandardCharsets.UTF_8);
+    }
+}
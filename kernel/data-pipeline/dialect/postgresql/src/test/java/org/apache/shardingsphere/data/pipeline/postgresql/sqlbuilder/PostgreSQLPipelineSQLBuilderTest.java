@@ -113,6 +113,13 @@ class PostgreSQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT pg_catalog.pg_checksum_table('foo_tbl', true)"));
     }
     
+    @Test
+    void assertBuildRangeHashSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeHashSQL("foo_tbl", "id,foo_col", " WHERE id>=? AND id<=?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT md5(string_agg(h, '' ORDER BY h)) AS checksum, COUNT(1) AS cnt FROM (SELECT md5(CAST(ROW(id,foo_col) AS TEXT)) AS h FROM foo_tbl WHERE id>=? AND id<=?) t"));
+    }
+    
     @Test
     void assertBuildSplitByUniqueKeyRangedSubqueryClause() {
         assertThat(sqlBuilder.buildSplitByUniqueKeyRangedSubqueryClause("foo_tbl", "id", true),
@@ -65,7 +65,10 @@ public final class AlterTransmissionRuleExecutor implements DistSQLUpdateExecuto
     }
     
     private PipelineWriteConfiguration convertToWriteConfiguration(final ReadOrWriteSegment writeSegment) {
-        return null == writeSegment ? null : new PipelineWriteConfiguration(writeSegment.getWorkerThread(), writeSegment.getBatchSize(), convertToAlgorithm(writeSegment.getRateLimiter()));
+        return null == writeSegment
+                ? null
+                : new PipelineWriteConfiguration(
+                        writeSegment.getWorkerThread(), writeSegment.getBatchSize(), convertToAlgorithm(writeSegment.getRateLimiter()), writeSegment.getParallelIncrementalImport());
     }
     
     private AlgorithmConfiguration convertToAlgorithm(final AlgorithmSegment algorithmSegment) {
@@ -37,6 +37,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.client.config.CDCClientConfig
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.client.context.ClientConnectionContext;
 import org.apache.shardingsphere.data.pipeline.cdc.client.handler.CDCRequestHandler;
+import org.apache.shardingsphere.data.pipeline.cdc.client.handler.DataRecordResultHandler;
 import org.apache.shardingsphere.data.pipeline.cdc.client.handler.ExceptionHandler;
 import org.apache.shardingsphere.data.pipeline.cdc.client.handler.ServerErrorResultHandler;
 import org.apache.shardingsphere.data.pipeline.cdc.client.parameter.CDCLoginParameter;
@@ -79,8 +80,23 @@ public final class CDCClient implements AutoCloseable {
      * @param exceptionHandler exception handler
      * @param errorResultHandler error result handler
      */
-    @SneakyThrows(InterruptedException.class)
     public void connect(final Consumer<List<Record>> dataConsumer, final ExceptionHandler exceptionHandler, final ServerErrorResultHandler errorResultHandler) {
+        connect(new CDCRequestHandler(dataConsumer, exceptionHandler, errorResultHandler));
+    }
+    
+    /**
+     * Connect with data record result handler, which receives transaction markers along with records.
+     *
+     * @param resultHandler data record result handler
+     * @param exceptionHandler exception handler
+     * @param errorResultHandler error result handler
+     */
+    public void connectWithResultHandler(final DataRecordResultHandler resultHandler, final ExceptionHandler exceptionHandler, final ServerErrorResultHandler errorResultHandler) {
+        connect(new CDCRequestHandler(resultHandler, exceptionHandler, errorResultHandler));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void connect(final CDCRequestHandler requestHandler) {
         Bootstrap bootstrap = new Bootstrap();
         group = new NioEventLoopGroup(1);
         bootstrap.channel(NioSocketChannel.class)
@@ -95,7 +111,7 @@ public final class CDCClient implements AutoCloseable {
                         channel.pipeline().addLast(new ProtobufDecoder(CDCResponse.getDefaultInstance()));
                         channel.pipeline().addLast(new ProtobufVarint32LengthFieldPrepender());
                         channel.pipeline().addLast(new ProtobufEncoder());
-                        channel.pipeline().addLast(new CDCRequestHandler(dataConsumer, exceptionHandler, errorResultHandler));
+                        channel.pipeline().addLast(requestHandler);
                     }
                 });
         channel = bootstrap.connect(config.getAddress(), config.getPort()).sync().channel();
@@ -139,7 +155,7 @@ public final class CDCClient implements AutoCloseable {
      */
     public String startStreaming(final StartStreamingParameter parameter) {
         StreamDataRequestBody streamDataRequestBody = StreamDataRequestBody.newBuilder()
-                .setDatabase(parameter.getDatabase()).setFull(parameter.isFull()).addAllSourceSchemaTable(parameter.getSchemaTables()).build();
+                .setDatabase(parameter.getDatabase()).setFull(parameter.isFull()).addAllSourceSchemaTable(parameter.getSchemaTables()).setCompressionType(config.getCompressionType()).build();
         String requestId = RequestIdUtils.generateRequestId();
         CDCRequest request = CDCRequest.newBuilder().setRequestId(requestId).setType(Type.STREAM_DATA).setStreamDataRequestBody(streamDataRequestBody).build();
         ClientConnectionContext connectionContext = channel.attr(ClientConnectionContext.CONTEXT_KEY).get();
@@ -159,7 +175,7 @@ public final class CDCClient implements AutoCloseable {
      */
     public void restartStreaming(final String streamingId) {
         String requestId = RequestIdUtils.generateRequestId();
-        StartStreamingRequestBody body = StartStreamingRequestBody.newBuilder().setStreamingId(streamingId).build();
+        StartStreamingRequestBody body = StartStreamingRequestBody.newBuilder().setStreamingId(streamingId).setCompressionType(config.getCompressionType()).build();
         CDCRequest request = CDCRequest.newBuilder().setRequestId(requestId).setType(Type.START_STREAMING).setStartStreamingRequestBody(body).build();
         ResponseFuture responseFuture = new ResponseFuture(requestId, Type.START_STREAMING);
         ClientConnectionContext connectionContext = channel.attr(ClientConnectionContext.CONTEXT_KEY).get();
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.config;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DataRecordCompressionType;
 
 /**
  * CDC client configuration.
@@ -32,11 +33,19 @@ public final class CDCClientConfiguration {
     
     private final int timeoutMillis;
     
+    private final DataRecordCompressionType compressionType;
+    
     public CDCClientConfiguration(final String address, final int port, final int timeoutMillis) {
+        this(address, port, timeoutMillis, DataRecordCompressionType.NONE);
+    }
+    
+    public CDCClientConfiguration(final String address, final int port, final int timeoutMillis, final DataRecordCompressionType compressionType) {
         Preconditions.checkArgument(null != address && !address.isEmpty(), "The address parameter can't be null.");
         Preconditions.checkArgument(port > 0, "The port must be greater than 0.");
+        Preconditions.checkArgument(null != compressionType, "The compression type can't be null.");
         this.address = address;
         this.port = port;
         this.timeoutMillis = timeoutMillis;
+        this.compressionType = compressionType;
     }
 }
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
-import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.client.context.ClientConnectionContext;
@@ -38,20 +40,31 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StreamDataR
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 
 /**
  * CDC request handler.
  */
-@RequiredArgsConstructor
 @Slf4j
 public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     
-    private final Consumer<List<Record>> consumer;
+    private final DataRecordResultHandler resultHandler;
     
     private final ExceptionHandler exceptionHandler;
     
     private final ServerErrorResultHandler errorResultHandler;
     
+    public CDCRequestHandler(final Consumer<List<Record>> consumer, final ExceptionHandler exceptionHandler, final ServerErrorResultHandler errorResultHandler) {
+        this((DataRecordResultHandler) result -> consumer.accept(result.getRecordList()), exceptionHandler, errorResultHandler);
+    }
+    
+    public CDCRequestHandler(final DataRecordResultHandler resultHandler, final ExceptionHandler exceptionHandler, final ServerErrorResultHandler errorResultHandler) {
+        this.resultHandler = resultHandler;
+        this.exceptionHandler = exceptionHandler;
+        this.errorResultHandler = errorResultHandler;
+    }
+    
     @Override
     public void channelRegistered(final ChannelHandlerContext ctx) {
         ClientConnectionContext context = new ClientConnectionContext();
@@ -109,10 +122,31 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     }
     
     private void processDataRecords(final ChannelHandlerContext ctx, final DataRecordResult result) {
-        consumer.accept(result.getRecordList());
+        resultHandler.handleDataRecordResult(result.getCompressedRecord().isEmpty() ? result : decompress(result));
         ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
     }
     
+    @SneakyThrows({DataFormatException.class, InvalidProtocolBufferException.class})
+    private DataRecordResult decompress(final DataRecordResult result) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(result.getCompressedRecord().toByteArray());
+            ByteString.Output output = ByteString.newOutput(result.getCompressedRecord().size() * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (0 == length && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Compressed record is truncated.");
+                }
+                output.write(buffer, 0, length);
+            }
+            List<Record> records = DataRecordResult.parseFrom(output.toByteString()).getRecordList();
+            return result.toBuilder().clearCompressedRecord().addAllRecord(records).build();
+        } finally {
+            inflater.end();
+        }
+    }
+    
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
         exceptionHandler.handleException(ctx, cause);
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.client.config;
 
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DataRecordCompressionType;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -31,6 +32,12 @@ class CDCClientConfigurationTest {
         assertThat(actual.getAddress(), is("foo_host"));
         assertThat(actual.getPort(), is(3307));
         assertThat(actual.getTimeoutMillis(), is(1000));
+        assertThat(actual.getCompressionType(), is(DataRecordCompressionType.NONE));
+    }
+    
+    @Test
+    void assertNewWithCompressionType() {
+        assertThat(new CDCClientConfiguration("foo_host", 3307, 1000, DataRecordCompressionType.DEFLATE).getCompressionType(), is(DataRecordCompressionType.DEFLATE));
     }
     
     @Test
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 
+import com.google.protobuf.ByteString;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
@@ -46,6 +47,7 @@ import org.mockito.quality.Strictness;
 
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.zip.Deflater;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -172,6 +174,26 @@ class CDCRequestHandlerTest {
         assertThat(ackRequest.getAckStreamingRequestBody().getAckId(), is("ack_1"));
     }
     
+    @Test
+    void assertHandleCompressedDataRecordResult() {
+        Channel channel = mockChannel(new ClientConnectionContext());
+        List<Record> expectedRecords = DataRecordResult.newBuilder().addRecord(Record.newBuilder().setTableName("t_order").build()).build().getRecordList();
+        DataRecordResult recordResult = DataRecordResult.newBuilder().setAckId("ack_1").setCompressedRecord(deflate(DataRecordResult.newBuilder().addAllRecord(expectedRecords).build())).build();
+        handler.channelRead(mockChannelHandlerContext(channel), CDCResponse.newBuilder().setRequestId("foo_req").setStatus(Status.SUCCEED).setDataRecordResult(recordResult).build());
+        verify(consumer).accept(expectedRecords);
+        verify(channel).writeAndFlush(any(CDCRequest.class));
+    }
+    
+    @Test
+    void assertHandleDataRecordResultWithResultHandler() {
+        DataRecordResultHandler resultHandler = mock(DataRecordResultHandler.class);
+        DataRecordResult recordResult = DataRecordResult.newBuilder().setAckId("ack_1").addRecord(Record.newBuilder().build())
+                .addTransactionMarker(DataRecordResult.TransactionMarker.newBuilder().setCsn(1L).setRecordCount(1).build()).build();
+        new CDCRequestHandler(resultHandler, exceptionHandler, errorResultHandler).channelRead(mockChannelHandlerContext(mockChannel(new ClientConnectionContext())),
+                CDCResponse.newBuilder().setRequestId("foo_req").setStatus(Status.SUCCEED).setDataRecordResult(recordResult).build());
+        verify(resultHandler).handleDataRecordResult(recordResult);
+    }
+    
     @Test
     void assertHandleSucceedWithoutPayload() {
         ClientConnectionContext connectionContext = new ClientConnectionContext();
@@ -189,6 +211,19 @@ class CDCRequestHandlerTest {
         verify(exceptionHandler).handleException(ctx, expectedCause);
     }
     
+    private ByteString deflate(final DataRecordResult result) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(result.toByteArray());
+        deflater.finish();
+        byte[] buffer = new byte[1024];
+        ByteString.Output output = ByteString.newOutput();
+        while (!deflater.finished()) {
+            output.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        return output.toByteString();
+    }
+    
     private Channel mockChannel(final ClientConnectionContext context) {
         Channel result = mock(Channel.class);
         AttributeMap attributeMap = new DefaultAttributeMap();
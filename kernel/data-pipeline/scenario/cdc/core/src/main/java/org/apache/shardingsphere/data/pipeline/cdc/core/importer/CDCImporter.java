@@ -101,7 +101,7 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
             TimeUnit.MILLISECONDS.sleep(timeoutMillis);
             return;
         }
-        // TODO Combine small transactions into a large transaction, to improve transformation performance.
+        csnRecordsList = coalesceTransactions(csnRecordsList);
         String ackId = CDCAckId.build(importerId).marshal();
         if (1 == csnRecordsList.size()) {
             processCSNRecords(csnRecordsList.get(0), ackId);
@@ -110,6 +110,32 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         }
     }
     
+    private List<CSNRecords> coalesceTransactions(final List<CSNRecords> firstCsnRecordsList) {
+        int dataRecordsCount = getTotalDataRecordsCount(firstCsnRecordsList);
+        if (dataRecordsCount >= batchSize) {
+            return firstCsnRecordsList;
+        }
+        List<CSNRecords> result = new LinkedList<>(firstCsnRecordsList);
+        long startMillis = System.currentTimeMillis();
+        while (dataRecordsCount < batchSize && System.currentTimeMillis() - startMillis < timeoutMillis) {
+            List<CSNRecords> csnRecordsList = getCsnRecordsList();
+            if (csnRecordsList.isEmpty()) {
+                break;
+            }
+            result.addAll(csnRecordsList);
+            dataRecordsCount += getTotalDataRecordsCount(csnRecordsList);
+        }
+        return result;
+    }
+    
+    private int getTotalDataRecordsCount(final Collection<CSNRecords> csnRecordsList) {
+        int result = 0;
+        for (CSNRecords each : csnRecordsList) {
+            result += getDataRecordsCount(each.getRecords());
+        }
+        return result;
+    }
+    
     private List<CSNRecords> getCsnRecordsList() {
         List<CSNRecords> result = new LinkedList<>();
         CSNRecords firstRecords = null;
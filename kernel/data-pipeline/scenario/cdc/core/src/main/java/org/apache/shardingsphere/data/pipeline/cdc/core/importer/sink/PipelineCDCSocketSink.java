@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
+import com.google.protobuf.ByteString;
 import io.netty.channel.Channel;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DataRecordCompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.TransactionMarker;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
@@ -32,13 +35,16 @@ import org.apache.shardingsphere.infra.exception.external.sql.sqlstate.XOpenSQLS
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
 
 /**
  * Pipeline CDC socket sink.
@@ -47,6 +53,8 @@ public final class PipelineCDCSocketSink implements PipelineSink {
     
     private static final long DEFAULT_TIMEOUT_MILLISECONDS = 100L;
     
+    private static final int MIN_COMPRESSION_BYTES = 1024;
+    
     private final Lock lock = new ReentrantLock();
     
     private final Condition condition = lock.newCondition();
@@ -58,9 +66,16 @@ public final class PipelineCDCSocketSink implements PipelineSink {
     
     private final Map<String, String> tableSchemaNameMap;
     
+    private final DataRecordCompressionType compressionType;
+    
     public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
+        this(channel, database, schemaTableNames, DataRecordCompressionType.NONE);
+    }
+    
+    public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames, final DataRecordCompressionType compressionType) {
         this.channel = channel;
         this.database = database;
+        this.compressionType = null == compressionType ? DataRecordCompressionType.NONE : compressionType;
         tableSchemaNameMap = new HashMap<>(schemaTableNames.size(), 1F);
         schemaTableNames.stream().filter(each -> each.contains(".")).forEach(each -> {
             String[] split = each.split("\\.");
@@ -80,7 +95,7 @@ public final class PipelineCDCSocketSink implements PipelineSink {
             return new PipelineJobUpdateProgress(0);
         }
         Collection<DataRecordResult.Record> resultRecords = getResultRecords(records);
-        DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build();
+        DataRecordResult dataRecordResult = buildDataRecordResult(ackId, records, resultRecords);
         channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
         return new PipelineJobUpdateProgress(resultRecords.size());
     }
@@ -112,6 +127,56 @@ public final class PipelineCDCSocketSink implements PipelineSink {
         return result;
     }
     
+    private DataRecordResult buildDataRecordResult(final String ackId, final Collection<Record> records, final Collection<DataRecordResult.Record> resultRecords) {
+        DataRecordResult.Builder result = DataRecordResult.newBuilder().setAckId(ackId).addAllTransactionMarker(getTransactionMarkers(records));
+        if (DataRecordCompressionType.DEFLATE != compressionType) {
+            return result.addAllRecord(resultRecords).build();
+        }
+        byte[] serializedRecords = DataRecordResult.newBuilder().addAllRecord(resultRecords).build().toByteArray();
+        return serializedRecords.length < MIN_COMPRESSION_BYTES ? result.addAllRecord(resultRecords).build() : result.setCompressedRecord(deflate(serializedRecords)).build();
+    }
+    
+    private Collection<TransactionMarker> getTransactionMarkers(final Collection<Record> records) {
+        Collection<TransactionMarker> result = new LinkedList<>();
+        Long currentCSN = null;
+        int recordCount = 0;
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                continue;
+            }
+            Long csn = ((DataRecord) each).getCsn();
+            if (null == csn) {
+                return Collections.emptyList();
+            }
+            if (recordCount > 0 && !Objects.equals(currentCSN, csn)) {
+                result.add(TransactionMarker.newBuilder().setCsn(currentCSN).setRecordCount(recordCount).build());
+                recordCount = 0;
+            }
+            currentCSN = csn;
+            recordCount++;
+        }
+        if (recordCount > 0) {
+            result.add(TransactionMarker.newBuilder().setCsn(currentCSN).setRecordCount(recordCount).build());
+        }
+        return result;
+    }
+    
+    private ByteString deflate(final byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteString.Output result = ByteString.newOutput(data.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                result.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return result.toByteString();
+        } finally {
+            deflater.end();
+        }
+    }
+    
     @Override
     public void close() {
         channel.writeAndFlush(CDCResponseUtils.failed("", XOpenSQLState.GENERAL_ERROR.getValue(), "The socket channel is closed."));
@@ -153,7 +153,8 @@ public final class CDCJobPreparer {
         Dumper dumper = IncrementalDumperCreator.create(param);
         boolean needSorting = jobItemContext.getJobConfig().isDecodeWithTX();
         Importer importer = importerUsed.get() ? null
-                : new CDCImporter(channelProgressPairs, 1, 100L, jobItemContext.getSink(), needSorting, taskConfig.getImporterConfig().getRateLimitAlgorithm());
+                : new CDCImporter(channelProgressPairs, needSorting ? taskConfig.getImporterConfig().getBatchSize() : 1, 100L, jobItemContext.getSink(), needSorting,
+                        taskConfig.getImporterConfig().getRateLimitAlgorithm());
         PipelineTask incrementalTask = new CDCIncrementalTask(
                 dumperContext.getCommonContext().getDataSourceName(), jobItemContext.getJobProcessContext().getIncrementalExecuteEngine(), dumper, importer, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
@@ -121,7 +121,9 @@ public final class CDCBackendHandler {
         StreamDataParameter parameter = new StreamDataParameter(requestBody.getDatabase(), new ArrayList<>(schemaTableNames), requestBody.getFull(), tableAndDataNodesMap, isDecodeWithTransaction);
         String jobId = jobAPI.create(parameter, CDCSinkType.SOCKET, new Properties());
         connectionContext.setJobId(jobId);
-        log.info("Stream data, jobId={}, database={}, schemaTableNames={}, full={}", jobId, requestBody.getDatabase(), schemaTableNames, requestBody.getFull());
+        connectionContext.setCompressionType(requestBody.getCompressionType());
+        log.info("Stream data, jobId={}, database={}, schemaTableNames={}, full={}, compressionType={}", jobId, requestBody.getDatabase(), schemaTableNames, requestBody.getFull(),
+                requestBody.getCompressionType());
         startStreaming(jobId, connectionContext, channel);
         log.info("Stream data, started, jobId={}", jobId);
         return CDCResponseUtils.succeed(requestId, ResponseCase.STREAM_DATA_RESULT, StreamDataResult.newBuilder().setStreamingId(jobId).build());
@@ -139,7 +141,7 @@ public final class CDCBackendHandler {
         ShardingSpherePreconditions.checkNotNull(cdcJobConfig, () -> new PipelineJobNotFoundException(jobId));
         PipelineJobRegistry.stop(jobId);
         ShardingSphereDatabase database = PipelineContextManager.getProxyContext().getMetaDataContexts().getMetaData().getDatabase(cdcJobConfig.getDatabaseName());
-        jobAPI.start(jobId, new PipelineCDCSocketSink(channel, database, cdcJobConfig.getSchemaTableNames()));
+        jobAPI.start(jobId, new PipelineCDCSocketSink(channel, database, cdcJobConfig.getSchemaTableNames(), connectionContext.getCompressionType()));
         connectionContext.setJobId(jobId);
     }
     
@@ -146,6 +146,24 @@ class CDCImporterTest {
         assertNull(CDCImporterManager.getImporter(importer.getImporterId()));
     }
     
+    @Test
+    void assertDoWithSortingCoalescesSmallTransactions() {
+        Queue<List<Record>> transactions = new LinkedList<>(Arrays.asList(asList(createDataRecord(1L)), asList(createDataRecord(2L)), asList(createDataRecord(3L))));
+        PipelineChannel channel = mockSortingChannel(transactions);
+        PipelineJobProgressListener progressListener = mock(PipelineJobProgressListener.class);
+        AtomicReference<CDCImporter> importerHolder = new AtomicReference<>();
+        PipelineSink sink = mockSinkWithAck(importerHolder, true);
+        CDCImporter importer = new CDCImporter(new LinkedList<>(Collections.singletonList(new CDCChannelProgressPair(channel, progressListener))), 10, 100L, sink, true, null);
+        importerHolder.set(importer);
+        importer.start();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Record>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(sink).write(anyString(), recordsCaptor.capture());
+        assertThat(recordsCaptor.getValue().size(), is(3));
+        assertThat(captureAckRecords(channel, 3).size(), is(3));
+        assertThat(captureProgressCounts(progressListener, 3), contains(1, 1, 1));
+    }
+    
     private DataRecord createDataRecord(final long csn) {
         DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
         result.setCsn(csn);
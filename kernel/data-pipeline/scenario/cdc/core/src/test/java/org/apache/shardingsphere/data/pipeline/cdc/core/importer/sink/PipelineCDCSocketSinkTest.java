@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
+import com.google.protobuf.InvalidProtocolBufferException;
 import io.netty.channel.Channel;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DataRecordCompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
@@ -25,17 +27,25 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeho
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
 import org.apache.shardingsphere.infra.exception.external.sql.sqlstate.XOpenSQLState;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -77,6 +87,52 @@ class PipelineCDCSocketSinkTest {
         }
     }
     
+    @Test
+    void assertWriteWithTransactionMarkers() {
+        Channel channel = mockActiveChannel();
+        Collection<Record> records = Arrays.asList(createDataRecord(1L, "foo"), createDataRecord(1L, "bar"), createDataRecord(2L, "foo"));
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, mockDatabase(), Collections.singletonList("logic_schema.t_order"))) {
+            sink.write("ack", records);
+            DataRecordResult actual = captureDataRecordResult(channel);
+            assertThat(actual.getRecordCount(), is(3));
+            assertThat(actual.getTransactionMarkerCount(), is(2));
+            assertThat(actual.getTransactionMarker(0).getCsn(), is(1L));
+            assertThat(actual.getTransactionMarker(0).getRecordCount(), is(2));
+            assertThat(actual.getTransactionMarker(1).getCsn(), is(2L));
+            assertThat(actual.getTransactionMarker(1).getRecordCount(), is(1));
+            assertTrue(actual.getCompressedRecord().isEmpty());
+        }
+    }
+    
+    @Test
+    void assertWriteWithDeflateCompression() throws InvalidProtocolBufferException, DataFormatException {
+        Channel channel = mockActiveChannel();
+        Collection<Record> records = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(createDataRecord(1L, "foo_value_" + i));
+        }
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, mockDatabase(), Collections.singletonList("logic_schema.t_order"), DataRecordCompressionType.DEFLATE)) {
+            assertThat(sink.write("ack", records).getProcessedRecordsCount(), is(100));
+            DataRecordResult actual = captureDataRecordResult(channel);
+            assertThat(actual.getRecordCount(), is(0));
+            assertFalse(actual.getCompressedRecord().isEmpty());
+            DataRecordResult actualRecords = DataRecordResult.parseFrom(inflate(actual.getCompressedRecord().toByteArray()));
+            assertThat(actualRecords.getRecordCount(), is(100));
+            assertThat(actualRecords.getRecord(0).getMetaData().getTable(), is("t_order"));
+        }
+    }
+    
+    @Test
+    void assertWriteWithDeflateCompressionSkippedForSmallFrame() {
+        Channel channel = mockActiveChannel();
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, mockDatabase(), Collections.singletonList("logic_schema.t_order"), DataRecordCompressionType.DEFLATE)) {
+            sink.write("ack", Collections.singletonList(createDataRecord(1L, "foo")));
+            DataRecordResult actual = captureDataRecordResult(channel);
+            assertThat(actual.getRecordCount(), is(1));
+            assertTrue(actual.getCompressedRecord().isEmpty());
+        }
+    }
+    
     @Test
     void assertWriteWhenChannelInactive() {
         Channel channel = mock(Channel.class);
@@ -99,4 +155,43 @@ class PipelineCDCSocketSinkTest {
         assertThat(actualResponse.getErrorCode(), is(XOpenSQLState.GENERAL_ERROR.getValue()));
         assertThat(actualResponse.getErrorMessage(), is("The socket channel is closed."));
     }
+    
+    private Channel mockActiveChannel() {
+        Channel result = mock(Channel.class);
+        when(result.isWritable()).thenReturn(true);
+        when(result.isActive()).thenReturn(true);
+        return result;
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getName()).thenReturn("logic_db");
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final long csn, final String value) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", 1, true, true));
+        result.addColumn(new NormalColumn("status", value, true, false));
+        result.setCsn(csn);
+        return result;
+    }
+    
+    private DataRecordResult captureDataRecordResult(final Channel channel) {
+        ArgumentCaptor<CDCResponse> responseCaptor = ArgumentCaptor.forClass(CDCResponse.class);
+        verify(channel).writeAndFlush(responseCaptor.capture());
+        return responseCaptor.getValue().getDataRecordResult();
+    }
+    
+    private byte[] inflate(final byte[] data) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        inflater.setInput(data);
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        while (!inflater.finished()) {
+            result.write(buffer, 0, inflater.inflate(buffer));
+        }
+        inflater.end();
+        return result.toByteArray();
+    }
 }
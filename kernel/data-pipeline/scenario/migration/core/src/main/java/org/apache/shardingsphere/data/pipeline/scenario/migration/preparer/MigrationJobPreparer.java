@@ -30,7 +30,10 @@ import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCanceli
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithGetBinlogPositionException;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.KeyPartitionedChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.CreateIncrementalDumperParameter;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.DialectIncrementalDumperCreator;
@@ -73,6 +76,9 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Migration job preparer.
@@ -175,9 +181,17 @@ public final class MigrationJobPreparer implements PipelineJobPreparer<Migration
         CreateIncrementalDumperParameter param = new CreateIncrementalDumperParameter(
                 dumperContext, dumperContext.getCommonContext().getPosition(), channel, jobItemContext.getSourceMetaDataLoader(), jobItemContext.getDataSourceManager());
         Dumper dumper = IncrementalDumperCreator.create(param);
-        Collection<Importer> importers = Collections.singletonList(new SingleChannelConsumerImporter(channel, taskConfig.getImporterConfig().getBatchSize(), 1000L,
-                jobItemContext.getSink(), jobItemContext));
+        Collection<Importer> importers = Collections.singletonList(createIncrementalImporter(jobItemContext, channel));
         PipelineTask incrementalTask = new IncrementalTask(dumperContext.getCommonContext().getDataSourceName(), incrementalExecuteEngine, dumper, importers, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
     }
+    
+    private Importer createIncrementalImporter(final MigrationJobItemContext jobItemContext, final PipelineChannel channel) {
+        ImporterConfiguration importerConfig = jobItemContext.getTaskConfig().getImporterConfig();
+        if (importerConfig.getConcurrency() <= 1 || !Boolean.TRUE.equals(jobItemContext.getJobProcessContext().getProcessConfiguration().getWrite().getParallelIncrementalImport())) {
+            return new SingleChannelConsumerImporter(channel, importerConfig.getBatchSize(), 1000L, jobItemContext.getSink(), jobItemContext);
+        }
+        List<PipelineSink> sinks = IntStream.range(0, importerConfig.getConcurrency()).mapToObj(each -> jobItemContext.getSink()).collect(Collectors.toList());
+        return new KeyPartitionedChannelConsumerImporter(channel, importerConfig.getBatchSize(), 1000L, sinks, jobItemContext);
+    }
 }
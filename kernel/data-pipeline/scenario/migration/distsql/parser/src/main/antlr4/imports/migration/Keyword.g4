@@ -123,6 +123,10 @@ STREAM_CHANNEL
     : S T R E A M UL_ C H A N N E L
     ;
 
+PARALLEL_INCREMENTAL_IMPORT
+    : P A R A L L E L UL_ I N C R E M E N T A L UL_ I M P O R T
+    ;
+
 IF
     : I F
     ;
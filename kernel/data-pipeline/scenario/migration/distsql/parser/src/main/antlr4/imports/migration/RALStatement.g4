@@ -36,7 +36,7 @@ readDefinition
     ;
 
 writeDefinition
-    : WRITE LP_ workerThread? (COMMA_? batchSize)? (COMMA_? rateLimiter)? RP_
+    : WRITE LP_ workerThread? (COMMA_? batchSize)? (COMMA_? rateLimiter)? (COMMA_? parallelIncrementalImport)? RP_
     ;
 
 workerThread
@@ -51,6 +51,10 @@ shardingSize
     : SHARDING_SIZE EQ_ intValue
     ;
 
+parallelIncrementalImport
+    : PARALLEL_INCREMENTAL_IMPORT EQ_ (TRUE | FALSE)
+    ;
+
 rateLimiter
     : RATE_LIMITER LP_ algorithmDefinition RP_
     ;
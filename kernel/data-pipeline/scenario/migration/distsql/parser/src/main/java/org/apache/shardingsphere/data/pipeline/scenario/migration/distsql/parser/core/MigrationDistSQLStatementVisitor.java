@@ -47,6 +47,7 @@ import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatemen
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.CommitMigrationContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.DropMigrationCheckContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.MigrateTableContext;
+import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.ParallelIncrementalImportContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.PasswordContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.PropertiesDefinitionContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.PropertyContext;
@@ -128,7 +129,8 @@ public final class MigrationDistSQLStatementVisitor extends MigrationDistSQLStat
     
     @Override
     public ASTNode visitWriteDefinition(final WriteDefinitionContext ctx) {
-        return new ReadOrWriteSegment(getWorkerThread(ctx.workerThread()), getBatchSize(ctx.batchSize()), getAlgorithmSegment(ctx.rateLimiter()));
+        return new ReadOrWriteSegment(getWorkerThread(ctx.workerThread()), getBatchSize(ctx.batchSize()), getAlgorithmSegment(ctx.rateLimiter()),
+                getParallelIncrementalImport(ctx.parallelIncrementalImport()));
     }
     
     private AlgorithmSegment getAlgorithmSegment(final RateLimiterContext ctx) {
@@ -157,6 +159,10 @@ public final class MigrationDistSQLStatementVisitor extends MigrationDistSQLStat
         return null == ctx ? null : Integer.parseInt(ctx.intValue().getText());
     }
     
+    private Boolean getParallelIncrementalImport(final ParallelIncrementalImportContext ctx) {
+        return null == ctx ? null : null != ctx.TRUE();
+    }
+    
     @Override
     public ASTNode visitMigrateTable(final MigrateTableContext ctx) {
         String targetDatabaseName = getTargetDatabaseName(ctx.targetTableName());
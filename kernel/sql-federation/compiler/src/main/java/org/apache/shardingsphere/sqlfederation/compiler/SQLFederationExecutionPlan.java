@@ -22,6 +22,9 @@ import lombok.RequiredArgsConstructor;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.type.RelDataType;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * SQL federation execution plan.
  */
@@ -32,4 +35,22 @@ public final class SQLFederationExecutionPlan {
     private final RelNode physicalPlan;
     
     private final RelDataType resultColumnType;
+    
+    private final Map<Integer, RelDataType> dynamicParameterTypes;
+    
+    private final Map<Integer, Object> literalParameters;
+    
+    public SQLFederationExecutionPlan(final RelNode physicalPlan, final RelDataType resultColumnType) {
+        this(physicalPlan, resultColumnType, Collections.emptyMap(), Collections.emptyMap());
+    }
+    
+    /**
+     * Bind literal parameters extracted from parameterized SQL.
+     *
+     * @param literalParameters literal parameters, key is dynamic parameter index
+     * @return bound execution plan
+     */
+    public SQLFederationExecutionPlan bind(final Map<Integer, Object> literalParameters) {
+        return new SQLFederationExecutionPlan(physicalPlan, resultColumnType, dynamicParameterTypes, literalParameters);
+    }
 }
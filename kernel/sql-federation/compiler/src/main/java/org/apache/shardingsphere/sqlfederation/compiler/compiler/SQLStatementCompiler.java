@@ -21,17 +21,23 @@ import lombok.RequiredArgsConstructor;
 import org.apache.calcite.plan.Convention;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.rel.RelNode;
-import org.apache.calcite.rel.metadata.JaninoRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQueryBase;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.builder.SQLFederationPlannerBuilder;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.DynamicParameterTypeCollector;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.metadata.SQLFederationRelMetadataProvider;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.rewriter.LogicalScanRelRewriter;
 import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.SQLNodeConverterEngine;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
 /**
  * SQL statement compiler.
  */
@@ -50,14 +56,46 @@ public final class SQLStatementCompiler {
      * @return SQL federation execution plan
      */
     public SQLFederationExecutionPlan compile(final SQLStatement sqlStatement, final String databaseType) {
-        RelMetadataQueryBase.THREAD_PROVIDERS.set(JaninoRelMetadataProvider.DEFAULT);
-        SqlNode sqlNode = SQLNodeConverterEngine.convert(sqlStatement);
-        RelNode logicalPlan = converter.convertQuery(sqlNode, true, true).rel;
-        RelDataType resultColumnType = converter.getValidatedNodeType(sqlNode);
-        RelNode rewrittenPlan = rewrite(logicalPlan, databaseType);
-        RelNode physicalPlan = optimize(rewrittenPlan, converter, databaseType);
-        RelMetadataQueryBase.THREAD_PROVIDERS.remove();
-        return new SQLFederationExecutionPlan(physicalPlan, resultColumnType);
+        return compile(SQLNodeConverterEngine.convert(sqlStatement), databaseType);
+    }
+    
+    /**
+     * Compile SQL node to execution plan.
+     *
+     * @param sqlNode SQL node
+     * @param databaseType database type
+     * @return SQL federation execution plan
+     */
+    public SQLFederationExecutionPlan compile(final SqlNode sqlNode, final String databaseType) {
+        return compile(sqlNode, databaseType, dynamicParameterTypes -> true).orElseThrow(IllegalStateException::new);
+    }
+    
+    /**
+     * Compile SQL node to execution plan if types of its dynamic parameters are accepted.
+     *
+     * <p>Dynamic parameter types are checked on logical plan, so that rejected SQL node is not optimized.</p>
+     *
+     * @param sqlNode SQL node
+     * @param databaseType database type
+     * @param dynamicParameterTypesChecker dynamic parameter types checker, key of dynamic parameter types is dynamic parameter index
+     * @return SQL federation execution plan, empty when dynamic parameter types are rejected
+     */
+    public Optional<SQLFederationExecutionPlan> compile(final SqlNode sqlNode, final String databaseType, final Predicate<Map<Integer, RelDataType>> dynamicParameterTypesChecker) {
+        RelMetadataQueryBase.THREAD_PROVIDERS.set(SQLFederationRelMetadataProvider.INSTANCE);
+        try {
+            converter.getCluster().invalidateMetadataQuery();
+            RelNode logicalPlan = converter.convertQuery(sqlNode, true, true).rel;
+            Map<Integer, RelDataType> dynamicParameterTypes = DynamicParameterTypeCollector.collect(logicalPlan);
+            if (!dynamicParameterTypesChecker.test(dynamicParameterTypes)) {
+                return Optional.empty();
+            }
+            RelDataType resultColumnType = converter.getValidatedNodeType(sqlNode);
+            RelNode rewrittenPlan = rewrite(logicalPlan, databaseType);
+            RelNode physicalPlan = optimize(rewrittenPlan, converter, databaseType);
+            return Optional.of(new SQLFederationExecutionPlan(physicalPlan, resultColumnType, dynamicParameterTypes, Collections.emptyMap()));
+        } finally {
+            RelMetadataQueryBase.THREAD_PROVIDERS.remove();
+        }
     }
     
     private RelNode rewrite(final RelNode logicalPlan, final String databaseType) {
@@ -20,11 +20,20 @@ package org.apache.shardingsphere.sqlfederation.compiler.compiler;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheBuilder;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanLiteralParameterConverter;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanParameterizer;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ParameterizedSQLNode;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
 
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * SQL statement compiler engine.
  */
@@ -44,16 +53,58 @@ public final class SQLStatementCompilerEngine {
     /**
      * Compile SQL statement to execution plan.
      *
+     * <p>When cache is used, literals of select statement are extracted into dynamic parameters first, so that statements only differing in literals share one cached execution plan.
+     * If the literals do not fit the inferred dynamic parameter types, the statement is compiled with its literals and only the literal plan is optimized.
+     * Concurrent misses of one parameterized statement are compiled only once by loading the cache entry atomically.</p>
+     *
      * @param cacheKey execution plan cache key
      * @param useCache use cache
      * @return SQL federation execution plan
      */
     public SQLFederationExecutionPlan compile(final ExecutionPlanCacheKey cacheKey, final boolean useCache) {
+        if (!useCache) {
+            return cacheKey.getSqlStatementCompiler().compile(cacheKey.getSqlStatement(), cacheKey.getSqlStatement().getDatabaseType().getType());
+        }
+        if (!(cacheKey.getSqlStatement() instanceof SelectStatement)) {
+            return getExecutionPlan(cacheKey);
+        }
+        SqlNode sqlNode = SQLNodeConverterEngine.convert(cacheKey.getSqlStatement());
+        ExecutionPlanCacheKey literalCacheKey = cacheKey.withSqlNode(sqlNode);
+        Optional<ParameterizedSQLNode> parameterizedSQLNode = ExecutionPlanParameterizer.parameterize(sqlNode);
+        return parameterizedSQLNode.isPresent() ? compile(cacheKey.parameterize(parameterizedSQLNode.get()), parameterizedSQLNode.get(), literalCacheKey) : getExecutionPlan(literalCacheKey);
+    }
+    
+    private SQLFederationExecutionPlan compile(final ExecutionPlanCacheKey parameterizedCacheKey, final ParameterizedSQLNode parameterizedSQLNode, final ExecutionPlanCacheKey literalCacheKey) {
+        Map<Integer, Object> literalParameters = parameterizedSQLNode.getLiteralParameters();
+        SQLFederationExecutionPlan executionPlan = executionPlanCache.get(parameterizedCacheKey, key -> compile(key, parameterizedSQLNode.getSqlNode(), literalParameters).orElse(null));
+        if (null == executionPlan) {
+            return getExecutionPlan(literalCacheKey);
+        }
+        Optional<Map<Integer, Object>> convertedLiteralParameters = ExecutionPlanLiteralParameterConverter.convert(literalParameters, executionPlan.getDynamicParameterTypes());
+        return convertedLiteralParameters.isPresent() ? executionPlan.bind(convertedLiteralParameters.get()) : getExecutionPlan(literalCacheKey);
+    }
+    
+    private Optional<SQLFederationExecutionPlan> compile(final ExecutionPlanCacheKey parameterizedCacheKey, final SqlNode parameterizedSqlNode, final Map<Integer, Object> literalParameters) {
+        return parameterizedCacheKey.getSqlStatementCompiler().compile(parameterizedSqlNode, parameterizedCacheKey.getSqlStatement().getDatabaseType().getType(),
+                dynamicParameterTypes -> ExecutionPlanLiteralParameterConverter.convert(literalParameters, dynamicParameterTypes).isPresent());
+    }
+    
+    private SQLFederationExecutionPlan getExecutionPlan(final ExecutionPlanCacheKey cacheKey) {
+        Optional<SQLFederationExecutionPlan> cachedExecutionPlan = findCachedExecutionPlan(cacheKey);
         if (log.isDebugEnabled()) {
-            String cacheExists = null == executionPlanCache.get(cacheKey) ? "not exists" : "exists";
-            log.debug("Execution plan cache {} for SQL: {}, useCache: {}.", cacheExists, cacheKey.getSql(), useCache);
+            log.debug("Execution plan cache {} for SQL: {}.", cachedExecutionPlan.isPresent() ? "exists" : "not exists", cacheKey.getSql());
         }
-        return useCache ? executionPlanCache.get(cacheKey) : cacheKey.getSqlStatementCompiler().compile(cacheKey.getSqlStatement(), cacheKey.getSqlStatement().getDatabaseType().getType());
+        return cachedExecutionPlan.orElseGet(() -> executionPlanCache.get(cacheKey));
+    }
+    
+    /**
+     * Find cached execution plan.
+     *
+     * @param cacheKey execution plan cache key
+     * @return cached execution plan
+     */
+    public Optional<SQLFederationExecutionPlan> findCachedExecutionPlan(final ExecutionPlanCacheKey cacheKey) {
+        return Optional.ofNullable(executionPlanCache.getIfPresent(cacheKey));
     }
     
     /**
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.infra.util.spill.SpillFileUtils;
+import org.apache.shardingsphere.infra.util.spill.SpillRowCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Spill file, which writes rows to local temporary file lazily created when first row is written and reads them back in written order.
+ *
+ * <p>Rows are encoded by {@link SpillRowCodec}, a row of single column is written with a leading flag so that it is read back as the value itself instead of an array.</p>
+ */
+@RequiredArgsConstructor
+public final class SpillFile implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final String spillDirectory;
+    
+    private Path path;
+    
+    private DataOutputStream output;
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     */
+    @SneakyThrows(IOException.class)
+    public void write(final Object row) {
+        if (null == output) {
+            path = SpillFileUtils.createTempFile(spillDirectory, "sql-federation-spill-");
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+        }
+        boolean arrayRow = row instanceof Object[];
+        output.writeBoolean(arrayRow);
+        SpillRowCodec.write(output, arrayRow ? (Object[]) row : new Object[]{row});
+    }
+    
+    /**
+     * Finish writing and read written rows.
+     *
+     * @param <T> type of row
+     * @return enumerable of written rows
+     */
+    @SneakyThrows(IOException.class)
+    public <T> Enumerable<T> read() {
+        if (null != output) {
+            output.close();
+            output = null;
+        }
+        if (null == path) {
+            return Linq4j.emptyEnumerable();
+        }
+        Path readPath = path;
+        return new AbstractEnumerable<T>() {
+            
+            @Override
+            public Enumerator<T> enumerator() {
+                return new SpillFileEnumerator<>(readPath);
+            }
+        };
+    }
+    
+    @Override
+    public void close() {
+        try {
+            if (null != output) {
+                output.close();
+                output = null;
+            }
+            if (null != path) {
+                Files.deleteIfExists(path);
+            }
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private static final class SpillFileEnumerator<T> implements Enumerator<T> {
+        
+        private final DataInputStream input;
+        
+        private T current;
+        
+        private boolean finished;
+        
+        @SneakyThrows(IOException.class)
+        SpillFileEnumerator(final Path path) {
+            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+        }
+        
+        @Override
+        public T current() {
+            return current;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @SneakyThrows(IOException.class)
+        @Override
+        public boolean moveNext() {
+            int arrayRow = finished ? -1 : input.read();
+            Optional<Object[]> row = arrayRow < 0 ? Optional.empty() : SpillRowCodec.read(input);
+            if (!row.isPresent()) {
+                finished = true;
+                current = null;
+                return false;
+            }
+            current = (T) (0 == arrayRow ? row.get()[0] : row.get());
+            return true;
+        }
+        
+        @Override
+        public void reset() {
+            throw new UnsupportedOperationException("Spill file enumerator can not be reset.");
+        }
+        
+        @SneakyThrows(IOException.class)
+        @Override
+        public void close() {
+            input.close();
+        }
+    }
+}
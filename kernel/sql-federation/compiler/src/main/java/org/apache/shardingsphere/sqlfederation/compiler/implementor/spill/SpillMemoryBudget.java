@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spill memory budget of one SQL federation query.
+ */
+@RequiredArgsConstructor
+public final class SpillMemoryBudget implements AutoCloseable {
+    
+    public static final String DATA_CONTEXT_KEY = "sqlFederationSpillMemoryBudget";
+    
+    private static final AtomicLong GLOBAL_RESERVED_BYTES = new AtomicLong();
+    
+    private final long queryLimitBytes;
+    
+    private final long globalLimitBytes;
+    
+    private final String spillDirectory;
+    
+    private final AtomicLong reservedBytes = new AtomicLong();
+    
+    @Getter
+    private final Collection<SpillFile> spillFiles = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Try to reserve memory.
+     *
+     * @param bytes bytes to be reserved
+     * @return reserved or not
+     */
+    public boolean tryReserve(final long bytes) {
+        if (reservedBytes.addAndGet(bytes) > queryLimitBytes) {
+            reservedBytes.addAndGet(-bytes);
+            return false;
+        }
+        if (GLOBAL_RESERVED_BYTES.addAndGet(bytes) > globalLimitBytes && globalLimitBytes > 0L) {
+            GLOBAL_RESERVED_BYTES.addAndGet(-bytes);
+            reservedBytes.addAndGet(-bytes);
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Release reserved memory.
+     *
+     * @param bytes bytes to be released
+     */
+    public void release(final long bytes) {
+        reservedBytes.addAndGet(-bytes);
+        GLOBAL_RESERVED_BYTES.addAndGet(-bytes);
+    }
+    
+    /**
+     * Get reserved bytes.
+     *
+     * @return reserved bytes
+     */
+    public long getReservedBytes() {
+        return reservedBytes.get();
+    }
+    
+    /**
+     * Create spill file.
+     *
+     * @return created spill file
+     */
+    public SpillFile createSpillFile() {
+        SpillFile result = new SpillFile(spillDirectory);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    /**
+     * Delete spill file.
+     *
+     * @param spillFile spill file to be deleted
+     */
+    public void deleteSpillFile(final SpillFile spillFile) {
+        spillFile.close();
+        spillFiles.remove(spillFile);
+    }
+    
+    @Override
+    public void close() {
+        release(reservedBytes.get());
+        spillFiles.forEach(SpillFile::close);
+        spillFiles.clear();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+
+/**
+ * Spill row size estimator.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillRowSizeEstimator {
+    
+    private static final long OBJECT_HEADER_BYTES = 16L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    /**
+     * Estimate retained heap bytes of row.
+     *
+     * @param row row
+     * @return estimated bytes
+     */
+    public static long estimate(final Object row) {
+        if (row instanceof Object[]) {
+            Object[] values = (Object[]) row;
+            long result = OBJECT_HEADER_BYTES + REFERENCE_BYTES * values.length;
+            for (Object each : values) {
+                result += estimateValue(each);
+            }
+            return result;
+        }
+        if (row instanceof Collection) {
+            long result = OBJECT_HEADER_BYTES * 2L;
+            for (Object each : (Collection<?>) row) {
+                result += REFERENCE_BYTES + estimateValue(each);
+            }
+            return result;
+        }
+        return REFERENCE_BYTES + estimateValue(row);
+    }
+    
+    private static long estimateValue(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_HEADER_BYTES * 3L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_HEADER_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return OBJECT_HEADER_BYTES * 4L;
+        }
+        return OBJECT_HEADER_BYTES + REFERENCE_BYTES;
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.EnumerableDefaults;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.linq4j.function.EqualityComparer;
+import org.apache.calcite.linq4j.function.Function0;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.apache.calcite.linq4j.function.Predicate2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+
+/**
+ * Spillable enumerable, which executes sort, group by and hash join of wrapped input within memory budget and spills to local disk when budget is exceeded.
+ *
+ * @param <T> type of row
+ */
+@RequiredArgsConstructor
+public final class SpillableEnumerable<T> extends AbstractEnumerable<T> {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_PARTITION_DEPTH = 3;
+    
+    private static final int GOLDEN_RATIO = 0x9E3779B1;
+    
+    private static final int MIN_SORTED_RUN_ROWS = 1024;
+    
+    private static final int MAX_MERGE_RUNS = 64;
+    
+    private final SpillMemoryBudget budget;
+    
+    private final Enumerable<T> input;
+    
+    private final int depth;
+    
+    /**
+     * Wrap input with spill memory budget of current query.
+     *
+     * @param root data context
+     * @param input input
+     * @param <T> type of row
+     * @return spillable enumerable if spill memory budget exists, otherwise input itself
+     */
+    public static <T> Enumerable<T> wrap(final DataContext root, final Enumerable<T> input) {
+        Object budget = root.get(SpillMemoryBudget.DATA_CONTEXT_KEY);
+        return budget instanceof SpillMemoryBudget ? new SpillableEnumerable<>((SpillMemoryBudget) budget, input, 0) : input;
+    }
+    
+    @Override
+    public Enumerator<T> enumerator() {
+        return input.enumerator();
+    }
+    
+    @Override
+    public <K> Enumerable<T> orderBy(final Function1<T, K> keySelector) {
+        return orderBy(keySelector, null);
+    }
+    
+    @Override
+    public <K> Enumerable<T> orderBy(final Function1<T, K> keySelector, final Comparator<K> comparator) {
+        return defer(() -> sort(createRowComparator(keySelector, comparator)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <K> Comparator<T> createRowComparator(final Function1<T, K> keySelector, final Comparator<K> comparator) {
+        Comparator<K> keyComparator = null == comparator ? (o1, o2) -> ((Comparable<K>) o1).compareTo(o2) : comparator;
+        return (o1, o2) -> keyComparator.compare(keySelector.apply(o1), keySelector.apply(o2));
+    }
+    
+    private Enumerator<T> sort(final Comparator<T> rowComparator) {
+        List<T> rows = new ArrayList<>();
+        Collection<SpillFile> runs = new LinkedList<>();
+        long reservedBytes = 0L;
+        try (Enumerator<T> enumerator = input.enumerator()) {
+            while (enumerator.moveNext()) {
+                T row = enumerator.current();
+                long rowBytes = SpillRowSizeEstimator.estimate(row);
+                boolean reserved = budget.tryReserve(rowBytes);
+                if (!reserved && rows.size() >= MIN_SORTED_RUN_ROWS) {
+                    runs.add(writeSortedRun(rows, rowComparator));
+                    budget.release(reservedBytes);
+                    reservedBytes = 0L;
+                    reserved = budget.tryReserve(rowBytes);
+                }
+                if (reserved) {
+                    reservedBytes += rowBytes;
+                }
+                rows.add(row);
+            }
+        }
+        if (runs.isEmpty()) {
+            rows.sort(rowComparator);
+            return new ReleasingEnumerator<>(Linq4j.enumerator(rows), budget, reservedBytes, runs);
+        }
+        runs.add(writeSortedRun(rows, rowComparator));
+        budget.release(reservedBytes);
+        Collection<SpillFile> mergeableRuns = reduceSortedRuns(runs, rowComparator);
+        return new ReleasingEnumerator<>(new MergeSortedRunsEnumerator<>(mergeableRuns, rowComparator), budget, 0L, mergeableRuns);
+    }
+    
+    private Collection<SpillFile> reduceSortedRuns(final Collection<SpillFile> runs, final Comparator<T> rowComparator) {
+        Collection<SpillFile> result = runs;
+        while (result.size() > MAX_MERGE_RUNS) {
+            Collection<SpillFile> mergedRuns = new LinkedList<>();
+            List<SpillFile> mergingRuns = new ArrayList<>(MAX_MERGE_RUNS);
+            for (SpillFile each : result) {
+                mergingRuns.add(each);
+                if (MAX_MERGE_RUNS == mergingRuns.size()) {
+                    mergedRuns.add(mergeSortedRuns(mergingRuns, rowComparator));
+                    mergingRuns.clear();
+                }
+            }
+            if (!mergingRuns.isEmpty()) {
+                mergedRuns.add(1 == mergingRuns.size() ? mergingRuns.get(0) : mergeSortedRuns(mergingRuns, rowComparator));
+            }
+            result = mergedRuns;
+        }
+        return result;
+    }
+    
+    private SpillFile mergeSortedRuns(final Collection<SpillFile> runs, final Comparator<T> rowComparator) {
+        SpillFile result = budget.createSpillFile();
+        try (Enumerator<T> enumerator = new MergeSortedRunsEnumerator<>(runs, rowComparator)) {
+            while (enumerator.moveNext()) {
+                result.write(enumerator.current());
+            }
+        }
+        runs.forEach(budget::deleteSpillFile);
+        return result;
+    }
+    
+    private SpillFile writeSortedRun(final List<T> rows, final Comparator<T> rowComparator) {
+        rows.sort(rowComparator);
+        SpillFile result = budget.createSpillFile();
+        rows.forEach(result::write);
+        rows.clear();
+        return result;
+    }
+    
+    @Override
+    public <K, A, R> Enumerable<R> groupBy(final Function1<T, K> keySelector, final Function0<A> accumulatorInitializer,
+                                           final Function2<A, T, A> accumulatorAdder, final Function2<K, A, R> resultSelector) {
+        return groupBy(keySelector, accumulatorInitializer, accumulatorAdder, resultSelector, null);
+    }
+    
+    @Override
+    public <K, A, R> Enumerable<R> groupBy(final Function1<T, K> keySelector, final Function0<A> accumulatorInitializer,
+                                           final Function2<A, T, A> accumulatorAdder, final Function2<K, A, R> resultSelector, final EqualityComparer<K> comparer) {
+        return defer(() -> aggregate(keySelector, accumulatorInitializer, accumulatorAdder, resultSelector, comparer));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <K, A, R> Enumerator<R> aggregate(final Function1<T, K> keySelector, final Function0<A> accumulatorInitializer,
+                                              final Function2<A, T, A> accumulatorAdder, final Function2<K, A, R> resultSelector, final EqualityComparer<K> comparer) {
+        Map<Object, A> groups = new LinkedHashMap<>();
+        SpillFile[] partitions = null;
+        long reservedBytes = 0L;
+        try (Enumerator<T> enumerator = input.enumerator()) {
+            while (enumerator.moveNext()) {
+                T row = enumerator.current();
+                K key = keySelector.apply(row);
+                Object groupKey = null == comparer ? key : new ComparerKey<>(key, comparer);
+                A accumulator = groups.get(groupKey);
+                if (null != accumulator || groups.containsKey(groupKey)) {
+                    groups.put(groupKey, accumulatorAdder.apply(accumulator, row));
+                    continue;
+                }
+                if (null == partitions) {
+                    long groupBytes = SpillRowSizeEstimator.estimate(row) * 2L;
+                    if (depth >= MAX_PARTITION_DEPTH || budget.tryReserve(groupBytes)) {
+                        reservedBytes += depth >= MAX_PARTITION_DEPTH ? 0L : groupBytes;
+                        groups.put(groupKey, accumulatorAdder.apply(accumulatorInitializer.apply(), row));
+                        continue;
+                    }
+                    partitions = createPartitions();
+                }
+                partitions[getPartitionIndex(key, comparer)].write(row);
+            }
+        }
+        List<R> result = new ArrayList<>(groups.size());
+        for (Entry<Object, A> entry : groups.entrySet()) {
+            result.add(resultSelector.apply(null == comparer ? (K) entry.getKey() : ((ComparerKey<K>) entry.getKey()).key, entry.getValue()));
+        }
+        if (null == partitions) {
+            return new ReleasingEnumerator<>(Linq4j.enumerator(result), budget, reservedBytes, new LinkedList<>());
+        }
+        List<Enumerable<R>> enumerables = new ArrayList<>(PARTITION_COUNT + 1);
+        enumerables.add(Linq4j.asEnumerable(result));
+        for (SpillFile each : partitions) {
+            enumerables.add(new SpillableEnumerable<>(budget, each.<T>read(), depth + 1).groupBy(keySelector, accumulatorInitializer, accumulatorAdder, resultSelector, comparer));
+        }
+        return new ReleasingEnumerator<>(Linq4j.concat(enumerables).enumerator(), budget, reservedBytes, toCollection(partitions));
+    }
+    
+    @Override
+    public <I, K, R> Enumerable<R> hashJoin(final Enumerable<I> inner, final Function1<T, K> outerKeySelector, final Function1<I, K> innerKeySelector,
+                                            final Function2<T, I, R> resultSelector, final EqualityComparer<K> comparer,
+                                            final boolean generateNullsOnLeft, final boolean generateNullsOnRight, final Predicate2<T, I> predicate) {
+        return defer(() -> join(inner, outerKeySelector, innerKeySelector, resultSelector, comparer, generateNullsOnLeft, generateNullsOnRight, predicate));
+    }
+    
+    private <I, K, R> Enumerator<R> join(final Enumerable<I> inner, final Function1<T, K> outerKeySelector, final Function1<I, K> innerKeySelector,
+                                         final Function2<T, I, R> resultSelector, final EqualityComparer<K> comparer,
+                                         final boolean generateNullsOnLeft, final boolean generateNullsOnRight, final Predicate2<T, I> predicate) {
+        List<I> innerRows = new ArrayList<>();
+        SpillFile[] innerPartitions = null;
+        long reservedBytes = 0L;
+        try (Enumerator<I> enumerator = inner.enumerator()) {
+            while (enumerator.moveNext()) {
+                I row = enumerator.current();
+                if (null == innerPartitions) {
+                    long rowBytes = SpillRowSizeEstimator.estimate(row) * 2L;
+                    if (depth >= MAX_PARTITION_DEPTH || budget.tryReserve(rowBytes)) {
+                        reservedBytes += depth >= MAX_PARTITION_DEPTH ? 0L : rowBytes;
+                        innerRows.add(row);
+                        continue;
+                    }
+                    innerPartitions = createPartitions();
+                    for (I each : innerRows) {
+                        innerPartitions[getPartitionIndex(innerKeySelector.apply(each), comparer)].write(each);
+                    }
+                    innerRows.clear();
+                    budget.release(reservedBytes);
+                    reservedBytes = 0L;
+                }
+                innerPartitions[getPartitionIndex(innerKeySelector.apply(row), comparer)].write(row);
+            }
+        }
+        if (null == innerPartitions) {
+            return new ReleasingEnumerator<>(EnumerableDefaults.hashJoin(input, Linq4j.asEnumerable(innerRows), outerKeySelector, innerKeySelector, resultSelector,
+                    comparer, generateNullsOnLeft, generateNullsOnRight, predicate).enumerator(), budget, reservedBytes, new LinkedList<>());
+        }
+        SpillFile[] outerPartitions = createPartitions();
+        try (Enumerator<T> enumerator = input.enumerator()) {
+            while (enumerator.moveNext()) {
+                T row = enumerator.current();
+                outerPartitions[getPartitionIndex(outerKeySelector.apply(row), comparer)].write(row);
+            }
+        }
+        List<Enumerable<R>> enumerables = new ArrayList<>(PARTITION_COUNT);
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            enumerables.add(new SpillableEnumerable<>(budget, outerPartitions[i].<T>read(), depth + 1).hashJoin(innerPartitions[i].<I>read(), outerKeySelector, innerKeySelector, resultSelector,
+                    comparer, generateNullsOnLeft, generateNullsOnRight, predicate));
+        }
+        Collection<SpillFile> spillFiles = toCollection(innerPartitions);
+        spillFiles.addAll(toCollection(outerPartitions));
+        return new ReleasingEnumerator<>(Linq4j.concat(enumerables).enumerator(), budget, 0L, spillFiles);
+    }
+    
+    private SpillFile[] createPartitions() {
+        SpillFile[] result = new SpillFile[PARTITION_COUNT];
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            result[i] = budget.createSpillFile();
+        }
+        return result;
+    }
+    
+    private <K> int getPartitionIndex(final K key, final EqualityComparer<K> comparer) {
+        int hashCode = null == key ? 0 : null == comparer ? key.hashCode() : comparer.hashCode(key);
+        return (Integer.rotateLeft(hashCode, depth * 8) * GOLDEN_RATIO) >>> (Integer.SIZE - PARTITION_BITS);
+    }
+    
+    private Collection<SpillFile> toCollection(final SpillFile[] spillFiles) {
+        Collection<SpillFile> result = new LinkedList<>();
+        for (SpillFile each : spillFiles) {
+            result.add(each);
+        }
+        return result;
+    }
+    
+    private static <E> Enumerable<E> defer(final Supplier<Enumerator<E>> enumeratorSupplier) {
+        return new AbstractEnumerable<E>() {
+            
+            @Override
+            public Enumerator<E> enumerator() {
+                return enumeratorSupplier.get();
+            }
+        };
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ComparerKey<K> {
+        
+        private final K key;
+        
+        private final EqualityComparer<K> comparer;
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof ComparerKey && comparer.equal(key, ((ComparerKey<K>) obj).key);
+        }
+        
+        @Override
+        public int hashCode() {
+            return null == key ? 0 : comparer.hashCode(key);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ReleasingEnumerator<E> implements Enumerator<E> {
+        
+        private final Enumerator<E> delegate;
+        
+        private final SpillMemoryBudget budget;
+        
+        private final long reservedBytes;
+        
+        private final Collection<SpillFile> spillFiles;
+        
+        private boolean closed;
+        
+        @Override
+        public E current() {
+            return delegate.current();
+        }
+        
+        @Override
+        public boolean moveNext() {
+            return delegate.moveNext();
+        }
+        
+        @Override
+        public void reset() {
+            delegate.reset();
+        }
+        
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                delegate.close();
+            } finally {
+                budget.release(reservedBytes);
+                spillFiles.forEach(budget::deleteSpillFile);
+            }
+        }
+    }
+    
+    private static final class MergeSortedRunsEnumerator<E> implements Enumerator<E> {
+        
+        private final List<Enumerator<E>> runs = new ArrayList<>();
+        
+        private final PriorityQueue<Integer> heads;
+        
+        private E current;
+        
+        private int pendingRunIndex = -1;
+        
+        MergeSortedRunsEnumerator(final Collection<SpillFile> spillFiles, final Comparator<E> rowComparator) {
+            for (SpillFile each : spillFiles) {
+                runs.add(each.<E>read().enumerator());
+            }
+            heads = new PriorityQueue<>(Math.max(1, runs.size()), (o1, o2) -> {
+                int result = rowComparator.compare(runs.get(o1).current(), runs.get(o2).current());
+                return 0 == result ? Integer.compare(o1, o2) : result;
+            });
+            for (int i = 0; i < runs.size(); i++) {
+                if (runs.get(i).moveNext()) {
+                    heads.add(i);
+                }
+            }
+        }
+        
+        @Override
+        public E current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (pendingRunIndex >= 0 && runs.get(pendingRunIndex).moveNext()) {
+                heads.add(pendingRunIndex);
+            }
+            pendingRunIndex = -1;
+            Integer runIndex = heads.poll();
+            if (null == runIndex) {
+                current = null;
+                return false;
+            }
+            current = runs.get(runIndex).current();
+            pendingRunIndex = runIndex;
+            return true;
+        }
+        
+        @Override
+        public void reset() {
+            throw new UnsupportedOperationException("Merge sorted runs enumerator can not be reset.");
+        }
+        
+        @Override
+        public void close() {
+            runs.forEach(Enumerator::close);
+        }
+    }
+}
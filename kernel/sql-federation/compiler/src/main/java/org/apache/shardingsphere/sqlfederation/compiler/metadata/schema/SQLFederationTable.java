@@ -41,6 +41,8 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ModifiableTable;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.schema.Schemas;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Statistics;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
@@ -49,12 +51,14 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementor;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementorContext;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.enumerator.EmptyDataRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
 import org.apache.shardingsphere.sqlfederation.compiler.sql.type.SQLFederationDataTypeBuilder;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL federation table.
@@ -68,6 +72,8 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
     
     private final DatabaseType protocolType;
     
+    private volatile SQLFederationTableStatistics statistics;
+    
     /**
      * Implement.
      *
@@ -107,6 +113,30 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         SCAN_IMPLEMENTOR_HOLDER.remove();
     }
     
+    /**
+     * Find table statistics.
+     *
+     * @return found table statistics
+     */
+    public Optional<SQLFederationTableStatistics> findStatistics() {
+        return Optional.ofNullable(statistics);
+    }
+    
+    /**
+     * Set table statistics.
+     *
+     * @param statistics table statistics
+     */
+    public void setStatistics(final SQLFederationTableStatistics statistics) {
+        this.statistics = statistics;
+    }
+    
+    @Override
+    public Statistic getStatistic() {
+        SQLFederationTableStatistics currentStatistics = statistics;
+        return null == currentStatistics ? Statistics.UNKNOWN : Statistics.of(currentStatistics.getRowCount(), Collections.emptyList());
+    }
+    
     @Override
     public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
         return SQLFederationDataTypeBuilder.build(table, protocolType, typeFactory);
@@ -35,6 +35,9 @@ import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.rules.ProjectRemoveRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableAggregateConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableJoinConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableSortConverterRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushFilterIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushProjectIntoScanRule;
 
@@ -58,28 +61,39 @@ public final class SQLFederationPlannerBuilder {
      * @return volcano planner instance
      */
     public static RelOptPlanner buildVolcanoPlanner(final Convention convention) {
+        return buildVolcanoPlanner(convention, false);
+    }
+    
+    /**
+     * Build new instance of volcano planner.
+     *
+     * @param convention convention
+     * @param spillEnabled whether to convert join, aggregate and sort to spillable operators
+     * @return volcano planner instance
+     */
+    public static RelOptPlanner buildVolcanoPlanner(final Convention convention, final boolean spillEnabled) {
         RelOptPlanner result = new VolcanoPlanner();
-        setUpRules(result, convention);
+        setUpRules(result, convention, spillEnabled);
         return result;
     }
     
-    private static void setUpRules(final RelOptPlanner planner, final Convention convention) {
+    private static void setUpRules(final RelOptPlanner planner, final Convention convention, final boolean spillEnabled) {
         planner.addRelTraitDef(ConventionTraitDef.INSTANCE);
         planner.addRelTraitDef(RelCollationTraitDef.INSTANCE);
         if (EnumerableConvention.INSTANCE == convention) {
-            setUpEnumerableConventionRules(planner);
+            setUpEnumerableConventionRules(planner, spillEnabled);
         }
     }
     
-    private static void setUpEnumerableConventionRules(final RelOptPlanner planner) {
-        planner.addRule(EnumerableRules.ENUMERABLE_JOIN_RULE);
+    private static void setUpEnumerableConventionRules(final RelOptPlanner planner, final boolean spillEnabled) {
+        planner.addRule(spillEnabled ? EnumerableSpillableJoinConverterRule.DEFAULT_CONFIG.toRule() : EnumerableRules.ENUMERABLE_JOIN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_MERGE_JOIN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_CORRELATE_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_PROJECT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_FILTER_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_CALC_RULE);
-        planner.addRule(EnumerableRules.ENUMERABLE_AGGREGATE_RULE);
-        planner.addRule(EnumerableRules.ENUMERABLE_SORT_RULE);
+        planner.addRule(spillEnabled ? EnumerableSpillableAggregateConverterRule.DEFAULT_CONFIG.toRule() : EnumerableRules.ENUMERABLE_AGGREGATE_RULE);
+        planner.addRule(spillEnabled ? EnumerableSpillableSortConverterRule.DEFAULT_CONFIG.toRule() : EnumerableRules.ENUMERABLE_SORT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_LIMIT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_COLLECT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_UNCOLLECT_RULE);
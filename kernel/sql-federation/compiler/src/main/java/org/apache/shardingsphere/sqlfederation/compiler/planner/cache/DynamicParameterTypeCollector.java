@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableScan;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dynamic parameter type collector.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DynamicParameterTypeCollector {
+    
+    /**
+     * Collect types of dynamic parameters in plan, including the ones pushed down to scans.
+     *
+     * @param relNode rel node
+     * @return dynamic parameter types, key is dynamic parameter index
+     */
+    public static Map<Integer, RelDataType> collect(final RelNode relNode) {
+        Map<Integer, RelDataType> result = new HashMap<>();
+        collect(relNode, result);
+        return result;
+    }
+    
+    private static void collect(final RelNode relNode, final Map<Integer, RelDataType> dynamicParameterTypes) {
+        relNode.accept(new RexShuttle() {
+            
+            @Override
+            public RexNode visitDynamicParam(final RexDynamicParam dynamicParam) {
+                dynamicParameterTypes.putIfAbsent(dynamicParam.getIndex(), dynamicParam.getType());
+                return dynamicParam;
+            }
+        });
+        if (relNode instanceof EnumerableScan && null != ((EnumerableScan) relNode).getPushDownRelNode()) {
+            collect(((EnumerableScan) relNode).getPushDownRelNode(), dynamicParameterTypes);
+        }
+        for (RelNode each : relNode.getInputs()) {
+            collect(each, dynamicParameterTypes);
+        }
+    }
+}
@@ -17,29 +17,78 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.planner.cache;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.calcite.sql.SqlNode;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.compiler.SQLStatementCompiler;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Execution plan cache key.
  */
-@RequiredArgsConstructor
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions"})
+@EqualsAndHashCode(of = {"sql", "parameterIndexes", "tableMetaDataFingerprints", "statisticsVersion"})
 public final class ExecutionPlanCacheKey {
     
-    // TODO replace sql with parameterized sql
     private final String sql;
     
     private final SQLStatement sqlStatement;
     
     private final SQLStatementCompiler sqlStatementCompiler;
     
-    private final Map<String, Integer> tableMetaDataVersions = new LinkedHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final SqlNode sqlNode;
+    
+    private final List<Integer> parameterIndexes;
+    
+    private final Map<String, String> tableMetaDataFingerprints;
+    
+    private final long statisticsVersion;
+    
+    public ExecutionPlanCacheKey(final String sql, final SQLStatement sqlStatement, final SQLStatementCompiler sqlStatementCompiler) {
+        this(sql, sqlStatement, sqlStatementCompiler, 0L);
+    }
+    
+    public ExecutionPlanCacheKey(final String sql, final SQLStatement sqlStatement, final SQLStatementCompiler sqlStatementCompiler, final long statisticsVersion) {
+        this(sql, sqlStatement, sqlStatementCompiler, null, Collections.emptyList(), new LinkedHashMap<>(), statisticsVersion);
+    }
+    
+    /**
+     * Create execution plan cache key with SQL node converted from SQL statement.
+     *
+     * @param sqlNode SQL node converted from SQL statement
+     * @return execution plan cache key with SQL node
+     */
+    public ExecutionPlanCacheKey withSqlNode(final SqlNode sqlNode) {
+        return new ExecutionPlanCacheKey(sql, sqlStatement, sqlStatementCompiler, sqlNode, parameterIndexes, tableMetaDataFingerprints, statisticsVersion);
+    }
+    
+    /**
+     * Create parameterized execution plan cache key.
+     *
+     * @param parameterizedSQLNode parameterized SQL node
+     * @return parameterized execution plan cache key
+     */
+    public ExecutionPlanCacheKey parameterize(final ParameterizedSQLNode parameterizedSQLNode) {
+        return new ExecutionPlanCacheKey(parameterizedSQLNode.getSql(), sqlStatement, sqlStatementCompiler,
+                parameterizedSQLNode.getSqlNode(), parameterizedSQLNode.getParameterIndexes(), tableMetaDataFingerprints, statisticsVersion);
+    }
+    
+    /**
+     * Find SQL node.
+     *
+     * @return SQL node, empty when SQL statement is not converted yet
+     */
+    public Optional<SqlNode> findSqlNode() {
+        return Optional.ofNullable(sqlNode);
+    }
 }
@@ -27,6 +27,8 @@ public final class ExecutionPlanCacheLoader implements CacheLoader<ExecutionPlan
     
     @Override
     public SQLFederationExecutionPlan load(final ExecutionPlanCacheKey cacheKey) {
-        return cacheKey.getSqlStatementCompiler().compile(cacheKey.getSqlStatement(), cacheKey.getSqlStatement().getDatabaseType().getType());
+        String databaseType = cacheKey.getSqlStatement().getDatabaseType().getType();
+        return cacheKey.findSqlNode().map(optional -> cacheKey.getSqlStatementCompiler().compile(optional, databaseType))
+                .orElseGet(() -> cacheKey.getSqlStatementCompiler().compile(cacheKey.getSqlStatement(), databaseType));
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeFamily;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Execution plan literal parameter converter.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionPlanLiteralParameterConverter {
+    
+    /**
+     * Convert extracted literals to values of the dynamic parameter types inferred by compiled execution plan.
+     *
+     * @param literalParameters literal parameters, key is dynamic parameter index
+     * @param dynamicParameterTypes dynamic parameter types, key is dynamic parameter index
+     * @return converted literal parameters, empty when any literal can not be represented by its parameter type without changing query semantics
+     */
+    public static Optional<Map<Integer, Object>> convert(final Map<Integer, Object> literalParameters, final Map<Integer, RelDataType> dynamicParameterTypes) {
+        Map<Integer, Object> result = new LinkedHashMap<>(literalParameters.size(), 1F);
+        for (Entry<Integer, Object> entry : literalParameters.entrySet()) {
+            RelDataType dynamicParameterType = dynamicParameterTypes.get(entry.getKey());
+            Optional<Object> value = null == dynamicParameterType ? Optional.empty() : convert(entry.getValue(), dynamicParameterType);
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            result.put(entry.getKey(), value.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private static Optional<Object> convert(final Object literalValue, final RelDataType dynamicParameterType) {
+        if (literalValue instanceof String) {
+            return SqlTypeFamily.CHARACTER == dynamicParameterType.getSqlTypeName().getFamily() ? Optional.of(literalValue) : Optional.empty();
+        }
+        return literalValue instanceof BigDecimal ? convert((BigDecimal) literalValue, dynamicParameterType) : Optional.empty();
+    }
+    
+    private static Optional<Object> convert(final BigDecimal literalValue, final RelDataType dynamicParameterType) {
+        try {
+            switch (dynamicParameterType.getSqlTypeName()) {
+                case TINYINT:
+                    return Optional.of(literalValue.byteValueExact());
+                case SMALLINT:
+                    return Optional.of(literalValue.shortValueExact());
+                case INTEGER:
+                    return Optional.of(literalValue.intValueExact());
+                case BIGINT:
+                    return Optional.of(literalValue.longValueExact());
+                case DECIMAL:
+                    return isDecimalFit(literalValue, dynamicParameterType) ? Optional.of(literalValue) : Optional.empty();
+                case REAL:
+                    return Optional.of(literalValue.floatValue());
+                case FLOAT:
+                case DOUBLE:
+                    return Optional.of(literalValue.doubleValue());
+                default:
+                    return Optional.empty();
+            }
+        } catch (final ArithmeticException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private static boolean isDecimalFit(final BigDecimal literalValue, final RelDataType dynamicParameterType) {
+        return literalValue.scale() <= dynamicParameterType.getScale()
+                && literalValue.precision() - literalValue.scale() <= dynamicParameterType.getPrecision() - dynamicParameterType.getScale();
+    }
+}
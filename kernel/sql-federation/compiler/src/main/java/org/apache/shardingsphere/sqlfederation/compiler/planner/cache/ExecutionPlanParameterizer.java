@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.sql.SqlBasicCall;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCharStringLiteral;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.sql.util.SqlBasicVisitor;
+import org.apache.calcite.sql.util.SqlBasicVisitor.ArgHandler;
+import org.apache.calcite.sql.util.SqlShuttle;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Execution plan parameterizer.
+ *
+ * <p>Only numeric and character literals compared with a column are replaced by dynamic parameters, so the type of each extracted parameter can always be inferred from the column.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionPlanParameterizer {
+    
+    private static final Collection<SqlKind> COMPARISON_KINDS = EnumSet.of(
+            SqlKind.EQUALS, SqlKind.NOT_EQUALS, SqlKind.LESS_THAN, SqlKind.LESS_THAN_OR_EQUAL, SqlKind.GREATER_THAN, SqlKind.GREATER_THAN_OR_EQUAL);
+    
+    /**
+     * Replace literals in SQL node with dynamic parameters.
+     *
+     * <p>Literals are replaced in a copy of the SQL node, the SQL node itself is not modified. Extracted literals take dynamic parameter indexes after the ones of the original SQL.</p>
+     *
+     * @param sqlNode SQL node
+     * @return parameterized SQL node, empty when there is no literal to extract
+     */
+    public static Optional<ParameterizedSQLNode> parameterize(final SqlNode sqlNode) {
+        List<Integer> originalParameterIndexes = getParameterIndexes(sqlNode);
+        LiteralReplacer literalReplacer = new LiteralReplacer(originalParameterIndexes.stream().mapToInt(Integer::intValue).max().orElse(-1) + 1);
+        SqlNode parameterizedSqlNode = sqlNode.accept(literalReplacer);
+        if (literalReplacer.literalParameters.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ParameterizedSQLNode(parameterizedSqlNode, parameterizedSqlNode.toString(), getParameterIndexes(parameterizedSqlNode), literalReplacer.literalParameters));
+    }
+    
+    private static List<Integer> getParameterIndexes(final SqlNode sqlNode) {
+        List<Integer> result = new ArrayList<>();
+        sqlNode.accept(new SqlBasicVisitor<Void>() {
+            
+            @Override
+            public Void visit(final SqlDynamicParam param) {
+                result.add(param.getIndex());
+                return null;
+            }
+        });
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralReplacer extends SqlShuttle {
+        
+        private final Map<Integer, Object> literalParameters = new LinkedHashMap<>();
+        
+        private final int startIndex;
+        
+        @Override
+        public SqlNode visit(final SqlCall call) {
+            ArgHandler<SqlNode> argHandler = new CallCopyingArgHandler(call, true);
+            call.getOperator().acceptCall(this, call, false, argHandler);
+            SqlNode result = argHandler.result();
+            if (result instanceof SqlBasicCall) {
+                replaceLiterals((SqlBasicCall) result);
+            }
+            return result;
+        }
+        
+        @Override
+        public SqlNode visit(final SqlNodeList nodeList) {
+            SqlNodeList result = new SqlNodeList(nodeList.getParserPosition());
+            for (SqlNode each : nodeList) {
+                result.add(null == each ? null : each.accept(this));
+            }
+            return result;
+        }
+        
+        @Override
+        public SqlNode visit(final SqlIdentifier id) {
+            return id.clone(id.getParserPosition());
+        }
+        
+        private void replaceLiterals(final SqlBasicCall call) {
+            SqlKind kind = call.getKind();
+            if (COMPARISON_KINDS.contains(kind) && 2 == call.operandCount()) {
+                if (call.operand(0) instanceof SqlIdentifier) {
+                    replaceLiteral(call, 1);
+                } else if (call.operand(1) instanceof SqlIdentifier) {
+                    replaceLiteral(call, 0);
+                }
+                return;
+            }
+            if (!(call.operandCount() > 1 && call.operand(0) instanceof SqlIdentifier)) {
+                return;
+            }
+            if (SqlKind.LIKE == kind) {
+                replaceLiteral(call, 1);
+            } else if (SqlKind.BETWEEN == kind && 3 == call.operandCount()) {
+                replaceLiteral(call, 1);
+                replaceLiteral(call, 2);
+            } else if ((SqlKind.IN == kind || SqlKind.NOT_IN == kind) && call.operand(1) instanceof SqlNodeList) {
+                SqlNodeList values = call.operand(1);
+                for (int i = 0; i < values.size(); i++) {
+                    int valueIndex = i;
+                    findLiteralValue(values.get(valueIndex)).ifPresent(optional -> values.set(valueIndex, createDynamicParam(optional)));
+                }
+            }
+        }
+        
+        private void replaceLiteral(final SqlBasicCall call, final int operandIndex) {
+            findLiteralValue(call.operand(operandIndex)).ifPresent(optional -> call.setOperand(operandIndex, createDynamicParam(optional)));
+        }
+        
+        private Optional<Object> findLiteralValue(final SqlNode sqlNode) {
+            if (sqlNode instanceof SqlNumericLiteral) {
+                return Optional.ofNullable(((SqlLiteral) sqlNode).getValueAs(BigDecimal.class));
+            }
+            if (sqlNode instanceof SqlCharStringLiteral) {
+                return Optional.ofNullable(((SqlLiteral) sqlNode).getValueAs(String.class));
+            }
+            return Optional.empty();
+        }
+        
+        private SqlDynamicParam createDynamicParam(final Object literalValue) {
+            int index = startIndex + literalParameters.size();
+            literalParameters.put(index, literalValue);
+            return new SqlDynamicParam(index, SqlParserPos.ZERO);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.metadata;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL federation distinct row count metadata handler.
+ */
+public final class SQLFederationRelMdDistinctRowCount extends RelMdDistinctRowCount {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdDistinctRowCount(), BuiltInMetadata.DistinctRowCount.Handler.class);
+    
+    /**
+     * Get distinct row count of table scan.
+     *
+     * @param rel table scan
+     * @param mq rel metadata query
+     * @param groupKey group key
+     * @param predicate predicate
+     * @return distinct row count
+     */
+    public Double getDistinctRowCount(final TableScan rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Optional<RelNode> pushDownRelNode = ScanPushDownRelNodeUtils.findPushDownRelNode(rel);
+        if (pushDownRelNode.isPresent()) {
+            return mq.getDistinctRowCount(pushDownRelNode.get(), groupKey, predicate);
+        }
+        SQLFederationTable table = rel.getTable().unwrap(SQLFederationTable.class);
+        Optional<SQLFederationTableStatistics> statistics = null == table ? Optional.empty() : table.findStatistics();
+        Optional<Double> result = statistics.flatMap(optional -> calculateDistinctRowCount(optional, rel.getRowType().getFieldNames(), groupKey));
+        if (!result.isPresent()) {
+            return getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+        }
+        if (null == predicate || predicate.isAlwaysTrue()) {
+            return result.get();
+        }
+        Double selectivity = mq.getSelectivity(rel, predicate);
+        return null == selectivity ? result.get() : RelMdUtil.numDistinctVals(result.get(), statistics.get().getRowCount() * selectivity);
+    }
+    
+    private Optional<Double> calculateDistinctRowCount(final SQLFederationTableStatistics statistics, final List<String> fieldNames, final ImmutableBitSet groupKey) {
+        double result = 1D;
+        for (int each : groupKey) {
+            Optional<SQLFederationColumnStatistics> columnStatistics = statistics.findColumnStatistics(fieldNames.get(each));
+            if (!columnStatistics.isPresent()) {
+                return Optional.empty();
+            }
+            result *= Math.max(columnStatistics.get().getDistinctCount(), 1L);
+        }
+        return Optional.of(Math.min(result, Math.max(statistics.getRowCount(), 1L)));
+    }
+}
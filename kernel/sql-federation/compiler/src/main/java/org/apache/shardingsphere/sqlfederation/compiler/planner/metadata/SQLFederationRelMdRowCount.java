@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.metadata;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.RelMdRowCount;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+
+import java.util.Optional;
+
+/**
+ * SQL federation row count metadata handler.
+ */
+public final class SQLFederationRelMdRowCount extends RelMdRowCount {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdRowCount(), BuiltInMetadata.RowCount.Handler.class);
+    
+    /**
+     * Get row count of table scan.
+     *
+     * @param rel table scan
+     * @param mq rel metadata query
+     * @return row count
+     */
+    public Double getRowCount(final TableScan rel, final RelMetadataQuery mq) {
+        Optional<RelNode> pushDownRelNode = ScanPushDownRelNodeUtils.findPushDownRelNode(rel);
+        return pushDownRelNode.isPresent() ? mq.getRowCount(pushDownRelNode.get()) : rel.estimateRowCount(mq);
+    }
+}
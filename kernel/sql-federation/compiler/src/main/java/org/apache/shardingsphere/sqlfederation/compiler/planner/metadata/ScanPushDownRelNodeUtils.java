@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.metadata;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableScan;
+
+import java.util.Optional;
+
+/**
+ * Scan push down rel node utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ScanPushDownRelNodeUtils {
+    
+    /**
+     * Find rel node pushed down into scan.
+     *
+     * @param scan table scan
+     * @return found push down rel node
+     */
+    public static Optional<RelNode> findPushDownRelNode(final TableScan scan) {
+        if (scan instanceof LogicalScan) {
+            return Optional.of(((LogicalScan) scan).peek());
+        }
+        if (scan instanceof EnumerableScan) {
+            return Optional.ofNullable(((EnumerableScan) scan).getPushDownRelNode());
+        }
+        return Optional.empty();
+    }
+}
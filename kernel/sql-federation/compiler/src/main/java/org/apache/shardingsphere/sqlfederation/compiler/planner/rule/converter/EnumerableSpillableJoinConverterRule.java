@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableNestedLoopJoin;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableSpillableHashJoin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enumerable spillable join converter rule.
+ */
+public final class EnumerableSpillableJoinConverterRule extends ConverterRule {
+    
+    public static final Config DEFAULT_CONFIG = Config.INSTANCE.withConversion(LogicalJoin.class, Convention.NONE, EnumerableConvention.INSTANCE,
+            EnumerableSpillableJoinConverterRule.class.getSimpleName()).withRuleFactory(EnumerableSpillableJoinConverterRule::new);
+    
+    private EnumerableSpillableJoinConverterRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public RelNode convert(final RelNode rel) {
+        Join join = (Join) rel;
+        List<RelNode> inputs = new ArrayList<>(join.getInputs().size());
+        for (RelNode each : join.getInputs()) {
+            inputs.add(each.getConvention() instanceof EnumerableConvention ? each : convert(each, each.getTraitSet().replace(EnumerableConvention.INSTANCE)));
+        }
+        RelNode left = inputs.get(0);
+        RelNode right = inputs.get(1);
+        JoinInfo joinInfo = join.analyzeCondition();
+        if (joinInfo.leftKeys.isEmpty() || joinInfo.rightKeys.isEmpty()) {
+            return EnumerableNestedLoopJoin.create(left, right, join.getCondition(), join.getVariablesSet(), join.getJoinType());
+        }
+        RexBuilder rexBuilder = join.getCluster().getRexBuilder();
+        RexNode equiCondition = joinInfo.getEquiCondition(left, right, rexBuilder);
+        RexNode condition = joinInfo.isEqui() ? equiCondition
+                : RexUtil.composeConjunction(rexBuilder, Arrays.asList(equiCondition, RexUtil.composeConjunction(rexBuilder, joinInfo.nonEquiConditions)));
+        return EnumerableSpillableHashJoin.create(left, right, condition, join.getVariablesSet(), join.getJoinType());
+    }
+}
@@ -57,11 +57,15 @@ public final class SQLFederationRelConverter {
     private final SqlToRelConverter sqlToRelConverter;
     
     public SQLFederationRelConverter(final CompilerContext compilerContext, final List<String> schemaPath, final DatabaseType databaseType, final Convention convention) {
+        this(compilerContext, schemaPath, databaseType, convention, false);
+    }
+    
+    public SQLFederationRelConverter(final CompilerContext compilerContext, final List<String> schemaPath, final DatabaseType databaseType, final Convention convention, final boolean spillEnabled) {
         RelDataTypeFactory typeFactory = SQLFederationDataTypeFactory.getInstance();
         CalciteConnectionConfig connectionConfig = compilerContext.getConnectionConfig();
         CalciteCatalogReader catalogReader = new SQLFederationCatalogReader(compilerContext.getCalciteSchema(), schemaPath, typeFactory, connectionConfig);
         SqlValidator validator = createSqlValidator(catalogReader, typeFactory, connectionConfig, compilerContext.getOperatorTables());
-        RelOptCluster relOptCluster = createRelOptCluster(typeFactory, convention);
+        RelOptCluster relOptCluster = createRelOptCluster(typeFactory, convention, spillEnabled);
         sqlToRelConverter = createSqlToRelConverter(catalogReader, validator, relOptCluster, compilerContext.getSqlParserRule(), databaseType, true);
     }
     
@@ -89,8 +93,8 @@ public final class SQLFederationRelConverter {
         return new SqlToRelConverter(expander, validator, catalogReader, cluster, StandardConvertletTable.INSTANCE, converterConfig);
     }
     
-    private RelOptCluster createRelOptCluster(final RelDataTypeFactory typeFactory, final Convention convention) {
-        RelOptPlanner volcanoPlanner = SQLFederationPlannerBuilder.buildVolcanoPlanner(convention);
+    private RelOptCluster createRelOptCluster(final RelDataTypeFactory typeFactory, final Convention convention, final boolean spillEnabled) {
+        RelOptPlanner volcanoPlanner = SQLFederationPlannerBuilder.buildVolcanoPlanner(convention, spillEnabled);
         return RelOptCluster.create(volcanoPlanner, new RexBuilder(typeFactory));
     }
     
@@ -53,21 +53,26 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     
     private final RelDataType pushDownRowType;
     
+    private final RelNode pushDownRelNode;
+    
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType) {
-        super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
-        sqlString = createSQLString(pushDownRelNode, databaseType);
-        pushDownRowType = pushDownRelNode.getRowType();
+        this(cluster, traitSet, table, createSQLString(pushDownRelNode, databaseType), pushDownRelNode.getRowType(), pushDownRelNode);
     }
     
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType) {
+        this(cluster, traitSet, table, sqlString, pushDownRowType, null);
+    }
+    
+    private EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType, final RelNode pushDownRelNode) {
         super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
         this.sqlString = sqlString;
         this.pushDownRowType = pushDownRowType;
+        this.pushDownRelNode = pushDownRelNode;
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType);
+        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType, pushDownRelNode);
     }
     
     @Override
@@ -88,7 +93,7 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
                 Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes))));
     }
     
-    private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
+    private static SqlString createSQLString(final RelNode scanContext, final String databaseType) {
         SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
         return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
     }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import org.apache.calcite.adapter.enumerable.EnumerableAggregate;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.InvalidRelException;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.List;
+
+/**
+ * Enumerable spillable aggregate, which spills rows of new groups to local disk partitions when memory budget of current query is exceeded.
+ */
+public final class EnumerableSpillableAggregate extends EnumerableAggregate {
+    
+    public EnumerableSpillableAggregate(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final ImmutableBitSet groupSet,
+                                        final List<ImmutableBitSet> groupSets, final List<AggregateCall> aggCalls) throws InvalidRelException {
+        super(cluster, traitSet, input, groupSet, groupSets, aggCalls);
+    }
+    
+    @Override
+    public EnumerableAggregate copy(final RelTraitSet traitSet, final RelNode input, final ImmutableBitSet groupSet, final List<ImmutableBitSet> groupSets, final List<AggregateCall> aggCalls) {
+        try {
+            return new EnumerableSpillableAggregate(getCluster(), traitSet, input, groupSet, groupSets, aggCalls);
+        } catch (final InvalidRelException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        return super.copy(traitSet, new EnumerableSpillableInput(getInput()), groupSet, groupSets, aggCalls).implement(implementor, pref);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollationTraitDef;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.CorrelationId;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMdCollation;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+
+import java.util.Set;
+
+/**
+ * Enumerable spillable hash join, which partitions both inputs to local disk when build side exceeds memory budget of current query.
+ *
+ * <p>Semi and anti joins are kept in memory, because they are implemented by {@code EnumerableDefaults.semiJoin} which only retains distinct inner join keys
+ * (or inner rows for non equi conditions) instead of the whole build side.</p>
+ */
+public final class EnumerableSpillableHashJoin extends EnumerableHashJoin {
+    
+    private EnumerableSpillableHashJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode left, final RelNode right, final RexNode condition,
+                                        final Set<CorrelationId> variablesSet, final JoinRelType joinType) {
+        super(cluster, traitSet, left, right, condition, variablesSet, joinType);
+    }
+    
+    /**
+     * Create enumerable spillable hash join.
+     *
+     * @param left left input
+     * @param right right input
+     * @param condition join condition
+     * @param variablesSet variables set
+     * @param joinType join type
+     * @return created enumerable spillable hash join
+     */
+    public static EnumerableSpillableHashJoin create(final RelNode left, final RelNode right, final RexNode condition, final Set<CorrelationId> variablesSet, final JoinRelType joinType) {
+        RelOptCluster cluster = left.getCluster();
+        RelMetadataQuery metadataQuery = cluster.getMetadataQuery();
+        RelTraitSet traitSet = cluster.traitSetOf(EnumerableConvention.INSTANCE)
+                .replaceIfs(RelCollationTraitDef.INSTANCE, () -> RelMdCollation.enumerableHashJoin(metadataQuery, left, right, joinType));
+        return new EnumerableSpillableHashJoin(cluster, traitSet, left, right, condition, variablesSet, joinType);
+    }
+    
+    @Override
+    public EnumerableHashJoin copy(final RelTraitSet traitSet, final RexNode condition, final RelNode left, final RelNode right, final JoinRelType joinType, final boolean semiJoinDone) {
+        return new EnumerableSpillableHashJoin(getCluster(), traitSet, left, right, condition, variablesSet, joinType);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        if (!joinType.projectsRight()) {
+            return super.implement(implementor, pref);
+        }
+        return super.copy(traitSet, condition, new EnumerableSpillableInput(left), right, joinType, isSemiJoinDone()).implement(implementor, pref);
+    }
+}
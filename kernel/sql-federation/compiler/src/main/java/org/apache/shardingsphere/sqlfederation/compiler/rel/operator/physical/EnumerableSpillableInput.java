@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillableEnumerable;
+
+import java.util.List;
+
+/**
+ * Enumerable spillable input, which wraps input of spillable operators with memory budget of current query.
+ */
+public final class EnumerableSpillableInput extends SingleRel implements EnumerableRel {
+    
+    public EnumerableSpillableInput(final RelNode input) {
+        super(input.getCluster(), input.getTraitSet(), input);
+    }
+    
+    @Override
+    public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
+        return new EnumerableSpillableInput(sole(inputs));
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result result = implementor.visitChild(this, 0, (EnumerableRel) getInput(), pref);
+        Expression inputExpression = builder.append("input", result.block);
+        builder.add(Expressions.return_(null, Expressions.call(SpillableEnumerable.class, "wrap", implementor.getRootExpression(), inputExpression)));
+        return implementor.result(result.physType, builder.toBlock());
+    }
+}
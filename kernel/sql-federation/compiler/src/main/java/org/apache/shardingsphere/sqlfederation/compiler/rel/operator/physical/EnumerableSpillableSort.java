@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.EnumerableSort;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexNode;
+
+/**
+ * Enumerable spillable sort, which spills sorted runs to local disk when memory budget of current query is exceeded.
+ */
+public final class EnumerableSpillableSort extends EnumerableSort {
+    
+    public EnumerableSpillableSort(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final RelCollation collation) {
+        super(cluster, traitSet, input, collation, null, null);
+    }
+    
+    @Override
+    public EnumerableSort copy(final RelTraitSet traitSet, final RelNode newInput, final RelCollation newCollation, final RexNode offset, final RexNode fetch) {
+        return null == offset && null == fetch ? new EnumerableSpillableSort(getCluster(), traitSet, newInput, newCollation) : super.copy(traitSet, newInput, newCollation, offset, fetch);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        return super.copy(traitSet, new EnumerableSpillableInput(getInput()), collation, null, null).implement(implementor, pref);
+    }
+}
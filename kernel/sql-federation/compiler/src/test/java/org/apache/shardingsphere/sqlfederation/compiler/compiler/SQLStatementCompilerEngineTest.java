@@ -17,15 +17,23 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.compiler;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.Eviction;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheBuilder;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
 import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
@@ -33,19 +41,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
+import java.util.Collections;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
-@StaticMockSettings(ExecutionPlanCacheBuilder.class)
+@StaticMockSettings({ExecutionPlanCacheBuilder.class, SQLNodeConverterEngine.class})
 class SQLStatementCompilerEngineTest {
     
     private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
@@ -85,6 +99,49 @@ class SQLStatementCompilerEngineTest {
         assertThat(engine.compile(cacheKey, true), is(expectedCachedPlan));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCompileWithCacheWhenLiteralsNotFitParameterTypes() throws SqlParseException {
+        SelectStatement selectStatement = mock(SelectStatement.class);
+        when(selectStatement.getDatabaseType()).thenReturn(databaseType);
+        SqlNode sqlNode = SqlParser.create("SELECT a FROM t WHERE a = 1.5").parseQuery();
+        when(SQLNodeConverterEngine.convert(selectStatement)).thenReturn(sqlNode);
+        when(sqlStatementCompiler.compile(any(SqlNode.class), eq("FIXTURE"), any(Predicate.class))).thenReturn(Optional.empty());
+        LoadingCache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> cache = mock(LoadingCache.class);
+        when(cache.get(any(ExecutionPlanCacheKey.class), any(Function.class))).thenAnswer(invocation -> invocation.<Function<ExecutionPlanCacheKey, SQLFederationExecutionPlan>>getArgument(1)
+                .apply(invocation.getArgument(0)));
+        SQLFederationExecutionPlan expectedLiteralPlan = mock(SQLFederationExecutionPlan.class);
+        when(cache.get(any(ExecutionPlanCacheKey.class))).thenReturn(expectedLiteralPlan);
+        when(ExecutionPlanCacheBuilder.build(any(SQLFederationCacheOption.class))).thenReturn(cache);
+        SQLStatementCompilerEngine engine = new SQLStatementCompilerEngine(new SQLFederationCacheOption(1, 1L));
+        assertThat(engine.compile(new ExecutionPlanCacheKey("SELECT a FROM t WHERE a = 1.5", selectStatement, sqlStatementCompiler), true), is(expectedLiteralPlan));
+        ArgumentCaptor<ExecutionPlanCacheKey> cacheKeyCaptor = ArgumentCaptor.forClass(ExecutionPlanCacheKey.class);
+        verify(cache).get(cacheKeyCaptor.capture());
+        assertThat(cacheKeyCaptor.getValue().findSqlNode().orElse(null), is(sqlNode));
+        verify(cache, never()).put(any(ExecutionPlanCacheKey.class), any(SQLFederationExecutionPlan.class));
+        verify(sqlStatementCompiler).compile(any(SqlNode.class), eq("FIXTURE"), any(Predicate.class));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCompileWithCacheWhenParameterizedPlanCompiledOnce() {
+        SelectStatement selectStatement = mock(SelectStatement.class);
+        when(selectStatement.getDatabaseType()).thenReturn(databaseType);
+        when(SQLNodeConverterEngine.convert(selectStatement)).thenAnswer(invocation -> SqlParser.create("SELECT a FROM t WHERE a = 1").parseQuery());
+        SQLFederationExecutionPlan parameterizedPlan = mock(SQLFederationExecutionPlan.class);
+        when(parameterizedPlan.getDynamicParameterTypes()).thenReturn(Collections.singletonMap(0, new JavaTypeFactoryImpl().createSqlType(SqlTypeName.INTEGER)));
+        SQLFederationExecutionPlan expectedBoundPlan = mock(SQLFederationExecutionPlan.class);
+        when(parameterizedPlan.bind(Collections.singletonMap(0, 1))).thenReturn(expectedBoundPlan);
+        when(sqlStatementCompiler.compile(any(SqlNode.class), eq("FIXTURE"), any(Predicate.class))).thenReturn(Optional.of(parameterizedPlan));
+        LoadingCache<ExecutionPlanCacheKey, SQLFederationExecutionPlan> cache = Caffeine.newBuilder().build(key -> null);
+        when(ExecutionPlanCacheBuilder.build(any(SQLFederationCacheOption.class))).thenReturn(cache);
+        SQLStatementCompilerEngine engine = new SQLStatementCompilerEngine(new SQLFederationCacheOption(1, 1L));
+        ExecutionPlanCacheKey selectCacheKey = new ExecutionPlanCacheKey("SELECT a FROM t WHERE a = 1", selectStatement, sqlStatementCompiler);
+        assertThat(engine.compile(selectCacheKey, true), is(expectedBoundPlan));
+        assertThat(engine.compile(selectCacheKey, true), is(expectedBoundPlan));
+        verify(sqlStatementCompiler).compile(any(SqlNode.class), eq("FIXTURE"), any(Predicate.class));
+    }
+    
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Test
     void assertUpdateCacheOption() {
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpillableEnumerableTest {
+    
+    private static final long SMALL_QUERY_LIMIT_BYTES = 2048L;
+    
+    @TempDir
+    private Path tempDir;
+    
+    @Test
+    void assertWrapWithoutBudget() {
+        Enumerable<Integer> input = Linq4j.asEnumerable(Collections.singletonList(1));
+        assertThat(SpillableEnumerable.wrap(mock(DataContext.class), input), sameInstance(input));
+    }
+    
+    @Test
+    void assertWrapWithBudget() {
+        DataContext root = mock(DataContext.class);
+        when(root.get(SpillMemoryBudget.DATA_CONTEXT_KEY)).thenReturn(new SpillMemoryBudget(SMALL_QUERY_LIMIT_BYTES, 0L, tempDir.toString()));
+        assertThat(SpillableEnumerable.wrap(root, Linq4j.asEnumerable(Collections.singletonList(1))), instanceOf(SpillableEnumerable.class));
+    }
+    
+    @Test
+    void assertOrderByWithSpill() {
+        List<Integer> rows = createShuffledRows(5000);
+        SpillMemoryBudget budget = new SpillMemoryBudget(SMALL_QUERY_LIMIT_BYTES, 0L, tempDir.toString());
+        List<Integer> actual = new SpillableEnumerable<>(budget, Linq4j.asEnumerable(rows), 0).orderBy(each -> each).toList();
+        assertThat(actual, is(IntStream.range(0, 5000).boxed().collect(Collectors.toList())));
+        assertReleased(budget);
+    }
+    
+    @Test
+    void assertOrderByWithMultiplePassMerge() {
+        List<Integer> rows = createShuffledRows(70000);
+        SpillMemoryBudget budget = new SpillMemoryBudget(SMALL_QUERY_LIMIT_BYTES, 0L, tempDir.toString());
+        List<Integer> actual = new SpillableEnumerable<>(budget, Linq4j.asEnumerable(rows), 0).orderBy(each -> each).toList();
+        assertThat(actual, is(IntStream.range(0, 70000).boxed().collect(Collectors.toList())));
+        assertReleased(budget);
+    }
+    
+    @Test
+    void assertOrderByWithinBudget() {
+        SpillMemoryBudget budget = new SpillMemoryBudget(Long.MAX_VALUE, 0L, tempDir.toString());
+        List<Integer> actual = new SpillableEnumerable<>(budget, Linq4j.asEnumerable(createShuffledRows(10)), 0).orderBy(each -> each, Collections.reverseOrder()).toList();
+        assertThat(actual, is(IntStream.range(0, 10).map(each -> 9 - each).boxed().collect(Collectors.toList())));
+        assertReleased(budget);
+    }
+    
+    @Test
+    void assertGroupByWithSpill() {
+        List<Object[]> rows = createShuffledRows(1000).stream().map(each -> new Object[]{each % 100, each}).collect(Collectors.toList());
+        SpillMemoryBudget budget = new SpillMemoryBudget(SMALL_QUERY_LIMIT_BYTES, 0L, tempDir.toString());
+        Map<Integer, Integer> actual = new TreeMap<>();
+        new SpillableEnumerable<>(budget, Linq4j.asEnumerable(rows), 0).groupBy(each -> (Integer) each[0], () -> 0, (accumulator, row) -> accumulator + (Integer) row[1],
+                (key, accumulator) -> new Object[]{key, accumulator}).toList().forEach(each -> actual.put((Integer) each[0], (Integer) each[1]));
+        assertThat(actual.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(actual.get(i), is(i * 10 + 4500));
+        }
+        assertReleased(budget);
+    }
+    
+    @Test
+    void assertInnerHashJoinWithSpill() {
+        SpillMemoryBudget budget = new SpillMemoryBudget(SMALL_QUERY_LIMIT_BYTES, 0L, tempDir.toString());
+        List<Integer> inner = IntStream.range(0, 1000).filter(each -> 0 == each % 2).boxed().collect(Collectors.toList());
+        List<String> actual = new SpillableEnumerable<>(budget, Linq4j.asEnumerable(createShuffledRows(500)), 0)
+                .hashJoin(Linq4j.asEnumerable(inner), each -> each, each -> each, (outer, innerRow) -> outer + ":" + innerRow, null, false, false, null).toList();
+        assertThat(actual.size(), is(250));
+        assertTrue(actual.stream().allMatch(each -> each.split(":")[0].equals(each.split(":")[1])));
+        assertReleased(budget);
+    }
+    
+    @Test
+    void assertLeftHashJoinWithSpill() {
+        SpillMemoryBudget budget = new SpillMemoryBudget(SMALL_QUERY_LIMIT_BYTES, 0L, tempDir.toString());
+        List<Integer> inner = IntStream.range(0, 1000).filter(each -> 0 == each % 2).boxed().collect(Collectors.toList());
+        List<String> actual = new SpillableEnumerable<>(budget, Linq4j.asEnumerable(createShuffledRows(500)), 0)
+                .hashJoin(Linq4j.asEnumerable(inner), each -> each, each -> each, (outer, innerRow) -> outer + ":" + innerRow, null, false, true, null).toList();
+        assertThat(actual.size(), is(500));
+        assertThat(actual.stream().filter(each -> each.endsWith(":null")).count(), is(250L));
+        assertReleased(budget);
+    }
+    
+    private List<Integer> createShuffledRows(final int count) {
+        List<Integer> result = IntStream.range(0, count).boxed().collect(Collectors.toCollection(ArrayList::new));
+        Collections.shuffle(result, new Random(0L));
+        return result;
+    }
+    
+    private void assertReleased(final SpillMemoryBudget budget) {
+        assertThat(budget.getReservedBytes(), is(0L));
+        assertTrue(budget.getSpillFiles().isEmpty());
+        assertThat(tempDir.toFile().list().length, is(0));
+    }
+}
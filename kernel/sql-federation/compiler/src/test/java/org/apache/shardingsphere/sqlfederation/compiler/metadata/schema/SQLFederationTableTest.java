@@ -39,6 +39,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementor;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementorContext;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.enumerator.EmptyDataRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
@@ -51,6 +52,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -125,6 +127,18 @@ class SQLFederationTableTest {
         verify(scanImplementor).implement(any(ShardingSphereTable.class), any(ScanImplementorContext.class));
     }
     
+    @Test
+    void assertGetStatisticWithoutStatistics() {
+        assertNull(new SQLFederationTable(table, databaseType).getStatistic().getRowCount());
+    }
+    
+    @Test
+    void assertGetStatisticWithStatistics() {
+        SQLFederationTable federationTable = new SQLFederationTable(table, databaseType);
+        federationTable.setStatistics(new SQLFederationTableStatistics(1000L, Collections.emptyMap()));
+        assertThat(federationTable.getStatistic().getRowCount(), is(1000D));
+    }
+    
     @Test
     void assertGetModifiableCollectionThrowsException() {
         assertThrows(UnsupportedOperationException.class, () -> new SQLFederationTable(table, databaseType).getModifiableCollection());
@@ -28,6 +28,9 @@ import org.apache.calcite.plan.hep.HepProgram;
 import org.apache.calcite.rel.RelCollationTraitDef;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableAggregateConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableJoinConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableSpillableSortConverterRule;
 import org.junit.jupiter.api.Test;
 import org.mockito.internal.configuration.plugins.Plugins;
 
@@ -53,6 +56,17 @@ class SQLFederationPlannerBuilderTest {
         assertTrue(actual.getRules().stream().anyMatch(each -> each instanceof ConverterRule));
     }
     
+    @Test
+    void assertBuildVolcanoPlannerWithSpillEnabledReplacesEnumerableRules() {
+        RelOptPlanner actual = SQLFederationPlannerBuilder.buildVolcanoPlanner(EnumerableConvention.INSTANCE, true);
+        assertFalse(actual.getRules().contains(EnumerableRules.ENUMERABLE_JOIN_RULE));
+        assertFalse(actual.getRules().contains(EnumerableRules.ENUMERABLE_AGGREGATE_RULE));
+        assertFalse(actual.getRules().contains(EnumerableRules.ENUMERABLE_SORT_RULE));
+        assertTrue(actual.getRules().stream().anyMatch(each -> each instanceof EnumerableSpillableJoinConverterRule));
+        assertTrue(actual.getRules().stream().anyMatch(each -> each instanceof EnumerableSpillableAggregateConverterRule));
+        assertTrue(actual.getRules().stream().anyMatch(each -> each instanceof EnumerableSpillableSortConverterRule));
+    }
+    
     @Test
     void assertBuildVolcanoPlannerWithCustomConventionSkipsEnumerableRules() {
         Convention customConvention = new Convention.Impl("CUSTOM", RelNode.class);
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.cache;
+
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.type.SQLFederationDataTypeFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionPlanLiteralParameterConverterTest {
+    
+    private final RelDataTypeFactory typeFactory = SQLFederationDataTypeFactory.getInstance();
+    
+    @Test
+    void assertConvertIntegerLiteral() {
+        Optional<Map<Integer, Object>> actual = convert(new BigDecimal("10"), typeFactory.createSqlType(SqlTypeName.INTEGER));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().get(0), is(10));
+    }
+    
+    @Test
+    void assertConvertFractionalLiteralToInteger() {
+        assertFalse(convert(new BigDecimal("10.5"), typeFactory.createSqlType(SqlTypeName.INTEGER)).isPresent());
+    }
+    
+    @Test
+    void assertConvertDecimalLiteral() {
+        assertTrue(convert(new BigDecimal("10.5"), typeFactory.createSqlType(SqlTypeName.DECIMAL, 10, 2)).isPresent());
+        assertFalse(convert(new BigDecimal("10.555"), typeFactory.createSqlType(SqlTypeName.DECIMAL, 10, 2)).isPresent());
+    }
+    
+    @Test
+    void assertConvertCharacterLiteral() {
+        Optional<Map<Integer, Object>> actual = convert("foo", typeFactory.createSqlType(SqlTypeName.VARCHAR));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().get(0), is("foo"));
+        assertFalse(convert("2020-01-01", typeFactory.createSqlType(SqlTypeName.DATE)).isPresent());
+    }
+    
+    @Test
+    void assertConvertWithoutDynamicParameterType() {
+        assertFalse(ExecutionPlanLiteralParameterConverter.convert(Collections.singletonMap(0, "foo"), Collections.emptyMap()).isPresent());
+    }
+    
+    private Optional<Map<Integer, Object>> convert(final Object literalValue, final RelDataType dynamicParameterType) {
+        return ExecutionPlanLiteralParameterConverter.convert(Collections.singletonMap(0, literalValue), Collections.singletonMap(0, dynamicParameterType));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.cache;
+
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionPlanParameterizerTest {
+    
+    @Test
+    void assertParameterizeWithoutLiteral() throws SqlParseException {
+        assertFalse(ExecutionPlanParameterizer.parameterize(parse("SELECT a FROM t WHERE a = ? ORDER BY 1")).isPresent());
+    }
+    
+    @Test
+    void assertParameterizeComparisonLiterals() throws SqlParseException {
+        Optional<ParameterizedSQLNode> actual = ExecutionPlanParameterizer.parameterize(parse("SELECT a FROM t WHERE a = ? AND 10 < b AND c LIKE 'foo%' AND d BETWEEN 1 AND 2.5 AND e IN ('x', 'y') LIMIT 5"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameterIndexes(), is(Arrays.asList(0, 1, 2, 3, 4, 5, 6)));
+        assertThat(actual.get().getLiteralParameters().get(1), is(new BigDecimal("10")));
+        assertThat(actual.get().getLiteralParameters().get(2), is("foo%"));
+        assertThat(actual.get().getLiteralParameters().get(4), is(new BigDecimal("2.5")));
+        assertThat(actual.get().getLiteralParameters().get(6), is("y"));
+        assertThat(actual.get().getLiteralParameters().size(), is(6));
+    }
+    
+    @Test
+    void assertParameterizeWithoutModifyingSqlNode() throws SqlParseException {
+        SqlNode sqlNode = parse("SELECT a FROM t WHERE a = 1 AND b IN ('x', 'y')");
+        String expected = sqlNode.toString();
+        ParameterizedSQLNode actual = ExecutionPlanParameterizer.parameterize(sqlNode).orElseThrow(IllegalStateException::new);
+        assertThat(sqlNode.toString(), is(expected));
+        assertThat(actual.getSql(), not(expected));
+    }
+    
+    @Test
+    void assertParameterizeWithSameCacheKey() throws SqlParseException {
+        ParameterizedSQLNode actual = ExecutionPlanParameterizer.parameterize(parse("SELECT a FROM t WHERE a = 1 AND b = 'foo'")).orElseThrow(IllegalStateException::new);
+        ParameterizedSQLNode expected = ExecutionPlanParameterizer.parameterize(parse("SELECT a FROM t WHERE a = 2 AND b = 'bar'")).orElseThrow(IllegalStateException::new);
+        assertThat(actual.getSql(), is(expected.getSql()));
+        assertThat(actual.getParameterIndexes(), is(expected.getParameterIndexes()));
+    }
+    
+    @Test
+    void assertParameterizeWithDifferentParameterPositions() throws SqlParseException {
+        ParameterizedSQLNode actual = ExecutionPlanParameterizer.parameterize(parse("SELECT a FROM t WHERE a = ? AND b = 1")).orElseThrow(IllegalStateException::new);
+        ParameterizedSQLNode expected = ExecutionPlanParameterizer.parameterize(parse("SELECT a FROM t WHERE a = 1 AND b = ?")).orElseThrow(IllegalStateException::new);
+        assertThat(actual.getSql(), is(expected.getSql()));
+        assertThat(actual.getParameterIndexes(), not(expected.getParameterIndexes()));
+    }
+    
+    @Test
+    void assertParameterizeSkipsLiteralNotComparedWithColumn() throws SqlParseException {
+        assertFalse(ExecutionPlanParameterizer.parameterize(parse("SELECT a + 1, 'foo' FROM t WHERE 1 = 1 GROUP BY 1")).isPresent());
+    }
+    
+    private SqlNode parse(final String sql) throws SqlParseException {
+        return SqlParser.create(sql).parseQuery();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.metadata;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptSchema;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.volcano.VolcanoPlanner;
+import org.apache.calcite.prepare.RelOptTableImpl;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.metadata.RelMetadataQueryBase;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationRelMetadataProviderTest {
+    
+    private LogicalTableScan tableScan;
+    
+    @BeforeEach
+    void setUp() {
+        RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Arrays.asList(
+                new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.INTEGER, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        SQLFederationTable federationTable = new SQLFederationTable(table, TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        federationTable.setStatistics(new SQLFederationTableStatistics(1000L, Collections.singletonMap("status", new SQLFederationColumnStatistics(10L))));
+        RelOptSchema relOptSchema = mock(RelOptSchema.class);
+        when(relOptSchema.getTypeFactory()).thenReturn(typeFactory);
+        RelOptTable relOptTable = RelOptTableImpl.create(relOptSchema, federationTable.getRowType(typeFactory), ImmutableList.of("foo_db", "foo_tbl"), federationTable,
+                each -> Expressions.constant(federationTable));
+        RelMetadataQueryBase.THREAD_PROVIDERS.set(SQLFederationRelMetadataProvider.INSTANCE);
+        tableScan = LogicalTableScan.create(RelOptCluster.create(new VolcanoPlanner(), new RexBuilder(typeFactory)), relOptTable, Collections.emptyList());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        RelMetadataQueryBase.THREAD_PROVIDERS.remove();
+    }
+    
+    @Test
+    void assertGetRowCount() {
+        assertThat(RelMetadataQuery.instance().getRowCount(tableScan), is(1000D));
+    }
+    
+    @Test
+    void assertGetDistinctRowCountWithColumnStatistics() {
+        assertThat(RelMetadataQuery.instance().getDistinctRowCount(tableScan, ImmutableBitSet.of(1), null), is(10D));
+    }
+    
+    @Test
+    void assertGetDistinctRowCountWithEmptyGroupKey() {
+        assertThat(RelMetadataQuery.instance().getDistinctRowCount(tableScan, ImmutableBitSet.of(), null), is(1D));
+    }
+}
@@ -80,6 +80,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * SQL federation engine.
@@ -209,8 +210,9 @@ public final class SQLFederationEngine implements AutoCloseable {
                     ? ((ExplainStatementContext) queryContext.getSqlStatementContext()).getExplainableSQLStatementContext()
                     : queryContext.getSqlStatementContext();
             CompilerContext compilerContext = sqlFederationRule.getCompilerContext();
+            boolean spillEnabled = federationContext.getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_QUERY_MEMORY_BYTES) > 0L;
             SQLFederationRelConverter converter = new SQLFederationRelConverter(compilerContext, getSchemaPath(sqlStatementContext),
-                    sqlStatementContext.getSqlStatement().getDatabaseType(), processor.getConvention());
+                    sqlStatementContext.getSqlStatement().getDatabaseType(), processor.getConvention(), spillEnabled);
             schemaPlus = converter.getSchemaPlus();
             processor.prepare(prepareEngine, queryCallback, currentDatabaseName, currentSchemaName, federationContext, compilerContext, schemaPlus);
             SQLFederationExecutionPlan executionPlan = compileQuery(converter, currentDatabaseName,
@@ -278,23 +280,28 @@ public final class SQLFederationEngine implements AutoCloseable {
                                                     final SQLStatementContext sqlStatementContext, final String sql, final Convention convention) {
         SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter, convention);
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
-        return compilerEngine.compile(buildCacheKey(federationContext, sqlStatementContext, sql, sqlStatementCompiler), false);
+        return compilerEngine.compile(buildCacheKey(federationContext, sqlStatementContext, sql, sqlStatementCompiler),
+                federationContext.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_FEDERATION_EXECUTION_PLAN_CACHE_ENABLED));
     }
     
     private ExecutionPlanCacheKey buildCacheKey(final SQLFederationContext federationContext, final SQLStatementContext sqlStatementContext,
                                                 final String sql, final SQLStatementCompiler sqlStatementCompiler) {
-        ExecutionPlanCacheKey result = new ExecutionPlanCacheKey(sql, sqlStatementContext.getSqlStatement(), sqlStatementCompiler);
+        ExecutionPlanCacheKey result = new ExecutionPlanCacheKey(sql, sqlStatementContext.getSqlStatement(), sqlStatementCompiler, sqlFederationRule.getStatisticsVersion());
         Collection<SimpleTableSegment> tableSegments = sqlStatementContext.getTablesContext().getSimpleTables();
         for (SimpleTableSegment each : tableSegments) {
             String originalDatabase = each.getTableName().getTableBoundInfo().map(optional -> optional.getOriginalDatabase().getValue()).orElse(currentDatabaseName);
             String originalSchema = each.getTableName().getTableBoundInfo().map(optional -> optional.getOriginalSchema().getValue()).orElse(currentSchemaName);
             ShardingSphereTable table = federationContext.getMetaData().getDatabase(originalDatabase).getSchema(originalSchema).getTable(each.getTableName().getIdentifier().getValue());
             ShardingSpherePreconditions.checkNotNull(table, () -> new NoSuchTableException(each.getTableName().getIdentifier().getValue()));
-            result.getTableMetaDataVersions().put(Joiner.on(".").join(Arrays.asList(originalDatabase, originalSchema, table.getName())), 0);
+            result.getTableMetaDataFingerprints().put(Joiner.on(".").join(Arrays.asList(originalDatabase, originalSchema, table.getName())), getTableMetaDataFingerprint(table));
         }
         return result;
     }
     
+    private String getTableMetaDataFingerprint(final ShardingSphereTable table) {
+        return table.getAllColumns().stream().map(each -> each.getName().length() + ":" + each.getName() + ":" + each.getDataType() + ":" + each.isUnsigned()).collect(Collectors.joining(","));
+    }
+    
     /**
      * Get result set.
      *
@@ -33,6 +33,8 @@ import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegist
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -45,14 +47,17 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSchemaNotFoundException;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillMemoryBudget;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
 import org.apache.shardingsphere.sqlfederation.context.SQLFederationContext;
 import org.apache.shardingsphere.sqlfederation.engine.processor.SQLFederationProcessor;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorBindContext;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorContext;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.PipelinedDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor.EnumerableScanImplementor;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -61,6 +66,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Standard SQL federation processor.
@@ -74,6 +80,8 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
     
     private ExecutorContext executorContext;
     
+    private SpillMemoryBudget spillMemoryBudget;
+    
     @Override
     public void prepare(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final JDBCExecutorCallback<? extends ExecuteResult> queryCallback,
                         final String currentDatabaseName, final String currentSchemaName, final SQLFederationContext federationContext, final CompilerContext compilerContext,
@@ -82,7 +90,7 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
             return;
         }
         executorContext = new ExecutorContext(prepareEngine, jdbcExecutor, queryCallback, statistics, currentDatabaseName, currentSchemaName,
-                federationContext.isPreview(), federationContext.getProcessId());
+                federationContext.isPreview(), federationContext.getProcessId(), getParallelScanExecutorService(federationContext));
         EnumerableScanImplementor scanImplementor = new EnumerableScanImplementor(federationContext.getQueryContext(), compilerContext, executorContext);
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         Collection<SimpleTableSegment> simpleTables = sqlStatementContext.getTablesContext().getSimpleTables();
@@ -94,6 +102,10 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
         }
     }
     
+    private ExecutorService getParallelScanExecutorService(final SQLFederationContext federationContext) {
+        return federationContext.getMetaData().getGlobalRuleMetaData().findSingleRule(SQLFederationRule.class).flatMap(SQLFederationRule::getParallelScanExecutorService).orElse(null);
+    }
+    
     private Table getTable(final String currentDatabaseName, final String currentSchemaName, final SchemaPlus schemaPlus, final SimpleTableSegment tableSegment, final DatabaseType databaseType,
                            final String sql) {
         DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(databaseType).getDialectDatabaseMetaData();
@@ -125,6 +137,14 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
                 ((SQLFederationTable) table).clearScanImplementor();
             }
         }
+        if (null != executorContext) {
+            executorContext.getPipelinedEnumerators().forEach(PipelinedDataRowEnumerator::close);
+            executorContext.getPipelinedEnumerators().clear();
+        }
+        if (null != spillMemoryBudget) {
+            spillMemoryBudget.close();
+            spillMemoryBudget = null;
+        }
     }
     
     @SuppressWarnings("unchecked")
@@ -132,7 +152,14 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
     public ResultSet executePlan(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final JDBCExecutorCallback<? extends ExecuteResult> queryCallback,
                                  final SQLFederationExecutionPlan executionPlan, final SQLFederationRelConverter converter, final SQLFederationContext federationContext, final SchemaPlus schemaPlus) {
         Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), Prefer.ARRAY);
-        Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
+        Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters(), executionPlan.getLiteralParameters());
+        ConfigurationProperties props = federationContext.getMetaData().getProps();
+        long spillQueryMemoryBytes = props.<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_QUERY_MEMORY_BYTES);
+        if (spillQueryMemoryBytes > 0L) {
+            spillMemoryBudget = new SpillMemoryBudget(spillQueryMemoryBytes,
+                    props.<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_GLOBAL_MEMORY_BYTES), props.<String>getValue(ConfigurationPropertyKey.SPILL_DIRECTORY));
+            params.put(SpillMemoryBudget.DATA_CONTEXT_KEY, spillMemoryBudget);
+        }
         Enumerator<Object> enumerator = executablePlan.bind(new ExecutorBindContext(converter, params)).enumerator();
         SelectStatementContext selectStatementContext = (SelectStatementContext) federationContext.getQueryContext().getSqlStatementContext();
         List<Projection> expandProjections = selectStatementContext.getProjectionsContext().getExpandProjections();
@@ -144,12 +171,13 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
         return result;
     }
     
-    private Map<String, Object> createParameters(final List<Object> params) {
-        Map<String, Object> result = new HashMap<>(params.size(), 1F);
+    private Map<String, Object> createParameters(final List<Object> params, final Map<Integer, Object> literalParams) {
+        Map<String, Object> result = new HashMap<>(params.size() + literalParams.size(), 1F);
         int index = 0;
         for (Object each : params) {
             result.put("?" + index++, each);
         }
+        literalParams.forEach((key, value) -> result.put("?" + key, value));
         return result;
     }
     
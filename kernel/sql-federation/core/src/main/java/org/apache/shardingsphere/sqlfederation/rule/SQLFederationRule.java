@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.sqlfederation.rule;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
@@ -27,24 +31,55 @@ import org.apache.shardingsphere.sqlfederation.compiler.exception.InvalidExecuti
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.constant.SQLFederationOrder;
+import org.apache.shardingsphere.sqlfederation.statistics.SQLFederationStatisticsRefreshEngine;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * SQL federation rule.
  */
 @Getter
-public final class SQLFederationRule implements GlobalRule {
+public final class SQLFederationRule implements GlobalRule, AutoCloseable {
+    
+    private static final long PARALLEL_SCAN_KEEP_ALIVE_SECONDS = 60L;
     
     private final SQLFederationRuleConfiguration configuration;
     
     private final AtomicReference<CompilerContext> compilerContext;
     
+    @Getter(AccessLevel.NONE)
+    private final SQLFederationStatisticsRefreshEngine statisticsRefreshEngine;
+    
+    @Getter(AccessLevel.NONE)
+    private final ExecutorService parallelScanExecutorService;
+    
     public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases) {
+        this(ruleConfig, databases, new ConfigurationProperties(new Properties()));
+    }
+    
+    public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases, final ConfigurationProperties props) {
         configuration = ruleConfig;
         compilerContext = new AtomicReference<>(CompilerContextFactory.create(databases));
         checkExecutionPlanCacheConfiguration(ruleConfig.getExecutionPlanCache());
+        long statisticsCollectIntervalSeconds = props.getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_COLLECT_INTERVAL_SECONDS);
+        statisticsRefreshEngine = statisticsCollectIntervalSeconds > 0L ? new SQLFederationStatisticsRefreshEngine(compilerContext, databases, statisticsCollectIntervalSeconds) : null;
+        parallelScanExecutorService = props.<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_BUFFER_SIZE) > 0
+                ? createParallelScanExecutorService(props.<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_EXECUTOR_SIZE))
+                : null;
+    }
+    
+    private ExecutorService createParallelScanExecutorService(final int executorSize) {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(executorSize, executorSize, PARALLEL_SCAN_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                ExecutorThreadFactoryBuilder.build("sql-federation-scan-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
     }
     
     private void checkExecutionPlanCacheConfiguration(final SQLFederationCacheOption executionPlanCache) {
@@ -62,9 +97,40 @@ public final class SQLFederationRule implements GlobalRule {
         return compilerContext.get();
     }
     
+    /**
+     * Get statistics version.
+     *
+     * @return statistics version, 0 if statistics collecting is disabled
+     */
+    public long getStatisticsVersion() {
+        return null == statisticsRefreshEngine ? 0L : statisticsRefreshEngine.getVersion();
+    }
+    
+    /**
+     * Get parallel scan executor service.
+     *
+     * @return parallel scan executor service, empty if parallel scan is disabled
+     */
+    public Optional<ExecutorService> getParallelScanExecutorService() {
+        return Optional.ofNullable(parallelScanExecutorService);
+    }
+    
     @Override
     public void refresh(final Collection<ShardingSphereDatabase> databases, final GlobalRuleChangedType changedType) {
         compilerContext.set(CompilerContextFactory.create(databases));
+        if (null != statisticsRefreshEngine) {
+            statisticsRefreshEngine.refresh(databases);
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (null != statisticsRefreshEngine) {
+            statisticsRefreshEngine.close();
+        }
+        if (null != parallelScanExecutorService) {
+            parallelScanExecutorService.shutdown();
+        }
     }
     
     @Override
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.statistics;
+
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Dialect SQL federation statistics loader.
+ */
+@SingletonSPI
+public interface DialectSQLFederationStatisticsLoader extends DatabaseTypedSPI {
+    
+    /**
+     * Load table statistics maintained by the optimizer of storage unit.
+     *
+     * @param connection connection
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return loaded table statistics, empty if storage unit has not analyzed table yet
+     * @throws SQLException SQL exception
+     */
+    Optional<SQLFederationTableStatistics> load(Connection connection, String schemaName, String tableName) throws SQLException;
+}
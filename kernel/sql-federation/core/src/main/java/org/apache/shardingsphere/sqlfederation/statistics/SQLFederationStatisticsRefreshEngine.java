@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.statistics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.calcite.jdbc.CalciteSchema;
+import org.apache.calcite.schema.Schema;
+import org.apache.calcite.schema.Table;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationDatabase;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SQL federation statistics refresh engine.
+ */
+@Slf4j
+public final class SQLFederationStatisticsRefreshEngine implements AutoCloseable {
+    
+    private static final ScheduledExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("sql-federation-statistics-%d"));
+    
+    private final AtomicReference<CompilerContext> compilerContext;
+    
+    private final AtomicReference<Collection<ShardingSphereDatabase>> databases;
+    
+    private final Map<String, SQLFederationTableStatistics> tableStatistics = new ConcurrentHashMap<>();
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    private final CollectTask collectTask;
+    
+    public SQLFederationStatisticsRefreshEngine(final AtomicReference<CompilerContext> compilerContext, final Collection<ShardingSphereDatabase> databases, final long intervalSeconds) {
+        this.compilerContext = compilerContext;
+        this.databases = new AtomicReference<>(databases);
+        collectTask = new CollectTask(new WeakReference<>(this));
+        collectTask.future.set(EXECUTOR_SERVICE.scheduleWithFixedDelay(collectTask, intervalSeconds, intervalSeconds, TimeUnit.SECONDS));
+    }
+    
+    /**
+     * Refresh databases and apply collected statistics to current compiler context.
+     *
+     * @param databases databases
+     */
+    public void refresh(final Collection<ShardingSphereDatabase> databases) {
+        this.databases.set(databases);
+        apply();
+    }
+    
+    /**
+     * Get version of collected statistics, which is increased when any collected statistics changes.
+     *
+     * @return version of collected statistics
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Collect statistics of all tables and apply them to current compiler context.
+     */
+    public void collect() {
+        boolean changed = false;
+        for (ShardingSphereDatabase each : databases.get()) {
+            changed = collect(each) || changed;
+        }
+        apply();
+        if (changed) {
+            version.incrementAndGet();
+        }
+    }
+    
+    private boolean collect(final ShardingSphereDatabase database) {
+        boolean result = false;
+        SQLFederationTableStatisticsCollector collector = new SQLFederationTableStatisticsCollector(database);
+        for (ShardingSphereSchema schema : database.getAllSchemas()) {
+            for (ShardingSphereTable table : schema.getAllTables()) {
+                if (schema.containsView(table.getName())) {
+                    continue;
+                }
+                try {
+                    Optional<SQLFederationTableStatistics> statistics = collector.collect(schema.getName(), table);
+                    if (statistics.isPresent()) {
+                        result = !statistics.get().equals(tableStatistics.put(getKey(database.getName(), schema.getName(), table.getName()), statistics.get())) || result;
+                    }
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Collect SQL federation statistics of {}.{}.{} failed.", database.getName(), schema.getName(), table.getName(), ex);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private void apply() {
+        CalciteSchema rootSchema = compilerContext.get().getCalciteSchema();
+        for (ShardingSphereDatabase database : databases.get()) {
+            for (ShardingSphereSchema schema : database.getAllSchemas()) {
+                for (ShardingSphereTable table : schema.getAllTables()) {
+                    SQLFederationTableStatistics statistics = tableStatistics.get(getKey(database.getName(), schema.getName(), table.getName()));
+                    if (null != statistics) {
+                        findFederationTable(rootSchema, database.getName(), schema.getName(), table.getName()).ifPresent(optional -> optional.setStatistics(statistics));
+                    }
+                }
+            }
+        }
+    }
+    
+    private Optional<SQLFederationTable> findFederationTable(final CalciteSchema rootSchema, final String databaseName, final String schemaName, final String tableName) {
+        CalciteSchema databaseSchema = rootSchema.getSubSchema(databaseName, false);
+        if (null == databaseSchema) {
+            return Optional.empty();
+        }
+        Schema schema = databaseSchema.schema instanceof SQLFederationDatabase ? ((SQLFederationDatabase) databaseSchema.schema).getSubSchemaMap().get(schemaName) : databaseSchema.schema;
+        if (!(schema instanceof SQLFederationSchema)) {
+            return Optional.empty();
+        }
+        Table result = ((SQLFederationSchema) schema).getTableMap().get(tableName);
+        return result instanceof SQLFederationTable ? Optional.of((SQLFederationTable) result) : Optional.empty();
+    }
+    
+    private String getKey(final String databaseName, final String schemaName, final String tableName) {
+        return String.join(".", databaseName, schemaName, tableName).toLowerCase();
+    }
+    
+    @Override
+    public void close() {
+        collectTask.cancel();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CollectTask implements Runnable {
+        
+        private final WeakReference<SQLFederationStatisticsRefreshEngine> engine;
+        
+        private final AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>();
+        
+        @Override
+        public void run() {
+            SQLFederationStatisticsRefreshEngine refreshEngine = engine.get();
+            if (null == refreshEngine) {
+                cancel();
+                return;
+            }
+            refreshEngine.collect();
+        }
+        
+        private void cancel() {
+            Optional.ofNullable(future.get()).ifPresent(optional -> optional.cancel(false));
+        }
+    }
+}
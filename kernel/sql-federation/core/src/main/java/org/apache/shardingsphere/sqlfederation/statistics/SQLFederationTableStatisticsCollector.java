@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.statistics;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL federation table statistics collector.
+ */
+@RequiredArgsConstructor
+public final class SQLFederationTableStatisticsCollector {
+    
+    private static final double UNIQUE_DISTINCT_RATIO = 0.9D;
+    
+    private final ShardingSphereDatabase database;
+    
+    /**
+     * Collect table statistics from all data nodes of table.
+     *
+     * @param schemaName schema name
+     * @param table table
+     * @return collected table statistics, empty if any data node of table has no catalog statistics
+     * @throws SQLException SQL exception
+     */
+    public Optional<SQLFederationTableStatistics> collect(final String schemaName, final ShardingSphereTable table) throws SQLException {
+        Collection<DataNode> dataNodes = getDataNodes(table.getName());
+        if (dataNodes.isEmpty()) {
+            return Optional.empty();
+        }
+        Collection<SQLFederationTableStatistics> dataNodeStatistics = new LinkedList<>();
+        for (DataNode each : dataNodes) {
+            Optional<SQLFederationTableStatistics> statistics = load(each, schemaName);
+            if (!statistics.isPresent()) {
+                return Optional.empty();
+            }
+            dataNodeStatistics.add(statistics.get());
+        }
+        return Optional.of(merge(dataNodeStatistics, table));
+    }
+    
+    private Collection<DataNode> getDataNodes(final String tableName) {
+        for (DataNodeRuleAttribute each : database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)) {
+            Collection<DataNode> result = each.getDataNodesByTableName(tableName);
+            if (!result.isEmpty()) {
+                return result;
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private Optional<SQLFederationTableStatistics> load(final DataNode dataNode, final String schemaName) throws SQLException {
+        Optional<StorageUnit> storageUnit = findStorageUnit(dataNode.getDataSourceName());
+        if (!storageUnit.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<DialectSQLFederationStatisticsLoader> loader = DatabaseTypedSPILoader.findService(DialectSQLFederationStatisticsLoader.class, storageUnit.get().getStorageType());
+        if (!loader.isPresent()) {
+            return Optional.empty();
+        }
+        try (Connection connection = storageUnit.get().getDataSource().getConnection()) {
+            return loader.get().load(connection, null == dataNode.getSchemaName() ? schemaName : dataNode.getSchemaName(), dataNode.getTableName());
+        }
+    }
+    
+    private Optional<StorageUnit> findStorageUnit(final String dataSourceName) {
+        Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnits();
+        if (storageUnits.containsKey(dataSourceName)) {
+            return Optional.of(storageUnits.get(dataSourceName));
+        }
+        for (DataSourceMapperRuleAttribute each : database.getRuleMetaData().getAttributes(DataSourceMapperRuleAttribute.class)) {
+            for (String actualDataSourceName : each.getDataSourceMapper().getOrDefault(dataSourceName, Collections.emptyList())) {
+                if (storageUnits.containsKey(actualDataSourceName)) {
+                    return Optional.of(storageUnits.get(actualDataSourceName));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private SQLFederationTableStatistics merge(final Collection<SQLFederationTableStatistics> dataNodeStatistics, final ShardingSphereTable table) {
+        long rowCount = dataNodeStatistics.stream().mapToLong(SQLFederationTableStatistics::getRowCount).sum();
+        Map<String, SQLFederationColumnStatistics> columnStatistics = new LinkedHashMap<>(table.getAllColumns().size(), 1F);
+        for (ShardingSphereColumn each : table.getAllColumns()) {
+            mergeDistinctCount(dataNodeStatistics, each.getName(), rowCount).ifPresent(optional -> columnStatistics.put(each.getName(), new SQLFederationColumnStatistics(optional)));
+        }
+        return new SQLFederationTableStatistics(rowCount, columnStatistics);
+    }
+    
+    /*
+     * Distinct values of different data nodes may or may not overlap, so their sum is no estimate of the logic table. A column which is unique in every data node is taken as a unique
+     * key of the logic table, otherwise values are assumed to repeat across data nodes and the largest data node distinct count is taken.
+     */
+    private Optional<Long> mergeDistinctCount(final Collection<SQLFederationTableStatistics> dataNodeStatistics, final String columnName, final long rowCount) {
+        long maxDistinctCount = 0L;
+        boolean unique = true;
+        for (SQLFederationTableStatistics each : dataNodeStatistics) {
+            Optional<SQLFederationColumnStatistics> columnStatistics = each.findColumnStatistics(columnName);
+            if (!columnStatistics.isPresent()) {
+                return Optional.empty();
+            }
+            long distinctCount = columnStatistics.get().getDistinctCount();
+            maxDistinctCount = Math.max(maxDistinctCount, distinctCount);
+            unique &= distinctCount >= each.getRowCount() * UNIQUE_DISTINCT_RATIO;
+        }
+        return Optional.of(unique ? rowCount : maxDistinctCount);
+    }
+}
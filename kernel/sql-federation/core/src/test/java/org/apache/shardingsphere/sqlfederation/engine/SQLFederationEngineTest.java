@@ -232,6 +232,38 @@ class SQLFederationEngineTest {
         }
     }
     
+    @Test
+    void assertExecuteQueryWithExecutionPlanCacheEnabled() throws SQLException {
+        ShardingSphereMetaData actualMetaData = createMetaData(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_FEDERATION_EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString())));
+        TablesContext tablesContext = mock(TablesContext.class);
+        when(tablesContext.getSimpleTables()).thenReturn(Collections.singleton(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("foo_tbl")))));
+        SQLStatementContext selectStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getTablesContext()).thenReturn(tablesContext);
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(selectStatementContext);
+        when(queryContext.getSql()).thenReturn("SELECT * FROM foo_tbl");
+        when(queryContext.getConnectionContext()).thenReturn(new ConnectionContext(Collections::emptyList, new Grantee("root", "localhost")));
+        SQLFederationContext federationContext = new SQLFederationContext(false, queryContext, actualMetaData, "process_plan_cache");
+        try (
+                SQLFederationEngine engine = createSQLFederationEngine(mock(), actualMetaData);
+                MockedConstruction<DatabaseTypeRegistry> ignoredRegistry = mockConstruction(DatabaseTypeRegistry.class, (mock, context) -> {
+                    DialectSchemaOption schemaOption = mock(DialectSchemaOption.class);
+                    when(schemaOption.getDefaultSchema()).thenReturn(Optional.empty());
+                    DialectDatabaseMetaData dialectDatabaseMetaData = mock(DialectDatabaseMetaData.class);
+                    when(dialectDatabaseMetaData.getSchemaOption()).thenReturn(schemaOption);
+                    when(mock.getDialectDatabaseMetaData()).thenReturn(dialectDatabaseMetaData);
+                });
+                MockedConstruction<SQLFederationRelConverter> ignoredConverter = mockConstruction(SQLFederationRelConverter.class,
+                        (mock, context) -> when(mock.getSchemaPlus()).thenReturn(mock(SchemaPlus.class)));
+                MockedConstruction<SQLFederationCompilerEngine> compilerMocked = mockConstruction(SQLFederationCompilerEngine.class,
+                        (mock, context) -> when(mock.compile(any(ExecutionPlanCacheKey.class), eq(true))).thenReturn(mock(SQLFederationExecutionPlan.class)));
+                MockedStatic<RelOptUtil> relOptUtil = mockStatic(RelOptUtil.class)) {
+            relOptUtil.when(() -> RelOptUtil.toString(any(RelNode.class), eq(SqlExplainLevel.ALL_ATTRIBUTES))).thenReturn("plan");
+            engine.executeQuery(mock(), mock(), federationContext);
+            verify(compilerMocked.constructed().get(0)).compile(any(ExecutionPlanCacheKey.class), eq(true));
+        }
+    }
+    
     @SuppressWarnings("unchecked")
     @Test
     void assertExecuteQueryWithLoggingAndRelease() throws SQLException {
@@ -269,7 +301,7 @@ class SQLFederationEngineTest {
             assertThat(engine.executeQuery(prepareEngine, callback, federationContext), is(resultSet));
             ArgumentCaptor<ExecutionPlanCacheKey> cacheKeyCaptor = ArgumentCaptor.forClass(ExecutionPlanCacheKey.class);
             verify(compilerMocked.constructed().get(0)).compile(cacheKeyCaptor.capture(), eq(false));
-            assertThat(cacheKeyCaptor.getValue().getTableMetaDataVersions().size(), is(1));
+            assertThat(cacheKeyCaptor.getValue().getTableMetaDataFingerprints().size(), is(1));
             assertThat(engine.getResultSet(), is(resultSet));
             engine.close();
             verify(processor).release("foo_db", "foo_schema", queryContext, converterMocked.constructed().get(0).getSchemaPlus());
@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.sqlfederation.rule;
 
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule.GlobalRuleChangedType;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContextFactory;
 import org.apache.shardingsphere.sqlfederation.compiler.exception.InvalidExecutionPlanCacheConfigException;
@@ -29,10 +33,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -80,4 +89,27 @@ class SQLFederationRuleTest {
             mockedFactory.verify(() -> CompilerContextFactory.create(Collections.singleton(database)), times(2));
         }
     }
+    
+    @Test
+    void assertGetParallelScanExecutorService() {
+        SQLFederationRuleConfiguration ruleConfig = new SQLFederationRuleConfiguration(true, true, new SQLFederationCacheOption(4, 64L));
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_BUFFER_SIZE.getKey(), "16"),
+                new Property(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_EXECUTOR_SIZE.getKey(), "2"));
+        try (MockedStatic<CompilerContextFactory> ignored = mockStatic(CompilerContextFactory.class)) {
+            SQLFederationRule rule = new SQLFederationRule(ruleConfig, Collections.emptyList(), new ConfigurationProperties(props));
+            ExecutorService actual = rule.getParallelScanExecutorService().orElseThrow(IllegalStateException::new);
+            assertThat(((ThreadPoolExecutor) actual).getMaximumPoolSize(), is(2));
+            rule.close();
+            assertTrue(actual.isShutdown());
+        }
+    }
+    
+    @Test
+    void assertGetParallelScanExecutorServiceWhenParallelScanDisabled() {
+        SQLFederationRuleConfiguration ruleConfig = new SQLFederationRuleConfiguration(true, true, new SQLFederationCacheOption(4, 64L));
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_BUFFER_SIZE.getKey(), "0"));
+        try (MockedStatic<CompilerContextFactory> ignored = mockStatic(CompilerContextFactory.class)) {
+            assertFalse(new SQLFederationRule(ruleConfig, Collections.emptyList(), new ConfigurationProperties(props)).getParallelScanExecutorService().isPresent());
+        }
+    }
 }
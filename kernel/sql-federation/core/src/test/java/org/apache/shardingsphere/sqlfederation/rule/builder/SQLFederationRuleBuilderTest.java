@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.rule.builder;
 
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRuleBuilder;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
@@ -47,6 +49,6 @@ class SQLFederationRuleBuilderTest {
         ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
         when(CompilerContextFactory.create(Collections.singleton(database))).thenReturn(mock(CompilerContext.class));
         SQLFederationRuleBuilder builder = (SQLFederationRuleBuilder) OrderedSPILoader.getServices(GlobalRuleBuilder.class, Collections.singleton(ruleConfig)).get(ruleConfig);
-        assertThat(builder.build(ruleConfig, Collections.singleton(database), null), isA(SQLFederationRule.class));
+        assertThat(builder.build(ruleConfig, Collections.singleton(database), new ConfigurationProperties(new Properties())), isA(SQLFederationRule.class));
     }
 }
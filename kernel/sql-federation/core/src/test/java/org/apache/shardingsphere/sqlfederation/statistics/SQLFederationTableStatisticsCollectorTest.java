@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.statistics;
+
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SQLFederationTableStatisticsCollectorTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereDatabase database;
+    
+    @Mock
+    private DialectSQLFederationStatisticsLoader loader;
+    
+    private final ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Arrays.asList(
+            new ShardingSphereColumn("id", Types.BIGINT, true, false, false, true, false, false),
+            new ShardingSphereColumn("status", Types.INTEGER, false, false, false, true, false, false),
+            new ShardingSphereColumn("content", Types.VARCHAR, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+    
+    @Test
+    void assertCollectWithoutDataNodes() throws SQLException {
+        when(database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.emptyList());
+        assertFalse(new SQLFederationTableStatisticsCollector(database).collect("foo_db", table).isPresent());
+    }
+    
+    @Test
+    void assertCollect() throws SQLException {
+        mockDataNodes(new DataNode("foo_ds_0.foo_tbl_0"), new DataNode("foo_ds_1.foo_tbl_1"));
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("foo_ds_0", mockStorageUnit("foo_tbl_0", createStatistics(10L, 10L, 3L)));
+        storageUnits.put("foo_ds_1", mockStorageUnit("foo_tbl_1", createStatistics(20L, 19L, 4L)));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(storageUnits);
+        Optional<SQLFederationTableStatistics> actual = collect();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(30L));
+        assertThat(actual.get().findColumnStatistics("ID").map(SQLFederationColumnStatistics::getDistinctCount).orElse(0L), is(30L));
+        assertThat(actual.get().findColumnStatistics("status").map(SQLFederationColumnStatistics::getDistinctCount).orElse(0L), is(4L));
+        assertFalse(actual.get().findColumnStatistics("content").isPresent());
+    }
+    
+    @Test
+    void assertCollectWithDataNodeNotAnalyzed() throws SQLException {
+        mockDataNodes(new DataNode("foo_ds_0.foo_tbl_0"), new DataNode("foo_ds_1.foo_tbl_1"));
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("foo_ds_0", mockStorageUnit("foo_tbl_0", createStatistics(10L, 10L, 3L)));
+        storageUnits.put("foo_ds_1", mockStorageUnit("foo_tbl_1", null));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(storageUnits);
+        assertFalse(collect().isPresent());
+    }
+    
+    @Test
+    void assertCollectWithMappedDataSource() throws SQLException {
+        mockDataNodes(new DataNode("readwrite_ds.foo_tbl"));
+        DataSourceMapperRuleAttribute dataSourceMapperRuleAttribute = mock(DataSourceMapperRuleAttribute.class);
+        when(dataSourceMapperRuleAttribute.getDataSourceMapper()).thenReturn(Collections.singletonMap("readwrite_ds", Arrays.asList("write_ds", "read_ds")));
+        when(database.getRuleMetaData().getAttributes(DataSourceMapperRuleAttribute.class)).thenReturn(Collections.singleton(dataSourceMapperRuleAttribute));
+        StorageUnit storageUnit = mockStorageUnit("foo_tbl", createStatistics(5L, 5L, 1L));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("write_ds", storageUnit));
+        assertThat(collect().map(SQLFederationTableStatistics::getRowCount).orElse(0L), is(5L));
+    }
+    
+    private Optional<SQLFederationTableStatistics> collect() throws SQLException {
+        try (MockedStatic<DatabaseTypedSPILoader> mockedStatic = mockStatic(DatabaseTypedSPILoader.class)) {
+            mockedStatic.when(() -> DatabaseTypedSPILoader.findService(DialectSQLFederationStatisticsLoader.class, databaseType)).thenReturn(Optional.of(loader));
+            return new SQLFederationTableStatisticsCollector(database).collect("foo_db", table);
+        }
+    }
+    
+    private void mockDataNodes(final DataNode... dataNodes) {
+        DataNodeRuleAttribute ruleAttribute = mock(DataNodeRuleAttribute.class);
+        when(ruleAttribute.getDataNodesByTableName("foo_tbl")).thenReturn(Arrays.asList(dataNodes));
+        when(database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.singleton(ruleAttribute));
+    }
+    
+    private SQLFederationTableStatistics createStatistics(final long rowCount, final long idDistinctCount, final long statusDistinctCount) {
+        Map<String, SQLFederationColumnStatistics> columnStatistics = new HashMap<>(2, 1F);
+        columnStatistics.put("id", new SQLFederationColumnStatistics(idDistinctCount));
+        columnStatistics.put("status", new SQLFederationColumnStatistics(statusDistinctCount));
+        return new SQLFederationTableStatistics(rowCount, columnStatistics);
+    }
+    
+    private StorageUnit mockStorageUnit(final String actualTableName, final SQLFederationTableStatistics statistics) throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(loader.load(connection, "foo_db", actualTableName)).thenReturn(Optional.ofNullable(statistics));
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        StorageUnit result = mock(StorageUnit.class);
+        when(result.getStorageType()).thenReturn(databaseType);
+        when(result.getDataSource()).thenReturn(dataSource);
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.mysql;
+
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+import org.apache.shardingsphere.sqlfederation.statistics.DialectSQLFederationStatisticsLoader;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL federation statistics loader for MySQL.
+ */
+public final class MySQLSQLFederationStatisticsLoader implements DialectSQLFederationStatisticsLoader {
+    
+    private static final String TABLE_ROWS_SQL = "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+    
+    private static final String INDEX_CARDINALITY_SQL = "SELECT COLUMN_NAME, MAX(CARDINALITY) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND SEQ_IN_INDEX = 1"
+            + " GROUP BY COLUMN_NAME";
+    
+    @Override
+    public Optional<SQLFederationTableStatistics> load(final Connection connection, final String schemaName, final String tableName) throws SQLException {
+        String catalog = connection.getCatalog();
+        Optional<Long> rowCount = loadRowCount(connection, catalog, tableName);
+        return rowCount.isPresent() ? Optional.of(new SQLFederationTableStatistics(rowCount.get(), loadColumnStatistics(connection, catalog, tableName))) : Optional.empty();
+    }
+    
+    private Optional<Long> loadRowCount(final Connection connection, final String catalog, final String tableName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(TABLE_ROWS_SQL)) {
+            preparedStatement.setString(1, catalog);
+            preparedStatement.setString(2, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                long result = resultSet.getLong(1);
+                return resultSet.wasNull() ? Optional.empty() : Optional.of(result);
+            }
+        }
+    }
+    
+    private Map<String, SQLFederationColumnStatistics> loadColumnStatistics(final Connection connection, final String catalog, final String tableName) throws SQLException {
+        Map<String, SQLFederationColumnStatistics> result = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(INDEX_CARDINALITY_SQL)) {
+            preparedStatement.setString(1, catalog);
+            preparedStatement.setString(2, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    long cardinality = resultSet.getLong(2);
+                    if (!resultSet.wasNull()) {
+                        result.put(resultSet.getString(1), new SQLFederationColumnStatistics(cardinality));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.mysql;
+
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+import org.apache.shardingsphere.sqlfederation.statistics.DialectSQLFederationStatisticsLoader;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySQLSQLFederationStatisticsLoaderTest {
+    
+    private final DialectSQLFederationStatisticsLoader loader = DatabaseTypedSPILoader.getService(DialectSQLFederationStatisticsLoader.class, TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+    
+    @Test
+    void assertLoad() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getCatalog()).thenReturn("foo_ds");
+        PreparedStatement tableRowsStatement = mockPreparedStatement(connection, "SELECT TABLE_ROWS ");
+        ResultSet tableRowsResultSet = mock(ResultSet.class);
+        when(tableRowsResultSet.next()).thenReturn(true);
+        when(tableRowsResultSet.getLong(1)).thenReturn(100L);
+        when(tableRowsStatement.executeQuery()).thenReturn(tableRowsResultSet);
+        PreparedStatement cardinalityStatement = mockPreparedStatement(connection, "SELECT COLUMN_NAME, MAX(CARDINALITY) ");
+        ResultSet cardinalityResultSet = mock(ResultSet.class);
+        when(cardinalityResultSet.next()).thenReturn(true, false);
+        when(cardinalityResultSet.getString(1)).thenReturn("id");
+        when(cardinalityResultSet.getLong(2)).thenReturn(98L);
+        when(cardinalityStatement.executeQuery()).thenReturn(cardinalityResultSet);
+        Optional<SQLFederationTableStatistics> actual = loader.load(connection, "foo_db", "foo_tbl_0");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(100L));
+        assertThat(actual.get().findColumnStatistics("id").map(SQLFederationColumnStatistics::getDistinctCount).orElse(0L), is(98L));
+        verify(tableRowsStatement).setString(1, "foo_ds");
+        verify(tableRowsStatement).setString(2, "foo_tbl_0");
+    }
+    
+    @Test
+    void assertLoadWithoutTable() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement tableRowsStatement = mockPreparedStatement(connection, "SELECT TABLE_ROWS ");
+        ResultSet tableRowsResultSet = mock(ResultSet.class);
+        when(tableRowsStatement.executeQuery()).thenReturn(tableRowsResultSet);
+        assertFalse(loader.load(connection, "foo_db", "foo_tbl_0").isPresent());
+    }
+    
+    private PreparedStatement mockPreparedStatement(final Connection connection, final String sqlPrefix) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith(sqlPrefix))).thenReturn(result);
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.opengauss;
+
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+import org.apache.shardingsphere.sqlfederation.postgresql.PostgreSQLSQLFederationStatisticsLoader;
+import org.apache.shardingsphere.sqlfederation.statistics.DialectSQLFederationStatisticsLoader;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * SQL federation statistics loader for openGauss.
+ */
+public final class OpenGaussSQLFederationStatisticsLoader implements DialectSQLFederationStatisticsLoader {
+    
+    private final DialectSQLFederationStatisticsLoader delegate = new PostgreSQLSQLFederationStatisticsLoader();
+    
+    @Override
+    public Optional<SQLFederationTableStatistics> load(final Connection connection, final String schemaName, final String tableName) throws SQLException {
+        return delegate.load(connection, schemaName, tableName);
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "openGauss";
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.postgresql;
+
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+import org.apache.shardingsphere.sqlfederation.statistics.DialectSQLFederationStatisticsLoader;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL federation statistics loader for PostgreSQL.
+ */
+public final class PostgreSQLSQLFederationStatisticsLoader implements DialectSQLFederationStatisticsLoader {
+    
+    private static final String RELTUPLES_SQL = "SELECT c.reltuples FROM pg_catalog.pg_class c JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = ? AND c.relname = ?";
+    
+    private static final String N_DISTINCT_SQL = "SELECT attname, n_distinct FROM pg_catalog.pg_stats WHERE schemaname = ? AND tablename = ?";
+    
+    @Override
+    public Optional<SQLFederationTableStatistics> load(final Connection connection, final String schemaName, final String tableName) throws SQLException {
+        Optional<Long> rowCount = loadRowCount(connection, schemaName, tableName);
+        return rowCount.isPresent() ? Optional.of(new SQLFederationTableStatistics(rowCount.get(), loadColumnStatistics(connection, schemaName, tableName, rowCount.get()))) : Optional.empty();
+    }
+    
+    private Optional<Long> loadRowCount(final Connection connection, final String schemaName, final String tableName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(RELTUPLES_SQL)) {
+            preparedStatement.setString(1, schemaName);
+            preparedStatement.setString(2, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                // reltuples is -1 for tables which have never been vacuumed or analyzed
+                double result = resultSet.getDouble(1);
+                return result < 0D ? Optional.empty() : Optional.of((long) result);
+            }
+        }
+    }
+    
+    private Map<String, SQLFederationColumnStatistics> loadColumnStatistics(final Connection connection, final String schemaName, final String tableName, final long rowCount) throws SQLException {
+        Map<String, SQLFederationColumnStatistics> result = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(N_DISTINCT_SQL)) {
+            preparedStatement.setString(1, schemaName);
+            preparedStatement.setString(2, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString(1), new SQLFederationColumnStatistics(getDistinctCount(resultSet.getDouble(2), rowCount)));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private long getDistinctCount(final double nDistinct, final long rowCount) {
+        // negative n_distinct is the negated ratio of distinct values to rows
+        return nDistinct < 0D ? Math.round(-nDistinct * rowCount) : (long) nDistinct;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
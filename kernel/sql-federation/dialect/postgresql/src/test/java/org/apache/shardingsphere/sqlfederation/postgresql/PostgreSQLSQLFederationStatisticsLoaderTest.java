@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.postgresql;
+
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationColumnStatistics;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistics.SQLFederationTableStatistics;
+import org.apache.shardingsphere.sqlfederation.statistics.DialectSQLFederationStatisticsLoader;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLSQLFederationStatisticsLoaderTest {
+    
+    private final DialectSQLFederationStatisticsLoader loader = DatabaseTypedSPILoader.getService(DialectSQLFederationStatisticsLoader.class, TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+    
+    @Test
+    void assertLoad() throws SQLException {
+        Connection connection = mock(Connection.class);
+        mockRowCount(connection, 1000D);
+        PreparedStatement distinctStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("SELECT attname, n_distinct "))).thenReturn(distinctStatement);
+        ResultSet distinctResultSet = mock(ResultSet.class);
+        when(distinctResultSet.next()).thenReturn(true, true, false);
+        when(distinctResultSet.getString(1)).thenReturn("id", "status");
+        when(distinctResultSet.getDouble(2)).thenReturn(-1D, 5D);
+        when(distinctStatement.executeQuery()).thenReturn(distinctResultSet);
+        Optional<SQLFederationTableStatistics> actual = loader.load(connection, "public", "foo_tbl_0");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(1000L));
+        assertThat(actual.get().findColumnStatistics("id").map(SQLFederationColumnStatistics::getDistinctCount).orElse(0L), is(1000L));
+        assertThat(actual.get().findColumnStatistics("status").map(SQLFederationColumnStatistics::getDistinctCount).orElse(0L), is(5L));
+    }
+    
+    @Test
+    void assertLoadWithNotAnalyzedTable() throws SQLException {
+        Connection connection = mock(Connection.class);
+        mockRowCount(connection, -1D);
+        assertFalse(loader.load(connection, "public", "foo_tbl_0").isPresent());
+    }
+    
+    private void mockRowCount(final Connection connection, final double reltuples) throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("SELECT c.reltuples "))).thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(reltuples);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
+
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipelined data row enumerator, which buffers rows of source enumerator produced by background thread in bounded queue.
+ *
+ * <p>Source enumerator is created and consumed by caller thread directly if executor service has no idle thread.</p>
+ */
+public final class PipelinedDataRowEnumerator implements Enumerator<Object> {
+    
+    private static final Object NULL_ROW = new Object();
+    
+    private static final Object END_OF_ROWS = new Object();
+    
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    
+    private final BlockingQueue<Object> rows;
+    
+    private final Callable<Enumerator<Object>> source;
+    
+    private final Collection<Statement> statements;
+    
+    private final Future<?> future;
+    
+    private volatile boolean closed;
+    
+    private volatile Exception failure;
+    
+    private Enumerator<Object> delegate;
+    
+    private boolean finished;
+    
+    private Object currentRow;
+    
+    public PipelinedDataRowEnumerator(final ExecutorService executorService, final int bufferSize, final Callable<Enumerator<Object>> source, final Collection<Statement> statements) {
+        rows = new ArrayBlockingQueue<>(bufferSize);
+        this.source = source;
+        this.statements = statements;
+        future = submit(executorService);
+    }
+    
+    private Future<?> submit(final ExecutorService executorService) {
+        try {
+            return executorService.submit(() -> produce(source));
+        } catch (final RejectedExecutionException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether source enumerator is produced by background thread.
+     *
+     * @return is pipelined or not
+     */
+    public boolean isPipelined() {
+        return null != future;
+    }
+    
+    private void produce(final Callable<Enumerator<Object>> source) {
+        Enumerator<Object> enumerator = null;
+        try {
+            enumerator = source.call();
+            while (!closed && enumerator.moveNext()) {
+                Object row = enumerator.current();
+                offer(null == row ? NULL_ROW : row);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failure = ex;
+        } finally {
+            closeSource(enumerator);
+            offer(END_OF_ROWS);
+        }
+    }
+    
+    private void closeSource(final Enumerator<Object> enumerator) {
+        if (null == enumerator) {
+            return;
+        }
+        try {
+            enumerator.close();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            if (null == failure) {
+                failure = ex;
+            }
+        }
+    }
+    
+    private void offer(final Object row) {
+        try {
+            while (!closed) {
+                if (rows.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public Object current() {
+        return null == future && null != delegate ? delegate.current() : currentRow;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public boolean moveNext() {
+        if (null == future) {
+            if (null == delegate) {
+                delegate = createSynchronousSource();
+            }
+            return delegate.moveNext();
+        }
+        if (finished) {
+            return false;
+        }
+        Object row = rows.take();
+        if (END_OF_ROWS == row) {
+            finished = true;
+            currentRow = null;
+            rethrowFailure();
+            return false;
+        }
+        currentRow = NULL_ROW == row ? null : row;
+        return true;
+    }
+    
+    private Enumerator<Object> createSynchronousSource() {
+        try {
+            return source.call();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw toRuntimeException(ex);
+        }
+    }
+    
+    private void rethrowFailure() {
+        if (null != failure) {
+            throw toRuntimeException(failure);
+        }
+    }
+    
+    private RuntimeException toRuntimeException(final Exception ex) {
+        if (ex instanceof RuntimeException) {
+            return (RuntimeException) ex;
+        }
+        if (ex instanceof SQLException) {
+            return new SQLWrapperException((SQLException) ex);
+        }
+        return new IllegalStateException(ex);
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (null == future) {
+            closeSynchronousSource();
+            return;
+        }
+        rows.clear();
+        currentRow = null;
+        cancelStatements();
+        try {
+            future.get();
+        } catch (final ExecutionException ignored) {
+        }
+    }
+    
+    private void closeSynchronousSource() {
+        if (null != delegate) {
+            delegate.close();
+            return;
+        }
+        for (Statement each : statements) {
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    private void cancelStatements() {
+        for (Statement each : statements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.calcite.DataContext;
 import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
@@ -26,8 +27,10 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.metad
 import org.apache.shardingsphere.database.connector.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.binder.context.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
@@ -40,6 +43,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -55,8 +59,11 @@ import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplemen
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.enumerator.EmptyDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.JDBCDataRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.PipelinedDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.memory.MemoryDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.memory.MemoryTableStatisticsBuilder;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor.cache.ScanSQLStatementCache;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor.cache.ScanSQLStatementCacheKey;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -68,6 +75,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -126,16 +134,20 @@ public final class EnumerableScanImplementor implements ScanImplementor {
     
     private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final ScanImplementorContext sqlString, final DatabaseType databaseType, final boolean useCache) {
         String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
-        SQLStatement sqlStatement = compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse(sql, useCache);
         HintValueContext hintValueContext = new HintValueContext();
-        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement);
-        return new QueryContext(sqlStatementContext, sql, getParameters(sqlString.getParamIndexes()), hintValueContext, queryContext.getConnectionContext(), metaData, useCache);
+        SQLBindEngine bindEngine = new SQLBindEngine(metaData, executorContext.getCurrentDatabaseName(), hintValueContext);
+        SQLStatement boundSQLStatement = useCache && !HintManager.getDataSourceName().isPresent()
+                ? ScanSQLStatementCache.get(new ScanSQLStatementCacheKey(databaseType.getType(), executorContext.getCurrentDatabaseName(), sql), metaData,
+                        () -> bindEngine.bindStatement(compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse(sql, true)))
+                : bindEngine.bindStatement(compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse(sql, useCache));
+        SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, boundSQLStatement, executorContext.getCurrentDatabaseName());
+        return new QueryContext(sqlStatementContext, sql, getParameters(sqlString.getRoot(), sqlString.getParamIndexes()), hintValueContext, queryContext.getConnectionContext(), metaData, useCache);
     }
     
-    private List<Object> getParameters(final int[] paramIndexes) {
+    private List<Object> getParameters(final DataContext root, final int[] paramIndexes) {
         return null == paramIndexes
                 ? Collections.emptyList()
-                : Arrays.stream(paramIndexes).mapToObj(each -> queryContext.getParameters().get(each)).collect(Collectors.toCollection(() -> new ArrayList<>(paramIndexes.length)));
+                : Arrays.stream(paramIndexes).mapToObj(each -> root.get("?" + each)).collect(Collectors.toCollection(() -> new ArrayList<>(paramIndexes.length)));
     }
     
     private AbstractEnumerable<Object> createEmptyEnumerable() {
@@ -149,27 +161,58 @@ public final class EnumerableScanImplementor implements ScanImplementor {
     }
     
     private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext executionContext) {
+        int parallelScanBufferSize = queryContext.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_PARALLEL_SCAN_BUFFER_SIZE);
+        if (parallelScanBufferSize > 0 && null != executorContext.getParallelScanExecutorService() && !queryContext.getConnectionContext().getTransactionContext().isTransactionStarted()) {
+            return createPipelinedJDBCEnumerable(queryContext, database, executionContext, parallelScanBufferSize);
+        }
+        return new AbstractEnumerable<Object>() {
+            
+            @SneakyThrows(SQLException.class)
+            @Override
+            public Enumerator<Object> enumerator() {
+                return execute(queryContext, database, prepareExecutionGroupContext(database, executionContext));
+            }
+        };
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private AbstractEnumerable<Object> createPipelinedJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext executionContext,
+                                                                     final int bufferSize) {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareExecutionGroupContext(database, executionContext);
+        PipelinedDataRowEnumerator pipelinedEnumerator = new PipelinedDataRowEnumerator(executorContext.getParallelScanExecutorService(), bufferSize,
+                () -> execute(queryContext, database, executionGroupContext), getStatements(executionGroupContext.getInputGroups()));
+        executorContext.getPipelinedEnumerators().add(pipelinedEnumerator);
         return new AbstractEnumerable<Object>() {
             
-            @SneakyThrows
+            private final AtomicBoolean pipelinedEnumeratorAcquired = new AtomicBoolean();
+            
+            @SneakyThrows(SQLException.class)
             @Override
             public Enumerator<Object> enumerator() {
-                computeConnectionOffsets(executionContext);
-                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepare(database, executionContext);
-                setParameters(executionGroupContext.getInputGroups());
-                ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(executorContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
-                processEngine.executeSQL(executionGroupContext, queryContext);
-                List<QueryResult> queryResults =
-                        executorContext.getJdbcExecutor().execute(executionGroupContext, executorContext.getQueryCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-                MergeEngine mergeEngine = new MergeEngine(queryContext.getMetaData(), database, queryContext.getMetaData().getProps(),
-                        queryContext.getConnectionContext());
-                MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext);
-                Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCDataRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                return pipelinedEnumeratorAcquired.compareAndSet(false, true) ? pipelinedEnumerator : execute(queryContext, database, prepareExecutionGroupContext(database, executionContext));
             }
         };
     }
     
+    private ExecutionGroupContext<JDBCExecutionUnit> prepareExecutionGroupContext(final ShardingSphereDatabase database, final ExecutionContext executionContext) throws SQLException {
+        computeConnectionOffsets(executionContext);
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepare(database, executionContext);
+        setParameters(result.getInputGroups());
+        ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(executorContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
+        return result;
+    }
+    
+    private Enumerator<Object> execute(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        processEngine.executeSQL(executionGroupContext, queryContext);
+        List<QueryResult> queryResults =
+                executorContext.getJdbcExecutor().execute(executionGroupContext, executorContext.getQueryCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+        MergeEngine mergeEngine = new MergeEngine(queryContext.getMetaData(), database, queryContext.getMetaData().getProps(),
+                queryContext.getConnectionContext());
+        MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext);
+        Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+        return new JDBCDataRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+    }
+    
     private void computeConnectionOffsets(final ExecutionContext context) {
         for (ExecutionUnit each : context.getExecutionUnits()) {
             int connectionOffset = executorContext.getConnectionOffsets().containsKey(each.getDataSourceName()) ? executorContext.getConnectionOffsets().get(each.getDataSourceName()) + 1 : 0;
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.function.Supplier;
+
+/**
+ * Scan SQL statement cache.
+ * <p>Bound SQL statements of scans generated by SQL federation are cached as read only templates.
+ * SQL statement context is mutable during rewrite and merge, so it is created from the cached statement for each execution.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ScanSQLStatementCache {
+    
+    private static final int MAXIMUM_SIZE = 4096;
+    
+    private static final Cache<ScanSQLStatementCacheKey, BoundSQLStatement> CACHE = Caffeine.newBuilder().softValues().maximumSize(MAXIMUM_SIZE).build();
+    
+    /**
+     * Get bound SQL statement, or bind and cache it when absent or bound with stale meta data.
+     *
+     * @param cacheKey cache key
+     * @param metaData meta data
+     * @param binder binder of SQL statement
+     * @return bound SQL statement
+     */
+    public static SQLStatement get(final ScanSQLStatementCacheKey cacheKey, final ShardingSphereMetaData metaData, final Supplier<SQLStatement> binder) {
+        return CACHE.asMap().compute(cacheKey, (key, value) -> null != value && value.metaData == metaData ? value : new BoundSQLStatement(metaData, binder.get())).sqlStatement;
+    }
+    
+    /**
+     * Invalidate all cached SQL statements.
+     */
+    public static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BoundSQLStatement {
+        
+        private final ShardingSphereMetaData metaData;
+        
+        private final SQLStatement sqlStatement;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PipelinedDataRowEnumeratorTest {
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertEnumerateRowsThroughBoundedBuffer() {
+        try (
+                PipelinedDataRowEnumerator actual = new PipelinedDataRowEnumerator(
+                        executorService, 1, () -> Linq4j.enumerator(Arrays.asList("foo", null, "bar")), Collections.emptyList())) {
+            assertTrue(actual.isPipelined());
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is("foo"));
+            assertTrue(actual.moveNext());
+            assertNull(actual.current());
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is("bar"));
+            assertFalse(actual.moveNext());
+            assertFalse(actual.moveNext());
+        }
+    }
+    
+    @Test
+    void assertMoveNextWithSourceFailure() {
+        try (PipelinedDataRowEnumerator actual = new PipelinedDataRowEnumerator(executorService, 1, () -> {
+            throw new SQLException("foo_error");
+        }, Collections.emptyList())) {
+            assertThrows(SQLWrapperException.class, actual::moveNext);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCloseBeforeConsumed() throws SQLException {
+        Enumerator<Object> source = mock(Enumerator.class);
+        when(source.moveNext()).thenReturn(true);
+        when(source.current()).thenReturn("foo");
+        Statement statement = mock(Statement.class);
+        PipelinedDataRowEnumerator actual = new PipelinedDataRowEnumerator(executorService, 1, () -> source, Collections.singleton(statement));
+        actual.close();
+        verify(statement).cancel();
+        verify(source).close();
+        actual.close();
+    }
+    
+    @Test
+    void assertEnumerateRowsSynchronouslyWhenExecutorServiceRejected() {
+        ExecutorService rejectedExecutorService = mock(ExecutorService.class);
+        when(rejectedExecutorService.submit(any(Runnable.class))).thenThrow(RejectedExecutionException.class);
+        try (
+                PipelinedDataRowEnumerator actual = new PipelinedDataRowEnumerator(
+                        rejectedExecutorService, 1, () -> Linq4j.enumerator(Arrays.asList("foo", "bar")), Collections.emptyList())) {
+            assertFalse(actual.isPipelined());
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is("foo"));
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is("bar"));
+            assertFalse(actual.moveNext());
+        }
+    }
+    
+    @Test
+    void assertCloseStatementsWhenExecutorServiceRejectedAndNotConsumed() throws SQLException {
+        ExecutorService rejectedExecutorService = mock(ExecutorService.class);
+        when(rejectedExecutorService.submit(any(Runnable.class))).thenThrow(RejectedExecutionException.class);
+        Statement statement = mock(Statement.class);
+        new PipelinedDataRowEnumerator(rejectedExecutorService, 1, () -> Linq4j.enumerator(Collections.emptyList()), Collections.singleton(statement)).close();
+        verify(statement).close();
+    }
+}
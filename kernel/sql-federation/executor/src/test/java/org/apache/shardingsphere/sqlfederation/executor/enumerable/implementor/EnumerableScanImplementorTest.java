@@ -26,9 +26,11 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.metad
 import org.apache.shardingsphere.database.connector.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.binder.context.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -63,6 +65,8 @@ import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementorContext;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.memory.MemoryTableStatisticsBuilder;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor.cache.ScanSQLStatementCache;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
@@ -78,6 +82,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -103,6 +108,11 @@ class EnumerableScanImplementorTest {
     
     private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
     
+    @AfterEach
+    void tearDown() {
+        ScanSQLStatementCache.invalidateAll();
+    }
+    
     @Test
     void assertImplementWithSystemTable() {
         SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
@@ -239,9 +249,11 @@ class EnumerableScanImplementorTest {
                 MockedConstruction<SystemDatabase> mockedSystemDatabase = mockConstruction(SystemDatabase.class,
                         (constructed, context) -> when(constructed.getSystemSchemas()).thenReturn(Collections.singletonList("pg_catalog")));
                 MockedConstruction<SQLBindEngine> ignoredSQLBindEngine = mockConstruction(SQLBindEngine.class,
-                        (constructed, context) -> when(constructed.bind(sqlStatement)).thenReturn(boundStatementContext));
+                        (constructed, context) -> when(constructed.bindStatement(sqlStatement)).thenReturn(sqlStatement));
+                MockedStatic<SQLStatementContextFactory> mockedContextFactory = mockStatic(SQLStatementContextFactory.class);
                 MockedConstruction<KernelProcessor> ignoredKernelProcessor = mockConstruction(KernelProcessor.class,
                         (constructed, context) -> when(constructed.generateExecutionContext(any(), any(), any())).thenReturn(executionContext))) {
+            mockedContextFactory.when(() -> SQLStatementContextFactory.newInstance(any(), any(), any())).thenReturn(boundStatementContext);
             Enumerable<Object> enumerable = new EnumerableScanImplementor(queryContext, compilerContext, executorContext)
                     .implement(mock(ShardingSphereTable.class), new ScanImplementorContext(mock(), "SELECT 1", null));
             assertThat(executorContext.getPreviewExecutionUnits(), is(Collections.singletonList(executionUnit)));
@@ -266,8 +278,8 @@ class EnumerableScanImplementorTest {
         when(metaData.containsDatabase("foo_db")).thenReturn(true);
         when(metaData.getDatabase("foo_db")).thenReturn(database);
         when(metaData.getGlobalRuleMetaData()).thenReturn(mock(RuleMetaData.class));
+        when(metaData.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
         when(queryContext.getMetaData()).thenReturn(metaData);
-        when(queryContext.getParameters()).thenReturn(Collections.singletonList("param_0"));
         SQLStatement sqlStatement = mock(SQLStatement.class);
         CompilerContext compilerContext = mock(CompilerContext.class, RETURNS_DEEP_STUBS);
         when(compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse("SELECT ? FROM tbl", true)).thenReturn(sqlStatement);
@@ -297,16 +309,20 @@ class EnumerableScanImplementorTest {
         doAnswer(invocation -> executionGroupContext).when(prepareEngine).prepare(anyString(), any(), anyMap(), anyCollection(), any());
         when(jdbcExecutor.execute(executionGroupContext, queryCallback)).thenReturn(Collections.singletonList(mock(QueryResult.class)));
         ProcessRegistry.getInstance().add(new Process(new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("process_id", "foo_db"))));
-        ScanImplementorContext scanContext = new ScanImplementorContext(mock(DataContext.class), "SELECT ? FROM tbl", new int[]{0});
+        DataContext dataContext = mock(DataContext.class);
+        when(dataContext.get("?0")).thenReturn("param_0");
+        ScanImplementorContext scanContext = new ScanImplementorContext(dataContext, "SELECT ? FROM tbl", new int[]{0});
         ShardingSphereTable table = mock(ShardingSphereTable.class, RETURNS_DEEP_STUBS);
         when(table.getAllColumns()).thenReturn(Collections.singleton(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, false, true, false)));
         try (
                 MockedConstruction<SQLBindEngine> ignoredSQLBindEngine = mockConstruction(SQLBindEngine.class,
-                        (constructed, context) -> when(constructed.bind(sqlStatement)).thenReturn(boundStatementContext));
+                        (constructed, context) -> when(constructed.bindStatement(sqlStatement)).thenReturn(sqlStatement));
+                MockedStatic<SQLStatementContextFactory> mockedContextFactory = mockStatic(SQLStatementContextFactory.class);
                 MockedConstruction<KernelProcessor> ignoredKernelProcessor = mockConstruction(KernelProcessor.class,
                         (constructed, context) -> when(constructed.generateExecutionContext(any(), any(), any())).thenReturn(executionContext));
                 MockedConstruction<MergeEngine> mergeEngineMockedConstruction = mockConstruction(MergeEngine.class,
                         (constructed, context) -> when(constructed.merge(anyList(), any(QueryContext.class))).thenReturn(mock(MergedResult.class)))) {
+            mockedContextFactory.when(() -> SQLStatementContextFactory.newInstance(any(), any(), any())).thenReturn(boundStatementContext);
             Enumerable<Object> enumerable = new EnumerableScanImplementor(queryContext, compilerContext, executorContext).implement(table, scanContext);
             try (Enumerator<Object> ignored = enumerable.enumerator()) {
                 assertThat(connectionOffsets.get("ds_0"), is(1));
@@ -327,7 +343,7 @@ class EnumerableScanImplementorTest {
         QueryContext queryContext = mock(QueryContext.class, RETURNS_DEEP_STUBS);
         when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
         when(queryContext.isUseCache()).thenReturn(true);
-        when(queryContext.getParameters()).thenReturn(Collections.singletonList("param_0"));
+        when(queryContext.getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
         CompilerContext compilerContext = mock(CompilerContext.class, RETURNS_DEEP_STUBS);
         SQLStatement sqlStatement = mock(SQLStatement.class);
         when(compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse("SELECT ? FROM tbl", true)).thenReturn(sqlStatement);
@@ -348,7 +364,9 @@ class EnumerableScanImplementorTest {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = mock(DriverExecutionPrepareEngine.class);
         when(prepareEngine.prepare(any(), any(), anyMap(), anyCollection(), any())).thenReturn(executionGroupContext);
         when(executorContext.getPrepareEngine()).thenReturn(prepareEngine);
-        ScanImplementorContext scanContext = new ScanImplementorContext(mock(DataContext.class), "SELECT ? FROM tbl", new int[]{0});
+        DataContext dataContext = mock(DataContext.class);
+        when(dataContext.get("?0")).thenReturn("param_0");
+        ScanImplementorContext scanContext = new ScanImplementorContext(dataContext, "SELECT ? FROM tbl", new int[]{0});
         ShardingSphereTable table = mock(ShardingSphereTable.class, RETURNS_DEEP_STUBS);
         when(table.getAllColumns()).thenReturn(Collections.singleton(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, false, true, false)));
         ProcessRegistry processRegistry = mock(ProcessRegistry.class);
@@ -358,10 +376,12 @@ class EnumerableScanImplementorTest {
         try (
                 MockedStatic<ProcessRegistry> mockedStatic = mockStatic(ProcessRegistry.class);
                 MockedConstruction<SQLBindEngine> ignoredSQLBindEngine = mockConstruction(SQLBindEngine.class,
-                        (constructed, context) -> when(constructed.bind(sqlStatement)).thenReturn(boundStatementContext));
+                        (constructed, context) -> when(constructed.bindStatement(sqlStatement)).thenReturn(sqlStatement));
+                MockedStatic<SQLStatementContextFactory> mockedContextFactory = mockStatic(SQLStatementContextFactory.class);
                 MockedConstruction<KernelProcessor> ignoredKernelProcessor = mockConstruction(KernelProcessor.class,
                         (constructed, context) -> when(constructed.generateExecutionContext(any(), any(), any())).thenReturn(executionContext))) {
             mockedStatic.when(ProcessRegistry::getInstance).thenReturn(processRegistry);
+            mockedContextFactory.when(() -> SQLStatementContextFactory.newInstance(any(), any(), any())).thenReturn(boundStatementContext);
             Enumerable<Object> enumerable = new EnumerableScanImplementor(queryContext, compilerContext, executorContext).implement(table, scanContext);
             assertThrows(SQLExecutionInterruptedException.class, enumerable::enumerator);
         }
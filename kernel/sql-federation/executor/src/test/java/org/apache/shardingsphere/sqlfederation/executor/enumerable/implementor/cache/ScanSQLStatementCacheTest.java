@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor.cache;
+
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ScanSQLStatementCacheTest {
+    
+    @AfterEach
+    void tearDown() {
+        ScanSQLStatementCache.invalidateAll();
+    }
+    
+    @Test
+    void assertGetWithSameMetaData() {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        AtomicInteger bindCount = new AtomicInteger();
+        assertThat(ScanSQLStatementCache.get(new ScanSQLStatementCacheKey("FIXTURE", "foo_db", "SELECT * FROM t_order"), metaData, () -> bind(bindCount, sqlStatement)), is(sqlStatement));
+        assertThat(ScanSQLStatementCache.get(new ScanSQLStatementCacheKey("FIXTURE", "foo_db", "SELECT * FROM t_order"), metaData, () -> bind(bindCount, mock(SQLStatement.class))), is(sqlStatement));
+        assertThat(bindCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetWithChangedMetaData() {
+        SQLStatement expected = mock(SQLStatement.class);
+        AtomicInteger bindCount = new AtomicInteger();
+        ScanSQLStatementCacheKey cacheKey = new ScanSQLStatementCacheKey("FIXTURE", "foo_db", "SELECT * FROM t_order");
+        ScanSQLStatementCache.get(cacheKey, mock(ShardingSphereMetaData.class), () -> bind(bindCount, mock(SQLStatement.class)));
+        assertThat(ScanSQLStatementCache.get(cacheKey, mock(ShardingSphereMetaData.class), () -> bind(bindCount, expected)), is(expected));
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetWithDifferentDatabase() {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        AtomicInteger bindCount = new AtomicInteger();
+        ScanSQLStatementCache.get(new ScanSQLStatementCacheKey("FIXTURE", "foo_db", "SELECT * FROM t_order"), metaData, () -> bind(bindCount, mock(SQLStatement.class)));
+        ScanSQLStatementCache.get(new ScanSQLStatementCacheKey("FIXTURE", "bar_db", "SELECT * FROM t_order"), metaData, () -> bind(bindCount, mock(SQLStatement.class)));
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    private SQLStatement bind(final AtomicInteger bindCount, final SQLStatement sqlStatement) {
+        bindCount.incrementAndGet();
+        return sqlStatement;
+    }
+}
@@ -36,6 +36,7 @@ public final class YamlSQLParserRuleConfigurationSwapper implements YamlRuleConf
         YamlSQLParserRuleConfiguration result = new YamlSQLParserRuleConfiguration();
         result.setParseTreeCache(cacheOptionSwapper.swapToYamlConfiguration(data.getParseTreeCache()));
         result.setSqlStatementCache(cacheOptionSwapper.swapToYamlConfiguration(data.getSqlStatementCache()));
+        result.setLiteralNormalizationEnabled(data.isLiteralNormalizationEnabled());
         return result;
     }
     
@@ -47,7 +48,7 @@ public final class YamlSQLParserRuleConfigurationSwapper implements YamlRuleConf
         CacheOption sqlStatementCacheOption = null == yamlConfig.getSqlStatementCache()
                 ? DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION
                 : cacheOptionSwapper.swapToObject(yamlConfig.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(parseTreeCacheOption, sqlStatementCacheOption);
+        return new SQLParserRuleConfiguration(parseTreeCacheOption, sqlStatementCacheOption, yamlConfig.isLiteralNormalizationEnabled());
     }
     
     @Override
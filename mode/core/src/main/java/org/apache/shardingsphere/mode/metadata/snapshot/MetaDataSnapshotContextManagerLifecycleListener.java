@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.MetaDataSnapshotStaleListener;
+import org.apache.shardingsphere.database.connector.core.metadata.data.snapshot.MetaDataSnapshotStaleNotifier;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.listener.ContextManagerLifecycleListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Meta data snapshot context manager lifecycle listener, which reloads database whose meta data loaded from snapshot is found stale.
+ */
+public final class MetaDataSnapshotContextManagerLifecycleListener implements ContextManagerLifecycleListener {
+    
+    private final Map<ContextManager, MetaDataSnapshotStaleListener> staleListeners = new ConcurrentHashMap<>();
+    
+    @Override
+    public void onInitialized(final ContextManager contextManager) {
+        MetaDataSnapshotStaleListener staleListener = databaseName -> reloadDatabase(contextManager, databaseName);
+        staleListeners.put(contextManager, staleListener);
+        MetaDataSnapshotStaleNotifier.register(staleListener);
+    }
+    
+    private void reloadDatabase(final ContextManager contextManager, final String databaseName) {
+        if (contextManager.getMetaDataContexts().getMetaData().containsDatabase(databaseName)) {
+            contextManager.reloadDatabase(contextManager.getMetaDataContexts().getMetaData().getDatabase(databaseName));
+        }
+    }
+    
+    @Override
+    public void onDestroyed(final ContextManager contextManager) {
+        Optional.ofNullable(staleListeners.remove(contextManager)).ifPresent(MetaDataSnapshotStaleNotifier::unregister);
+    }
+}
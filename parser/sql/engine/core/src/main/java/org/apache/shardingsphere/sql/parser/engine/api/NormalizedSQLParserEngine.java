@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.api;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.engine.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.engine.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.engine.core.database.cache.ParseTreeTemplate;
+import org.apache.shardingsphere.sql.parser.engine.core.database.cache.ParseTreeTemplateCache;
+import org.apache.shardingsphere.sql.parser.engine.core.database.cache.RebindableCharStream;
+import org.apache.shardingsphere.sql.parser.engine.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Normalized SQL parser engine.
+ * 
+ * <p>SQLs only differing in literals share one parse tree template, which is keyed by token types with literal text erased.
+ * The template is re-bound to tokens of current SQL before visiting, so visited literals and start/stop indexes are always from current SQL.</p>
+ */
+public final class NormalizedSQLParserEngine {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "SINGLE_QUOTED_TEXT", "NCHAR_TEXT", "UCHAR_TEXT", "NUMBER_", "INTEGER_", "INT_NUM_", "FLOAT_NUM_", "DECIMAL_NUM_", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private static final Map<Class<? extends SQLLexer>, BitSet> LITERAL_TOKEN_TYPES = new ConcurrentHashMap<>();
+    
+    private final DatabaseType databaseType;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final ParseTreeTemplateCache parseTreeTemplateCache;
+    
+    public NormalizedSQLParserEngine(final DatabaseType databaseType, final CacheOption cacheOption) {
+        this.databaseType = databaseType;
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        parseTreeTemplateCache = new ParseTreeTemplateCache(cacheOption);
+    }
+    
+    public NormalizedSQLParserEngine(final String databaseType, final CacheOption cacheOption) {
+        this(TypedSPILoader.getService(DatabaseType.class, databaseType), cacheOption);
+    }
+    
+    private BitSet getLiteralTokenTypes(final Vocabulary vocabulary) {
+        BitSet result = new BitSet();
+        for (int i = 1; i <= vocabulary.getMaxTokenType(); i++) {
+            if (LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(i))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Update cache option.
+     *
+     * @param cacheOption cache option
+     */
+    public void updateCacheOption(final CacheOption cacheOption) {
+        parseTreeTemplateCache.updateCacheOption(cacheOption);
+    }
+    
+    /**
+     * Parse SQL and visit parse AST node.
+     *
+     * @param sql SQL to be parsed
+     * @param parseTreeVisitor visitor of parse AST node
+     * @param <T> type of visited result
+     * @return visited result
+     */
+    public <T> T parse(final String sql, final Function<ParseASTNode, T> parseTreeVisitor) {
+        RebindableCharStream charStream = new RebindableCharStream(sql);
+        Class<? extends SQLLexer> lexerClass = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType).getLexerClass();
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(charStream, lexerClass);
+        tokenStream.fill();
+        BitSet literalTokenTypes = LITERAL_TOKEN_TYPES.computeIfAbsent(lexerClass, key -> getLiteralTokenTypes(((Lexer) tokenStream.getTokenSource()).getVocabulary()));
+        String templateKey = createTemplateKey(tokenStream.getTokens(), literalTokenTypes);
+        Optional<ParseTreeTemplate> template = parseTreeTemplateCache.get(templateKey);
+        if (!template.isPresent()) {
+            ParseASTNode parseASTNode = sqlParserExecutor.parse(sql, tokenStream);
+            T result = parseTreeVisitor.apply(parseASTNode);
+            parseTreeTemplateCache.put(templateKey, new ParseTreeTemplate(parseASTNode, charStream, tokenStream.getTokens()));
+            return result;
+        }
+        if (!template.get().tryAcquire()) {
+            return parseTreeVisitor.apply(sqlParserExecutor.parse(sql, tokenStream));
+        }
+        try {
+            return parseTreeVisitor.apply(template.get().rebind(charStream, tokenStream.getTokens()));
+        } finally {
+            template.get().release();
+        }
+    }
+    
+    private String createTemplateKey(final List<Token> tokens, final BitSet literalTokenTypes) {
+        StringBuilder result = new StringBuilder();
+        for (Token each : tokens) {
+            result.append(each.getType()).append(',');
+            if (each.getType() > 0 && literalTokenTypes.get(each.getType())) {
+                continue;
+            }
+            String text = each.getText();
+            result.append(text.length()).append(',').append(text);
+        }
+        return result.toString();
+    }
+}
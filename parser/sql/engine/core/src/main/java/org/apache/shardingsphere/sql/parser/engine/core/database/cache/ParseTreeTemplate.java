@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.sql.parser.engine.core.ParseASTNode;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Parse tree template, which is shared by SQLs only differing in literals.
+ */
+@RequiredArgsConstructor
+public final class ParseTreeTemplate {
+    
+    private final ParseASTNode parseASTNode;
+    
+    private final RebindableCharStream charStream;
+    
+    private final List<Token> tokens;
+    
+    private final AtomicBoolean acquired = new AtomicBoolean();
+    
+    /**
+     * Try to acquire parse tree template exclusively.
+     *
+     * @return acquired or not
+     */
+    public boolean tryAcquire() {
+        return acquired.compareAndSet(false, true);
+    }
+    
+    /**
+     * Re-bind parse tree template to SQL lexed to the same token types.
+     *
+     * @param charStream char stream of SQL
+     * @param tokens lexed tokens of SQL
+     * @return re-bound parse AST node
+     */
+    public ParseASTNode rebind(final RebindableCharStream charStream, final List<Token> tokens) {
+        this.charStream.rebind(charStream);
+        for (int i = 0; i < tokens.size(); i++) {
+            CommonToken templateToken = (CommonToken) this.tokens.get(i);
+            Token token = tokens.get(i);
+            templateToken.setStartIndex(token.getStartIndex());
+            templateToken.setStopIndex(token.getStopIndex());
+            templateToken.setLine(token.getLine());
+            templateToken.setCharPositionInLine(token.getCharPositionInLine());
+        }
+        return parseASTNode;
+    }
+    
+    /**
+     * Release parse tree template.
+     */
+    public void release() {
+        acquired.set(false);
+    }
+}
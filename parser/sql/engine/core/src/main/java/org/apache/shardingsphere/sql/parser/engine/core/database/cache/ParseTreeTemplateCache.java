@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+
+import java.util.Optional;
+
+/**
+ * Parse tree template cache.
+ */
+public final class ParseTreeTemplateCache {
+    
+    private final Cache<String, ParseTreeTemplate> cache;
+    
+    public ParseTreeTemplateCache(final CacheOption option) {
+        cache = Caffeine.newBuilder().softValues().initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).build();
+    }
+    
+    /**
+     * Get parse tree template.
+     *
+     * @param templateKey template key
+     * @return got parse tree template
+     */
+    public Optional<ParseTreeTemplate> get(final String templateKey) {
+        return Optional.ofNullable(cache.getIfPresent(templateKey));
+    }
+    
+    /**
+     * Put parse tree template if absent.
+     *
+     * @param templateKey template key
+     * @param template parse tree template
+     */
+    public void put(final String templateKey, final ParseTreeTemplate template) {
+        cache.asMap().putIfAbsent(templateKey, template);
+    }
+    
+    /**
+     * Update cache option.
+     *
+     * @param option cache option
+     */
+    public void updateCacheOption(final CacheOption option) {
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(option.getMaximumSize()));
+    }
+}
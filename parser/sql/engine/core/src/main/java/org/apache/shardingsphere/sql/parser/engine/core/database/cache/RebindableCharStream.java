@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.cache;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.apache.shardingsphere.sql.parser.engine.core.SQLParserFactory;
+
+/**
+ * Char stream which can be re-bound to another SQL.
+ * 
+ * <p>Tokens keep reference of the char stream which they are lexed from, re-binding it makes tokens of parse tree template read text of another SQL.</p>
+ */
+public final class RebindableCharStream implements CharStream {
+    
+    private CharStream delegate;
+    
+    public RebindableCharStream(final String sql) {
+        delegate = SQLParserFactory.getSQLCharStream(sql);
+    }
+    
+    /**
+     * Re-bind to SQL of another char stream.
+     *
+     * @param charStream char stream to be re-bound to
+     */
+    public void rebind(final RebindableCharStream charStream) {
+        delegate = charStream.delegate;
+    }
+    
+    @Override
+    public String getText(final Interval interval) {
+        return delegate.getText(interval);
+    }
+    
+    @Override
+    public void consume() {
+        delegate.consume();
+    }
+    
+    @Override
+    public int LA(final int i) {
+        return delegate.LA(i);
+    }
+    
+    @Override
+    public int mark() {
+        return delegate.mark();
+    }
+    
+    @Override
+    public void release(final int marker) {
+        delegate.release(marker);
+    }
+    
+    @Override
+    public int index() {
+        return delegate.index();
+    }
+    
+    @Override
+    public void seek(final int index) {
+        delegate.seek(index);
+    }
+    
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+    
+    @Override
+    public String getSourceName() {
+        return delegate.getSourceName();
+    }
+}
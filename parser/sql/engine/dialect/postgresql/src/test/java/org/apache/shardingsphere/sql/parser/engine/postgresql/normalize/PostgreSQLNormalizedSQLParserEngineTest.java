@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.postgresql.normalize;
+
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.engine.api.NormalizedSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.engine.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class PostgreSQLNormalizedSQLParserEngineTest {
+    
+    private final NormalizedSQLParserEngine parserEngine = new NormalizedSQLParserEngine("PostgreSQL", new CacheOption(128, 1024L));
+    
+    private final SQLStatementVisitorEngine visitorEngine = new SQLStatementVisitorEngine("PostgreSQL");
+    
+    @Test
+    void assertParseSQLsOnlyDifferingInLiterals() {
+        assertWhere(parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'a'"), 1, 39, "a", 54, 56);
+        assertWhere(parse("SELECT * FROM t_order WHERE order_id = 1000 AND status = 'init'"), 1000, 42, "init", 57, 62);
+        assertWhere(parse("SELECT * FROM t_order WHERE order_id = 10 AND status = ''"), 10, 40, "", 55, 56);
+    }
+    
+    @Test
+    void assertParseSQLsDifferingInIdentifiers() {
+        SelectStatement actual = parse("SELECT * FROM t_order WHERE user_id = 2 AND status = 'b'");
+        BinaryOperationExpression left = (BinaryOperationExpression) ((BinaryOperationExpression) actual.getWhere().get().getExpr()).getLeft();
+        assertThat(left.getLeft().getText(), is("user_id"));
+        assertThat(((LiteralExpressionSegment) left.getRight()).getLiterals(), is(2));
+    }
+    
+    private SelectStatement parse(final String sql) {
+        return (SelectStatement) parserEngine.parse(sql, visitorEngine::visit);
+    }
+    
+    private void assertWhere(final SelectStatement actual, final int orderId, final int orderIdStopIndex, final String status, final int statusStartIndex, final int statusStopIndex) {
+        BinaryOperationExpression expr = (BinaryOperationExpression) actual.getWhere().get().getExpr();
+        LiteralExpressionSegment orderIdLiteral = (LiteralExpressionSegment) ((BinaryOperationExpression) expr.getLeft()).getRight();
+        assertThat(orderIdLiteral.getLiterals(), is(orderId));
+        assertThat(orderIdLiteral.getStartIndex(), is(39));
+        assertThat(orderIdLiteral.getStopIndex(), is(orderIdStopIndex));
+        LiteralExpressionSegment statusLiteral = (LiteralExpressionSegment) ((BinaryOperationExpression) expr.getRight()).getRight();
+        assertThat(statusLiteral.getLiterals(), is(status));
+        assertThat(statusLiteral.getStartIndex(), is(statusStartIndex));
+        assertThat(statusLiteral.getStopIndex(), is(statusStopIndex));
+        assertThat(expr.getStopIndex(), is(statusStopIndex));
+    }
+}
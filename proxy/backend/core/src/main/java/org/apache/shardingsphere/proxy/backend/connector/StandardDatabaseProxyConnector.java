@@ -65,6 +65,7 @@ import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.ProxyB
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowWriter;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
@@ -354,16 +355,21 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
     @Override
     public QueryResponseRow getRowData() throws SQLException {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
+        writeRowData((jdbcType, data) -> cells.add(new QueryResponseCell(jdbcType, data, queryHeaders.get(cells.size()).getColumnTypeName())));
+        return new QueryResponseRow(cells);
+    }
+    
+    @Override
+    public void writeRowData(final QueryResponseRowWriter rowWriter) throws SQLException {
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            Object data = mergedResult.getValue(columnIndex, Object.class);
-            cells.add(new QueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data, queryHeaders.get(columnIndex - 1).getColumnTypeName()));
+            rowWriter.writeCell(queryHeaders.get(columnIndex - 1).getColumnType(), mergedResult.getValue(columnIndex, Object.class));
         }
-        return new QueryResponseRow(cells);
     }
     
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -375,6 +381,20 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.executor;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -30,9 +31,11 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.connector.DatabaseProxyConnector;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -71,15 +74,20 @@ public final class ProxyJDBCExecutor {
             DatabaseType protocolType = database.getProtocolType();
             processEngine.executeSQL(executionGroupContext, queryContext);
             SQLStatementContext context = queryContext.getSqlStatementContext();
-            return jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseProxyConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseProxyConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            false));
+            ProxyJDBCExecutorCallback firstCallback = ProxyJDBCExecutorCallbackFactory.newInstance(
+                    type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseProxyConnector, isReturnGeneratedKeys, isExceptionThrown, true);
+            ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(
+                    type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseProxyConnector, isReturnGeneratedKeys, isExceptionThrown, false);
+            return isCompletionOrderEnabled(context, metaDataContexts)
+                    ? jdbcExecutor.executeInCompletionOrder(executionGroupContext, firstCallback, callback)
+                    : jdbcExecutor.execute(executionGroupContext, firstCallback, callback);
         } finally {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
         }
     }
+    
+    private boolean isCompletionOrderEnabled(final SQLStatementContext sqlStatementContext, final MetaDataContexts metaDataContexts) {
+        return sqlStatementContext.getSqlStatement() instanceof SelectStatement
+                && metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_COMPLETION_ORDER_ENABLED);
+    }
 }
@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.proxy.backend.handler;
 
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowWriter;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
@@ -56,6 +58,18 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Write row data.
+     *
+     * @param rowWriter query response row writer
+     * @throws SQLException SQL exception
+     */
+    default void writeRowData(final QueryResponseRowWriter rowWriter) throws SQLException {
+        for (QueryResponseCell each : getRowData().getCells()) {
+            rowWriter.writeCell(each.getJdbcType(), each.getData());
+        }
+    }
+    
     /**
      * Close.
      *
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.proxy.backend.connector.DatabaseProxyConnectorF
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.data.DatabaseProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowWriter;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 
@@ -90,6 +91,11 @@ public final class UnicastDatabaseProxyBackendHandler implements DatabaseProxyBa
         return databaseProxyConnector.getRowData();
     }
     
+    @Override
+    public void writeRowData(final QueryResponseRowWriter rowWriter) throws SQLException {
+        databaseProxyConnector.writeRowData(rowWriter);
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != databaseProxyConnector) {
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.proxy.backend.connector.DatabaseProxyConnector;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowWriter;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
@@ -43,6 +44,11 @@ public final class XARecoveryProxyBackendHandler implements ProxyBackendHandler
         return databaseProxyConnector.getRowData();
     }
     
+    @Override
+    public void writeRowData(final QueryResponseRowWriter rowWriter) throws SQLException {
+        databaseProxyConnector.writeRowData(rowWriter);
+    }
+    
     @Override
     public ResponseHeader execute() throws SQLException {
         return databaseProxyConnector.execute();
@@ -21,7 +21,6 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.database.exception.core.exception.SQLDialectException;
 import org.apache.shardingsphere.database.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
@@ -37,7 +36,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.constant.LogMDCConstants;
 import org.apache.shardingsphere.proxy.frontend.event.WriteCompleteEvent;
-import org.apache.shardingsphere.proxy.frontend.exception.ExpectedExceptions;
+import org.apache.shardingsphere.proxy.frontend.exception.CommandExceptionLogger;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.slf4j.MDC;
 
@@ -50,7 +49,6 @@ import java.util.stream.Collectors;
  * Command executor task.
  */
 @RequiredArgsConstructor
-@Slf4j
 public final class CommandExecutorTask implements Runnable {
     
     private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
@@ -101,13 +99,31 @@ public final class CommandExecutorTask implements Runnable {
             if (sqlShowEnabled) {
                 clearLogMDC();
             }
-            if (message instanceof CompositeByteBuf) {
-                releaseCompositeByteBuf((CompositeByteBuf) message);
-            }
-            ((ByteBuf) message).release();
+            releaseMessage();
+        }
+    }
+    
+    /**
+     * Reject command without executing it.
+     *
+     * @param cause cause of rejection
+     */
+    public void reject(final Exception cause) {
+        try {
+            processException(cause);
+        } finally {
+            context.pipeline().fireUserEventTriggered(new WriteCompleteEvent());
+            releaseMessage();
         }
     }
     
+    private void releaseMessage() {
+        if (message instanceof CompositeByteBuf) {
+            releaseCompositeByteBuf((CompositeByteBuf) message);
+        }
+        ((ByteBuf) message).release();
+    }
+    
     private void fillLogMDC() {
         MDC.put(LogMDCConstants.DATABASE_KEY, connectionSession.getUsedDatabaseName());
         MDC.put(LogMDCConstants.USER_KEY, connectionSession.getConnectionContext().getGrantee().toString());
@@ -141,11 +157,7 @@ public final class CommandExecutorTask implements Runnable {
     }
     
     private void processException(final Exception cause) {
-        if (ExpectedExceptions.isExpected(cause.getClass())) {
-            log.debug("Exception occur: ", cause);
-        } else {
-            log.error("Exception occur: ", cause);
-        }
+        CommandExceptionLogger.log(cause);
         context.write(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(cause));
         databaseProtocolFrontendEngine.getCommandExecuteEngine().getOtherPacket(connectionSession).ifPresent(context::write);
         context.flush();
@@ -19,20 +19,39 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.exception.CarrierAcquireTimeoutException;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 /**
  * Connection thread executor group.
  *
  * <p>
- * Manage the thread for each connection session invoking.
- * This ensures XA transaction framework processed by current thread id.
+ * Commands of connection sessions which require thread affinity are executed by carrier threads shared among connections.
+ * A carrier is leased to a connection when its command is going to execute, and is retained by the connection until its transaction finished.
+ * This ensures XA transaction framework processed by current thread id, without occupying one thread for each connection.
+ * Commands of connection waiting for carrier longer than acquire timeout are rejected, so that connections are not blocked forever when all carriers are retained.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -40,7 +59,24 @@ public final class ConnectionThreadExecutorGroup {
     
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
-    private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private static final String NAME_FORMAT = "Connection-Carrier-%d";
+    
+    private static final long IDLE_CARRIER_KEEP_ALIVE_SECONDS = 60L;
+    
+    private static final ScheduledExecutorService TIMEOUT_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Connection-Carrier-Timeout-%d"));
+    
+    private final ThreadFactory carrierThreadFactory = ExecutorThreadFactoryBuilder.build(NAME_FORMAT);
+    
+    private final Map<Integer, ConnectionCarrier> connectionCarriers = new ConcurrentHashMap<>();
+    
+    private final Deque<ThreadPoolExecutor> idleCarriers = new LinkedList<>();
+    
+    private final Queue<ConnectionCarrier> waitingConnections = new LinkedList<>();
+    
+    private int carrierCount;
+    
+    private volatile LongConsumer carrierWaitRecorder = waitMillis -> {
+    };
     
     /**
      * Get connection thread executor group.
@@ -55,23 +91,25 @@ public final class ConnectionThreadExecutorGroup {
      * Register connection.
      *
      * @param connectionId connection id
+     * @param idleInTransactionTimeoutCallback callback when connection retains carrier while idle in transaction for longer than timeout
      */
-    public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
-    }
-    
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    public void register(final int connectionId, final Runnable idleInTransactionTimeoutCallback) {
+        connectionCarriers.put(connectionId, new ConnectionCarrier(connectionId, idleInTransactionTimeoutCallback));
     }
     
     /**
-     * Get executor service of connection.
+     * Execute command of registered connection on carrier thread.
      *
      * @param connectionId connection id
-     * @return executor service of current connection
+     * @param command command to be executed
+     * @param carrierRetained whether carrier should be retained by connection after command executed
+     * @param rejectedCallback callback when command is rejected without execution, because connection waits for carrier longer than acquire timeout
      */
-    public ExecutorService get(final int connectionId) {
-        return executorServices.get(connectionId);
+    public void execute(final int connectionId, final Runnable command, final BooleanSupplier carrierRetained, final Consumer<Exception> rejectedCallback) {
+        ConfigurationProperties props = getProps();
+        int maxCarrierSize = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CARRIER_THREAD_SIZE);
+        long acquireTimeoutMillis = props.<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CARRIER_ACQUIRE_TIMEOUT);
+        connectionCarriers.get(connectionId).execute(command, carrierRetained, rejectedCallback, maxCarrierSize, acquireTimeoutMillis);
     }
     
     /**
@@ -80,15 +118,286 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void unregisterAndAwaitTermination(final int connectionId) {
-        ExecutorService executorService = executorServices.remove(connectionId);
-        if (null == executorService) {
-            return;
+        ConnectionCarrier connectionCarrier = connectionCarriers.get(connectionId);
+        if (null != connectionCarrier) {
+            connectionCarrier.unregisterAndAwaitTermination();
+        }
+    }
+    
+    /**
+     * Judge whether connection is registered.
+     *
+     * @param connectionId connection id
+     * @return registered or not
+     */
+    public boolean isRegistered(final int connectionId) {
+        return connectionCarriers.containsKey(connectionId);
+    }
+    
+    /**
+     * Get carrier count.
+     *
+     * @return carrier count
+     */
+    public synchronized int getCarrierCount() {
+        return carrierCount;
+    }
+    
+    /**
+     * Get idle carrier count.
+     *
+     * @return idle carrier count
+     */
+    public synchronized int getIdleCarrierCount() {
+        return idleCarriers.size();
+    }
+    
+    /**
+     * Get count of connections waiting for carriers.
+     *
+     * @return waiting connection count
+     */
+    public synchronized int getWaitingConnectionCount() {
+        return waitingConnections.size();
+    }
+    
+    /**
+     * Set carrier wait recorder, which records wait time in milliseconds of connections waiting for carriers.
+     *
+     * @param carrierWaitRecorder carrier wait recorder
+     */
+    public void setCarrierWaitRecorder(final LongConsumer carrierWaitRecorder) {
+        this.carrierWaitRecorder = carrierWaitRecorder;
+    }
+    
+    private ConfigurationProperties getProps() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+    }
+    
+    private synchronized ThreadPoolExecutor acquireCarrier(final ConnectionCarrier connectionCarrier, final int maxCarrierSize) {
+        ThreadPoolExecutor result = idleCarriers.pollFirst();
+        if (null != result) {
+            result.allowCoreThreadTimeOut(false);
+            return result;
+        }
+        if (maxCarrierSize > 0 && carrierCount >= maxCarrierSize) {
+            waitingConnections.add(connectionCarrier);
+            return null;
+        }
+        return createCarrier();
+    }
+    
+    private synchronized boolean removeWaitingConnection(final ConnectionCarrier connectionCarrier) {
+        return waitingConnections.remove(connectionCarrier);
+    }
+    
+    private ThreadPoolExecutor createCarrier() {
+        carrierCount++;
+        return new ThreadPoolExecutor(1, 1, IDLE_CARRIER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), carrierThreadFactory);
+    }
+    
+    private void releaseCarrier(final ThreadPoolExecutor carrier) {
+        ConnectionCarrier waitingConnection;
+        synchronized (this) {
+            waitingConnection = waitingConnections.poll();
+            if (null == waitingConnection) {
+                carrier.allowCoreThreadTimeOut(true);
+                idleCarriers.offerFirst(carrier);
+                return;
+            }
+        }
+        waitingConnection.lease(carrier);
+    }
+    
+    private void discardCarrier(final ThreadPoolExecutor carrier) {
+        carrier.shutdown();
+        ConnectionCarrier waitingConnection;
+        ThreadPoolExecutor newCarrier;
+        synchronized (this) {
+            carrierCount--;
+            waitingConnection = waitingConnections.poll();
+            if (null == waitingConnection) {
+                return;
+            }
+            newCarrier = createCarrier();
+        }
+        waitingConnection.lease(newCarrier);
+    }
+    
+    @RequiredArgsConstructor
+    private final class ConnectionCarrier {
+        
+        private final int connectionId;
+        
+        private final Runnable idleInTransactionTimeoutCallback;
+        
+        private final Queue<Runnable> waitingCommands = new LinkedList<>();
+        
+        private final Collection<Consumer<Exception>> waitingRejectedCallbacks = new LinkedList<>();
+        
+        private ThreadPoolExecutor carrier;
+        
+        private int inFlightCommandCount;
+        
+        private boolean unregistered;
+        
+        private ScheduledFuture<?> idleInTransactionTimeoutFuture;
+        
+        private ScheduledFuture<?> acquireTimeoutFuture;
+        
+        private long waitStartNanos;
+        
+        private synchronized void execute(final Runnable command, final BooleanSupplier carrierRetained, final Consumer<Exception> rejectedCallback,
+                                          final int maxCarrierSize, final long acquireTimeoutMillis) {
+            cancelIdleInTransactionTimeout();
+            inFlightCommandCount++;
+            Runnable task = () -> {
+                try {
+                    command.run();
+                } finally {
+                    complete(carrierRetained);
+                }
+            };
+            if (null != carrier) {
+                carrier.execute(task);
+                return;
+            }
+            waitingCommands.add(task);
+            waitingRejectedCallbacks.add(rejectedCallback);
+            if (1 == waitingCommands.size()) {
+                ThreadPoolExecutor acquiredCarrier = acquireCarrier(this, maxCarrierSize);
+                if (null != acquiredCarrier) {
+                    lease(acquiredCarrier);
+                } else {
+                    waitStartNanos = System.nanoTime();
+                    scheduleAcquireTimeout(acquireTimeoutMillis);
+                }
+            }
+        }
+        
+        private void scheduleAcquireTimeout(final long acquireTimeoutMillis) {
+            if (acquireTimeoutMillis > 0L) {
+                acquireTimeoutFuture = TIMEOUT_EXECUTOR.schedule(() -> timeoutAcquire(acquireTimeoutMillis), acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        
+        private void timeoutAcquire(final long acquireTimeoutMillis) {
+            if (!removeWaitingConnection(this)) {
+                return;
+            }
+            Collection<Consumer<Exception>> rejectedCallbacks;
+            boolean unregisteredConnection;
+            synchronized (this) {
+                acquireTimeoutFuture = null;
+                waitStartNanos = 0L;
+                rejectedCallbacks = new ArrayList<>(waitingRejectedCallbacks);
+                waitingRejectedCallbacks.clear();
+                waitingCommands.clear();
+                inFlightCommandCount -= rejectedCallbacks.size();
+                unregisteredConnection = unregistered;
+                notifyAll();
+            }
+            CarrierAcquireTimeoutException ex = new CarrierAcquireTimeoutException(acquireTimeoutMillis);
+            rejectedCallbacks.forEach(each -> each.accept(ex));
+            if (unregisteredConnection) {
+                finishUnregistered();
+            }
+        }
+        
+        private synchronized void lease(final ThreadPoolExecutor leasedCarrier) {
+            if (null != acquireTimeoutFuture) {
+                acquireTimeoutFuture.cancel(false);
+                acquireTimeoutFuture = null;
+            }
+            if (0L != waitStartNanos) {
+                carrierWaitRecorder.accept(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitStartNanos));
+                waitStartNanos = 0L;
+            }
+            waitingRejectedCallbacks.clear();
+            carrier = leasedCarrier;
+            Runnable each;
+            while (null != (each = waitingCommands.poll())) {
+                carrier.execute(each);
+            }
+        }
+        
+        private void complete(final BooleanSupplier carrierRetained) {
+            long idleInTransactionTimeoutSeconds = getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_IDLE_IN_TRANSACTION_TIMEOUT);
+            ThreadPoolExecutor releasedCarrier = null;
+            boolean unregisteredConnection;
+            synchronized (this) {
+                inFlightCommandCount--;
+                if (0 == inFlightCommandCount) {
+                    if (!carrierRetained.getAsBoolean()) {
+                        releasedCarrier = carrier;
+                        carrier = null;
+                    } else if (!unregistered) {
+                        scheduleIdleInTransactionTimeout(idleInTransactionTimeoutSeconds);
+                    }
+                }
+                unregisteredConnection = unregistered;
+                notifyAll();
+            }
+            if (null != releasedCarrier) {
+                releaseCarrier(releasedCarrier);
+            }
+            if (unregisteredConnection) {
+                finishUnregistered();
+            }
+        }
+        
+        private void scheduleIdleInTransactionTimeout(final long idleInTransactionTimeoutSeconds) {
+            if (idleInTransactionTimeoutSeconds > 0L) {
+                idleInTransactionTimeoutFuture = TIMEOUT_EXECUTOR.schedule(this::timeoutIdleInTransaction, idleInTransactionTimeoutSeconds, TimeUnit.SECONDS);
+            }
+        }
+        
+        private void timeoutIdleInTransaction() {
+            synchronized (this) {
+                if (null == idleInTransactionTimeoutFuture || inFlightCommandCount > 0) {
+                    return;
+                }
+                idleInTransactionTimeoutFuture = null;
+            }
+            idleInTransactionTimeoutCallback.run();
+        }
+        
+        private void cancelIdleInTransactionTimeout() {
+            if (null != idleInTransactionTimeoutFuture) {
+                idleInTransactionTimeoutFuture.cancel(false);
+                idleInTransactionTimeoutFuture = null;
+            }
+        }
+        
+        private void unregisterAndAwaitTermination() {
+            synchronized (this) {
+                unregistered = true;
+                cancelIdleInTransactionTimeout();
+                try {
+                    while (inFlightCommandCount > 0) {
+                        wait();
+                    }
+                } catch (final InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            finishUnregistered();
         }
-        executorService.shutdown();
-        try {
-            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
-        } catch (final InterruptedException ignored) {
-            Thread.currentThread().interrupt();
+        
+        private void finishUnregistered() {
+            ThreadPoolExecutor retainedCarrier;
+            synchronized (this) {
+                if (inFlightCommandCount > 0 || !connectionCarriers.remove(connectionId, this)) {
+                    return;
+                }
+                retainedCarrier = carrier;
+                carrier = null;
+            }
+            // Carrier is still retained by unfinished transaction, which may be bound to carrier thread, so it can not be leased to other connections.
+            if (null != retainedCarrier) {
+                discardCarrier(retainedCarrier);
+            }
         }
     }
 }
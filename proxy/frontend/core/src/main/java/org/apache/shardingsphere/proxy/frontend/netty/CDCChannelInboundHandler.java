@@ -207,6 +207,7 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         }
         String database = backendHandler.getDatabaseNameByJobId(requestBody.getStreamingId());
         checkPrivileges(request.getRequestId(), connectionContext.getCurrentUser().getGrantee(), database);
+        connectionContext.setCompressionType(requestBody.getCompressionType());
         backendHandler.startStreaming(requestBody.getStreamingId(), connectionContext, ctx.channel());
         ctx.writeAndFlush(CDCResponseUtils.succeed(request.getRequestId()));
     }
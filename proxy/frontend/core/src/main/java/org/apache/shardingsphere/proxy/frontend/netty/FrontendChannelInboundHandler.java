@@ -64,10 +64,15 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, () -> closeIdleInTransaction(context));
         connectionSession.setConnectionId(connectionId);
     }
     
+    private void closeIdleInTransaction(final ChannelHandlerContext context) {
+        log.info("Connection {} (processId: {}) will be closed as it is idle in transaction for longer than timeout.", connectionSession.getConnectionId(), connectionSession.getProcessId());
+        context.close();
+    }
+    
     @Override
     public void channelRead(final ChannelHandlerContext context, final Object message) {
         if (!authenticated.get()) {
@@ -27,8 +27,6 @@ import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngi
 import org.apache.shardingsphere.proxy.frontend.state.ProxyState;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 
-import java.util.concurrent.ExecutorService;
-
 /**
  * OK proxy state.
  */
@@ -36,15 +34,14 @@ public final class OKProxyState implements ProxyState {
     
     @Override
     public void execute(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
-        ExecutorService executorService = determineSuitableExecutorService(connectionSession);
         context.channel().config().setAutoRead(false);
-        executorService.execute(new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message));
-    }
-    
-    private ExecutorService determineSuitableExecutorService(final ConnectionSession connectionSession) {
-        return requireOccupyThreadForConnection(connectionSession)
-                ? ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId())
-                : UserExecutorGroup.getInstance().getExecutorService();
+        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message);
+        if (requireOccupyThreadForConnection(connectionSession)) {
+            ConnectionThreadExecutorGroup.getInstance().execute(
+                    connectionSession.getConnectionId(), commandExecutorTask, () -> connectionSession.getTransactionStatus().isInTransaction(), commandExecutorTask::reject);
+        } else {
+            UserExecutorGroup.getInstance().getExecutorService().execute(commandExecutorTask);
+        }
     }
     
     private boolean requireOccupyThreadForConnection(final ConnectionSession connectionSession) {
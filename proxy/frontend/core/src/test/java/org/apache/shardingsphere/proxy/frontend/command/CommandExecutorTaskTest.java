@@ -40,6 +40,7 @@ import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionExcept
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.event.WriteCompleteEvent;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
@@ -205,6 +206,18 @@ class CommandExecutorTaskTest {
         verify(databaseConnectionManager).closeExecutionResources();
     }
     
+    @Test
+    void assertReject() {
+        RuntimeException cause = new RuntimeException("foo_rejected");
+        when(engine.getCommandExecuteEngine().getErrorPacket(cause)).thenReturn(databasePacket);
+        when(engine.getCommandExecuteEngine().getOtherPacket(connectionSession)).thenReturn(Optional.empty());
+        new CommandExecutorTask(engine, connectionSession, handlerContext, message).reject(cause);
+        verify(handlerContext).write(databasePacket);
+        verify(handlerContext).flush();
+        verify(handlerContext.pipeline()).fireUserEventTriggered(any(WriteCompleteEvent.class));
+        verify(message).release();
+    }
+    
     private void mockProxyContext(final boolean sqlShowEnabled) {
         MetaDataContexts metaDataContexts = mock(MetaDataContexts.class);
         when(metaDataContexts.getMetaData()).thenReturn(new ShardingSphereMetaData(Collections.emptyList(), mock(),
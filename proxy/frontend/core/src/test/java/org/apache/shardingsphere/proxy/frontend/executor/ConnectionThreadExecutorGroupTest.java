@@ -17,66 +17,238 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.exception.CarrierAcquireTimeoutException;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.internal.configuration.plugins.Plugins;
 
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.isA;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
 class ConnectionThreadExecutorGroupTest {
     
+    private final Collection<Exception> rejectedExceptions = new CopyOnWriteArrayList<>();
+    
+    private ConnectionThreadExecutorGroup connectionThreadExecutorGroup;
+    
+    @BeforeEach
+    @SneakyThrows(ReflectiveOperationException.class)
+    void setUp() {
+        connectionThreadExecutorGroup = (ConnectionThreadExecutorGroup) Plugins.getMemberAccessor().newInstance(ConnectionThreadExecutorGroup.class.getDeclaredConstructor());
+    }
+    
+    private void mockProps(final int maxCarrierThreadSize, final long idleInTransactionTimeoutSeconds) {
+        mockProps(maxCarrierThreadSize, idleInTransactionTimeoutSeconds, 0L);
+    }
+    
+    private void mockProps(final int maxCarrierThreadSize, final long idleInTransactionTimeoutSeconds, final long acquireTimeoutMillis) {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_CARRIER_THREAD_SIZE.getKey(), String.valueOf(maxCarrierThreadSize)),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_IDLE_IN_TRANSACTION_TIMEOUT.getKey(), String.valueOf(idleInTransactionTimeoutSeconds)),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_CARRIER_ACQUIRE_TIMEOUT.getKey(), String.valueOf(acquireTimeoutMillis)))));
+    }
+    
+    private void register(final int connectionId) {
+        connectionThreadExecutorGroup.register(connectionId, () -> {
+        });
+    }
+    
     @Test
     void assertRegister() {
-        int connectionId = 1;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        register(1);
+        assertTrue(connectionThreadExecutorGroup.isRegistered(1));
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
     }
     
     @Test
     void assertUnregisterWithRegisteredConnectionId() {
-        int connectionId = 2;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
-        assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+        register(1);
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
+        assertFalse(connectionThreadExecutorGroup.isRegistered(1));
     }
     
     @Test
     void assertUnregisterWithoutRegisteredConnectionId() {
-        int connectionId = 3;
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
-        assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
+        assertFalse(connectionThreadExecutorGroup.isRegistered(1));
+    }
+    
+    @Test
+    void assertExecuteWithReleasedCarrier() throws InterruptedException {
+        mockProps(0, 0L);
+        register(1);
+        register(2);
+        Thread firstCarrier = executeAndAwait(1, false);
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
+        assertThat(executeAndAwait(2, false), is(firstCarrier));
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(2);
+    }
+    
+    @Test
+    void assertExecuteWithRetainedCarrier() throws InterruptedException {
+        mockProps(0, 0L);
+        register(1);
+        register(2);
+        Thread firstCarrier = executeAndAwait(1, true);
+        assertThat(executeAndAwait(1, true), is(firstCarrier));
+        assertThat(executeAndAwait(2, false), not(firstCarrier));
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(2);
+    }
+    
+    @Test
+    void assertExecuteWithQueuedCommand() throws InterruptedException {
+        mockProps(1, 0L);
+        register(1);
+        register(2);
+        CountDownLatch blockTaskLatch = new CountDownLatch(1);
+        AtomicReference<Thread> firstCarrier = new AtomicReference<>();
+        connectionThreadExecutorGroup.execute(1, () -> {
+            firstCarrier.set(Thread.currentThread());
+            awaitQuietly(blockTaskLatch);
+        }, () -> false, rejectedExceptions::add);
+        CountDownLatch queuedTaskLatch = new CountDownLatch(1);
+        AtomicReference<Thread> secondCarrier = new AtomicReference<>();
+        connectionThreadExecutorGroup.execute(2, () -> {
+            secondCarrier.set(Thread.currentThread());
+            queuedTaskLatch.countDown();
+        }, () -> false, rejectedExceptions::add);
+        assertFalse(queuedTaskLatch.await(100L, TimeUnit.MILLISECONDS));
+        assertThat(connectionThreadExecutorGroup.getCarrierCount(), is(1));
+        assertThat(connectionThreadExecutorGroup.getWaitingConnectionCount(), is(1));
+        blockTaskLatch.countDown();
+        assertTrue(queuedTaskLatch.await(1L, TimeUnit.SECONDS));
+        assertThat(secondCarrier.get(), is(firstCarrier.get()));
+        assertTrue(rejectedExceptions.isEmpty());
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(2);
+    }
+    
+    @Test
+    void assertExecuteWithCarrierAcquireTimeout() throws InterruptedException {
+        mockProps(1, 0L, 100L);
+        register(1);
+        register(2);
+        executeAndAwait(1, true);
+        CountDownLatch rejectedLatch = new CountDownLatch(1);
+        AtomicReference<Exception> rejectedException = new AtomicReference<>();
+        AtomicBoolean executed = new AtomicBoolean();
+        connectionThreadExecutorGroup.execute(2, () -> executed.set(true), () -> false, ex -> {
+            rejectedException.set(ex);
+            rejectedLatch.countDown();
+        });
+        assertTrue(rejectedLatch.await(1L, TimeUnit.SECONDS));
+        assertThat(rejectedException.get(), isA(CarrierAcquireTimeoutException.class));
+        assertFalse(executed.get());
+        assertThat(connectionThreadExecutorGroup.getWaitingConnectionCount(), is(0));
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(2);
+        assertFalse(connectionThreadExecutorGroup.isRegistered(2));
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
+    }
+    
+    @Test
+    void assertExecuteWithCarrierWaitRecorder() throws InterruptedException {
+        mockProps(1, 0L);
+        Collection<Long> carrierWaitMillis = new CopyOnWriteArrayList<>();
+        connectionThreadExecutorGroup.setCarrierWaitRecorder(carrierWaitMillis::add);
+        register(1);
+        register(2);
+        CountDownLatch blockTaskLatch = new CountDownLatch(1);
+        connectionThreadExecutorGroup.execute(1, () -> awaitQuietly(blockTaskLatch), () -> false, rejectedExceptions::add);
+        CountDownLatch queuedTaskLatch = new CountDownLatch(1);
+        connectionThreadExecutorGroup.execute(2, queuedTaskLatch::countDown, () -> false, rejectedExceptions::add);
+        assertTrue(carrierWaitMillis.isEmpty());
+        blockTaskLatch.countDown();
+        assertTrue(queuedTaskLatch.await(1L, TimeUnit.SECONDS));
+        assertThat(carrierWaitMillis.size(), is(1));
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(2);
+    }
+    
+    @Test
+    void assertExecuteWithIdleInTransactionTimeout() throws InterruptedException {
+        mockProps(0, 1L);
+        CountDownLatch timeoutLatch = new CountDownLatch(1);
+        connectionThreadExecutorGroup.register(1, timeoutLatch::countDown);
+        executeAndAwait(1, true);
+        assertTrue(timeoutLatch.await(3L, TimeUnit.SECONDS));
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
+        assertThat(connectionThreadExecutorGroup.getCarrierCount(), is(0));
+    }
+    
+    @Test
+    void assertExecuteWithoutIdleInTransactionTimeoutWhenCarrierReleased() throws InterruptedException {
+        mockProps(0, 1L);
+        CountDownLatch timeoutLatch = new CountDownLatch(1);
+        connectionThreadExecutorGroup.register(1, timeoutLatch::countDown);
+        executeAndAwait(1, false);
+        assertFalse(timeoutLatch.await(1500L, TimeUnit.MILLISECONDS));
+        assertThat(connectionThreadExecutorGroup.getIdleCarrierCount(), is(1));
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
     }
     
     @Test
     void assertUnregisterWithInterruptedAwait() throws InterruptedException {
-        int connectionId = 4;
+        mockProps(0, 0L);
         CountDownLatch taskStartedLatch = new CountDownLatch(1);
         CountDownLatch blockTaskLatch = new CountDownLatch(1);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        ExecutorService executorService = ConnectionThreadExecutorGroup.getInstance().get(connectionId);
-        executorService.execute(() -> {
+        register(1);
+        connectionThreadExecutorGroup.execute(1, () -> {
             taskStartedLatch.countDown();
-            try {
-                blockTaskLatch.await();
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            }
-        });
+            awaitQuietly(blockTaskLatch);
+        }, () -> false, rejectedExceptions::add);
         taskStartedLatch.await();
         Thread.currentThread().interrupt();
         try {
-            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+            connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
             assertTrue(Thread.currentThread().isInterrupted());
         } finally {
             Thread.interrupted();
             blockTaskLatch.countDown();
-            executorService.awaitTermination(1L, TimeUnit.SECONDS);
         }
-        assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+        connectionThreadExecutorGroup.unregisterAndAwaitTermination(1);
+        assertFalse(connectionThreadExecutorGroup.isRegistered(1));
+    }
+    
+    private Thread executeAndAwait(final int connectionId, final boolean carrierRetained) throws InterruptedException {
+        CountDownLatch finishedLatch = new CountDownLatch(1);
+        AtomicReference<Thread> result = new AtomicReference<>();
+        connectionThreadExecutorGroup.execute(connectionId, () -> {
+            result.set(Thread.currentThread());
+            finishedLatch.countDown();
+        }, () -> carrierRetained, rejectedExceptions::add);
+        assertTrue(finishedLatch.await(1L, TimeUnit.SECONDS));
+        return result.get();
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
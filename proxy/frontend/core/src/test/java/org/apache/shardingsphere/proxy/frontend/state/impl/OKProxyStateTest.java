@@ -46,17 +46,20 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -83,10 +86,12 @@ class OKProxyStateTest {
         when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
         when(connectionSession.getConnectionId()).thenReturn(1);
-        ExecutorService executorService = registerMockExecutorService(1);
-        new OKProxyState().execute(context, null, mock(DatabaseProtocolFrontendEngine.class), connectionSession);
-        verify(executorService).execute(any(CommandExecutorTask.class));
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
+        ConnectionThreadExecutorGroup connectionThreadExecutorGroup = mock(ConnectionThreadExecutorGroup.class);
+        try (MockedStatic<ConnectionThreadExecutorGroup> mockedConnectionThreadExecutorGroup = mockStatic(ConnectionThreadExecutorGroup.class)) {
+            mockedConnectionThreadExecutorGroup.when(ConnectionThreadExecutorGroup::getInstance).thenReturn(connectionThreadExecutorGroup);
+            new OKProxyState().execute(context, null, mock(DatabaseProtocolFrontendEngine.class), connectionSession);
+        }
+        verify(connectionThreadExecutorGroup).execute(eq(1), any(CommandExecutorTask.class), any(BooleanSupplier.class), any());
     }
     
     @Test
@@ -108,6 +113,8 @@ class OKProxyStateTest {
         when(metaData.getAllDatabases()).thenReturn(Collections.singleton(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS)));
         when(metaData.getAllDatabases().iterator().next().getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
         when(metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
+        when(metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT)).thenReturn(0);
         when(metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.PERSIST_SCHEMAS_TO_REPOSITORY_ENABLED)).thenReturn(true);
         TransactionRule transactionRule = mock(TransactionRule.class);
         when(transactionRule.getDefaultType()).thenReturn(transactionType);
@@ -117,16 +124,6 @@ class OKProxyStateTest {
         return new ContextManager(new MetaDataContexts(metaData, ShardingSphereStatisticsFactory.create(metaData, new ShardingSphereStatistics())), computeNodeInstanceContext, mock(), mock());
     }
     
-    @SuppressWarnings({"unchecked", "SameParameterValue"})
-    @SneakyThrows(ReflectiveOperationException.class)
-    private ExecutorService registerMockExecutorService(final int connectionId) {
-        Map<Integer, ExecutorService> executorServices = (Map<Integer, ExecutorService>) Plugins.getMemberAccessor()
-                .get(ConnectionThreadExecutorGroup.class.getDeclaredField("executorServices"), ConnectionThreadExecutorGroup.getInstance());
-        ExecutorService result = mock(ExecutorService.class);
-        executorServices.put(connectionId, result);
-        return result;
-    }
-    
     @SneakyThrows(ReflectiveOperationException.class)
     private ExecutorService replaceUserExecutorService(final ExecutorService executorService) {
         Field executorServiceField = UserExecutorGroup.class.getDeclaredField("executorService");
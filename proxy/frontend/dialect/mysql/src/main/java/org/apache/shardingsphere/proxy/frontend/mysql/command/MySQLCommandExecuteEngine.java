@@ -81,7 +81,7 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         while (queryCommandExecutor.next()) {
             count++;
             databaseConnectionManager.getConnectionResourceLock().doAwait(context);
-            DatabasePacket dataValue = queryCommandExecutor.getQueryRowPacket();
+            DatabasePacket dataValue = queryCommandExecutor.getQueryRowPacket(context);
             context.write(dataValue);
             if (flushThreshold == count) {
                 context.flush();
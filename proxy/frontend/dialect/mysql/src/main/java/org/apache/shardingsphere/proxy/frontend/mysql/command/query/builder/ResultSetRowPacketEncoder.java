@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLEncodedResultSetRowPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowWriter;
+
+import java.sql.SQLException;
+
+/**
+ * Result set row packet encoder, which encodes cells of current row into pooled packet frame in MySQL text or binary format directly.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_text_resultset_row.html">Text Resultset Row</a>
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_binary_resultset.html#sect_protocol_binary_resultset_row">Binary Protocol Resultset Row</a>
+ */
+@RequiredArgsConstructor
+public final class ResultSetRowPacketEncoder implements QueryResponseRowWriter {
+    
+    private static final int BINARY_PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final boolean binary;
+    
+    private final int columnCount;
+    
+    private MySQLPacketPayload payload;
+    
+    private int nullBitmapIndex;
+    
+    private int columnIndex;
+    
+    /**
+     * Encode current row of proxy backend handler.
+     *
+     * @param context channel handler context
+     * @param proxyBackendHandler proxy backend handler
+     * @return encoded result set row packet
+     * @throws SQLException SQL exception
+     */
+    public MySQLEncodedResultSetRowPacket encode(final ChannelHandlerContext context, final ProxyBackendHandler proxyBackendHandler) throws SQLException {
+        ByteBuf frame = context.alloc().ioBuffer().writeZero(MySQLEncodedResultSetRowPacket.HEADER_LENGTH);
+        boolean encoded = false;
+        try {
+            payload = new MySQLPacketPayload(frame, context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+            columnIndex = 0;
+            if (binary) {
+                writeBinaryRowHeader(frame);
+            }
+            proxyBackendHandler.writeRowData(this);
+            encoded = true;
+            return new MySQLEncodedResultSetRowPacket(frame);
+        } finally {
+            payload = null;
+            if (!encoded) {
+                frame.release();
+            }
+        }
+    }
+    
+    private void writeBinaryRowHeader(final ByteBuf frame) {
+        frame.writeByte(BINARY_PACKET_HEADER);
+        nullBitmapIndex = frame.writerIndex();
+        frame.writeZero((columnCount + NULL_BITMAP_OFFSET + 7) / 8);
+    }
+    
+    @Override
+    public void writeCell(final int jdbcType, final Object data) {
+        if (!binary) {
+            MySQLTextResultSetRowPacket.writeValue(payload, data);
+        } else if (null == data) {
+            setNullBit();
+        } else {
+            MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.valueOfJDBCType(jdbcType)).write(payload, data);
+        }
+        columnIndex++;
+    }
+    
+    private void setNullBit() {
+        int bitIndex = columnIndex + NULL_BITMAP_OFFSET;
+        int byteIndex = nullBitmapIndex + bitIndex / 8;
+        payload.getByteBuf().setByte(byteIndex, payload.getByteBuf().getByte(byteIndex) | 1 << bitIndex % 8);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
+import io.netty.channel.ChannelHandlerContext;
 import lombok.Getter;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
@@ -38,6 +39,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExe
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResultSetRowPacketEncoder;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.DeleteStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.InsertStatement;
@@ -45,8 +47,10 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.Up
 import org.apache.shardingsphere.sql.parser.statement.core.util.MultiSQLSplitter;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -62,6 +66,10 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     @Getter
     private volatile ResponseType responseType;
     
+    private int columnCount;
+    
+    private ResultSetRowPacketEncoder rowPacketEncoder;
+    
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
@@ -106,6 +114,8 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private Collection<DatabasePacket> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
+        columnCount = queryResponseHeader.getQueryHeaders().size();
+        rowPacketEncoder = new ResultSetRowPacketEncoder(false, columnCount);
         return ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, ServerStatusFlagCalculator.calculateFor(connectionSession, true));
     }
     
@@ -130,7 +140,14 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
+        List<Object> data = new ArrayList<>(columnCount);
+        proxyBackendHandler.writeRowData((jdbcType, value) -> data.add(value));
+        return new MySQLTextResultSetRowPacket(data);
+    }
+    
+    @Override
+    public MySQLPacket getQueryRowPacket(final ChannelHandlerContext context) throws SQLException {
+        return rowPacketEncoder.encode(context, proxyBackendHandler);
     }
     
     @Override
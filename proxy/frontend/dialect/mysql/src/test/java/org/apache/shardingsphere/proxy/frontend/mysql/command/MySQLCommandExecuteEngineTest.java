@@ -103,7 +103,7 @@ class MySQLCommandExecuteEngineTest {
         when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
         when(queryCommandExecutor.next()).thenReturn(true, true, false);
         DatabasePacket rowPacket = mock(DatabasePacket.class);
-        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(rowPacket);
+        when(queryCommandExecutor.getQueryRowPacket(context)).thenReturn(rowPacket);
         ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
         when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps())
                 .thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), 2))));
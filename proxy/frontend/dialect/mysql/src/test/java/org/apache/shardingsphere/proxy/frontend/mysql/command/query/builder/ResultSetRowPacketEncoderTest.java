@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.database.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.database.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResultSetRowPacketEncoderTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private ProxyBackendHandler proxyBackendHandler;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Arrays.asList(
+                new QueryResponseCell(Types.INTEGER, 1), new QueryResponseCell(Types.VARCHAR, null), new QueryResponseCell(Types.DECIMAL, new BigDecimal("1.50")))));
+        doCallRealMethod().when(proxyBackendHandler).writeRowData(any());
+    }
+    
+    @Test
+    void assertEncodeTextRow() throws SQLException {
+        MySQLPacket expected = new MySQLTextResultSetRowPacket(Arrays.asList(1, null, new BigDecimal("1.50")));
+        assertThat(toBytes(new ResultSetRowPacketEncoder(false, 3).encode(context, proxyBackendHandler)), is(toBytes(expected)));
+    }
+    
+    @Test
+    void assertEncodeBinaryRow() throws SQLException {
+        MySQLPacket expected = new MySQLBinaryResultSetRowPacket(new BinaryRow(Arrays.asList(new BinaryCell(MySQLBinaryColumnType.LONG, 1),
+                new BinaryCell(MySQLBinaryColumnType.VAR_STRING, null), new BinaryCell(MySQLBinaryColumnType.NEWDECIMAL, new BigDecimal("1.50")))));
+        ResultSetRowPacketEncoder encoder = new ResultSetRowPacketEncoder(true, 3);
+        assertThat(toBytes(encoder.encode(context, proxyBackendHandler)), is(toBytes(expected)));
+        assertThat(toBytes(encoder.encode(context, proxyBackendHandler)), is(toBytes(expected)));
+    }
+    
+    private byte[] toBytes(final MySQLPacket packet) {
+        ByteBuf byteBuf = Unpooled.buffer();
+        packet.write(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        return ByteBufUtil.getBytes(byteBuf);
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql;
 
 import lombok.Getter;
-import org.apache.shardingsphere.database.exception.core.exception.transaction.InTransactionException;
 import org.apache.shardingsphere.database.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.database.protocol.postgresql.codec.PostgreSQLPacketCodecEngine;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -47,10 +46,7 @@ public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendE
     
     @Override
     public void handleException(final ConnectionSession connectionSession, final Exception exception) {
-        if (connectionSession.getTransactionStatus().isInTransaction() && !connectionSession.getConnectionContext().getTransactionContext().isExceptionOccur()
-                && !(exception instanceof InTransactionException)) {
-            connectionSession.getConnectionContext().getTransactionContext().setExceptionOccur(true);
-        }
+        commandExecuteEngine.handleException(connectionSession, exception);
     }
     
     @Override
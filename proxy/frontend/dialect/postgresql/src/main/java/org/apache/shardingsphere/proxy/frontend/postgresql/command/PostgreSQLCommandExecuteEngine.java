@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.exception.core.exception.transaction.InTransactionException;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.database.protocol.packet.command.CommandPacketType;
@@ -62,7 +63,22 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     @Override
     public CommandExecutor getCommandExecutor(final CommandPacketType type, final CommandPacket packet, final ConnectionSession connectionSession) throws SQLException {
         PortalContext portalContext = PostgreSQLPortalContextRegistry.getInstance().get(connectionSession.getConnectionId());
-        return PostgreSQLCommandExecutorFactory.newInstance((PostgreSQLCommandPacketType) type, (PostgreSQLCommandPacket) packet, connectionSession, portalContext);
+        return PostgreSQLCommandExecutorFactory.newInstance(this, (PostgreSQLCommandPacketType) type, (PostgreSQLCommandPacket) packet, connectionSession, portalContext);
+    }
+    
+    /**
+     * Handle exception.
+     *
+     * <p>Transaction is marked as failed if exception occurs in transaction, so that following commands are rejected until transaction ends.</p>
+     *
+     * @param connectionSession connection session
+     * @param exception exception
+     */
+    public void handleException(final ConnectionSession connectionSession, final Exception exception) {
+        if (connectionSession.getTransactionStatus().isInTransaction() && !connectionSession.getConnectionContext().getTransactionContext().isExceptionOccur()
+                && !(exception instanceof InTransactionException)) {
+            connectionSession.getConnectionContext().getTransactionContext().setExceptionOccur(true);
+        }
     }
     
     @Override
@@ -82,6 +98,10 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
             context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), 0L));
             return;
         }
+        if (ResponseType.PIPELINED == queryCommandExecutor.getResponseType()) {
+            writeDataPackets(context, databaseConnectionManager, queryCommandExecutor);
+            return;
+        }
         processSimpleQuery(context, databaseConnectionManager, queryCommandExecutor);
     }
     
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.command.que
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
@@ -36,6 +37,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.Postg
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLPipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.close.PostgreSQLComCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
@@ -47,6 +49,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -59,6 +62,7 @@ public final class PostgreSQLCommandExecutorFactory {
     /**
      * Create new instance of command executor.
      *
+     * @param commandExecuteEngine command execute engine for PostgreSQL
      * @param commandPacketType command packet type for PostgreSQL
      * @param commandPacket command packet for PostgreSQL
      * @param connectionSession connection session
@@ -66,8 +70,8 @@ public final class PostgreSQLCommandExecutorFactory {
      * @return created instance
      * @throws SQLException SQL exception
      */
-    public static CommandExecutor newInstance(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLCommandPacket commandPacket,
-                                              final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
+    public static CommandExecutor newInstance(final PostgreSQLCommandExecuteEngine commandExecuteEngine, final PostgreSQLCommandPacketType commandPacketType,
+                                              final PostgreSQLCommandPacket commandPacket, final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
         if (commandPacket instanceof SQLReceivedPacket) {
             log.debug("Execute packet type: {}, sql: {}", commandPacketType, ((SQLReceivedPacket) commandPacket).getSQL());
         } else {
@@ -76,15 +80,45 @@ public final class PostgreSQLCommandExecutorFactory {
         if (!(commandPacket instanceof PostgreSQLAggregatedCommandPacket)) {
             return getCommandExecutor(commandPacketType, commandPacket, connectionSession, portalContext);
         }
-        PostgreSQLAggregatedCommandPacket aggregatedCommandPacket = (PostgreSQLAggregatedCommandPacket) commandPacket;
+        List<PostgreSQLAggregatedCommandPacket> syncGroups = splitSyncGroups((PostgreSQLAggregatedCommandPacket) commandPacket);
+        return 1 == syncGroups.size()
+                ? new PostgreSQLAggregatedCommandExecutor(newInstances(syncGroups.get(0), connectionSession, portalContext))
+                : new PostgreSQLPipelinedCommandExecutor(commandExecuteEngine, connectionSession, portalContext, syncGroups);
+    }
+    
+    private static List<PostgreSQLAggregatedCommandPacket> splitSyncGroups(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket) {
+        List<PostgreSQLAggregatedCommandPacket> result = new LinkedList<>();
+        List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
+        int fromIndex = 0;
+        for (int i = 0; i < packets.size() - 1; i++) {
+            if (packets.get(i) instanceof PostgreSQLComSyncPacket) {
+                result.add(new PostgreSQLAggregatedCommandPacket(packets.subList(fromIndex, i + 1)));
+                fromIndex = i + 1;
+            }
+        }
+        result.add(0 == fromIndex ? aggregatedCommandPacket : new PostgreSQLAggregatedCommandPacket(packets.subList(fromIndex, packets.size())));
+        return result;
+    }
+    
+    /**
+     * Create new instances of command executor for aggregated command packet.
+     *
+     * @param aggregatedCommandPacket aggregated command packet for PostgreSQL
+     * @param connectionSession connection session
+     * @param portalContext PostgreSQL portal context
+     * @return created instances in order of packets
+     * @throws SQLException SQL exception
+     */
+    public static List<CommandExecutor> newInstances(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket,
+                                                     final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
         if (aggregatedCommandPacket.isContainsBatchedStatements()) {
-            return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, portalContext));
+            return getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, portalContext);
         }
         List<CommandExecutor> result = new ArrayList<>(aggregatedCommandPacket.getPackets().size());
         for (PostgreSQLCommandPacket each : aggregatedCommandPacket.getPackets()) {
             result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
         }
-        return new PostgreSQLAggregatedCommandExecutor(result);
+        return result;
     }
     
     private static List<CommandExecutor> getExecutorsOfAggregatedBatchedStatements(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket,
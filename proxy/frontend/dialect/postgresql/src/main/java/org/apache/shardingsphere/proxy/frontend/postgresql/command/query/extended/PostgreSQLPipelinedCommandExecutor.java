@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedResponsesPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.exception.CommandExceptionLogger;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecutorFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Pipelined command executor for PostgreSQL.
+ *
+ * <p>
+ * Sync groups are executed in order and the responses of each sync group are written as soon as the sync group is done.
+ * Error of a sync group is responded after the responses it has already produced, and the following sync groups are still executed, as PostgreSQL does.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLPipelinedCommandExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLCommandExecuteEngine commandExecuteEngine;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PortalContext portalContext;
+    
+    private final List<PostgreSQLAggregatedCommandPacket> syncGroups;
+    
+    private Iterator<PostgreSQLAggregatedCommandPacket> syncGroupIterator;
+    
+    private DatabasePacket currentResponses;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        syncGroupIterator = syncGroups.iterator();
+        return Collections.singleton(executeSyncGroup(syncGroupIterator.next()));
+    }
+    
+    @Override
+    public ResponseType getResponseType() {
+        return ResponseType.PIPELINED;
+    }
+    
+    @Override
+    public boolean next() {
+        if (!syncGroupIterator.hasNext()) {
+            return false;
+        }
+        connectionSession.clearQueryContext();
+        currentResponses = executeSyncGroup(syncGroupIterator.next());
+        return true;
+    }
+    
+    @Override
+    public DatabasePacket getQueryRowPacket() {
+        return currentResponses;
+    }
+    
+    private DatabasePacket executeSyncGroup(final PostgreSQLAggregatedCommandPacket syncGroup) {
+        List<DatabasePacket> result = new LinkedList<>();
+        try {
+            connectionSession.getDatabaseConnectionManager().closeExecutionResources();
+            for (CommandExecutor each : PostgreSQLCommandExecutorFactory.newInstances(syncGroup, connectionSession, portalContext)) {
+                try {
+                    result.addAll(each.execute());
+                } finally {
+                    each.close();
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            result.addAll(getErrorResponses(syncGroup, ex));
+        }
+        return new PostgreSQLAggregatedResponsesPacket(result);
+    }
+    
+    private Collection<DatabasePacket> getErrorResponses(final PostgreSQLAggregatedCommandPacket syncGroup, final Exception cause) {
+        CommandExceptionLogger.log(cause);
+        commandExecuteEngine.handleException(connectionSession, cause);
+        Collection<DatabasePacket> result = new LinkedList<>();
+        result.add(commandExecuteEngine.getErrorPacket(cause));
+        List<PostgreSQLCommandPacket> packets = syncGroup.getPackets();
+        if (!packets.isEmpty() && packets.get(packets.size() - 1) instanceof PostgreSQLComSyncPacket) {
+            commandExecuteEngine.getOtherPacket(connectionSession).ifPresent(result::add);
+        }
+        return result;
+    }
+}
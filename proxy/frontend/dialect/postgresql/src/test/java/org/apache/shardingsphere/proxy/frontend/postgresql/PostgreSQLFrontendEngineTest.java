@@ -52,7 +52,8 @@ class PostgreSQLFrontendEngineTest {
         int connectionId = 1;
         when(connectionSession.getConnectionId()).thenReturn(connectionId);
         PostgreSQLPortalContextRegistry.getInstance().get(connectionId);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, () -> {
+        });
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         engine.release(connectionSession);
         assertTrue(getPortalContexts().isEmpty());
@@ -141,7 +141,7 @@ class PostgreSQLCommandExecuteEngineTest {
         when(registry.get(1)).thenReturn(portalContext);
         PostgreSQLCommandPacket commandPacket = mock(PostgreSQLCommandPacket.class);
         CommandExecutor expectedExecutor = mock(CommandExecutor.class);
-        when(PostgreSQLCommandExecutorFactory.newInstance(PostgreSQLCommandPacketType.SIMPLE_QUERY, commandPacket, connectionSession, portalContext)).thenReturn(expectedExecutor);
+        when(PostgreSQLCommandExecutorFactory.newInstance(commandExecuteEngine, PostgreSQLCommandPacketType.SIMPLE_QUERY, commandPacket, connectionSession, portalContext)).thenReturn(expectedExecutor);
         assertThat(commandExecuteEngine.getCommandExecutor(PostgreSQLCommandPacketType.SIMPLE_QUERY, commandPacket, connectionSession), is(expectedExecutor));
     }
     
@@ -245,6 +245,21 @@ class PostgreSQLCommandExecuteEngineTest {
         verify(channelHandlerContext).write(PostgreSQLReadyForQueryPacket.IN_TRANSACTION);
     }
     
+    @Test
+    void assertWriteQueryDataForPipelinedCommand() throws SQLException {
+        QueryCommandExecutor pipelinedCommandExecutor = mock(QueryCommandExecutor.class);
+        when(pipelinedCommandExecutor.getResponseType()).thenReturn(ResponseType.PIPELINED);
+        when(pipelinedCommandExecutor.next()).thenReturn(true, false);
+        PostgreSQLPacket responsesPacket = mock(PostgreSQLPacket.class);
+        when(pipelinedCommandExecutor.getQueryRowPacket()).thenReturn(responsesPacket);
+        mockProxyContextFlushThreshold(1);
+        commandExecuteEngine.writeQueryData(channelHandlerContext, databaseConnectionManager, pipelinedCommandExecutor, 1);
+        verify(connectionResourceLock).doAwait(channelHandlerContext);
+        verify(channelHandlerContext).write(responsesPacket);
+        verify(channelHandlerContext).flush();
+        verify(channelHandlerContext, times(1)).write(any());
+    }
+    
     private void mockProxyContextFlushThreshold(final int threshold) {
         ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
         when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps())
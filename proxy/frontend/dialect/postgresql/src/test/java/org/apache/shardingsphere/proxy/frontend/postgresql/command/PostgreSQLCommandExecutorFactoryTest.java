@@ -37,6 +37,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.Postg
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLPipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.close.PostgreSQLComCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
@@ -75,11 +76,14 @@ class PostgreSQLCommandExecutorFactoryTest {
     @Mock
     private PortalContext portalContext;
     
+    @Mock
+    private PostgreSQLCommandExecuteEngine commandExecuteEngine;
+    
     @ParameterizedTest(name = "{0}")
     @MethodSource("provideNonAggregatedCommandCases")
     void assertNonAggregatedCommand(final String name, final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLCommandPacket packet,
                                     final Class<? extends CommandExecutor> expectedClass) throws SQLException {
-        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(commandPacketType, packet, connectionSession, portalContext);
+        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(commandExecuteEngine, commandPacketType, packet, connectionSession, portalContext);
         assertThat(actual, isA(expectedClass));
     }
     
@@ -98,7 +102,7 @@ class PostgreSQLCommandExecutorFactoryTest {
         PostgreSQLAggregatedCommandPacket packet = mock(PostgreSQLAggregatedCommandPacket.class);
         when(packet.isContainsBatchedStatements()).thenReturn(false);
         when(packet.getPackets()).thenReturn(Arrays.asList(parsePacket, bindPacket, describePacket, executePacket, syncPacket));
-        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(null, packet, connectionSession, portalContext);
+        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(commandExecuteEngine, null, packet, connectionSession, portalContext);
         assertThat(actual, isA(PostgreSQLAggregatedCommandExecutor.class));
         Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromAggregatedCommandExecutor((PostgreSQLAggregatedCommandExecutor) actual).iterator();
         assertThat(actualPacketsIterator.next(), isA(PostgreSQLComParseExecutor.class));
@@ -123,7 +127,7 @@ class PostgreSQLCommandExecutorFactoryTest {
         when(packet.getPackets()).thenReturn(Arrays.asList(parsePacket, bindPacket, describePacket, executePacket, bindPacket, describePacket, executePacket, syncPacket));
         when(packet.getBatchPacketBeginIndex()).thenReturn(1);
         when(packet.getBatchPacketEndIndex()).thenReturn(6);
-        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(null, packet, connectionSession, portalContext);
+        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(commandExecuteEngine, null, packet, connectionSession, portalContext);
         assertThat(actual, isA(PostgreSQLAggregatedCommandExecutor.class));
         Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromAggregatedCommandExecutor((PostgreSQLAggregatedCommandExecutor) actual).iterator();
         assertThat(actualPacketsIterator.next(), isA(PostgreSQLComParseExecutor.class));
@@ -140,7 +144,7 @@ class PostgreSQLCommandExecutorFactoryTest {
         when(syncPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.SYNC_COMMAND);
         PostgreSQLAggregatedCommandPacket packet = mock(PostgreSQLAggregatedCommandPacket.class);
         when(packet.getPackets()).thenReturn(Arrays.asList(flushPacket, syncPacket));
-        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(null, packet, connectionSession, portalContext);
+        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(commandExecuteEngine, null, packet, connectionSession, portalContext);
         assertThat(actual, isA(PostgreSQLAggregatedCommandExecutor.class));
         Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromAggregatedCommandExecutor((PostgreSQLAggregatedCommandExecutor) actual).iterator();
         assertThat(actualPacketsIterator.next(), isA(PostgreSQLComFlushExecutor.class));
@@ -148,6 +152,15 @@ class PostgreSQLCommandExecutorFactoryTest {
         assertFalse(actualPacketsIterator.hasNext());
     }
     
+    @Test
+    void assertPipelinedPacket() throws SQLException {
+        PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
+        PostgreSQLAggregatedCommandPacket packet = mock(PostgreSQLAggregatedCommandPacket.class);
+        when(packet.getPackets()).thenReturn(Arrays.asList(executePacket, syncPacket, executePacket, syncPacket));
+        assertThat(PostgreSQLCommandExecutorFactory.newInstance(commandExecuteEngine, null, packet, connectionSession, portalContext), isA(PostgreSQLPipelinedCommandExecutor.class));
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private List<CommandExecutor> getExecutorsFromAggregatedCommandExecutor(final PostgreSQLAggregatedCommandExecutor executor) {
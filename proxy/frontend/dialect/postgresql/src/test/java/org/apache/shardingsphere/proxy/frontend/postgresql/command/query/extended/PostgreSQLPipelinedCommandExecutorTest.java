@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedResponsesPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLParseCompletePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecutorFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLPipelinedCommandExecutorTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PortalContext portalContext;
+    
+    private final PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+    
+    @Test
+    void assertGetResponseType() {
+        assertThat(new PostgreSQLPipelinedCommandExecutor(commandExecuteEngine, connectionSession, portalContext, Collections.emptyList()).getResponseType(), is(ResponseType.PIPELINED));
+    }
+    
+    @Test
+    void assertExecuteWithFailedSyncGroup() throws SQLException, BackendConnectionException {
+        PostgreSQLAggregatedCommandPacket failedSyncGroup = new PostgreSQLAggregatedCommandPacket(Collections.singletonList(mock(PostgreSQLComSyncPacket.class)));
+        PostgreSQLAggregatedCommandPacket succeedSyncGroup = new PostgreSQLAggregatedCommandPacket(Collections.singletonList(mock(PostgreSQLComSyncPacket.class)));
+        CommandExecutor partialExecutor = mock(CommandExecutor.class);
+        when(partialExecutor.execute()).thenReturn(Collections.singleton(PostgreSQLParseCompletePacket.getInstance()));
+        CommandExecutor failedExecutor = mock(CommandExecutor.class);
+        when(failedExecutor.execute()).thenThrow(new SQLException("foo", "42000"));
+        CommandExecutor succeedExecutor = mock(CommandExecutor.class);
+        when(succeedExecutor.execute()).thenReturn(Collections.singleton(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION));
+        PostgreSQLPipelinedCommandExecutor executor = new PostgreSQLPipelinedCommandExecutor(commandExecuteEngine, connectionSession, portalContext, Arrays.asList(failedSyncGroup, succeedSyncGroup));
+        try (MockedStatic<PostgreSQLCommandExecutorFactory> mockedFactory = mockStatic(PostgreSQLCommandExecutorFactory.class)) {
+            mockedFactory.when(() -> PostgreSQLCommandExecutorFactory.newInstances(failedSyncGroup, connectionSession, portalContext)).thenReturn(Arrays.asList(partialExecutor, failedExecutor));
+            mockedFactory.when(() -> PostgreSQLCommandExecutorFactory.newInstances(succeedSyncGroup, connectionSession, portalContext)).thenReturn(Collections.singletonList(succeedExecutor));
+            Collection<DatabasePacket> actual = executor.execute();
+            assertThat(actual.size(), is(1));
+            ByteBuf byteBuf = writeResponses(actual.iterator().next());
+            assertThat((char) byteBuf.readByte(), is('1'));
+            byteBuf.skipBytes(byteBuf.readInt() - 4);
+            assertThat((char) byteBuf.readByte(), is('E'));
+            byteBuf.skipBytes(byteBuf.readInt() - 4);
+            assertThat((char) byteBuf.readByte(), is('Z'));
+            byteBuf.skipBytes(byteBuf.readInt() - 4);
+            assertThat(byteBuf.readableBytes(), is(0));
+            verify(succeedExecutor, times(0)).execute();
+            assertTrue(executor.next());
+            byteBuf = writeResponses(executor.getQueryRowPacket());
+            assertThat((char) byteBuf.readByte(), is('Z'));
+            byteBuf.skipBytes(byteBuf.readInt() - 4);
+            assertThat(byteBuf.readableBytes(), is(0));
+            assertFalse(executor.next());
+        }
+        verify(partialExecutor).close();
+        verify(failedExecutor).close();
+        verify(succeedExecutor).close();
+        verify(connectionSession).clearQueryContext();
+        verify(connectionSession.getDatabaseConnectionManager(), times(2)).closeExecutionResources();
+    }
+    
+    @Test
+    void assertExecuteWithTrailingSyncGroupWithoutSync() throws SQLException {
+        PostgreSQLAggregatedCommandPacket syncGroup = new PostgreSQLAggregatedCommandPacket(Collections.singletonList(mock(PostgreSQLCommandPacket.class)));
+        CommandExecutor failedExecutor = mock(CommandExecutor.class);
+        when(failedExecutor.execute()).thenThrow(new SQLException("foo", "42000"));
+        Collection<DatabasePacket> actual;
+        try (MockedStatic<PostgreSQLCommandExecutorFactory> mockedFactory = mockStatic(PostgreSQLCommandExecutorFactory.class)) {
+            mockedFactory.when(() -> PostgreSQLCommandExecutorFactory.newInstances(syncGroup, connectionSession, portalContext)).thenReturn(Collections.singletonList(failedExecutor));
+            actual = new PostgreSQLPipelinedCommandExecutor(commandExecuteEngine, connectionSession, portalContext, Collections.singletonList(syncGroup)).execute();
+        }
+        ByteBuf byteBuf = writeResponses(actual.iterator().next());
+        assertThat((char) byteBuf.readByte(), is('E'));
+        byteBuf.skipBytes(byteBuf.readInt() - 4);
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+    
+    private ByteBuf writeResponses(final DatabasePacket responses) {
+        ByteBuf result = Unpooled.buffer();
+        ((PostgreSQLAggregatedResponsesPacket) responses).write(new PostgreSQLPacketPayload(result, StandardCharsets.UTF_8));
+        return result;
+    }
+}
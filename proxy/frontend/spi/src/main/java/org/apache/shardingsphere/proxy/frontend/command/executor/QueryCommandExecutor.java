@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.command.executor;
 
+import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 
 import java.sql.SQLException;
@@ -48,4 +49,15 @@ public interface QueryCommandExecutor extends CommandExecutor {
      * @throws SQLException SQL exception
      */
     DatabasePacket getQueryRowPacket() throws SQLException;
+    
+    /**
+     * Get query row packet, whose row data can be encoded into byte buffer allocated from channel directly.
+     *
+     * @param context channel handler context
+     * @return database packet of query row
+     * @throws SQLException SQL exception
+     */
+    default DatabasePacket getQueryRowPacket(final ChannelHandlerContext context) throws SQLException {
+        return getQueryRowPacket();
+    }
 }
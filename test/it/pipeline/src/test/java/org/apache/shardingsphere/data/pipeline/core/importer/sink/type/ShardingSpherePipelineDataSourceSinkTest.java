@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.type;
+
+import org.apache.shardingsphere.data.pipeline.api.type.ShardingSpherePipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
+import org.apache.shardingsphere.infra.util.file.SystemResourceFileUtils;
+import org.apache.shardingsphere.test.it.data.pipeline.core.fixture.h2.importer.H2PipelineBulkLoader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+class ShardingSpherePipelineDataSourceSinkTest {
+    
+    private static final String URL_PATTERN = "jdbc:h2:mem:bulk_load_ds_%d;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    @BeforeAll
+    static void setUp() throws SQLException {
+        H2PipelineBulkLoader.getLoadedTableNames().clear();
+        for (int i = 0; i < 2; i++) {
+            try (
+                    Connection connection = DriverManager.getConnection(String.format(URL_PATTERN, i), "root", "root");
+                    Statement statement = connection.createStatement()) {
+                for (int j = 0; j < 2; j++) {
+                    statement.execute(String.format("CREATE TABLE IF NOT EXISTS t_order_%d (order_id INT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(50))", j));
+                }
+            }
+        }
+    }
+    
+    @Test
+    void assertBulkLoadToActualDataNodes() throws SQLException {
+        ShardingSpherePipelineDataSourceConfiguration dataSourceConfig = new ShardingSpherePipelineDataSourceConfiguration(
+                SystemResourceFileUtils.readFile("bulk_load_sharding_sphere_jdbc_target.yaml"));
+        ImporterConfiguration importerConfig = new ImporterConfiguration(dataSourceConfig,
+                Collections.singletonMap(new ShardingSphereIdentifier("t_order"), Arrays.asList("order_id", "user_id")), new TableAndSchemaNameMapper(Collections.emptyMap()), 1000, null, 0, 1);
+        try (PipelineDataSourceManager dataSourceManager = new PipelineDataSourceManager()) {
+            new PipelineDataSourceSink(importerConfig, dataSourceManager).write("", Arrays.<Record>asList(
+                    createInsertRecord(1, 1), createInsertRecord(2, 1), createInsertRecord(3, 2), createInsertRecord(4, 2)));
+        }
+        assertThat(H2PipelineBulkLoader.getLoadedTableNames(), containsInAnyOrder("`t_order_0`", "`t_order_1`", "`t_order_0`", "`t_order_1`"));
+        assertThat(queryOrderIds(1, 1), is(Collections.singletonList(1)));
+        assertThat(queryOrderIds(1, 0), is(Collections.singletonList(2)));
+        assertThat(queryOrderIds(0, 1), is(Collections.singletonList(3)));
+        assertThat(queryOrderIds(0, 0), is(Collections.singletonList(4)));
+    }
+    
+    private DataRecord createInsertRecord(final int orderId, final int userId) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 3);
+        result.addColumn(new NormalColumn("order_id", orderId, true, true));
+        result.addColumn(new NormalColumn("user_id", userId, true, false));
+        result.addColumn(new NormalColumn("status", "OK", true, false));
+        return result;
+    }
+    
+    private List<Integer> queryOrderIds(final int dataSourceIndex, final int tableIndex) throws SQLException {
+        List<Integer> result = new LinkedList<>();
+        try (
+                Connection connection = DriverManager.getConnection(String.format(URL_PATTERN, dataSourceIndex), "root", "root");
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(String.format("SELECT order_id FROM t_order_%d", tableIndex))) {
+            while (resultSet.next()) {
+                result.add(resultSet.getInt(1));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.data.pipeline.core.fixture.h2.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.bulkload.DialectPipelineBulkLoader;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pipeline bulk loader for H2, which loads data records by batch insert and records loaded table names.
+ */
+public final class H2PipelineBulkLoader implements DialectPipelineBulkLoader {
+    
+    private static final Collection<String> LOADED_TABLE_NAMES = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public void load(final Connection connection, final String qualifiedTableName, final List<String> columnNames, final Collection<DataRecord> dataRecords) throws SQLException {
+        String sql = String.format("INSERT INTO %s(%s) VALUES(%s)", qualifiedTableName, String.join(",", columnNames), String.join(",", Collections.nCopies(columnNames.size(), "?")));
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                }
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+        LOADED_TABLE_NAMES.add(qualifiedTableName);
+    }
+    
+    /**
+     * Get loaded table names.
+     *
+     * @return loaded table names
+     */
+    public static Collection<String> getLoadedTableNames() {
+        return LOADED_TABLE_NAMES;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "H2";
+    }
+}